@@ -0,0 +1,417 @@
+package com.celestrak.sgp4v;
+
+/**
+ * Propagates a constellation of satellites using SGP4, holding the near Earth
+ * values of all satellites in primitive arrays, one array per value, so that
+ * all satellites are propagated to a date in one call, without allocating.
+ *
+ * Satellites requiring deep space propagation are propagated by their own
+ * Sgp4Unit.
+ */
+public class ConstellationPropagator {
+
+	/* -------------------- wgs-72 earth constants ----------------- */
+	private static final double x2o3 = 2.0 / 3.0;
+	private static final double xke = 7.43669161331734132e-2;
+	private static final double j2 = 1.082616e-3;
+	private static final double twopi = 2.0 * 3.14159265358979323846;
+
+	/** Number of satellites */
+	private final int n;
+
+	/** Satellite numbers */
+	private final int[] satnum;
+
+	/** Epoch time in days from jan 0, 1950. 0 hr */
+	private final double[] eptime;
+
+	/* Element set values */
+	private final double[] bstar;
+	private final double[] ecco;
+	private final double[] inclo;
+	private final double[] argpo;
+	private final double[] omegao;
+	private final double[] mo;
+	private final double[] no;
+
+	/* Near Earth values */
+	private final int[] isimp;
+	private final double[] aycof;
+	private final double[] con41;
+	private final double[] cc1;
+	private final double[] cc4;
+	private final double[] cc5;
+	private final double[] d2;
+	private final double[] d3;
+	private final double[] d4;
+	private final double[] delmo;
+	private final double[] eta;
+	private final double[] argpdot;
+	private final double[] omgcof;
+	private final double[] sinmao;
+	private final double[] t2cof;
+	private final double[] t3cof;
+	private final double[] t4cof;
+	private final double[] t5cof;
+	private final double[] x1mth2;
+	private final double[] x7thm1;
+	private final double[] mdot;
+	private final double[] omegadot;
+	private final double[] xlcof;
+	private final double[] xmcof;
+	private final double[] omegacf;
+
+	/** SGP4 procedures of satellites requiring deep space propagation, or null */
+	private final Sgp4Unit[] deepSpace;
+
+	/** Error code of each satellite from the most recent propagation */
+	private final int[] error;
+
+	/** Position and velocity of a satellite requiring deep space propagation */
+	private final double[] rv = new double[6];
+
+	/**
+	 * Constructor with incoming initialized SGP4 procedures, one per satellite
+	 *
+	 * @param sgp4Units
+	 *            Sgp4Unit array
+	 */
+	public ConstellationPropagator(Sgp4Unit[] sgp4Units) {
+		this.n = sgp4Units.length;
+
+		this.satnum = new int[n];
+		this.eptime = new double[n];
+
+		this.bstar = new double[n];
+		this.ecco = new double[n];
+		this.inclo = new double[n];
+		this.argpo = new double[n];
+		this.omegao = new double[n];
+		this.mo = new double[n];
+		this.no = new double[n];
+
+		this.isimp = new int[n];
+		this.aycof = new double[n];
+		this.con41 = new double[n];
+		this.cc1 = new double[n];
+		this.cc4 = new double[n];
+		this.cc5 = new double[n];
+		this.d2 = new double[n];
+		this.d3 = new double[n];
+		this.d4 = new double[n];
+		this.delmo = new double[n];
+		this.eta = new double[n];
+		this.argpdot = new double[n];
+		this.omgcof = new double[n];
+		this.sinmao = new double[n];
+		this.t2cof = new double[n];
+		this.t3cof = new double[n];
+		this.t4cof = new double[n];
+		this.t5cof = new double[n];
+		this.x1mth2 = new double[n];
+		this.x7thm1 = new double[n];
+		this.mdot = new double[n];
+		this.omegadot = new double[n];
+		this.xlcof = new double[n];
+		this.xmcof = new double[n];
+		this.omegacf = new double[n];
+
+		this.deepSpace = new Sgp4Unit[n];
+		this.error = new int[n];
+
+		for (int i = 0; i < n; i++) {
+			ElsetRec satrec = sgp4Units[i].getSatrec();
+			NearEarthType nevalues = satrec.nevalues;
+
+			satnum[i] = satrec.satnum;
+			eptime[i] = satrec.eptime;
+
+			if (nevalues.method == 2) {
+				deepSpace[i] = sgp4Units[i];
+				continue;
+			}
+
+			bstar[i] = satrec.bstar;
+			ecco[i] = satrec.ecco;
+			inclo[i] = satrec.inclo;
+			argpo[i] = satrec.argpo;
+			omegao[i] = satrec.omegao;
+			mo[i] = satrec.mo;
+			no[i] = satrec.no;
+
+			isimp[i] = nevalues.isimp;
+			aycof[i] = nevalues.aycof;
+			con41[i] = nevalues.con41;
+			cc1[i] = nevalues.cc1;
+			cc4[i] = nevalues.cc4;
+			cc5[i] = nevalues.cc5;
+			d2[i] = nevalues.d2;
+			d3[i] = nevalues.d3;
+			d4[i] = nevalues.d4;
+			delmo[i] = nevalues.delmo;
+			eta[i] = nevalues.eta;
+			argpdot[i] = nevalues.argpdot;
+			omgcof[i] = nevalues.omgcof;
+			sinmao[i] = nevalues.sinmao;
+			t2cof[i] = nevalues.t2cof;
+			t3cof[i] = nevalues.t3cof;
+			t4cof[i] = nevalues.t4cof;
+			t5cof[i] = nevalues.t5cof;
+			x1mth2[i] = nevalues.x1mth2;
+			x7thm1[i] = nevalues.x7thm1;
+			mdot[i] = nevalues.mdot;
+			omegadot[i] = nevalues.omegadot;
+			xlcof[i] = nevalues.xlcof;
+			xmcof[i] = nevalues.xmcof;
+			omegacf[i] = nevalues.omegacf;
+		}
+	}
+
+	/**
+	 * Get the number of satellites
+	 *
+	 * @return int
+	 */
+	public int getNumberOfSatellites() {
+		return n;
+	}
+
+	/**
+	 * Get the satellite number of a satellite
+	 *
+	 * @param i
+	 *            index of the satellite
+	 * @return int
+	 */
+	public int getSatID(int i) {
+		return satnum[i];
+	}
+
+	/**
+	 * Get the error code of a satellite from the most recent propagation: 0
+	 * if none, 1 or 3 if eccentricity out of bounds, 2 if mean motion less
+	 * than zero, or 4 if semi-latus rectum less than zero
+	 *
+	 * @param i
+	 *            index of the satellite
+	 * @return int
+	 */
+	public int getError(int i) {
+		return error[i];
+	}
+
+	/**
+	 * Propagate all satellites to a date, writing geocentric equatorial
+	 * inertial position in earth radii into caller provided arrays. The
+	 * position of a satellite which has decayed is set to NaN, and its error
+	 * code set.
+	 *
+	 * @param startYear
+	 *            year
+	 * @param startDay
+	 *            day of year, including fraction, 1 for January 1
+	 * @param x
+	 *            x position of each satellite [er]
+	 * @param y
+	 *            y position of each satellite [er]
+	 * @param z
+	 *            z position of each satellite [er]
+	 * @return number of satellites which have decayed
+	 */
+	public int propagate(int startYear, double startDay, double[] x, double[] y, double[] z) {
+
+		if (startYear < 1900) {
+			if (startYear < 50)
+				startYear = startYear + 2000;
+			else
+				startYear = startYear + 1900;
+		}
+		double srtime = (startYear - 1950) * 365 + (startYear - 1949) / 4 + startDay;
+
+		int nDecayed = 0;
+		for (int i = 0; i < n; i++) {
+			double t = (srtime - eptime[i]) * 1440.0;
+			if (deepSpace[i] != null) {
+				error[i] = propagateDeepSpace(i, t, x, y, z);
+			} else {
+				error[i] = propagateNearEarth(i, t, x, y, z);
+			}
+			if (error[i] != 0) {
+				x[i] = Double.NaN;
+				y[i] = Double.NaN;
+				z[i] = Double.NaN;
+				nDecayed++;
+			}
+		}
+		return nDecayed;
+	}
+
+	/**
+	 * Propagate one satellite requiring deep space propagation, without
+	 * allocation, and without changing its element set record
+	 */
+	private int propagateDeepSpace(int i, double t, double[] x, double[] y, double[] z) {
+		try {
+			deepSpace[i].propagate(t, rv, 0);
+			x[i] = rv[0];
+			y[i] = rv[1];
+			z[i] = rv[2];
+			return 0;
+		} catch (ObjectDecayed e) {
+			int code = deepSpace[i].getPropagationError();
+			return code != 0 ? code : 4;
+		}
+	}
+
+	/**
+	 * Propagate one satellite requiring near Earth propagation, following
+	 * Sgp4Unit.sgp4 exactly
+	 */
+	private int propagateNearEarth(int i, double t, double[] x, double[] y, double[] z) {
+		double am, axnl, aynl, betal, cnod, cos2u, coseo1 = 0.0;
+		double cosi, cosip, cosu, delm, delomg;
+		double ecose, el2, eo1, esine;
+		double argpm, em, inclm, mm, nm, omegam;
+		double pl, mrt;
+		double rl, sin2u, sineo1 = 0.0;
+		double sini, sinip, sinsu, sinu, snod, su, t2, t3, t4, tem5, temp;
+		double temp1, temp2, tempa, tempe, templ;
+		double u, ux, uy, uz;
+		double xinc, xl, xlm;
+		double xmdf, xmx, xmy, omegadf, argpdf;
+		double xnode;
+		int ktr;
+
+		/* ------- update for secular gravity and atmospheric drag ----- */
+		xmdf = mo[i] + mdot[i] * t;
+		argpdf = argpo[i] + argpdot[i] * t;
+		omegadf = omegao[i] + omegadot[i] * t;
+		argpm = argpdf;
+		mm = xmdf;
+		t2 = t * t;
+		omegam = omegadf + omegacf[i] * t2;
+		tempa = 1.0 - cc1[i] * t;
+		tempe = bstar[i] * cc4[i] * t;
+		templ = t2cof[i] * t2;
+
+		if (isimp[i] != 1) {
+			delomg = omgcof[i] * t;
+			delm = xmcof[i] * (Math.pow((1.0 + eta[i] * Math.cos(xmdf)), 3) - delmo[i]);
+			temp = delomg + delm;
+			mm = xmdf + temp;
+			argpm = argpdf - temp;
+			t3 = t2 * t;
+			t4 = t3 * t;
+			tempa = tempa - d2[i] * t2 - d3[i] * t3 - d4[i] * t4;
+			tempe = tempe + bstar[i] * cc5[i] * (Math.sin(mm) - sinmao[i]);
+			templ = templ + t3cof[i] * t3 + t4 * (t4cof[i] + t * t5cof[i]);
+		}
+
+		nm = no[i];
+		em = ecco[i];
+		inclm = inclo[i];
+
+		// Check if mean motion is less than or equal to zero
+		if (nm <= 0.0) {
+			return 2;
+		}
+
+		am = Math.pow((xke / nm), x2o3) * tempa * tempa;
+		nm = xke / Math.pow(am, 1.5);
+		// subtract drag effects on the eccentricity
+		em = em - tempe;
+
+		// Check for eccentricity being out of bounds
+		if ((em >= 1.0) || (em < -0.001)) {
+			return 1;
+		}
+		if (em < 1.0e-6)
+			em = 1.0e-6;
+		mm = mm + no[i] * templ;
+		xlm = mm + argpm + omegam;
+		omegam = modfunc(omegam, twopi);
+		argpm = modfunc(argpm, twopi);
+		xlm = modfunc(xlm, twopi);
+		mm = modfunc(xlm - argpm - omegam, twopi);
+
+		/* ----------------- compute extra mean quantities ------------- */
+		sinip = Math.sin(inclm);
+		cosip = Math.cos(inclm);
+
+		/* -------------------- long period periodics ------------------ */
+		axnl = em * Math.cos(argpm);
+		temp = 1.0 / (am * (1.0 - em * em));
+		aynl = em * Math.sin(argpm) + temp * aycof[i];
+		xl = mm + argpm + omegam + temp * xlcof[i] * axnl;
+
+		/* --------------------- solve kepler's equation --------------- */
+		u = modfunc(xl - omegam, twopi);
+		eo1 = u;
+		tem5 = 9999.9;
+		ktr = 1;
+		while ((Math.abs(tem5) >= 1.0e-12) && (ktr <= 10)) {
+			sineo1 = Math.sin(eo1);
+			coseo1 = Math.cos(eo1);
+			tem5 = 1.0 - coseo1 * axnl - sineo1 * aynl;
+			tem5 = (u - aynl * coseo1 + axnl * sineo1 - eo1) / tem5;
+			if (Math.abs(tem5) >= 0.95)
+				tem5 = tem5 > 0.0 ? 0.95 : -0.95;
+			eo1 = eo1 + tem5;
+			ktr = ktr + 1;
+		}
+
+		/* ------------- short period preliminary quantities ----------- */
+		ecose = axnl * coseo1 + aynl * sineo1;
+		esine = axnl * sineo1 - aynl * coseo1;
+		el2 = axnl * axnl + aynl * aynl;
+		pl = am * (1.0 - el2);
+
+		if (pl < 0.0) {
+			return 4;
+		}
+		rl = am * (1.0 - ecose);
+		betal = Math.sqrt(1.0 - el2);
+		temp = esine / (1.0 + betal);
+		sinu = am / rl * (sineo1 - aynl - axnl * temp);
+		cosu = am / rl * (coseo1 - axnl + aynl * temp);
+		su = Math.atan2(sinu, cosu);
+		sin2u = (cosu + cosu) * sinu;
+		cos2u = 1.0 - 2.0 * sinu * sinu;
+		temp = 1.0 / pl;
+		temp1 = 0.5 * j2 * temp;
+		temp2 = temp1 * temp;
+
+		/* -------------- update for short period periodics ------------ */
+		mrt = rl * (1.0 - 1.5 * temp2 * betal * con41[i]) + 0.5 * temp1 * x1mth2[i] * cos2u;
+		su = su - 0.25 * temp2 * x7thm1[i] * sin2u;
+		xnode = omegam + 1.5 * temp2 * cosip * sin2u;
+		xinc = inclm + 1.5 * temp2 * cosip * sinip * cos2u;
+
+		/* --------------------- orientation vectors ------------------- */
+		sinsu = Math.sin(su);
+		double cossu = Math.cos(su);
+		snod = Math.sin(xnode);
+		cnod = Math.cos(xnode);
+		sini = Math.sin(xinc);
+		cosi = Math.cos(xinc);
+		xmx = -snod * cosi;
+		xmy = cnod * cosi;
+		ux = xmx * sinsu + cnod * cossu;
+		uy = xmy * sinsu + snod * cossu;
+		uz = sini * sinsu;
+
+		/* ------------------------- position -------------------------- */
+		x[i] = mrt * ux;
+		y[i] = mrt * uy;
+		z[i] = mrt * uz;
+
+		return 0;
+	}
+
+	private static double modfunc(double x, double y) {
+		if (y != 0) // if (y)
+			return x - (int) (x / y) * y;
+
+		return 0;
+	}
+}
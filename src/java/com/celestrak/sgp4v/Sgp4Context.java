@@ -0,0 +1,50 @@
+package com.celestrak.sgp4v;
+
+/**
+ * Maintains the values which SGP4 updates during propagation, so that the
+ * element set record, including the near Earth and deep space values computed
+ * on initialization, is not changed by propagation. A context is confined to
+ * one thread, and may be reused for any Sgp4Unit.
+ */
+final class Sgp4Context {
+
+	/** Time in minutes from the epoch of the satellite */
+	double t;
+
+	/** Error code of the most recent propagation */
+	int error;
+
+	/* Mean elements, updated for secular effects and resonances */
+	double em;
+	double inclm;
+	double argpm;
+	double omegam;
+	double mm;
+	double nm;
+	double dndt;
+
+	/* Mean elements, updated for lunar-solar periodics */
+	double ep;
+	double xincp;
+	double argpp;
+	double omegap;
+	double mp;
+
+	/* Deep space resonance integrator values */
+	double atime;
+	double xli;
+	double xni;
+
+	/* Near Earth values recomputed during deep space propagation */
+	double aycof;
+	double xlcof;
+	double con41;
+	double x1mth2;
+	double x7thm1;
+
+	/** Position [er] */
+	final double[] r = new double[3];
+
+	/** Velocity [er/tu], where tu is 1 / xke minutes */
+	final double[] v = new double[3];
+}
@@ -134,6 +134,9 @@ public class Sgp4Unit implements Serializable {
 
 	private ElsetRec satrec = new ElsetRec();
 
+	// Values changed during propagation, confined to each thread
+	private static final ThreadLocal<Sgp4Context> context = ThreadLocal.withInitial(Sgp4Context::new);
+
 	private double sinio = 0.0;
 
 	private double snodm = 0.0;
@@ -178,6 +181,16 @@ public class Sgp4Unit implements Serializable {
 		twoline2rv(satElset);
 	}
 
+	/**
+	 * Gets the element set record, including the near Earth and deep space
+	 * values computed on initialization
+	 * 
+	 * @return ElsetRec
+	 */
+	ElsetRec getSatrec() {
+		return satrec;
+	}
+
 	/*-----------------------------------------------------------------------------
 	 *
 	 *                           procedure dpper
@@ -264,8 +277,8 @@ public class Sgp4Unit implements Serializable {
 	 *    norad spacetrack report #3
 	 *
 	 ----------------------------------------------------------------------------*/
-	private void dpper(double e3, double ee2, double peo, double pgho, double pho, double pinco, double plo, double se2,
-			double se3, double sgh2, double sgh3, double sgh4, double sh2, double sh3, double si2, double si3,
+	private void dpper(Sgp4Context c, double e3, double ee2, double peo, double pgho, double pho, double pinco,
+			double plo, double se2, double se3, double sgh2, double sgh3, double sgh4, double sh2, double sh3, double si2, double si3,
 			double sl2, double sl3, double sl4, double t, double xgh2, double xgh3, double xgh4, double xh2, double xh3,
 			double xi2, double xi3, double xl2, double xl3, double xl4, double zmol, double zmos, int init) {
 
@@ -330,10 +343,10 @@ public class Sgp4Unit implements Serializable {
 			pl = pl - plo;
 			pgh = pgh - pgho;
 			ph = ph - pho;
-			satrec.xincp = satrec.xincp + pinc;
-			satrec.ep = satrec.ep + pe;
-			sinip = Math.sin(satrec.xincp);
-			cosip = Math.cos(satrec.xincp);
+			c.xincp = c.xincp + pinc;
+			c.ep = c.ep + pe;
+			sinip = Math.sin(c.xincp);
+			cosip = Math.cos(c.xincp);
 
 			/* ----------------- apply periodics directly ------------ */
 			// could change this for the other side (pi - 0.2, but it affects
@@ -344,37 +357,37 @@ public class Sgp4Unit implements Serializable {
 			// if (ildm = 'n')
 			// use this for perturbed inclination value per gsfc version
 			// if (inclp >= 0.2)
-			if (satrec.xincp >= 0.2) { // JMC
+			if (c.xincp >= 0.2) { // JMC
 				// if (ilsd == 1) {
 				ph = ph / sinip;
 				pgh = pgh - cosip * ph;
-				satrec.argpp = satrec.argpp + pgh;
-				satrec.omegap = satrec.omegap + ph;
-				satrec.mp = satrec.mp + pl;
+				c.argpp = c.argpp + pgh;
+				c.omegap = c.omegap + ph;
+				c.mp = c.mp + pl;
 			} else {
 				/* ---- apply periodics with lyddane modification ---- */
-				sinop = Math.sin(satrec.omegap);
-				cosop = Math.cos(satrec.omegap);
+				sinop = Math.sin(c.omegap);
+				cosop = Math.cos(c.omegap);
 				alfdp = sinip * sinop;
 				betdp = sinip * cosop;
 				dalf = ph * cosop + pinc * cosip * sinop;
 				dbet = -ph * sinop + pinc * cosip * cosop;
 				alfdp = alfdp + dalf;
 				betdp = betdp + dbet;
-				satrec.omegap = modfunc(satrec.omegap, twopi);
-				xls = satrec.mp + satrec.argpp + cosip * satrec.omegap;
-				dls = pl + pgh - pinc * satrec.omegap * sinip;
+				c.omegap = modfunc(c.omegap, twopi);
+				xls = c.mp + c.argpp + cosip * c.omegap;
+				dls = pl + pgh - pinc * c.omegap * sinip;
 				xls = xls + dls;
-				xnoh = satrec.omegap;
-				satrec.omegap = Math.atan2(alfdp, betdp);
-				if (Math.abs(xnoh - satrec.omegap) > pi)
-					if (Math.abs(xnoh - satrec.omegap) > pi)
-						if (satrec.omegap < xnoh)
-							satrec.omegap = satrec.omegap + twopi;
+				xnoh = c.omegap;
+				c.omegap = Math.atan2(alfdp, betdp);
+				if (Math.abs(xnoh - c.omegap) > pi)
+					if (Math.abs(xnoh - c.omegap) > pi)
+						if (c.omegap < xnoh)
+							c.omegap = c.omegap + twopi;
 						else
-							satrec.omegap = satrec.omegap - twopi;
-				satrec.mp = satrec.mp + pl;
-				satrec.argpp = xls - satrec.mp - cosip * satrec.omegap;
+							c.omegap = c.omegap - twopi;
+				c.mp = c.mp + pl;
+				c.argpp = xls - c.mp - cosip * c.omegap;
 			}
 
 		}
@@ -396,8 +409,8 @@ public class Sgp4Unit implements Serializable {
 					xi3, "xl2", xl2, "xl3", xl3, "xl4", xl4);
 			System.out.printf("%7s%15.9f%7s%15.9f%7s%15d\n", "zmol", zmol, "zmos", zmos, "init", init);
 			System.out.printf("    in/out : \n");
-			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "ep", satrec.ep, "inclp", satrec.xincp,
-					"omegap", satrec.omegap, "argpp", satrec.argpp, "mp", satrec.mp);
+			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "ep", c.ep, "inclp", c.xincp,
+					"omegap", c.omegap, "argpp", c.argpp, "mp", c.mp);
 		}
 	}
 
@@ -1089,8 +1102,8 @@ public class Sgp4Unit implements Serializable {
 	 *    norad spacetrack report #3
 	 *
 	 ----------------------------------------------------------------------------*/
-	private void dspace(int irez, double d2201, double d2211, double d3210, double d3222, double d4410, double d4422,
-			double d5220, double d5232, double d5421, double d5433, double dedt, double del1, double del2, double del3,
+	private void dspace(Sgp4Context c, int irez, double d2201, double d2211, double d3210, double d3222,
+			double d4410, double d4422, double d5220, double d5232, double d5421, double d5433, double dedt, double del1, double del2, double del3,
 			double didt, double dmdt, double dnodt, double domdt, double argpo, double argpdot, double t, double tc,
 			double gsto, double xfact, double xlamo, double no) {
 
@@ -1112,14 +1125,14 @@ public class Sgp4Unit implements Serializable {
 		step2 = 259200.0;
 
 		/* ----------- calculate deep space resonance effects ----------- */
-		dndt = 0.0;
+		c.dndt = 0.0;
 		theta = modfunc(gsto + tc * rptim, twopi);
-		em = em + dedt * t;
+		c.em = c.em + dedt * t;
 		// shouldn't emsq be changed now?????
-		inclm = inclm + didt * t;
-		argpm = argpm + domdt * t;
-		omegam = omegam + dnodt * t;
-		mm = mm + dmdt * t;
+		c.inclm = c.inclm + didt * t;
+		c.argpm = c.argpm + domdt * t;
+		c.omegam = c.omegam + dnodt * t;
+		c.mm = c.mm + dmdt * t;
 		// sgp4fix for negative inclinations
 		// the following if statement should be commented out
 		// if (inclm < 0.0)
@@ -1132,23 +1145,23 @@ public class Sgp4Unit implements Serializable {
 		/* - update resonances : numerical (euler-maclaurin) integration - */
 		/* ------------------------- epoch restart ---------------------- */
 		ft = 0.0;
-		satrec.dsvalues.atime = 0.0;
+		c.atime = 0.0;
 		if (irez != 0) {
-			if ((satrec.dsvalues.atime == 0.0) || ((t >= 0.0) && (satrec.dsvalues.atime < 0.0))
-					|| ((t < 0.0) && (satrec.dsvalues.atime >= 0.0))) {
+			if ((c.atime == 0.0) || ((t >= 0.0) && (c.atime < 0.0))
+					|| ((t < 0.0) && (c.atime >= 0.0))) {
 				if (t >= 0.0)
 					delt = stepp;
 				else
 					delt = stepn;
-				satrec.dsvalues.atime = 0.0;
-				satrec.dsvalues.xni = no;
-				satrec.dsvalues.xli = xlamo;
+				c.atime = 0.0;
+				c.xni = no;
+				c.xli = xlamo;
 			}
 			iretn = 381; // added for do loop
 			iret = 0; // added for loop
 			while (iretn == 381) {
 				// if ((fabs(t) < fabs(atime)) || (iret == 351))
-				if ((Math.abs(t) < Math.abs(satrec.dsvalues.atime)) || (iret == 351)) {
+				if ((Math.abs(t) < Math.abs(c.atime)) || (iret == 351)) {
 					if (t >= 0.0)
 						delt = stepn;
 					else
@@ -1162,11 +1175,11 @@ public class Sgp4Unit implements Serializable {
 					else
 						delt = stepn;
 					// if (fabs(t - atime) >= stepp)
-					if (Math.abs(t - satrec.dsvalues.atime) >= stepp) {
+					if (Math.abs(t - c.atime) >= stepp) {
 						iret = 0;
 						iretn = 381;
 					} else {
-						ft = t - satrec.dsvalues.atime;
+						ft = t - c.atime;
 						iretn = 0;
 					}
 				}
@@ -1174,33 +1187,33 @@ public class Sgp4Unit implements Serializable {
 				/* ------------------- dot terms calculated ------------- */
 				/* ----------- near - synchronous resonance terms ------- */
 				if (irez != 2) {
-					xndt = del1 * Math.sin(satrec.dsvalues.xli - fasx2)
-							+ del2 * Math.sin(2.0 * (satrec.dsvalues.xli - fasx4))
-							+ del3 * Math.sin(3.0 * (satrec.dsvalues.xli - fasx6));
-					xldot = satrec.dsvalues.xni + xfact;
-					xnddt = del1 * Math.cos(satrec.dsvalues.xli - fasx2)
-							+ 2.0 * del2 * Math.cos(2.0 * (satrec.dsvalues.xli - fasx4))
-							+ 3.0 * del3 * Math.cos(3.0 * (satrec.dsvalues.xli - fasx6));
+					xndt = del1 * Math.sin(c.xli - fasx2)
+							+ del2 * Math.sin(2.0 * (c.xli - fasx4))
+							+ del3 * Math.sin(3.0 * (c.xli - fasx6));
+					xldot = c.xni + xfact;
+					xnddt = del1 * Math.cos(c.xli - fasx2)
+							+ 2.0 * del2 * Math.cos(2.0 * (c.xli - fasx4))
+							+ 3.0 * del3 * Math.cos(3.0 * (c.xli - fasx6));
 					xnddt = xnddt * xldot;
 				} else {
 					/* --------- near - half-day resonance terms -------- */
-					xomi = argpo + argpdot * satrec.dsvalues.atime;
+					xomi = argpo + argpdot * c.atime;
 					x2omi = xomi + xomi;
-					x2li = satrec.dsvalues.xli + satrec.dsvalues.xli;
-					xndt = d2201 * Math.sin(x2omi + satrec.dsvalues.xli - g22)
-							+ d2211 * Math.sin(satrec.dsvalues.xli - g22)
-							+ d3210 * Math.sin(xomi + satrec.dsvalues.xli - g32)
-							+ d3222 * Math.sin(-xomi + satrec.dsvalues.xli - g32) + d4410 * Math.sin(x2omi + x2li - g44)
-							+ d4422 * Math.sin(x2li - g44) + d5220 * Math.sin(xomi + satrec.dsvalues.xli - g52)
-							+ d5232 * Math.sin(-xomi + satrec.dsvalues.xli - g52) + d5421 * Math.sin(xomi + x2li - g54)
+					x2li = c.xli + c.xli;
+					xndt = d2201 * Math.sin(x2omi + c.xli - g22)
+							+ d2211 * Math.sin(c.xli - g22)
+							+ d3210 * Math.sin(xomi + c.xli - g32)
+							+ d3222 * Math.sin(-xomi + c.xli - g32) + d4410 * Math.sin(x2omi + x2li - g44)
+							+ d4422 * Math.sin(x2li - g44) + d5220 * Math.sin(xomi + c.xli - g52)
+							+ d5232 * Math.sin(-xomi + c.xli - g52) + d5421 * Math.sin(xomi + x2li - g54)
 							+ d5433 * Math.sin(-xomi + x2li - g54);
-					xldot = satrec.dsvalues.xni + xfact;
-					xnddt = d2201 * Math.cos(x2omi + satrec.dsvalues.xli - g22)
-							+ d2211 * Math.cos(satrec.dsvalues.xli - g22)
-							+ d3210 * Math.cos(xomi + satrec.dsvalues.xli - g32)
-							+ d3222 * Math.cos(-xomi + satrec.dsvalues.xli - g32)
-							+ d5220 * Math.cos(xomi + satrec.dsvalues.xli - g52)
-							+ d5232 * Math.cos(-xomi + satrec.dsvalues.xli - g52)
+					xldot = c.xni + xfact;
+					xnddt = d2201 * Math.cos(x2omi + c.xli - g22)
+							+ d2211 * Math.cos(c.xli - g22)
+							+ d3210 * Math.cos(xomi + c.xli - g32)
+							+ d3222 * Math.cos(-xomi + c.xli - g32)
+							+ d5220 * Math.cos(xomi + c.xli - g52)
+							+ d5232 * Math.cos(-xomi + c.xli - g52)
 							+ 2.0 * (d4410 * Math.cos(x2omi + x2li - g44) + d4422 * Math.cos(x2li - g44)
 									+ d5421 * Math.cos(xomi + x2li - g54) + d5433 * Math.cos(-xomi + x2li - g54));
 					xnddt = xnddt * xldot;
@@ -1208,23 +1221,23 @@ public class Sgp4Unit implements Serializable {
 
 				/* ----------------------- integrator ------------------- */
 				if (iretn == 381) {
-					satrec.dsvalues.xli = satrec.dsvalues.xli + xldot * delt + xndt * step2;
-					satrec.dsvalues.xni = satrec.dsvalues.xni + xndt * delt + xnddt * step2;
-					satrec.dsvalues.atime = satrec.dsvalues.atime + delt;
+					c.xli = c.xli + xldot * delt + xndt * step2;
+					c.xni = c.xni + xndt * delt + xnddt * step2;
+					c.atime = c.atime + delt;
 				}
 			} // while iretn = 381
 
-			nm = satrec.dsvalues.xni + xndt * ft + xnddt * ft * ft * 0.5;
-			xl = satrec.dsvalues.xli + xldot * ft + xndt * ft * ft * 0.5;
+			c.nm = c.xni + xndt * ft + xnddt * ft * ft * 0.5;
+			xl = c.xli + xldot * ft + xndt * ft * ft * 0.5;
 			if (irez != 1) {
-				mm = xl - 2.0 * omegam + 2.0 * theta;
-				dndt = nm - no;
+				c.mm = xl - 2.0 * c.omegam + 2.0 * theta;
+				c.dndt = c.nm - no;
 			} else {
-				mm = xl - omegam - argpm + theta;
-				dndt = nm - no;
+				c.mm = xl - c.omegam - c.argpm + theta;
+				c.dndt = c.nm - no;
 			}
 
-			nm = no + dndt;
+			c.nm = no + c.dndt;
 		}
 
 		if (help == 'y') {
@@ -1242,11 +1255,11 @@ public class Sgp4Unit implements Serializable {
 			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f\n", "xfact", xfact, "xlamo", xlamo, "no", no);
 			System.out.printf(" in / out : \n");
 			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "atime",
-					satrec.dsvalues.atime, "em", em, "argpm", argpm, "inclm", inclm, "xli", satrec.dsvalues.xli, "mm",
-					mm);
-			System.out.printf("%7s%15.9f%7s%15.9f\n", "xni", satrec.dsvalues.xni, "omegam", omegam);
+					c.atime, "em", c.em, "argpm", c.argpm, "inclm", c.inclm, "xli", c.xli, "mm",
+					c.mm);
+			System.out.printf("%7s%15.9f%7s%15.9f\n", "xni", c.xni, "omegam", c.omegam);
 			System.out.printf(" outputs : \n");
-			System.out.printf("%7s%15.9f%7s%15.9f\n", "dndt", dndt, "nm", nm);
+			System.out.printf("%7s%15.9f%7s%15.9f\n", "dndt", c.dndt, "nm", c.nm);
 
 		}
 	}
@@ -1779,6 +1792,89 @@ public class Sgp4Unit implements Serializable {
 	 *
 	 ----------------------------------------------------------------------------*/
 	public Sgp4Data sgp4() throws ObjectDecayed {
+		Sgp4Context c = context.get();
+		c.t = satrec.nevalues.t;
+		try {
+			sgp4(c);
+		} finally {
+			satrec.error = c.error;
+		}
+		satrec.ep = c.ep;
+		satrec.xincp = c.xincp;
+		satrec.argpp = c.argpp;
+		satrec.omegap = c.omegap;
+		satrec.mp = c.mp;
+		System.arraycopy(c.r, 0, satrec.r, 0, 3);
+		System.arraycopy(c.v, 0, satrec.v, 0, 3);
+
+		Sgp4Data data = new Sgp4Data(satrec.satnum);
+
+		data.setPosn(new Vector3d(satrec.r[0], satrec.r[1], satrec.r[2]));
+		data.setVel(new Vector3d(satrec.v[0], satrec.v[1], satrec.v[2]));
+
+		return data;
+	}
+
+	/**
+	 * Propagates the satellite to a time from the epoch, without allocation,
+	 * and without changing the element set record, so that one Sgp4Unit may
+	 * be used by many threads. The values changed during propagation are
+	 * kept in a context confined to the current thread.
+	 * 
+	 * @param tsince
+	 *            Time in minutes from the epoch of the satellite
+	 * @param out
+	 *            Position [er] and velocity [er/tu], where tu is 1 / xke
+	 *            minutes, output
+	 * @param offset
+	 *            Offset of the position, followed by the velocity
+	 * @throws ObjectDecayed
+	 */
+	public void propagate(double tsince, double[] out, int offset) throws ObjectDecayed {
+		Sgp4Context c = context.get();
+		c.t = tsince;
+		sgp4(c);
+		out[offset] = c.r[0];
+		out[offset + 1] = c.r[1];
+		out[offset + 2] = c.r[2];
+		out[offset + 3] = c.v[0];
+		out[offset + 4] = c.v[1];
+		out[offset + 5] = c.v[2];
+	}
+
+	/**
+	 * Gets the error code of the most recent propagation in the current
+	 * thread, as set by propagate.
+	 * 
+	 * @return Error code, or 0, if none
+	 */
+	int getPropagationError() {
+		return context.get().error;
+	}
+
+	/**
+	 * Computes the time from the epoch of the satellite, as computed by
+	 * runSgp4.
+	 * 
+	 * @param startYear
+	 * @param startDay
+	 * @return Time in minutes from the epoch of the satellite
+	 */
+	public double getTsince(int startYear, double startDay) {
+
+		if (startYear < 1900) {
+			if (startYear < 50)
+				startYear = startYear + 2000;
+			else
+				startYear = startYear + 1900;
+		}
+
+		double srtime = (startYear - 1950) * 365 + (startYear - 1949) / 4 + startDay;
+
+		return (srtime - satrec.eptime) * 1440.0;
+	}
+
+	private void sgp4(Sgp4Context c) throws ObjectDecayed {
 
 		double am, axnl, aynl, betal, cnod, cos2u, coseo1 = 0.0;
 		double cosi, cosip, cosisq, cossu, cosu, delm, delomg;
@@ -1811,116 +1907,123 @@ public class Sgp4Unit implements Serializable {
 		j3oj2 = j3 / j2;
 
 		/* --------------------- clear sgp4 error flag ----------------- */
-		satrec.error = 0;
+		c.error = 0;
+
+		/* ------- near earth values recomputed for deep space --------- */
+		c.aycof = satrec.nevalues.aycof;
+		c.xlcof = satrec.nevalues.xlcof;
+		c.con41 = satrec.nevalues.con41;
+		c.x1mth2 = satrec.nevalues.x1mth2;
+		c.x7thm1 = satrec.nevalues.x7thm1;
 
 		/* ------- update for secular gravity and atmospheric drag ----- */
-		xmdf = satrec.mo + satrec.nevalues.mdot * satrec.nevalues.t;
-		argpdf = satrec.argpo + satrec.nevalues.argpdot * satrec.nevalues.t;
-		omegadf = satrec.omegao + satrec.nevalues.omegadot * satrec.nevalues.t;
-		argpm = argpdf;
-		mm = xmdf;
-		t2 = satrec.nevalues.t * satrec.nevalues.t;
-		omegam = omegadf + satrec.nevalues.omegacf * t2;
-		tempa = 1.0 - satrec.nevalues.cc1 * satrec.nevalues.t;
-		tempe = satrec.bstar * satrec.nevalues.cc4 * satrec.nevalues.t;
+		xmdf = satrec.mo + satrec.nevalues.mdot * c.t;
+		argpdf = satrec.argpo + satrec.nevalues.argpdot * c.t;
+		omegadf = satrec.omegao + satrec.nevalues.omegadot * c.t;
+		c.argpm = argpdf;
+		c.mm = xmdf;
+		t2 = c.t * c.t;
+		c.omegam = omegadf + satrec.nevalues.omegacf * t2;
+		tempa = 1.0 - satrec.nevalues.cc1 * c.t;
+		tempe = satrec.bstar * satrec.nevalues.cc4 * c.t;
 		templ = satrec.nevalues.t2cof * t2;
 
 		if (satrec.nevalues.isimp != 1) {
-			delomg = satrec.nevalues.omgcof * satrec.nevalues.t;
+			delomg = satrec.nevalues.omgcof * c.t;
 			delm = satrec.nevalues.xmcof
 					* (Math.pow((1.0 + satrec.nevalues.eta * Math.cos(xmdf)), 3) - satrec.nevalues.delmo);
 			temp = delomg + delm;
-			mm = xmdf + temp;
-			argpm = argpdf - temp;
-			t3 = t2 * satrec.nevalues.t;
-			t4 = t3 * satrec.nevalues.t;
+			c.mm = xmdf + temp;
+			c.argpm = argpdf - temp;
+			t3 = t2 * c.t;
+			t4 = t3 * c.t;
 			tempa = tempa - satrec.nevalues.d2 * t2 - satrec.nevalues.d3 * t3 - satrec.nevalues.d4 * t4;
-			tempe = tempe + satrec.bstar * satrec.nevalues.cc5 * (Math.sin(mm) - satrec.nevalues.sinmao);
+			tempe = tempe + satrec.bstar * satrec.nevalues.cc5 * (Math.sin(c.mm) - satrec.nevalues.sinmao);
 			templ = templ + satrec.nevalues.t3cof * t3
-					+ t4 * (satrec.nevalues.t4cof + satrec.nevalues.t * satrec.nevalues.t5cof);
+					+ t4 * (satrec.nevalues.t4cof + c.t * satrec.nevalues.t5cof);
 		}
 
-		nm = satrec.no;
-		em = satrec.ecco;
-		inclm = satrec.inclo;
+		c.nm = satrec.no;
+		c.em = satrec.ecco;
+		c.inclm = satrec.inclo;
 		if (satrec.nevalues.method == 2) {
-			tc = satrec.nevalues.t;
-			dspace(satrec.dsvalues.irez, satrec.dsvalues.d2201, satrec.dsvalues.d2211, satrec.dsvalues.d3210,
+			tc = c.t;
+			dspace(c, satrec.dsvalues.irez, satrec.dsvalues.d2201, satrec.dsvalues.d2211, satrec.dsvalues.d3210,
 					satrec.dsvalues.d3222, satrec.dsvalues.d4410, satrec.dsvalues.d4422, satrec.dsvalues.d5220,
 					satrec.dsvalues.d5232, satrec.dsvalues.d5421, satrec.dsvalues.d5433, satrec.dsvalues.dedt,
 					satrec.dsvalues.del1, satrec.dsvalues.del2, satrec.dsvalues.del3, satrec.dsvalues.didt,
 					satrec.dsvalues.dmdt, satrec.dsvalues.dnodt, satrec.dsvalues.domdt, satrec.argpo,
-					satrec.nevalues.argpdot, satrec.nevalues.t, tc, satrec.dsvalues.gsto, satrec.dsvalues.xfact,
+					satrec.nevalues.argpdot, c.t, tc, satrec.dsvalues.gsto, satrec.dsvalues.xfact,
 					satrec.dsvalues.xlamo, satrec.no);
 			// add check here for incl too - no.
 		}
 
 		// Check if mean motion is less than or equal to zero
-		if (nm <= 0.0) {
+		if (c.nm <= 0.0) {
 			// throw an exception only if this is a fatal condition
 			// which may result in a divide by zero error, otherwise
 			// try and recover
-			satrec.error = 2;
+			c.error = 2;
 			// System.out.println("ERROR mean motion is less than zero [nm: " +
 			// nm+"]");
-			throw new ObjectDecayed("Sgp4Unit.sgp4 ERROR mean motion is less than zero [nm: " + nm + "]");
+			throw new ObjectDecayed("Sgp4Unit.sgp4 ERROR mean motion is less than zero [nm: " + c.nm + "]");
 		}
 
-		am = Math.pow((xke / nm), x2o3) * tempa * tempa;
-		nm = xke / Math.pow(am, 1.5);
+		am = Math.pow((xke / c.nm), x2o3) * tempa * tempa;
+		c.nm = xke / Math.pow(am, 1.5);
 		// subtract drag effects on the eccentricity
-		em = em - tempe;
+		c.em = c.em - tempe;
 
 		// Check for eccentricity being out of bounds
 		// GPUFIX: removed "|| (am < 0.95)"
 		// if ((em >= 1.0) || (em < -0.001) || (am < 0.95))
-		if ((em >= 1.0) || (em < -0.001)) {
-			satrec.error = 1;
+		if ((c.em >= 1.0) || (c.em < -0.001)) {
+			c.error = 1;
 			// System.out.println("ERROR eccentricity out of bounds"+
 			// " [em: " + em+"] [am: "+am+"]");
 			throw new ObjectDecayed(
-					"Sgp4Unit.sgp4 ERROR eccentricity out of bounds" + " [em: " + em + "] [am: " + am + "]");
+					"Sgp4Unit.sgp4 ERROR eccentricity out of bounds" + " [em: " + c.em + "] [am: " + am + "]");
 		}
 
 		// If it is less than zero, try and correct by making eccentricity a
 		// small value
 		// GPUFIX: Used "1.0e-6" rather than "0.0"
 		// if (em < 0.0)
-		if (em < 1.0e-6)
-			em = 1.0e-6;
-		mm = mm + satrec.no * templ;
-		xlm = mm + argpm + omegam;
-		emsq = em * em;
+		if (c.em < 1.0e-6)
+			c.em = 1.0e-6;
+		c.mm = c.mm + satrec.no * templ;
+		xlm = c.mm + c.argpm + c.omegam;
+		emsq = c.em * c.em;
 		temp = 1.0 - emsq;
 		// rtemsq = sqrt(temp);
-		omegam = modfunc(omegam, twopi);
-		argpm = modfunc(argpm, twopi);
+		c.omegam = modfunc(c.omegam, twopi);
+		c.argpm = modfunc(c.argpm, twopi);
 		xlm = modfunc(xlm, twopi);
-		mm = modfunc(xlm - argpm - omegam, twopi);
+		c.mm = modfunc(xlm - c.argpm - c.omegam, twopi);
 		// if (mm < 0.0)
 		// mm = mm + twopi;
 
 		/* ----------------- compute extra mean quantities ------------- */
-		sinim = Math.sin(inclm);
-		cosim = Math.cos(inclm);
+		sinim = Math.sin(c.inclm);
+		cosim = Math.cos(c.inclm);
 
 		/* -------------------- add lunar-solar periodics -------------- */
 		// np = nm;
 		// FIXME send to dpper
-		satrec.ep = em;
-		satrec.xincp = inclm;
-		satrec.argpp = argpm;
-		satrec.omegap = omegam;
-		satrec.mp = mm;
+		c.ep = c.em;
+		c.xincp = c.inclm;
+		c.argpp = c.argpm;
+		c.omegap = c.omegam;
+		c.mp = c.mm;
 		sinip = sinim;
 		cosip = cosim;
 		if (satrec.nevalues.method == 2) {
 
-			dpper(satrec.dsvalues.e3, satrec.dsvalues.ee2, satrec.dsvalues.peo, satrec.dsvalues.pgho,
+			dpper(c, satrec.dsvalues.e3, satrec.dsvalues.ee2, satrec.dsvalues.peo, satrec.dsvalues.pgho,
 					satrec.dsvalues.pho, satrec.dsvalues.pinco, satrec.dsvalues.plo, satrec.dsvalues.se2,
 					satrec.dsvalues.se3, satrec.dsvalues.sgh2, satrec.dsvalues.sgh3, satrec.dsvalues.sgh4,
 					satrec.dsvalues.sh2, satrec.dsvalues.sh3, satrec.dsvalues.si2, satrec.dsvalues.si3,
-					satrec.dsvalues.sl2, satrec.dsvalues.sl3, satrec.dsvalues.sl4, satrec.nevalues.t,
+					satrec.dsvalues.sl2, satrec.dsvalues.sl3, satrec.dsvalues.sl4, c.t,
 					satrec.dsvalues.xgh2, satrec.dsvalues.xgh3, satrec.dsvalues.xgh4, satrec.dsvalues.xh2,
 					satrec.dsvalues.xh3, satrec.dsvalues.xi2, satrec.dsvalues.xi3, satrec.dsvalues.xl2,
 					satrec.dsvalues.xl3, satrec.dsvalues.xl4, satrec.dsvalues.zmol, satrec.dsvalues.zmos, 0);
@@ -1929,35 +2032,35 @@ public class Sgp4Unit implements Serializable {
 			// double& mp
 
 			// Correct for negative inclination
-			if (satrec.xincp < 0.0) {
-				satrec.xincp = -satrec.xincp;
-				satrec.omegap = satrec.omegap + pi;
-				satrec.argpp = satrec.argpp - pi;
+			if (c.xincp < 0.0) {
+				c.xincp = -c.xincp;
+				c.omegap = c.omegap + pi;
+				c.argpp = c.argpp - pi;
 			}
 
 			// Another eccentricity check
-			if ((satrec.ep < 0.0) || (satrec.ep > 1.0)) {
+			if ((c.ep < 0.0) || (c.ep > 1.0)) {
 				// System.out.println("ERROR eccentricity out of bounds [ep: " +
 				// satrec.ep+"]");
-				satrec.error = 3;
-				throw new ObjectDecayed("Sgp4Unit.sgp4 ERROR eccentricity out of bounds [ep: " + satrec.ep + "]");
+				c.error = 3;
+				throw new ObjectDecayed("Sgp4Unit.sgp4 ERROR eccentricity out of bounds [ep: " + c.ep + "]");
 			}
 		}
 
 		/* -------------------- long period periodics ------------------ */
 		if (satrec.nevalues.method == 2) {
-			sinip = Math.sin(satrec.xincp);
-			cosip = Math.cos(satrec.xincp);
-			satrec.nevalues.aycof = -0.5 * j3oj2 * sinip;
-			satrec.nevalues.xlcof = -0.25 * j3oj2 * sinip * (3.0 + 5.0 * cosip) / (1.0 + cosip);
+			sinip = Math.sin(c.xincp);
+			cosip = Math.cos(c.xincp);
+			c.aycof = -0.5 * j3oj2 * sinip;
+			c.xlcof = -0.25 * j3oj2 * sinip * (3.0 + 5.0 * cosip) / (1.0 + cosip);
 		}
-		axnl = satrec.ep * Math.cos(satrec.argpp);
-		temp = 1.0 / (am * (1.0 - satrec.ep * satrec.ep));
-		aynl = satrec.ep * Math.sin(satrec.argpp) + temp * satrec.nevalues.aycof;
-		xl = satrec.mp + satrec.argpp + satrec.omegap + temp * satrec.nevalues.xlcof * axnl;
+		axnl = c.ep * Math.cos(c.argpp);
+		temp = 1.0 / (am * (1.0 - c.ep * c.ep));
+		aynl = c.ep * Math.sin(c.argpp) + temp * c.aycof;
+		xl = c.mp + c.argpp + c.omegap + temp * c.xlcof * axnl;
 
 		/* --------------------- solve kepler's equation --------------- */
-		u = modfunc(xl - satrec.omegap, twopi);
+		u = modfunc(xl - c.omegap, twopi);
 		eo1 = u;
 		tem5 = 9999.9;
 		ktr = 1;
@@ -1985,7 +2088,7 @@ public class Sgp4Unit implements Serializable {
 		if (pl < 0.0) {
 			// This error results in no data generated
 			// System.out.println("FATAL Error [pl: "+ pl+"]");
-			satrec.error = 4;
+			c.error = 4;
 			throw new ObjectDecayed("Sgp4Unit.sgp4 ERROR [pl: " + pl + "]");
 		} else {
 			rl = am * (1.0 - ecose);
@@ -2005,17 +2108,17 @@ public class Sgp4Unit implements Serializable {
 			/* -------------- update for short period periodics ------------ */
 			if (satrec.nevalues.method == 2) {
 				cosisq = cosip * cosip;
-				satrec.nevalues.con41 = 3.0 * cosisq - 1.0;
-				satrec.nevalues.x1mth2 = 1.0 - cosisq;
-				satrec.nevalues.x7thm1 = 7.0 * cosisq - 1.0;
+				c.con41 = 3.0 * cosisq - 1.0;
+				c.x1mth2 = 1.0 - cosisq;
+				c.x7thm1 = 7.0 * cosisq - 1.0;
 			}
-			mrt = rl * (1.0 - 1.5 * temp2 * betal * satrec.nevalues.con41)
-					+ 0.5 * temp1 * satrec.nevalues.x1mth2 * cos2u;
-			su = su - 0.25 * temp2 * satrec.nevalues.x7thm1 * sin2u;
-			xnode = satrec.omegap + 1.5 * temp2 * cosip * sin2u;
-			xinc = satrec.xincp + 1.5 * temp2 * cosip * sinip * cos2u;
-			mvt = rdotl - nm * temp1 * satrec.nevalues.x1mth2 * sin2u / xke;
-			rvdot = rvdotl + nm * temp1 * (satrec.nevalues.x1mth2 * cos2u + 1.5 * satrec.nevalues.con41) / xke;
+			mrt = rl * (1.0 - 1.5 * temp2 * betal * c.con41)
+					+ 0.5 * temp1 * c.x1mth2 * cos2u;
+			su = su - 0.25 * temp2 * c.x7thm1 * sin2u;
+			xnode = c.omegap + 1.5 * temp2 * cosip * sin2u;
+			xinc = c.xincp + 1.5 * temp2 * cosip * sinip * cos2u;
+			mvt = rdotl - c.nm * temp1 * c.x1mth2 * sin2u / xke;
+			rvdot = rvdotl + c.nm * temp1 * (c.x1mth2 * cos2u + 1.5 * c.con41) / xke;
 
 			/* --------------------- orientation vectors ------------------- */
 			sinsu = Math.sin(su);
@@ -2035,16 +2138,16 @@ public class Sgp4Unit implements Serializable {
 
 			/* ------------------- position and velocity ------------------- */
 
-			satrec.r[0] = mrt * ux;
-			satrec.r[1] = mrt * uy;
-			satrec.r[2] = mrt * uz;
-			satrec.v[0] = mvt * ux + rvdot * vx;
-			satrec.v[1] = mvt * uy + rvdot * vy;
-			satrec.v[2] = mvt * uz + rvdot * vz;
+			c.r[0] = mrt * ux;
+			c.r[1] = mrt * uy;
+			c.r[2] = mrt * uz;
+			c.v[0] = mvt * ux + rvdot * vx;
+			c.v[1] = mvt * uy + rvdot * vy;
+			c.v[2] = mvt * uz + rvdot * vz;
 
 		}
 
-		if (satrec.error > 0) {
+		if (c.error > 0) {
 
 			// Decay errors
 			// satrec.error = 2; mean motion out of bounds
@@ -2054,7 +2157,7 @@ public class Sgp4Unit implements Serializable {
 			// System.out.printf("*** error: t:= %f *** code = %3d\n",
 			// satrec.nevalues.t, satrec.error);
 
-			if (satrec.error == 4) {
+			if (c.error == 4) {
 				// no data generated
 				throw new ObjectDecayed("Sgp4Unit.sgp4 Fatal SGP4 error [pl: " + pl + "]");
 			}
@@ -2064,26 +2167,26 @@ public class Sgp4Unit implements Serializable {
 			System.out.printf("%84s\n", "------------------after sgp4   :---------------");
 			System.out.printf("    inputs : \n");
 			System.out.printf("%7s%15d%7s%15d%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "isimp", satrec.nevalues.isimp,
-					"method", satrec.nevalues.method, "aycof", satrec.nevalues.aycof, "bstar", satrec.bstar, "con41",
-					satrec.nevalues.con41, "cc1", satrec.nevalues.cc1);
+					"method", satrec.nevalues.method, "aycof", c.aycof, "bstar", satrec.bstar, "con41",
+					c.con41, "cc1", satrec.nevalues.cc1);
 			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "cc4", satrec.nevalues.cc4,
 					"cc5", satrec.nevalues.cc5, "d2", satrec.nevalues.d2, "d3", satrec.nevalues.d3, "d4",
 					satrec.nevalues.d4, "delmo", satrec.nevalues.delmo);
 			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "ecco", satrec.ecco, "eta",
 					satrec.nevalues.eta, "argpo", satrec.argpo, "argpdot", satrec.nevalues.argpdot, "omgcof",
 					satrec.nevalues.omgcof, "sinmao", satrec.nevalues.sinmao);
-			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "t", satrec.nevalues.t,
+			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "t", c.t,
 					"t2cof", satrec.nevalues.t2cof, "t3cof", satrec.nevalues.t3cof, "t4cof", satrec.nevalues.t4cof,
-					"t5cof", satrec.nevalues.t5cof, "x1mth2", satrec.nevalues.x1mth2);
+					"t5cof", satrec.nevalues.t5cof, "x1mth2", c.x1mth2);
 			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "x7thm1",
-					satrec.nevalues.x7thm1, "inclo", satrec.inclo, "mo", satrec.mo, "mdot", satrec.nevalues.mdot, "xno",
+					c.x7thm1, "inclo", satrec.inclo, "mo", satrec.mo, "mdot", satrec.nevalues.mdot, "xno",
 					satrec.no, "omegao", satrec.omegao);
 			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "omegadt", satrec.nevalues.omegadot, "xlcof",
-					satrec.nevalues.xlcof, "xmcof", satrec.nevalues.xmcof, "omegacf", satrec.nevalues.omegacf);
+					c.xlcof, "xmcof", satrec.nevalues.xmcof, "omegacf", satrec.nevalues.omegacf);
 			System.out.printf("    outputs : \n");
-			System.out.printf("%7s%15d%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "error", satrec.error,
-					"x", satrec.r[0], "y", satrec.r[1], "z", satrec.r[2], "xdot", satrec.v[0], "ydot", satrec.v[1],
-					"zdot", satrec.v[2]);
+			System.out.printf("%7s%15d%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "error", c.error,
+					"x", c.r[0], "y", c.r[1], "z", c.r[2], "xdot", c.v[0], "ydot", c.v[1],
+					"zdot", c.v[2]);
 			System.out.printf("    extra inputs for ds : \n");
 			System.out.printf("%7s%15d%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "irez", satrec.dsvalues.irez, "d2201",
 					satrec.dsvalues.d2201, "d2211", satrec.dsvalues.d2211, "d3210", satrec.dsvalues.d3210, "d3222",
@@ -2112,16 +2215,10 @@ public class Sgp4Unit implements Serializable {
 			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f%7s%15.9f\n", "xl2", satrec.dsvalues.xl2,
 					"xl3", satrec.dsvalues.xl3, "xl4", satrec.dsvalues.xl4, "xlamo", satrec.dsvalues.xlamo, "zmol",
 					satrec.dsvalues.zmol, "zmos", satrec.dsvalues.zmos);
-			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f\n", "atime", satrec.dsvalues.atime, "xli",
-					satrec.dsvalues.xli, "xni", satrec.dsvalues.xni);
+			System.out.printf("%7s%15.9f%7s%15.9f%7s%15.9f\n", "atime", c.atime, "xli",
+					c.xli, "xni", c.xni);
 		}
 
-		Sgp4Data data = new Sgp4Data(satrec.satnum);
-
-		data.setPosn(new Vector3d(satrec.r[0], satrec.r[1], satrec.r[2]));
-		data.setVel(new Vector3d(satrec.v[0], satrec.v[1], satrec.v[2]));
-
-		return data;
 	}
 
 	/*-----------------------------------------------------------------------------
@@ -2335,13 +2432,14 @@ public class Sgp4Unit implements Serializable {
 
 				dscom(epoch, satrec.ecco, satrec.argpo, tc, satrec.inclo, satrec.omegao, satrec.no);
 
-				satrec.mp = satrec.mo; // tmp
-				satrec.argpp = satrec.argpo;
-				satrec.ep = satrec.ecco;
-				satrec.omegap = satrec.omegao;
-				satrec.xincp = satrec.inclo;
+				Sgp4Context c = new Sgp4Context();
+				c.mp = satrec.mo; // tmp
+				c.argpp = satrec.argpo;
+				c.ep = satrec.ecco;
+				c.omegap = satrec.omegao;
+				c.xincp = satrec.inclo;
 
-				dpper(satrec.dsvalues.e3, satrec.dsvalues.ee2, satrec.dsvalues.peo, satrec.dsvalues.pgho,
+				dpper(c, satrec.dsvalues.e3, satrec.dsvalues.ee2, satrec.dsvalues.peo, satrec.dsvalues.pgho,
 						satrec.dsvalues.pho, satrec.dsvalues.pinco, satrec.dsvalues.plo, satrec.dsvalues.se2,
 						satrec.dsvalues.se3, satrec.dsvalues.sgh2, satrec.dsvalues.sgh3, satrec.dsvalues.sgh4,
 						satrec.dsvalues.sh2, satrec.dsvalues.sh3, satrec.dsvalues.si2, satrec.dsvalues.si3,
@@ -2350,11 +2448,11 @@ public class Sgp4Unit implements Serializable {
 						satrec.dsvalues.xh3, satrec.dsvalues.xi2, satrec.dsvalues.xi3, satrec.dsvalues.xl2,
 						satrec.dsvalues.xl3, satrec.dsvalues.xl4, satrec.dsvalues.zmol, satrec.dsvalues.zmos, 1);
 
-				satrec.mo = satrec.mp; // tmp
-				satrec.argpo = satrec.argpp;
-				satrec.ecco = satrec.ep;
-				satrec.omegao = satrec.omegap;
-				satrec.inclo = satrec.xincp;
+				satrec.mo = c.mp; // tmp
+				satrec.argpo = c.argpp;
+				satrec.ecco = c.ep;
+				satrec.omegao = c.omegap;
+				satrec.inclo = c.xincp;
 
 				argpm = 0.0;
 				omegam = 0.0;
@@ -15,6 +15,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
 package com.springbok.antenna;
 
+import java.util.Objects;
+
 /**
  * Describes a space or an Earth station antenna.
  * 
@@ -123,4 +125,47 @@ public class Antenna {
 	}
 
 	// TODO: Add antenna pattern gain function that accepts optional arguments
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		long temp;
+		result = prime * result + Objects.hashCode(name);
+		temp = Double.doubleToLongBits(gain);
+		result = prime * result + (int) (temp ^ (temp >>> 32));
+		temp = Double.doubleToLongBits(noise_t);
+		result = prime * result + (int) (temp ^ (temp >>> 32));
+		return result;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		Antenna other = (Antenna) obj;
+		if (!Objects.equals(name, other.name)) {
+			return false;
+		}
+		if (Double.doubleToLongBits(gain) != Double.doubleToLongBits(other.gain)) {
+			return false;
+		}
+		if (Double.doubleToLongBits(noise_t) != Double.doubleToLongBits(other.noise_t)) {
+			return false;
+		}
+		return true;
+	}
 }
@@ -58,4 +58,15 @@ public class AntennaTest {
 		assertEquals(this.antenna.get_gain(), this.gain, 1.0e-16);
 		assertTrue(Double.isNaN(this.antenna.get_noise_t()));
 	}
+
+	@Test
+	/*
+	 * Tests equals and hashCode methods.
+	 */
+	public void test_equals() {
+		Antenna that = new Antenna(this.name, this.gain, this.noise_t);
+		assertEquals(this.antenna, that);
+		assertEquals(this.antenna.hashCode(), that.hashCode());
+		assertNotEquals(this.antenna, new Antenna(this.name, this.gain + 1, this.noise_t));
+	}
 }
@@ -16,8 +16,10 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 package com.springbok.antenna;
 
 import java.util.Map;
+import java.util.Objects;
 
 import com.springbok.pattern.EarthPattern;
+import com.springbok.pattern.GainOptions;
 
 /**
  * Describes an Earth station antenna.
@@ -35,6 +37,9 @@ public class EarthStationAntenna extends Antenna {
 	// Gain function options
 	private Map options;
 
+	// Gain function options, validated once when set
+	private GainOptions gainOptions;
+
 	/**
 	 * Constructs an Earth station antenna.
 	 *
@@ -163,6 +168,7 @@ public class EarthStationAntenna extends Antenna {
 	 */
 	public void set_options(Map options) {
 		this.options = options;
+		this.gainOptions = options == null || options.isEmpty() ? GainOptions.DEFAULT : new GainOptions(options);
 	}
 
 	/**
@@ -173,4 +179,47 @@ public class EarthStationAntenna extends Antenna {
 	public Map get_options() {
 		return this.options;
 	}
+
+	/**
+	 * Gets options, validated when set, for batch gain evaluation
+	 * 
+	 * @return Gain function options
+	 */
+	public GainOptions get_gainOptions() {
+		return this.gainOptions;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = super.hashCode();
+		result = prime * result + (int) (pattern_id ^ (pattern_id >>> 32));
+		result = prime * result + Objects.hashCode(pattern);
+		result = prime * result + Objects.hashCode(options);
+		return result;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (!super.equals(obj)) {
+			return false;
+		}
+		EarthStationAntenna other = (EarthStationAntenna) obj;
+		if (pattern_id != other.pattern_id) {
+			return false;
+		}
+		if (!Objects.equals(pattern, other.pattern)) {
+			return false;
+		}
+		if (!Objects.equals(options, other.options)) {
+			return false;
+		}
+		return true;
+	}
 }
@@ -19,7 +19,11 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.springbok.pattern.EarthPattern;
+import com.springbok.pattern.GainOptions;
 import com.springbok.pattern.PatternELUX201V01;
 
 public class EarthStationAntennaTest {
@@ -59,4 +63,19 @@ public class EarthStationAntennaTest {
 		assertTrue(Double.isNaN(NOISE_T) && Double.isNaN(antenna.get_noise_t()));
 	}
 
+	/**
+	 * Test that options are validated once, when set.
+	 */
+	@Test
+	public void test_set_options() {
+		EarthStationAntenna antenna = new EarthStationAntenna(NAME, GAIN, PATTERN_ID, PATTERN, NOISE_T);
+		assertSame(GainOptions.DEFAULT, antenna.get_gainOptions());
+
+		Map options = new HashMap();
+		options.put("DoValidate", true);
+		antenna.set_options(options);
+		assertTrue(antenna.get_gainOptions().doValidate());
+		assertTrue(antenna.copy().get_gainOptions().doValidate());
+	}
+
 }
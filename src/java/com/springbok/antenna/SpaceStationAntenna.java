@@ -15,10 +15,12 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
 package com.springbok.antenna;
 
+import com.springbok.pattern.GainOptions;
 import com.springbok.pattern.SpacePattern;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Describes a space station antenna.
@@ -35,6 +37,9 @@ public class SpaceStationAntenna extends Antenna {
     // Gain function options
     private Map options;
 
+    // Gain function options, validated once when set
+    private GainOptions gainOptions;
+
     /**
      * Constructs a space station antenna.
      *
@@ -78,6 +83,16 @@ public class SpaceStationAntenna extends Antenna {
 
     public void set_options(Map options) {
         this.options = options;
+        this.gainOptions = options == null || options.isEmpty() ? GainOptions.DEFAULT : new GainOptions(options);
+    }
+
+    /**
+     * Gets options, validated when set, for batch gain evaluation.
+     *
+     * @return Gain function options
+     */
+    public GainOptions get_gainOptions() {
+        return gainOptions;
     }
 
     public SpaceStationAntenna copy() {
@@ -91,4 +106,38 @@ public class SpaceStationAntenna extends Antenna {
         that.set_options(get_options());
         return that;
     }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = super.hashCode();
+        result = prime * result + (int) (pattern_id ^ (pattern_id >>> 32));
+        result = prime * result + Objects.hashCode(pattern);
+        result = prime * result + Objects.hashCode(options);
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!super.equals(obj)) {
+            return false;
+        }
+        SpaceStationAntenna other = (SpaceStationAntenna) obj;
+        if (pattern_id != other.pattern_id) {
+            return false;
+        }
+        if (!Objects.equals(pattern, other.pattern)) {
+            return false;
+        }
+        if (!Objects.equals(options, other.options)) {
+            return false;
+        }
+        return true;
+    }
 }
@@ -15,11 +15,17 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
 package com.springbok.antenna;
 
+import com.springbok.pattern.GainOptions;
 import com.springbok.pattern.PatternSF__601V01;
 import com.springbok.pattern.SpacePattern;
 import com.springbok.utility.TestUtility;
 import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -63,4 +69,27 @@ public class SpaceStationAntennaTest {
         assertEquals(pattern, antenna.get_pattern());
         assertTrue(TestUtility.isDoublesEquals(noise_t, antenna.get_noise_t()));
     }
+
+    /**
+     * Tests that options are validated once, when set.
+     */
+    @Test
+    public void test_set_options() {
+        SpaceStationAntenna antenna = new SpaceStationAntenna(name, gain, pattern_id, pattern, noise_t);
+        assertSame(GainOptions.DEFAULT, antenna.get_gainOptions());
+
+        Map options = new HashMap();
+        options.put("GainMax", 30.0);
+        options.put("DoValidate", true);
+        antenna.set_options(options);
+        assertTrue(antenna.get_gainOptions().hasGainMax());
+        assertTrue(TestUtility.isDoublesEquals(30.0, antenna.get_gainOptions().getGainMax()));
+        assertTrue(antenna.get_gainOptions().doValidate());
+
+        double[] G = new double[1];
+        double[] Gx = new double[1];
+        pattern.gain(new double[]{5}, 1, G, Gx, antenna.get_gainOptions());
+        assertTrue(TestUtility.isDoublesEquals(pattern.gain(5, options).G, G[0]));
+        assertTrue(TestUtility.isDoublesEquals(30.0, antenna.copy().get_gainOptions().getGainMax()));
+    }
 }
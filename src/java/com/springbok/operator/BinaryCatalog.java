@@ -0,0 +1,436 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.operator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.zip.DataFormatException;
+
+import com.celestrak.sgp4v.SatElsetException;
+import com.springbok.sgp4v.LazySgp4Orbit;
+import com.springbok.sgp4v.Sgp4Orbit;
+import com.springbok.sgp4v.Sgp4OrbitPool;
+import com.springbok.twobody.ModJulianDate;
+
+/**
+ * A catalog of two line element sets stored by column in a versioned
+ * binary file, written by SatelliteCatalog.writeBinary, and read through a
+ * read-only memory mapped view. Opening a catalog reads only the header, so
+ * takes constant time. Values are read from the file on access, and two line
+ * element sets and orbits are constructed on access.
+ *
+ * The file consists of a header, fixed width little-endian columns, each
+ * starting on an eight byte boundary, and a string table:
+ *
+ * <pre>
+ * Header (32 bytes): magic "SPBKCAT\0", version (int), number of element
+ *     sets (int), number of string table bytes (long), reserved (long)
+ * Double columns: epoch [mjd], nDot, nDotDot, bStar, i [rad], Omega [rad],
+ *     e, omega [rad], M [rad], n [rad/s], a [er]
+ * Int columns: objectId, elSetType, elementNum, revAtEpoch
+ * Int column: start of each string in the string table, three strings per
+ *     element set, followed by the string table length
+ * Byte column: classification
+ * String table: international designator, line one, and line two of each
+ *     element set, US-ASCII
+ * </pre>
+ *
+ * Only absolute reads are made from the view, so a catalog may be shared
+ * between threads.
+ */
+public class BinaryCatalog {
+
+	/** Current version of the file format */
+	public static final int VERSION = 1;
+
+	// Bytes identifying the file format
+	private static final byte[] MAGIC = { 'S', 'P', 'B', 'K', 'C', 'A', 'T', 0 };
+
+	// Number of bytes in the header
+	private static final int HEADER_SIZE = 32;
+
+	// Number of double and int columns
+	private static final int N_DOUBLE = 11;
+	private static final int N_INT = 4;
+
+	// Indexes of double columns
+	private static final int EPOCH = 0;
+	private static final int N_DOT = 1;
+	private static final int N_DOT_DOT = 2;
+	private static final int B_STAR = 3;
+	private static final int I = 4;
+	private static final int OMEGA_CAP = 5;
+	private static final int E = 6;
+	private static final int OMEGA = 7;
+	private static final int M = 8;
+	private static final int N = 9;
+	private static final int A = 10;
+
+	// Indexes of int columns
+	private static final int OBJECT_ID = 0;
+	private static final int EL_SET_TYPE = 1;
+	private static final int ELEMENT_NUM = 2;
+	private static final int REV_AT_EPOCH = 3;
+
+	// Number of strings per element set
+	private static final int N_STRING = 3;
+
+	// Memory mapped view of the file
+	private final ByteBuffer buffer;
+
+	// Number of element sets
+	private final int nSet;
+
+	// Offset of the double columns, int columns, string starts,
+	// classifications, and string table
+	private final int offDouble;
+	private final int offInt;
+	private final int offStart;
+	private final int offClass;
+	private final int offTable;
+
+	/**
+	 * Constructs a catalog view of a buffer.
+	 */
+	private BinaryCatalog(ByteBuffer buffer) throws DataFormatException {
+		this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+		if (buffer.capacity() < HEADER_SIZE) {
+			throw new DataFormatException("Binary catalog header is incomplete");
+		}
+		for (int k = 0; k < MAGIC.length; k++) {
+			if (buffer.get(k) != MAGIC[k]) {
+				throw new DataFormatException("Binary catalog magic is invalid");
+			}
+		}
+		int version = buffer.getInt(8);
+		if (version != VERSION) {
+			throw new DataFormatException("Binary catalog version " + version + " is not supported");
+		}
+		this.nSet = buffer.getInt(12);
+		long nChar = buffer.getLong(16);
+		long[] offsets = offsets(nSet, nChar);
+		if (nSet < 0 || nChar < 0 || offsets[5] != buffer.capacity()) {
+			throw new DataFormatException("Binary catalog length is invalid");
+		}
+		this.offDouble = (int) offsets[0];
+		this.offInt = (int) offsets[1];
+		this.offStart = (int) offsets[2];
+		this.offClass = (int) offsets[3];
+		this.offTable = (int) offsets[4];
+	}
+
+	/**
+	 * Computes the offsets of the double columns, int columns, string
+	 * starts, classifications, string table, and end of file.
+	 */
+	private static long[] offsets(long nSet, long nChar) {
+		long[] offsets = new long[6];
+		offsets[0] = HEADER_SIZE;
+		offsets[1] = offsets[0] + 8 * N_DOUBLE * nSet;
+		offsets[2] = align(offsets[1] + 4 * N_INT * nSet);
+		offsets[3] = align(offsets[2] + 4 * (N_STRING * nSet + 1));
+		offsets[4] = align(offsets[3] + nSet);
+		offsets[5] = offsets[4] + nChar;
+		return offsets;
+	}
+
+	private static long align(long offset) {
+		return (offset + 7) & ~7L;
+	}
+
+	/**
+	 * Opens a binary catalog file.
+	 *
+	 * @param catDir
+	 *            Directory containing catalog file
+	 * @param catFNm
+	 *            File containing the binary catalog
+	 * @return Catalog view of the file
+	 * @throws IOException
+	 * @throws DataFormatException
+	 */
+	public static BinaryCatalog open(String catDir, String catFNm) throws IOException, DataFormatException {
+		return open(Paths.get(catDir + File.separator + catFNm));
+	}
+
+	/**
+	 * Opens a binary catalog file.
+	 *
+	 * @param catFSp
+	 *            Path of the binary catalog file
+	 * @return Catalog view of the file
+	 * @throws IOException
+	 * @throws DataFormatException
+	 */
+	public static BinaryCatalog open(Path catFSp) throws IOException, DataFormatException {
+		try (FileChannel channel = FileChannel.open(catFSp, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new DataFormatException("Binary catalog is too large to map");
+			}
+			return new BinaryCatalog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Writes two line element sets to a binary catalog file.
+	 *
+	 * @param catalog
+	 *            Array list containing two line element set parameters
+	 * @param catFSp
+	 *            Path of the binary catalog file
+	 * @throws IOException
+	 */
+	static void write(ArrayList<SatelliteCatalog.TwoLineElementSet> catalog, Path catFSp) throws IOException {
+		int nSet = catalog.size();
+
+		// Build the string table
+		byte[][] strings = new byte[N_STRING * nSet][];
+		long nChar = 0;
+		for (int iSet = 0; iSet < nSet; iSet++) {
+			SatelliteCatalog.TwoLineElementSet tle = catalog.get(iSet);
+			strings[N_STRING * iSet] = bytes(tle.intlDesignator);
+			strings[N_STRING * iSet + 1] = bytes(tle.lineOne);
+			strings[N_STRING * iSet + 2] = bytes(tle.lineTwo);
+			for (int iStr = 0; iStr < N_STRING; iStr++) {
+				nChar += strings[N_STRING * iSet + iStr].length;
+			}
+		}
+		long[] offsets = offsets(nSet, nChar);
+		if (offsets[5] > Integer.MAX_VALUE) {
+			throw new IOException("Binary catalog is too large to map");
+		}
+		ByteBuffer buffer = ByteBuffer.allocate((int) offsets[5]).order(ByteOrder.LITTLE_ENDIAN);
+
+		// Header
+		buffer.put(MAGIC);
+		buffer.putInt(8, VERSION);
+		buffer.putInt(12, nSet);
+		buffer.putLong(16, nChar);
+
+		// Columns
+		int offDouble = (int) offsets[0];
+		int offInt = (int) offsets[1];
+		int offStart = (int) offsets[2];
+		int offClass = (int) offsets[3];
+		int offTable = (int) offsets[4];
+		int start = 0;
+		for (int iSet = 0; iSet < nSet; iSet++) {
+			SatelliteCatalog.TwoLineElementSet tle = catalog.get(iSet);
+			double[] values = { tle.epoch.getAsDouble(), tle.nDot, tle.nDotDot, tle.bStar, tle.i, tle.Omega, tle.e,
+					tle.omega, tle.M, tle.n, tle.a };
+			for (int iCol = 0; iCol < N_DOUBLE; iCol++) {
+				buffer.putDouble(offDouble + 8 * (iCol * nSet + iSet), values[iCol]);
+			}
+			long[] ints = { tle.objectId, tle.elSetType, tle.elementNum, tle.revAtEpoch };
+			for (int iCol = 0; iCol < N_INT; iCol++) {
+				buffer.putInt(offInt + 4 * (iCol * nSet + iSet), Math.toIntExact(ints[iCol]));
+			}
+			byte[] classification = bytes(tle.classification);
+			buffer.put(offClass + iSet, classification.length > 0 ? classification[0] : (byte) ' ');
+			for (int iStr = N_STRING * iSet; iStr < N_STRING * (iSet + 1); iStr++) {
+				buffer.putInt(offStart + 4 * iStr, start);
+				buffer.put(offTable + start, strings[iStr]);
+				start += strings[iStr].length;
+			}
+		}
+		buffer.putInt(offStart + 4 * N_STRING * nSet, start);
+
+		// Write the file
+		buffer.rewind();
+		try (FileChannel channel = FileChannel.open(catFSp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	private static byte[] bytes(String string) {
+		return string == null ? new byte[0] : string.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Gets the number of element sets.
+	 *
+	 * @return Number of element sets
+	 */
+	public int getNumberOfElementSets() {
+		return nSet;
+	}
+
+	private double getDouble(int iCol, int iSet) {
+		return buffer.getDouble(offDouble + 8 * (iCol * nSet + checkIndex(iSet)));
+	}
+
+	private int getInt(int iCol, int iSet) {
+		return buffer.getInt(offInt + 4 * (iCol * nSet + checkIndex(iSet)));
+	}
+
+	private String getString(int iStr) {
+		int start = buffer.getInt(offStart + 4 * iStr);
+		int stop = buffer.getInt(offStart + 4 * (iStr + 1));
+		byte[] bytes = new byte[stop - start];
+		for (int k = 0; k < bytes.length; k++) {
+			bytes[k] = buffer.get(offTable + start + k);
+		}
+		return new String(bytes, StandardCharsets.US_ASCII);
+	}
+
+	private int checkIndex(int iSet) {
+		if (iSet < 0 || iSet >= nSet) {
+			throw new IndexOutOfBoundsException("Element set index " + iSet + " is out of bounds");
+		}
+		return iSet;
+	}
+
+	public long getObjectId(int iSet) {
+		return getInt(OBJECT_ID, iSet);
+	}
+
+	public String getClassification(int iSet) {
+		return new String(new byte[] { buffer.get(offClass + checkIndex(iSet)) }, StandardCharsets.US_ASCII);
+	}
+
+	public String getIntlDesignator(int iSet) {
+		return getString(N_STRING * checkIndex(iSet));
+	}
+
+	public ModJulianDate get_epoch(int iSet) {
+		return new ModJulianDate(getDouble(EPOCH, iSet));
+	}
+
+	public double get_nDot(int iSet) {
+		return getDouble(N_DOT, iSet);
+	}
+
+	public double get_nDotDot(int iSet) {
+		return getDouble(N_DOT_DOT, iSet);
+	}
+
+	public double get_bStar(int iSet) {
+		return getDouble(B_STAR, iSet);
+	}
+
+	public long getElSetType(int iSet) {
+		return getInt(EL_SET_TYPE, iSet);
+	}
+
+	public long getElementNum(int iSet) {
+		return getInt(ELEMENT_NUM, iSet);
+	}
+
+	public double get_i(int iSet) {
+		return getDouble(I, iSet);
+	}
+
+	public double get_Omega(int iSet) {
+		return getDouble(OMEGA_CAP, iSet);
+	}
+
+	public double get_e(int iSet) {
+		return getDouble(E, iSet);
+	}
+
+	public double get_omega(int iSet) {
+		return getDouble(OMEGA, iSet);
+	}
+
+	public double get_M(int iSet) {
+		return getDouble(M, iSet);
+	}
+
+	public double get_n(int iSet) {
+		return getDouble(N, iSet);
+	}
+
+	public double get_a(int iSet) {
+		return getDouble(A, iSet);
+	}
+
+	public long getRevAtEpoch(int iSet) {
+		return getInt(REV_AT_EPOCH, iSet);
+	}
+
+	public String getLineOne(int iSet) {
+		return getString(N_STRING * checkIndex(iSet) + 1);
+	}
+
+	public String getLineTwo(int iSet) {
+		return getString(N_STRING * checkIndex(iSet) + 2);
+	}
+
+	/**
+	 * Constructs the two line element set at an index.
+	 *
+	 * @param iSet
+	 *            Index of the element set
+	 * @return Two line element set
+	 */
+	public SatelliteCatalog.TwoLineElementSet getTwoLineElementSet(int iSet) {
+		return new SatelliteCatalog.TwoLineElementSet(getLineOne(iSet), getLineTwo(iSet), getObjectId(iSet),
+				getClassification(iSet), getIntlDesignator(iSet), get_epoch(iSet), get_nDot(iSet), get_nDotDot(iSet),
+				get_bStar(iSet), getElSetType(iSet), getElementNum(iSet), get_i(iSet), get_Omega(iSet), get_e(iSet),
+				get_omega(iSet), get_M(iSet), get_n(iSet), get_a(iSet), getRevAtEpoch(iSet));
+	}
+
+	/**
+	 * Constructs the SGP4 orbit of the element set at an index.
+	 *
+	 * @param iSet
+	 *            Index of the element set
+	 * @return SGP4 orbit
+	 * @throws SatElsetException
+	 */
+	public Sgp4Orbit getSgp4Orbit(int iSet) throws SatElsetException {
+		return new Sgp4Orbit(getLineOne(iSet), getLineTwo(iSet));
+	}
+
+	/**
+	 * Constructs a lazy SGP4 orbit of the element set at an index, which is
+	 * initialized on first propagation.
+	 *
+	 * @param iSet
+	 *            Index of the element set
+	 * @param pool
+	 *            Pool of initialized orbits
+	 * @return Lazy SGP4 orbit
+	 */
+	public LazySgp4Orbit getLazySgp4Orbit(int iSet, Sgp4OrbitPool pool) {
+		return new LazySgp4Orbit(getLineOne(iSet), getLineTwo(iSet), pool);
+	}
+
+	/**
+	 * Constructs the two line element sets, in file order.
+	 *
+	 * @return Array list containing two line element set parameters
+	 */
+	public ArrayList<SatelliteCatalog.TwoLineElementSet> toList() {
+		ArrayList<SatelliteCatalog.TwoLineElementSet> catalog = new ArrayList<SatelliteCatalog.TwoLineElementSet>(
+				nSet);
+		for (int iSet = 0; iSet < nSet; iSet++) {
+			catalog.add(getTwoLineElementSet(iSet));
+		}
+		return catalog;
+	}
+}
@@ -0,0 +1,128 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.operator;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.zip.DataFormatException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.celestrak.sgp4v.SatElsetException;
+import com.springbok.sgp4v.Sgp4Orbit;
+
+public class BinaryCatalogTest {
+
+	// Directory containing catalog file
+	private final String catDir_input = "dat/java/com/springbok/operator";
+	// File containing two line element sets
+	private final String catFNm_input = "tles.txt";
+
+	// Two line element sets read from the catalog file
+	private ArrayList<SatelliteCatalog.TwoLineElementSet> catalog_input;
+
+	// Temporary binary catalog file
+	private Path catFSp_tmp;
+
+	@Before
+	public void setUp() throws Exception {
+		this.catalog_input = SatelliteCatalog.readCatalog(this.catDir_input, this.catFNm_input);
+		this.catFSp_tmp = Files.createTempFile("tles", ".bin");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(this.catFSp_tmp);
+	}
+
+	@Test
+	// Tests writeBinary and open methods against readCatalog.
+	public void test_writeBinary() throws IOException, DataFormatException, SatElsetException {
+
+		assertTrue(SatelliteCatalog.writeBinary(this.catalog_input, this.catFSp_tmp.getParent().toString(),
+				this.catFSp_tmp.getFileName().toString()));
+
+		BinaryCatalog catalog_actual = BinaryCatalog.open(this.catFSp_tmp);
+
+		assertEquals(this.catalog_input.size(), catalog_actual.getNumberOfElementSets());
+		for (int iSet = 0; iSet < this.catalog_input.size(); iSet++) {
+			SatelliteCatalog.TwoLineElementSet expected = this.catalog_input.get(iSet);
+			SatelliteCatalog.TwoLineElementSet actual = catalog_actual.getTwoLineElementSet(iSet);
+
+			assertEquals(expected.lineOne, actual.lineOne);
+			assertEquals(expected.lineTwo, actual.lineTwo);
+			assertEquals(expected.objectId, actual.objectId);
+			assertEquals(expected.classification, actual.classification);
+			assertEquals(expected.intlDesignator, actual.intlDesignator);
+			assertTrue(expected.epoch.equals(actual.epoch));
+			assertEquals(expected.nDot, actual.nDot, 0);
+			assertEquals(expected.nDotDot, actual.nDotDot, 0);
+			assertEquals(expected.bStar, actual.bStar, 0);
+			assertEquals(expected.elSetType, actual.elSetType);
+			assertEquals(expected.elementNum, actual.elementNum);
+			assertEquals(expected.i, actual.i, 0);
+			assertEquals(expected.Omega, actual.Omega, 0);
+			assertEquals(expected.e, actual.e, 0);
+			assertEquals(expected.omega, actual.omega, 0);
+			assertEquals(expected.M, actual.M, 0);
+			assertEquals(expected.n, actual.n, 0);
+			assertEquals(expected.a, actual.a, 0);
+			assertEquals(expected.revAtEpoch, actual.revAtEpoch);
+		}
+		assertEquals(this.catalog_input.size(), catalog_actual.toList().size());
+	}
+
+	@Test
+	// Tests getSgp4Orbit method.
+	public void test_getSgp4Orbit() throws IOException, DataFormatException, SatElsetException {
+
+		String lineOne = "1 00001U 00001A   00001.50000000  .00000000  00000-0  00000+0 0    00";
+		String lineTwo = "2 00001 001.0000 045.0000 0000000 045.0000 045.0000 01.00273791  1002";
+		Sgp4Orbit orbit_expected = new Sgp4Orbit(lineOne, lineTwo);
+		ArrayList<SatelliteCatalog.TwoLineElementSet> catalog = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		catalog.add(new SatelliteCatalog.TwoLineElementSet(lineOne, lineTwo, 1, "U", "00001A",
+				orbit_expected.get_epoch(), 0, 0, 0, 0, 0, orbit_expected.get_i(), orbit_expected.get_Omega(),
+				orbit_expected.get_e(), orbit_expected.get_omega(), orbit_expected.get_M(), 0,
+				orbit_expected.get_a(), 100));
+		SatelliteCatalog.writeBinary(catalog, this.catFSp_tmp.getParent().toString(),
+				this.catFSp_tmp.getFileName().toString());
+
+		Sgp4Orbit orbit_actual = BinaryCatalog.open(this.catFSp_tmp).getSgp4Orbit(0);
+
+		assertEquals(lineOne, orbit_actual.get_lineOne());
+		assertEquals(lineTwo, orbit_actual.get_lineTwo());
+		assertEquals(orbit_expected.get_a(), orbit_actual.get_a(), 0);
+	}
+
+	@Test(expected = DataFormatException.class)
+	// Tests open method with an unsupported version.
+	public void test_open_invalid() throws IOException, DataFormatException {
+
+		SatelliteCatalog.writeBinary(this.catalog_input, this.catFSp_tmp.getParent().toString(),
+				this.catFSp_tmp.getFileName().toString());
+		byte[] bytes = Files.readAllBytes(this.catFSp_tmp);
+		bytes[8] = (byte) (BinaryCatalog.VERSION + 1);
+		Files.write(this.catFSp_tmp, bytes);
+
+		BinaryCatalog.open(this.catFSp_tmp);
+	}
+}
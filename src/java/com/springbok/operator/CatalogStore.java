@@ -0,0 +1,388 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.operator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.utility.MException;
+
+/**
+ * An incrementally updatable store of two line element sets, indexed by
+ * object identification number, with the element sets of each object sorted
+ * by epoch. Merging a batch of element sets takes time proportional to the
+ * size of the batch when each object's element sets arrive in epoch order,
+ * and finding the element set of an object with epoch nearest a date takes
+ * time logarithmic in the number of the object's element sets. An element
+ * set with the object identification number, element number, and epoch of
+ * a stored element set is a duplicate, and is not stored. An element set
+ * with the object identification number and element number of a stored
+ * element set, but a different epoch, is a conflict, since element numbers
+ * wrap after 9999, and some sources publish a constant element number. A
+ * conflicting element set is stored by epoch, and reported.
+ *
+ * A store is not safe for use by multiple threads while merging.
+ */
+public class CatalogStore {
+
+	// Maximum element number, which has four digits
+	private static final long MAX_ELEMENT_NUM = 9999;
+
+	// Index from object identification number to history
+	private final LongIndex objectIndex = new LongIndex();
+
+	// Index of object identification number and element number pairs
+	private final LongIndex elementIndex = new LongIndex();
+
+	// Element set history of each object
+	private final ArrayList<History> histories = new ArrayList<History>();
+
+	// Number of element sets stored
+	private int nSet;
+
+	/**
+	 * Constructs an empty store.
+	 */
+	public CatalogStore() {
+	}
+
+	/**
+	 * Constructs a store containing element sets.
+	 *
+	 * @param catalog
+	 *            Two line element sets, such as those read by readCatalog
+	 */
+	public CatalogStore(List<SatelliteCatalog.TwoLineElementSet> catalog) {
+		merge(catalog);
+	}
+
+	/**
+	 * Merges a batch of element sets into the store. The batch is validated
+	 * before any element set is stored, so an invalid batch leaves the store
+	 * unchanged.
+	 *
+	 * @param batch
+	 *            Two line element sets, such as those of a daily refresh
+	 * @return Duplicate element sets, which are not stored
+	 */
+	public List<SatelliteCatalog.TwoLineElementSet> merge(List<SatelliteCatalog.TwoLineElementSet> batch) {
+		return merge(batch, null);
+	}
+
+	/**
+	 * Merges a batch of element sets into the store, reporting conflicting
+	 * element sets. The batch is validated before any element set is stored,
+	 * so an invalid batch leaves the store unchanged.
+	 *
+	 * @param batch
+	 *            Two line element sets, such as those of a daily refresh
+	 * @param conflicts
+	 *            Conflicting element sets, which are stored, output, or null
+	 * @return Duplicate element sets, which are not stored
+	 */
+	public List<SatelliteCatalog.TwoLineElementSet> merge(List<SatelliteCatalog.TwoLineElementSet> batch,
+			List<SatelliteCatalog.TwoLineElementSet> conflicts) {
+		for (SatelliteCatalog.TwoLineElementSet tle : batch) {
+			if (tle.elementNum < 0 || tle.elementNum > MAX_ELEMENT_NUM) {
+				throw new MException("Springbok:IllegalArgumentException",
+						"Element number must be between 0 and " + MAX_ELEMENT_NUM + ".");
+			}
+		}
+		List<SatelliteCatalog.TwoLineElementSet> duplicates = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		for (SatelliteCatalog.TwoLineElementSet tle : batch) {
+			int iObj = objectIndex.get(tle.objectId);
+			if (!elementIndex.putIfAbsent(tle.objectId * (MAX_ELEMENT_NUM + 1) + tle.elementNum, 0)) {
+				if (histories.get(iObj).contains(tle.epoch.getAsDouble(), tle.elementNum)) {
+					duplicates.add(tle);
+					continue;
+				} else if (conflicts != null) {
+					conflicts.add(tle);
+				}
+			}
+			if (iObj < 0) {
+				iObj = histories.size();
+				histories.add(new History());
+				objectIndex.putIfAbsent(tle.objectId, iObj);
+			}
+			histories.get(iObj).add(tle);
+			nSet++;
+		}
+		return duplicates;
+	}
+
+	/**
+	 * Gets the number of objects.
+	 *
+	 * @return Number of objects
+	 */
+	public int getNumberOfObjects() {
+		return histories.size();
+	}
+
+	/**
+	 * Gets the number of element sets.
+	 *
+	 * @return Number of element sets
+	 */
+	public int getNumberOfElementSets() {
+		return nSet;
+	}
+
+	/**
+	 * Determines if an object has element sets.
+	 *
+	 * @param objectId
+	 *            Object identification number
+	 * @return Flag indicating whether the object has element sets
+	 */
+	public boolean contains(long objectId) {
+		return objectIndex.get(objectId) >= 0;
+	}
+
+	/**
+	 * Gets the object identification numbers, in the order first merged.
+	 *
+	 * @return Object identification numbers
+	 */
+	public long[] getObjectIds() {
+		long[] objectIds = new long[histories.size()];
+		for (int iObj = 0; iObj < objectIds.length; iObj++) {
+			objectIds[iObj] = histories.get(iObj).elsets[0].objectId;
+		}
+		return objectIds;
+	}
+
+	/**
+	 * Gets the element sets of an object.
+	 *
+	 * @param objectId
+	 *            Object identification number
+	 * @return Element sets sorted by epoch, or an empty list
+	 */
+	public List<SatelliteCatalog.TwoLineElementSet> getElementSets(long objectId) {
+		int iObj = objectIndex.get(objectId);
+		if (iObj < 0) {
+			return new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		}
+		History history = histories.get(iObj);
+		return new ArrayList<SatelliteCatalog.TwoLineElementSet>(Arrays.asList(history.elsets).subList(0, history.size));
+	}
+
+	/**
+	 * Gets the element set of an object with the latest epoch.
+	 *
+	 * @param objectId
+	 *            Object identification number
+	 * @return Element set, or null if the object has none
+	 */
+	public SatelliteCatalog.TwoLineElementSet getLatest(long objectId) {
+		int iObj = objectIndex.get(objectId);
+		if (iObj < 0) {
+			return null;
+		}
+		History history = histories.get(iObj);
+		return history.elsets[history.size - 1];
+	}
+
+	/**
+	 * Gets the element set of an object with epoch nearest a date, or the
+	 * earlier of two equally near.
+	 *
+	 * @param objectId
+	 *            Object identification number
+	 * @param dNm
+	 *            Date number
+	 * @return Element set, or null if the object has none
+	 */
+	public SatelliteCatalog.TwoLineElementSet getBest(long objectId, ModJulianDate dNm) {
+		int iObj = objectIndex.get(objectId);
+		if (iObj < 0) {
+			return null;
+		}
+		History history = histories.get(iObj);
+		double date = dNm.getAsDouble();
+
+		// Find the first epoch after the date
+		int iSet = history.upperBound(date);
+		if (iSet == 0) {
+			return history.elsets[0];
+		} else if (iSet == history.size) {
+			return history.elsets[history.size - 1];
+		} else if (history.epochs[iSet] - date < date - history.epochs[iSet - 1]) {
+			return history.elsets[iSet];
+		} else {
+			return history.elsets[iSet - 1];
+		}
+	}
+
+	/**
+	 * Gets the latest element set of each object.
+	 *
+	 * @return Element sets, in the order objects were first merged
+	 */
+	public ArrayList<SatelliteCatalog.TwoLineElementSet> toLatestList() {
+		ArrayList<SatelliteCatalog.TwoLineElementSet> catalog = new ArrayList<SatelliteCatalog.TwoLineElementSet>(
+				histories.size());
+		for (History history : histories) {
+			catalog.add(history.elsets[history.size - 1]);
+		}
+		return catalog;
+	}
+
+	/**
+	 * The element sets of one object, sorted by epoch.
+	 */
+	private static class History {
+
+		// Epoch of each element set [mjd]
+		private double[] epochs = new double[2];
+
+		// Element sets
+		private SatelliteCatalog.TwoLineElementSet[] elsets = new SatelliteCatalog.TwoLineElementSet[2];
+
+		// Number of element sets
+		private int size;
+
+		/**
+		 * Adds an element set, after any with the same epoch. An element set
+		 * with epoch at or after the latest is appended in constant time.
+		 */
+		private void add(SatelliteCatalog.TwoLineElementSet tle) {
+			if (size == epochs.length) {
+				epochs = Arrays.copyOf(epochs, 2 * size);
+				elsets = Arrays.copyOf(elsets, 2 * size);
+			}
+			double epoch = tle.epoch.getAsDouble();
+			int iSet = size > 0 && epoch < epochs[size - 1] ? upperBound(epoch) : size;
+			System.arraycopy(epochs, iSet, epochs, iSet + 1, size - iSet);
+			System.arraycopy(elsets, iSet, elsets, iSet + 1, size - iSet);
+			epochs[iSet] = epoch;
+			elsets[iSet] = tle;
+			size++;
+		}
+
+		/**
+		 * Determines if an element set with an epoch and element number has
+		 * been added.
+		 */
+		private boolean contains(double epoch, long elementNum) {
+			for (int iSet = upperBound(epoch) - 1; iSet >= 0 && epochs[iSet] == epoch; iSet--) {
+				if (elsets[iSet].elementNum == elementNum) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Finds the index of the first epoch after a date.
+		 */
+		private int upperBound(double date) {
+			int lo = 0;
+			int hi = size;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (epochs[mid] <= date) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return lo;
+		}
+	}
+
+	/**
+	 * An open addressing hash index from long keys to non-negative int
+	 * values, which avoids boxing the keys.
+	 */
+	private static class LongIndex {
+
+		// Keys, and values, or -1 for empty slots
+		private long[] keys = new long[16];
+		private int[] values = newValues(16);
+
+		// Number of keys
+		private int size;
+
+		private static int[] newValues(int capacity) {
+			int[] values = new int[capacity];
+			Arrays.fill(values, -1);
+			return values;
+		}
+
+		private static int slot(long key, int mask) {
+			long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32)) & mask;
+		}
+
+		/**
+		 * Gets the value of a key, or -1 if absent.
+		 */
+		private int get(long key) {
+			int mask = keys.length - 1;
+			for (int iSlt = slot(key, mask);; iSlt = (iSlt + 1) & mask) {
+				if (values[iSlt] < 0) {
+					return -1;
+				} else if (keys[iSlt] == key) {
+					return values[iSlt];
+				}
+			}
+		}
+
+		/**
+		 * Puts the value of a key, if absent.
+		 *
+		 * @return Flag indicating whether the key was absent
+		 */
+		private boolean putIfAbsent(long key, int value) {
+			int mask = keys.length - 1;
+			int iSlt = slot(key, mask);
+			while (values[iSlt] >= 0) {
+				if (keys[iSlt] == key) {
+					return false;
+				}
+				iSlt = (iSlt + 1) & mask;
+			}
+			keys[iSlt] = key;
+			values[iSlt] = value;
+			if (++size > keys.length / 2) {
+				rehash();
+			}
+			return true;
+		}
+
+		private void rehash() {
+			long[] oldKeys = keys;
+			int[] oldValues = values;
+			keys = new long[2 * oldKeys.length];
+			values = newValues(2 * oldKeys.length);
+			int mask = keys.length - 1;
+			for (int iOld = 0; iOld < oldKeys.length; iOld++) {
+				if (oldValues[iOld] >= 0) {
+					int iSlt = slot(oldKeys[iOld], mask);
+					while (values[iSlt] >= 0) {
+						iSlt = (iSlt + 1) & mask;
+					}
+					keys[iSlt] = oldKeys[iOld];
+					values[iSlt] = oldValues[iOld];
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.operator;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.utility.MException;
+
+public class CatalogStoreTest {
+
+	// Directory containing catalog file
+	private final String catDir_input = "dat/java/com/springbok/operator";
+	// File containing two line element sets
+	private final String catFNm_input = "tles.txt";
+
+	// Two line element sets read from the catalog file
+	private ArrayList<SatelliteCatalog.TwoLineElementSet> catalog_input;
+
+	@Before
+	public void setUp() throws Exception {
+		this.catalog_input = SatelliteCatalog.readCatalog(this.catDir_input, this.catFNm_input);
+	}
+
+	@Test
+	// Tests constructor and merge method with duplicates.
+	public void test_merge() {
+
+		CatalogStore store = new CatalogStore(this.catalog_input);
+
+		assertEquals(this.catalog_input.size(), store.getNumberOfObjects());
+		assertEquals(this.catalog_input.size(), store.getNumberOfElementSets());
+
+		List<SatelliteCatalog.TwoLineElementSet> batch = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		SatelliteCatalog.TwoLineElementSet tle_0 = this.catalog_input.get(0);
+		SatelliteCatalog.TwoLineElementSet tle_1 = elset(tle_0.objectId, tle_0.elementNum + 1,
+				tle_0.epoch.getAsDouble() + 1);
+		batch.add(tle_0);
+		batch.add(tle_1);
+		batch.add(elset(tle_0.objectId, tle_0.elementNum + 1, tle_0.epoch.getAsDouble() + 1));
+
+		List<SatelliteCatalog.TwoLineElementSet> conflicts = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		List<SatelliteCatalog.TwoLineElementSet> duplicates = store.merge(batch, conflicts);
+
+		assertEquals(2, duplicates.size());
+		assertSame(tle_0, duplicates.get(0));
+		assertSame(batch.get(2), duplicates.get(1));
+		assertTrue(conflicts.isEmpty());
+		assertEquals(this.catalog_input.size(), store.getNumberOfObjects());
+		assertEquals(this.catalog_input.size() + 1, store.getNumberOfElementSets());
+		assertSame(tle_1, store.getLatest(tle_0.objectId));
+		assertEquals(2, store.getElementSets(tle_0.objectId).size());
+		assertEquals(store.getNumberOfObjects(), store.toLatestList().size());
+		assertEquals(tle_0.objectId, store.getObjectIds()[0]);
+	}
+
+	@Test
+	// Tests merge method with element sets which reuse an element number at
+	// a different epoch, as when element numbers wrap, or are constant.
+	public void test_merge_conflicts() {
+
+		CatalogStore store = new CatalogStore();
+
+		List<SatelliteCatalog.TwoLineElementSet> batch = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		batch.add(elset(1, 999, 58849));
+		batch.add(elset(1, 999, 58850));
+		batch.add(elset(1, 999, 58848));
+		batch.add(elset(2, 9999, 58849));
+		batch.add(elset(2, 0, 58850));
+
+		List<SatelliteCatalog.TwoLineElementSet> conflicts = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		assertTrue(store.merge(batch, conflicts).isEmpty());
+		assertEquals(2, conflicts.size());
+		assertSame(batch.get(1), conflicts.get(0));
+		assertSame(batch.get(2), conflicts.get(1));
+
+		// Conflicting element sets are stored by epoch
+		assertEquals(batch.size(), store.getNumberOfElementSets());
+		assertSame(batch.get(2), store.getElementSets(1).get(0));
+		assertSame(batch.get(1), store.getLatest(1));
+		assertSame(batch.get(4), store.getLatest(2));
+
+		// A wrapped element number at a new epoch is a conflict, not a
+		// duplicate
+		batch.clear();
+		batch.add(elset(2, 0, 58851));
+		batch.add(elset(1, 999, 58850));
+		conflicts.clear();
+		List<SatelliteCatalog.TwoLineElementSet> duplicates = store.merge(batch, conflicts);
+		assertEquals(1, duplicates.size());
+		assertSame(batch.get(1), duplicates.get(0));
+		assertEquals(1, conflicts.size());
+		assertSame(batch.get(0), conflicts.get(0));
+		assertEquals(6, store.getNumberOfElementSets());
+		assertSame(batch.get(0), store.getLatest(2));
+	}
+
+	@Test
+	// Tests getBest method against a linear scan, for element sets merged
+	// in random epoch order.
+	public void test_getBest() {
+
+		Random random = new Random(1);
+		CatalogStore store = new CatalogStore();
+		List<SatelliteCatalog.TwoLineElementSet> batch = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		for (long objectId = 1; objectId <= 1000; objectId++) {
+			for (int elementNum = 0; elementNum < 1 + objectId % 20; elementNum++) {
+				batch.add(elset(objectId, elementNum, 58849 + 30 * random.nextDouble()));
+			}
+		}
+		assertTrue(store.merge(batch).isEmpty());
+		assertEquals(1000, store.getNumberOfObjects());
+		assertEquals(batch.size(), store.getNumberOfElementSets());
+
+		for (int iTst = 0; iTst < 1000; iTst++) {
+			long objectId = 1 + random.nextInt(1000);
+			double date = 58845 + 38 * random.nextDouble();
+
+			SatelliteCatalog.TwoLineElementSet expected = null;
+			SatelliteCatalog.TwoLineElementSet latest = null;
+			for (SatelliteCatalog.TwoLineElementSet tle : batch) {
+				if (tle.objectId == objectId) {
+					if (expected == null || Math.abs(tle.epoch.getAsDouble() - date) < Math
+							.abs(expected.epoch.getAsDouble() - date)) {
+						expected = tle;
+					}
+					if (latest == null || tle.epoch.getAsDouble() > latest.epoch.getAsDouble()) {
+						latest = tle;
+					}
+				}
+			}
+			assertSame(expected, store.getBest(objectId, new ModJulianDate(date)));
+			assertSame(latest, store.getLatest(objectId));
+
+			List<SatelliteCatalog.TwoLineElementSet> elsets = store.getElementSets(objectId);
+			for (int iSet = 1; iSet < elsets.size(); iSet++) {
+				assertTrue(elsets.get(iSet - 1).epoch.getAsDouble() <= elsets.get(iSet).epoch.getAsDouble());
+			}
+		}
+		assertFalse(store.contains(1001));
+		assertNull(store.getBest(1001, new ModJulianDate(58849)));
+		assertNull(store.getLatest(1001));
+		assertTrue(store.getElementSets(1001).isEmpty());
+	}
+
+	@Test(expected = MException.class)
+	// Tests merge method with an invalid element number.
+	public void test_merge_invalid() {
+
+		List<SatelliteCatalog.TwoLineElementSet> batch = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		batch.add(elset(1, 10000, 58849));
+
+		new CatalogStore().merge(batch);
+	}
+
+	@Test
+	// Tests that a batch with an invalid element number leaves the store
+	// unchanged.
+	public void test_merge_invalid_unchanged() {
+
+		CatalogStore store = new CatalogStore(this.catalog_input);
+
+		List<SatelliteCatalog.TwoLineElementSet> batch = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		batch.add(elset(1001, 1, 58849));
+		batch.add(elset(1001, 10000, 58850));
+		try {
+			store.merge(batch);
+			fail("Expected an exception");
+		} catch (MException e) {
+		}
+
+		assertFalse(store.contains(1001));
+		assertEquals(this.catalog_input.size(), store.getNumberOfObjects());
+		assertEquals(this.catalog_input.size(), store.getNumberOfElementSets());
+
+		// The valid element set is not a duplicate when merged again
+		batch.remove(1);
+		assertTrue(store.merge(batch).isEmpty());
+		assertTrue(store.contains(1001));
+	}
+
+	private static SatelliteCatalog.TwoLineElementSet elset(long objectId, long elementNum, double epoch) {
+		return new SatelliteCatalog.TwoLineElementSet("", "", objectId, "U", "", new ModJulianDate(epoch), 0, 0, 0, 0,
+				elementNum, 0, 0, 0, 0, 0, 0, 1, 0);
+	}
+}
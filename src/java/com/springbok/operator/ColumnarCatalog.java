@@ -0,0 +1,786 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.operator;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.zip.DataFormatException;
+
+import com.springbok.twobody.EarthConstants;
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.utility.TimeUtility;
+
+/**
+ * A catalog of two line element sets stored by column, read from a
+ * memory mapped file in parallel.
+ *
+ * The file is divided into chunks of equal size. Each chunk is parsed by
+ * a separate task which owns the element sets whose first line starts in
+ * the chunk, and which parses fixed columns directly from bytes. Values
+ * are identical to those of SatelliteCatalog.readCatalog, including the
+ * rewritten lines of the NASA format. Each element set must consist of a
+ * line starting with '1' followed by a line starting with '2'. Blank
+ * lines between element sets are ignored.
+ */
+public class ColumnarCatalog {
+
+	/** Default number of bytes parsed by each task */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 23;
+
+	// Number of bytes mapped beyond each chunk, which must contain the
+	// last element set starting in the chunk
+	private static final int TAIL_SIZE = 1024;
+
+	// Length of a line written in the NASA format
+	private static final int LINE_LENGTH = 69;
+
+	// Powers of ten represented exactly
+	private static final double[] POW10 = new double[23];
+	static {
+		POW10[0] = 1;
+		for (int k = 1; k < POW10.length; k++) {
+			POW10[k] = 10 * POW10[k - 1];
+		}
+	}
+
+	// Number of element sets
+	private final int nSet;
+
+	// Object Identification Number
+	private final int[] objectId;
+	// Elset Classification
+	private final byte[] classification;
+	// International Designator, eight bytes per element set
+	private final byte[] intlDesignator;
+	// Element Set Epoch [mjd]
+	private final double[] epoch;
+	// First Time Derivative of Mean Motion [NA]
+	private final double[] nDot;
+	// Second Time Derivative of Mean Motion [NA]
+	private final double[] nDotDot;
+	// B* Drag Term [NA]
+	private final double[] bStar;
+	// Element Set Type
+	private final int[] elSetType;
+	// Element Number
+	private final int[] elementNum;
+	// Orbit Inclination [rad]
+	private final double[] i;
+	// Right Ascension of Ascending Node [rad]
+	private final double[] Omega;
+	// Eccentricity [-]
+	private final double[] e;
+	// Argument of Perigee [rad]
+	private final double[] omega;
+	// Mean Anomaly [rad]
+	private final double[] M;
+	// Mean Motion [rad/s]
+	private final double[] n;
+	// Semi-major axis [er]
+	private final double[] a;
+	// Revolution Number at Epoch
+	private final int[] revAtEpoch;
+
+	// Text of both lines of each element set
+	private final byte[] text;
+	// Index of the start of each line in the text, followed by the text
+	// length
+	private final int[] lineStart;
+
+	/**
+	 * Constructs an empty catalog to be filled by parsing.
+	 *
+	 * @param nSet
+	 *            Number of element sets
+	 * @param nByte
+	 *            Number of bytes of line text
+	 */
+	private ColumnarCatalog(int nSet, int nByte) {
+		this.nSet = nSet;
+		this.objectId = new int[nSet];
+		this.classification = new byte[nSet];
+		this.intlDesignator = new byte[8 * nSet];
+		this.epoch = new double[nSet];
+		this.nDot = new double[nSet];
+		this.nDotDot = new double[nSet];
+		this.bStar = new double[nSet];
+		this.elSetType = new int[nSet];
+		this.elementNum = new int[nSet];
+		this.i = new double[nSet];
+		this.Omega = new double[nSet];
+		this.e = new double[nSet];
+		this.omega = new double[nSet];
+		this.M = new double[nSet];
+		this.n = new double[nSet];
+		this.a = new double[nSet];
+		this.revAtEpoch = new int[nSet];
+		this.text = new byte[nByte];
+		this.lineStart = new int[2 * nSet + 1];
+		this.lineStart[2 * nSet] = nByte;
+	}
+
+	/**
+	 * Reads a file containing two line element sets downloaded from the Space
+	 * Track site, or provided by NASA, using the common pool.
+	 *
+	 * @param catDir
+	 *            Directory containing catalog file
+	 * @param catFNm
+	 *            File containing two line element sets
+	 * @param isNasaFormat
+	 *            Two line element sets are in the NASA format
+	 * @return Catalog containing two line element set parameters constructed
+	 *         from the file
+	 * @throws IOException
+	 * @throws DataFormatException
+	 */
+	public static ColumnarCatalog read(String catDir, String catFNm, boolean isNasaFormat)
+			throws IOException, DataFormatException {
+		return read(Paths.get(catDir + File.separator + catFNm), isNasaFormat, ForkJoinPool.commonPool(),
+				DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Reads a file containing two line element sets downloaded from the Space
+	 * Track site, or provided by NASA.
+	 *
+	 * @param catFSp
+	 *            File containing two line element sets
+	 * @param isNasaFormat
+	 *            Two line element sets are in the NASA format
+	 * @param pool
+	 *            Pool in which chunks are parsed
+	 * @param chunkSize
+	 *            Number of bytes parsed by each task
+	 * @return Catalog containing two line element set parameters constructed
+	 *         from the file
+	 * @throws IOException
+	 * @throws DataFormatException
+	 */
+	public static ColumnarCatalog read(Path catFSp, boolean isNasaFormat, ForkJoinPool pool, int chunkSize)
+			throws IOException, DataFormatException {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("Chunk size must be positive.");
+		}
+		if (!catFSp.toFile().isFile()) {
+			String errMsg = "Catalog file \"" + catFSp + "\" does not exist.";
+			throw new FileNotFoundException(errMsg);
+		}
+		try (FileChannel channel = FileChannel.open(catFSp, StandardOpenOption.READ)) {
+
+			// Map each chunk, with the preceding byte, and a tail
+			long size = channel.size();
+			int nChk = (int) ((size + chunkSize - 1) / chunkSize);
+			Chunk[] chunks = new Chunk[nChk];
+			for (int iChk = 0; iChk < nChk; iChk++) {
+				long start = (long) iChk * chunkSize;
+				long base = Math.max(0, start - 1);
+				long limit = Math.min(size, start + chunkSize + TAIL_SIZE);
+				chunks[iChk] = new Chunk(channel.map(FileChannel.MapMode.READ_ONLY, base, limit - base), base,
+						start, Math.min(size, start + chunkSize), limit == size, isNasaFormat);
+			}
+
+			// Count element sets and text in each chunk, then parse each
+			// chunk into its place in the catalog
+			invoke(pool, chunks, null);
+			int nSet = 0;
+			long nByte = 0;
+			for (Chunk chunk : chunks) {
+				chunk.iSet = nSet;
+				chunk.iByte = (int) nByte;
+				nSet += chunk.nSet;
+				nByte += chunk.nByte;
+			}
+			if (nByte > Integer.MAX_VALUE - 8) {
+				throw new DataFormatException("Catalog file \"" + catFSp + "\" is too large.");
+			}
+			ColumnarCatalog catalog = new ColumnarCatalog(nSet, (int) nByte);
+			invoke(pool, chunks, catalog);
+			return catalog;
+		}
+	}
+
+	/**
+	 * Counts, or parses, all chunks, and unwraps format errors.
+	 */
+	private static void invoke(ForkJoinPool pool, Chunk[] chunks, ColumnarCatalog catalog)
+			throws DataFormatException {
+		try {
+			pool.invoke(new Task(chunks, 0, chunks.length, catalog));
+		} catch (FormatError fe) {
+			throw (DataFormatException) fe.getCause();
+		} catch (RuntimeException re) {
+			// The pool may wrap an exception thrown by another thread in
+			// a new exception of the same class
+			if (re.getCause() instanceof FormatError) {
+				throw (DataFormatException) re.getCause().getCause();
+			}
+			if (re.getCause() != null && re.getCause().getClass() == re.getClass()) {
+				throw (RuntimeException) re.getCause();
+			}
+			throw re;
+		}
+	}
+
+	/**
+	 * Gets the number of element sets.
+	 *
+	 * @return Number of element sets
+	 */
+	public int getNumberOfElementSets() {
+		return nSet;
+	}
+
+	public long getObjectId(int iSet) {
+		return objectId[iSet];
+	}
+
+	public String getClassification(int iSet) {
+		return new String(classification, iSet, 1, StandardCharsets.US_ASCII);
+	}
+
+	public String getIntlDesignator(int iSet) {
+		return new String(intlDesignator, 8 * iSet, 8, StandardCharsets.US_ASCII);
+	}
+
+	public ModJulianDate get_epoch(int iSet) {
+		return new ModJulianDate(epoch[iSet]);
+	}
+
+	public double get_nDot(int iSet) {
+		return nDot[iSet];
+	}
+
+	public double get_nDotDot(int iSet) {
+		return nDotDot[iSet];
+	}
+
+	public double get_bStar(int iSet) {
+		return bStar[iSet];
+	}
+
+	public long getElSetType(int iSet) {
+		return elSetType[iSet];
+	}
+
+	public long getElementNum(int iSet) {
+		return elementNum[iSet];
+	}
+
+	public double get_i(int iSet) {
+		return i[iSet];
+	}
+
+	public double get_Omega(int iSet) {
+		return Omega[iSet];
+	}
+
+	public double get_e(int iSet) {
+		return e[iSet];
+	}
+
+	public double get_omega(int iSet) {
+		return omega[iSet];
+	}
+
+	public double get_M(int iSet) {
+		return M[iSet];
+	}
+
+	public double get_n(int iSet) {
+		return n[iSet];
+	}
+
+	public double get_a(int iSet) {
+		return a[iSet];
+	}
+
+	public long getRevAtEpoch(int iSet) {
+		return revAtEpoch[iSet];
+	}
+
+	public String getLineOne(int iSet) {
+		return line(2 * iSet);
+	}
+
+	public String getLineTwo(int iSet) {
+		return line(2 * iSet + 1);
+	}
+
+	private String line(int iLin) {
+		return new String(text, lineStart[iLin], lineStart[iLin + 1] - lineStart[iLin], StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Constructs the two line element set at an index.
+	 *
+	 * @param iSet
+	 *            Index of the element set
+	 * @return Two line element set
+	 */
+	public SatelliteCatalog.TwoLineElementSet getTwoLineElementSet(int iSet) {
+		return new SatelliteCatalog.TwoLineElementSet(getLineOne(iSet), getLineTwo(iSet), objectId[iSet],
+				getClassification(iSet), getIntlDesignator(iSet), get_epoch(iSet), nDot[iSet], nDotDot[iSet],
+				bStar[iSet], elSetType[iSet], elementNum[iSet], i[iSet], Omega[iSet], e[iSet], omega[iSet], M[iSet],
+				n[iSet], a[iSet], revAtEpoch[iSet]);
+	}
+
+	/**
+	 * Constructs the two line element sets, in file order, as returned by
+	 * SatelliteCatalog.readCatalog.
+	 *
+	 * @return Array list containing two line element set parameters
+	 */
+	public ArrayList<SatelliteCatalog.TwoLineElementSet> toList() {
+		ArrayList<SatelliteCatalog.TwoLineElementSet> catalog = new ArrayList<SatelliteCatalog.TwoLineElementSet>(
+				nSet);
+		for (int iSet = 0; iSet < nSet; iSet++) {
+			catalog.add(getTwoLineElementSet(iSet));
+		}
+		return catalog;
+	}
+
+	/**
+	 * Wraps a format error thrown by a task.
+	 */
+	@SuppressWarnings("serial")
+	private static class FormatError extends RuntimeException {
+
+		public FormatError(DataFormatException cause) {
+			super(cause);
+		}
+	}
+
+	/**
+	 * Counts, or parses, a contiguous range of chunks, or divides the range
+	 * in two.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Task extends RecursiveAction {
+
+		private final Chunk[] chunks;
+		private final int start;
+		private final int end;
+		private final ColumnarCatalog catalog;
+
+		private Task(Chunk[] chunks, int start, int end, ColumnarCatalog catalog) {
+			this.chunks = chunks;
+			this.start = start;
+			this.end = end;
+			this.catalog = catalog;
+		}
+
+		@Override
+		protected void compute() {
+			if (end - start <= 1) {
+				for (int iChk = start; iChk < end; iChk++) {
+					try {
+						chunks[iChk].scan(catalog);
+					} catch (DataFormatException dfe) {
+						throw new FormatError(dfe);
+					}
+				}
+			} else {
+				int mid = (start + end) >>> 1;
+				invokeAll(new Task(chunks, start, mid, catalog), new Task(chunks, mid, end, catalog));
+			}
+		}
+	}
+
+	/**
+	 * A mapped region of the file, owning the element sets whose first line
+	 * starts in the chunk.
+	 */
+	private static final class Chunk {
+
+		// Mapped bytes, starting with the byte preceding the chunk
+		private final MappedByteBuffer buf;
+		// File offset of the first mapped byte
+		private final long base;
+		// File offset of the chunk start
+		private final long start;
+		// File offset of the chunk end
+		private final long end;
+		// Flag indicating the mapped bytes end at the end of file
+		private final boolean isLast;
+		// Flag indicating the NASA format
+		private final boolean isNasaFormat;
+
+		// Number of element sets, and bytes of text, counted
+		private int nSet;
+		private long nByte;
+
+		// Index of the first element set, and byte of text, in the catalog
+		private int iSet;
+		private int iByte;
+
+		// Modified Julian date at the start of each year from 1970
+		private final double[] yearStart = new double[100];
+
+		private Chunk(MappedByteBuffer buf, long base, long start, long end, boolean isLast, boolean isNasaFormat) {
+			this.buf = buf;
+			this.base = base;
+			this.start = start;
+			this.end = end;
+			this.isLast = isLast;
+			this.isNasaFormat = isNasaFormat;
+			Arrays.fill(this.yearStart, Double.NaN);
+		}
+
+		/**
+		 * Counts the element sets in the chunk, or parses them into a
+		 * catalog.
+		 *
+		 * @param catalog
+		 *            Catalog to fill, or null to count
+		 * @throws DataFormatException
+		 */
+		private void scan(ColumnarCatalog catalog) throws DataFormatException {
+			int bufLen = buf.limit();
+			int limit = (int) (end - base);
+
+			// Find the first line starting in the chunk, then skip the
+			// second line of an element set starting in the preceding
+			// chunk
+			int p = 0;
+			if (start > 0) {
+				p = nextLine(p);
+				if (p < limit && buf.get(p) == '2') {
+					p = nextLine(p);
+				}
+			}
+
+			// Consider each element set starting in the chunk
+			byte[] one = new byte[2 * LINE_LENGTH];
+			byte[] two = new byte[2 * LINE_LENGTH];
+			int kSet = iSet;
+			int kByte = iByte;
+			while (p < limit) {
+				int oneStart = p;
+				int oneEnd = lineEnd(oneStart);
+				p = nextLine(oneStart);
+				if (oneEnd == oneStart) {
+					// Blank line
+					continue;
+				}
+				if (p >= bufLen) {
+					throw new DataFormatException("Line two missing at byte " + (base + oneStart) + ".");
+				}
+				int twoStart = p;
+				int twoEnd = lineEnd(twoStart);
+				p = nextLine(twoStart);
+				if (buf.get(oneStart) != '1' || buf.get(twoStart) != '2') {
+					throw new DataFormatException("Invalid element set at byte " + (base + oneStart) + ".");
+				}
+				int nOne = oneEnd - oneStart;
+				int nTwo = twoEnd - twoStart;
+				if (nOne < LINE_LENGTH - 1 || nTwo < LINE_LENGTH - 1) {
+					throw new DataFormatException("Line too short at byte " + (base + oneStart) + ".");
+				}
+				if (catalog == null) {
+					nSet++;
+					nByte += isNasaFormat ? 2 * LINE_LENGTH : nOne + nTwo;
+					continue;
+				}
+				if (one.length < nOne) {
+					one = new byte[nOne];
+				}
+				if (two.length < nTwo) {
+					two = new byte[nTwo];
+				}
+				buf.get(oneStart, one, 0, nOne);
+				buf.get(twoStart, two, 0, nTwo);
+				try {
+					if (isNasaFormat) {
+						nOne = LINE_LENGTH;
+						nTwo = LINE_LENGTH;
+					}
+					parse(one, two, catalog, kSet);
+				} catch (NumberFormatException nfe) {
+					throw new NumberFormatException(
+							nfe.getMessage() + " in element set at byte " + (base + oneStart) + ".");
+				}
+				catalog.lineStart[2 * kSet] = kByte;
+				System.arraycopy(one, 0, catalog.text, kByte, nOne);
+				kByte += nOne;
+				catalog.lineStart[2 * kSet + 1] = kByte;
+				System.arraycopy(two, 0, catalog.text, kByte, nTwo);
+				kByte += nTwo;
+				kSet++;
+			}
+		}
+
+		/**
+		 * Finds the end of a line, excluding the line terminator.
+		 */
+		private int lineEnd(int p) throws DataFormatException {
+			int bufLen = buf.limit();
+			while (p < bufLen) {
+				byte b = buf.get(p);
+				if (b == '\n' || b == '\r') {
+					return p;
+				}
+				p++;
+			}
+			if (!isLast) {
+				throw new DataFormatException("Line too long at byte " + (base + p) + ".");
+			}
+			return p;
+		}
+
+		/**
+		 * Finds the start of the next line.
+		 */
+		private int nextLine(int p) throws DataFormatException {
+			p = lineEnd(p);
+			if (p < buf.limit() && buf.get(p) == '\r') {
+				p++;
+			}
+			if (p < buf.limit() && buf.get(p) == '\n') {
+				p++;
+			}
+			return p;
+		}
+
+		/**
+		 * Parses an element set into the catalog, rewriting the lines if in
+		 * the NASA format, as SatelliteCatalog.readCatalog does.
+		 */
+		private void parse(byte[] lineOne, byte[] lineTwo, ColumnarCatalog catalog, int iSet) {
+			long objectId = parseLong(lineOne, 1, 7);
+			catalog.objectId[iSet] = (int) objectId;
+			catalog.classification[iSet] = lineOne[7];
+			System.arraycopy(lineOne, 9, catalog.intlDesignator, 8 * iSet, 8);
+
+			int year = SatelliteCatalog.fixedWindowYYtoYYYY((int) parseLong(lineOne, 18, 20));
+			double day = parseDouble(lineOne, 20, 32);
+			if (Double.isNaN(yearStart[year - 1970])) {
+				yearStart[year - 1970] = TimeUtility.date2mjd(year, 1, 0, 0, 0, 0.0);
+			}
+			catalog.epoch[iSet] = yearStart[year - 1970] + day;
+
+			int mantissa;
+			int exponent;
+			double nDot = 0.0;
+			double nDotDot = 0.0;
+
+			if (isNasaFormat) {
+
+				// The area-to-mass ratio and radar cross section replace
+				// the derivatives of mean motion, and are not retained
+				byte[] nDotField = ".00000000 ".getBytes(StandardCharsets.US_ASCII);
+				byte[] nDotDotField = " 00000-0".getBytes(StandardCharsets.US_ASCII);
+				System.arraycopy(nDotField, 0, lineOne, 33, nDotField.length);
+				System.arraycopy(nDotDotField, 0, lineOne, 44, nDotDotField.length);
+				if (lineOne[59] == ' ') {
+					lineOne[59] = '+';
+				}
+				lineOne[68] = (byte) ('0' + checkSum(lineOne));
+				lineTwo[68] = (byte) ('0' + checkSum(lineTwo));
+
+			} else {
+
+				nDot = parseDouble(lineOne, 33, 43);
+
+				mantissa = (int) parseLong(lineOne, 44, 50) / 100000;
+				exponent = (int) parseLong(lineOne, 50, 52);
+				nDotDot = mantissa * Math.pow(10, exponent);
+			}
+			catalog.nDot[iSet] = nDot;
+			catalog.nDotDot[iSet] = nDotDot;
+
+			mantissa = (int) parseLong(lineOne, 53, 59);
+			exponent = (int) parseLong(lineOne, 59, 61);
+			catalog.bStar[iSet] = mantissa * Math.pow(10, exponent - 5);
+
+			catalog.elSetType[iSet] = (int) parseLong(lineOne, 62, 63);
+			catalog.elementNum[iSet] = (int) parseLong(lineOne, 64, 68);
+
+			if (!isNasaFormat && parseLong(lineTwo, 1, 7) != objectId) {
+				SatelliteCatalog.logger.warn("Line 1 and 2 object numbers disagree.");
+			}
+
+			double i = parseDouble(lineTwo, 8, 16);
+			double Omega = parseDouble(lineTwo, 17, 25);
+			double e = parseDouble(lineTwo, 26, 33) * Math.pow(10, -7);
+			double omega = parseDouble(lineTwo, 34, 42);
+			double M = parseDouble(lineTwo, 43, 51);
+			double n = parseDouble(lineTwo, 52, 63);
+			catalog.revAtEpoch[iSet] = (int) parseLong(lineTwo, 63, 68);
+
+			/* Compute semi-major axis. */
+
+			n = n * (2 * Math.PI) * (1 / 86400.0);
+			// [rad/s] = [rev/day] * [rad/rev] * [day/s]
+			double a = Math.pow(EarthConstants.GM_oplus / Math.pow(n, 2), 1 / 3.0);
+			// [km] = [ [km^3/s^2] / [rad/s]^2 ]^(1/3)
+
+			// Convert units.
+
+			catalog.a[iSet] = a / EarthConstants.R_oplus;
+			// [er] = [km] / [km/er]
+			catalog.e[iSet] = e;
+			// [-]
+			catalog.i[iSet] = i * (Math.PI / 180);
+			// [rad]
+			catalog.Omega[iSet] = Omega * (Math.PI / 180);
+			// [rad]
+			catalog.omega[iSet] = omega * (Math.PI / 180);
+			// [rad]
+			catalog.M[iSet] = M * (Math.PI / 180);
+			// [rad]
+			catalog.n[iSet] = n;
+		}
+	}
+
+	/**
+	 * Parses an integer field, ignoring surrounding white space, and plus
+	 * signs, as Long.parseLong of the trimmed field with plus signs removed
+	 * does.
+	 *
+	 * @param s
+	 *            Bytes containing the field
+	 * @param from
+	 *            Index of the first byte of the field
+	 * @param to
+	 *            Index following the last byte of the field
+	 * @return Value of the field
+	 */
+	static long parseLong(byte[] s, int from, int to) {
+		while (from < to && s[from] <= ' ') {
+			from++;
+		}
+		while (to > from && s[to - 1] <= ' ') {
+			to--;
+		}
+		boolean isFirst = true;
+		boolean isNegative = false;
+		int nDgt = 0;
+		long value = 0;
+		for (int k = from; k < to; k++) {
+			byte b = s[k];
+			if (b == '+') {
+				continue;
+			}
+			if (b == '-' && isFirst) {
+				isNegative = true;
+			} else if (b >= '0' && b <= '9') {
+				value = 10 * value + (b - '0');
+				nDgt++;
+			} else {
+				throw invalid(s, from, to);
+			}
+			isFirst = false;
+		}
+		if (nDgt == 0) {
+			throw invalid(s, from, to);
+		}
+		return isNegative ? -value : value;
+	}
+
+	/**
+	 * Parses a decimal field, ignoring surrounding white space, with the
+	 * value Double.parseDouble returns. A field of at most fifteen
+	 * significant digits is an integer divided by a power of ten, both
+	 * represented exactly, so the quotient is correctly rounded. Other
+	 * fields are parsed by Double.parseDouble.
+	 *
+	 * @param s
+	 *            Bytes containing the field
+	 * @param from
+	 *            Index of the first byte of the field
+	 * @param to
+	 *            Index following the last byte of the field
+	 * @return Value of the field
+	 */
+	static double parseDouble(byte[] s, int from, int to) {
+		while (from < to && s[from] <= ' ') {
+			from++;
+		}
+		while (to > from && s[to - 1] <= ' ') {
+			to--;
+		}
+		int k = from;
+		boolean isNegative = false;
+		if (k < to && (s[k] == '-' || s[k] == '+')) {
+			isNegative = s[k] == '-';
+			k++;
+		}
+		long mantissa = 0;
+		int nDgt = 0;
+		int nSig = 0;
+		int nFrc = -1;
+		for (; k < to; k++) {
+			byte b = s[k];
+			if (b >= '0' && b <= '9') {
+				mantissa = 10 * mantissa + (b - '0');
+				nDgt++;
+				if (mantissa > 0) {
+					nSig++;
+				}
+				if (nFrc >= 0) {
+					nFrc++;
+				}
+			} else if (b == '.' && nFrc < 0) {
+				nFrc = 0;
+			} else {
+				break;
+			}
+		}
+		if (k < to || nDgt == 0 || nSig > 15 || nFrc > 22) {
+			return Double.parseDouble(new String(s, from, to - from, StandardCharsets.US_ASCII));
+		}
+		double value = nFrc > 0 ? mantissa / POW10[nFrc] : mantissa;
+		return isNegative ? -value : value;
+	}
+
+	private static NumberFormatException invalid(byte[] s, int from, int to) {
+		return new NumberFormatException(
+				"For input string: \"" + new String(s, from, to - from, StandardCharsets.US_ASCII) + "\"");
+	}
+
+	/**
+	 * Computes the checksum of the first 68 bytes of a line, as
+	 * SatelliteCatalog.checkSum does.
+	 *
+	 * @param card
+	 *            Bytes of the line
+	 * @return Checksum [0,9]
+	 */
+	static int checkSum(byte[] card) {
+		int checksum = 0;
+		for (int k = 0; k < LINE_LENGTH - 1; k++) {
+			byte b = card[k];
+			if (b >= '1' && b <= '9') {
+				checksum += b - '0';
+			} else if (b == '-') {
+				checksum++;
+			}
+		}
+		return checksum % 10;
+	}
+}
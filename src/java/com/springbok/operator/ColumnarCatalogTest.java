@@ -0,0 +1,183 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.operator;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.DataFormatException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ColumnarCatalogTest {
+
+	// Directory containing catalog file
+	private final String catDir_input = "dat/java/com/springbok/operator";
+	// File containing two line element sets
+	private final String catFNm_input = "tles.txt";
+
+	// Lines of the catalog file
+	private List<String> lines_input;
+
+	// Temporary catalog file
+	private Path catFSp_tmp;
+
+	@Before
+	public void setUp() throws Exception {
+		this.lines_input = Files.readAllLines(Paths.get(this.catDir_input, this.catFNm_input));
+		this.catFSp_tmp = Files.createTempFile("tles", ".txt");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(this.catFSp_tmp);
+	}
+
+	@Test
+	// Tests read method against readCatalog.
+	public void test_read() throws IOException, DataFormatException {
+
+		ArrayList<SatelliteCatalog.TwoLineElementSet> catalog_expected = SatelliteCatalog
+				.readCatalog(this.catDir_input, this.catFNm_input);
+
+		ColumnarCatalog catalog_actual = ColumnarCatalog.read(this.catDir_input, this.catFNm_input, false);
+
+		assertCatalogEquals(catalog_expected, catalog_actual);
+	}
+
+	@Test
+	// Tests read method with many chunks, blank lines, and CRLF line
+	// terminators.
+	public void test_read_chunks() throws IOException, DataFormatException {
+
+		StringBuilder sb = new StringBuilder();
+		for (int iRep = 0; iRep < 50; iRep++) {
+			for (int iLin = 0; iLin < this.lines_input.size(); iLin++) {
+				sb.append(this.lines_input.get(iLin)).append(iRep % 2 == 0 ? "\n" : "\r\n");
+			}
+		}
+		Files.write(this.catFSp_tmp, sb.toString().getBytes(StandardCharsets.US_ASCII));
+
+		ArrayList<SatelliteCatalog.TwoLineElementSet> catalog_expected = SatelliteCatalog
+				.readCatalog(this.catFSp_tmp.getParent().toString(), this.catFSp_tmp.getFileName().toString());
+
+		// Blank lines are ignored by read, though not by readCatalog
+		Files.write(this.catFSp_tmp, sb.toString().replace("\r\n1", "\r\n\r\n1").concat("\n")
+				.getBytes(StandardCharsets.US_ASCII));
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int chunkSize : new int[] { 1, 70, 139, 1000, 1 << 20 }) {
+				ColumnarCatalog catalog_actual = ColumnarCatalog.read(this.catFSp_tmp, false, pool, chunkSize);
+
+				assertCatalogEquals(catalog_expected, catalog_actual);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	// Tests read method for the NASA format against readCatalog.
+	public void test_read_nasa() throws IOException, DataFormatException {
+
+		StringBuilder sb = new StringBuilder();
+		for (int iLin = 0; iLin < this.lines_input.size(); iLin++) {
+			String line = this.lines_input.get(iLin);
+			if (iLin % 2 == 0) {
+				line = line.substring(0, 33) + " 12345-3    23456-2" + line.substring(52, 59) + " "
+						+ line.substring(60);
+			}
+			sb.append(line).append("\n");
+		}
+		Files.write(this.catFSp_tmp, sb.toString().getBytes(StandardCharsets.US_ASCII));
+
+		ArrayList<SatelliteCatalog.TwoLineElementSet> catalog_expected = SatelliteCatalog.readCatalog(
+				this.catFSp_tmp.getParent().toString(), this.catFSp_tmp.getFileName().toString(), true);
+
+		ColumnarCatalog catalog_actual = ColumnarCatalog.read(this.catFSp_tmp, true, ForkJoinPool.commonPool(),
+				100);
+
+		assertCatalogEquals(catalog_expected, catalog_actual);
+	}
+
+	@Test(expected = DataFormatException.class)
+	// Tests read method with a missing line.
+	public void test_read_invalid() throws IOException, DataFormatException {
+
+		Files.write(this.catFSp_tmp, this.lines_input.subList(1, this.lines_input.size()));
+
+		ColumnarCatalog.read(this.catFSp_tmp, false, ForkJoinPool.commonPool(), 100);
+	}
+
+	@Test
+	// Tests parseDouble method against Double.parseDouble.
+	public void test_parseDouble() {
+
+		Random random = new Random(1);
+		for (int iTst = 0; iTst < 100000; iTst++) {
+			String field = String.format(" %+.8f", (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(6)))
+					.replace("+", random.nextBoolean() ? " " : "+");
+			if (random.nextBoolean()) {
+				field = field.replace("0.", ".");
+			}
+			byte[] s = field.getBytes(StandardCharsets.US_ASCII);
+
+			assertEquals(Double.doubleToLongBits(Double.parseDouble(field)),
+					Double.doubleToLongBits(ColumnarCatalog.parseDouble(s, 0, s.length)));
+		}
+	}
+
+	private static void assertCatalogEquals(ArrayList<SatelliteCatalog.TwoLineElementSet> catalog_expected,
+			ColumnarCatalog catalog_actual) {
+
+		assertEquals(catalog_expected.size(), catalog_actual.getNumberOfElementSets());
+		for (int iSet = 0; iSet < catalog_expected.size(); iSet++) {
+			SatelliteCatalog.TwoLineElementSet expected = catalog_expected.get(iSet);
+			SatelliteCatalog.TwoLineElementSet actual = catalog_actual.getTwoLineElementSet(iSet);
+
+			assertEquals(expected.lineOne, actual.lineOne);
+			assertEquals(expected.lineTwo, actual.lineTwo);
+			assertEquals(expected.objectId, actual.objectId);
+			assertEquals(expected.classification, actual.classification);
+			assertEquals(expected.intlDesignator, actual.intlDesignator);
+			assertTrue(expected.epoch.equals(actual.epoch));
+			assertEquals(expected.nDot, actual.nDot, 0);
+			assertEquals(expected.nDotDot, actual.nDotDot, 0);
+			assertEquals(expected.bStar, actual.bStar, 0);
+			assertEquals(expected.elSetType, actual.elSetType);
+			assertEquals(expected.elementNum, actual.elementNum);
+			assertEquals(expected.i, actual.i, 0);
+			assertEquals(expected.Omega, actual.Omega, 0);
+			assertEquals(expected.e, actual.e, 0);
+			assertEquals(expected.omega, actual.omega, 0);
+			assertEquals(expected.M, actual.M, 0);
+			assertEquals(expected.n, actual.n, 0);
+			assertEquals(expected.a, actual.a, 0);
+			assertEquals(expected.revAtEpoch, actual.revAtEpoch);
+		}
+	}
+}
@@ -16,10 +16,12 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 package com.springbok.operator;
 
 import java.io.Serializable;
-import java.util.EnumSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.logging.Level;
 
 import Jama.Matrix;
+import com.celestrak.sgp4v.SatElset;
 import com.celestrak.sgp4v.SatElsetException;
 import com.celestrak.sgp4v.ValueOutOfRangeException;
 import org.apache.logging.log4j.LogManager;
@@ -506,43 +508,60 @@ public class OrbitDetermination implements Serializable {
 
 		/*
 		 * Compute the difference between the modeled and measured observations,
-		 * and the corresponding elements of the Jacobian.
+		 * and the corresponding elements of the Jacobian, analytically for a
+		 * Keplerian orbit, or using centered differences otherwise, evaluating
+		 * observations in parallel.
 		 */
-		int[] diagIdx = new int[] { 0, 1, 2, 3, 4, 5 };
+		int nDNm = obs_dNm.length;
 
-		int rowBeg = -1;
-		int rowEnd = -1;
-		int colBeg = -1;
-		int colEnd = -1;
+		double[][] dz = new double[3 * nDNm][1];
+		double[][] H = new double[3 * nDNm][6];
 
-		int nDNm = obs_dNm.length;
+		if (popOrb_i instanceof KeplerianOrbit) {
+			KeplerianOrbit kepOrb_i = (KeplerianOrbit) popOrb_i;
+			evaluate(nDNm, GRAIN, iDNm -> {
+				double[] mdl_gei = new double[3];
+				jacobianAnalytic(kepOrb_i, obs_dNm[iDNm], mdl_gei, H, 3 * iDNm);
+				for (int iCmp = 0; iCmp < 3; iCmp++) {
+					dz[3 * iDNm + iCmp][0] = obs_gei[iDNm].get(iCmp, 0) - mdl_gei[iCmp];
+				}
+			});
 
-		Matrix dz = new Matrix(3 * nDNm, 1);
-		Matrix H = new Matrix(3 * nDNm, 6);
-		Matrix D = new Matrix(6, 6);
+		} else {
+			evaluate(nDNm, GRAIN, iDNm -> {
+				Matrix mdl_gei = popOrb_i.r_gei(obs_dNm[iDNm]);
+				for (int iCmp = 0; iCmp < 3; iCmp++) {
+					dz[3 * iDNm + iCmp][0] = obs_gei[iDNm].get(iCmp, 0) - mdl_gei.get(iCmp, 0);
+				}
+			});
+			jacobianNumerical(popOrb_i, obs_dNm, H);
+		}
 
-		for (int iDNm = 0; iDNm < nDNm; iDNm++) {
-			Matrix mdl_gei = popOrb_i.r_gei(obs_dNm[iDNm]);
-			rowBeg = 3 * iDNm;
-			rowEnd = 3 * iDNm + 2;
-			colBeg = 0;
-			colEnd = 0;
-			// dz.print(16, 8);
-			dz.setMatrix(rowBeg, rowEnd, colBeg, colEnd, obs_gei[iDNm].minus(mdl_gei));
-			// dz.print(16, 8);
-			colBeg = 0;
-			colEnd = 5;
-			// H.print(16, 8);
-			H.setMatrix(rowBeg, rowEnd, colBeg, colEnd, jacobianNumerical(popOrb_i, obs_dNm[iDNm]));
-			// H.setMatrix(rowIdxH, colIdxH, jacobianNumerical(popOrb_i,
-			// obs_dNm[iDNm]));
-			// H.print(16, 8);
+		/*
+		 * Accumulate the normal equations, H' * H and H' * dz, in place.
+		 */
+		double[][] HtH = new double[6][6];
+		double[] Htdz = new double[6];
+		for (int iRow = 0; iRow < 3 * nDNm; iRow++) {
+			double[] h = H[iRow];
+			double z = dz[iRow][0];
+			for (int iCol = 0; iCol < 6; iCol++) {
+				Htdz[iCol] += h[iCol] * z;
+				for (int jCol = iCol; jCol < 6; jCol++) {
+					HtH[iCol][jCol] += h[iCol] * h[jCol];
+				}
+			}
+		}
+		for (int iCol = 0; iCol < 6; iCol++) {
+			for (int jCol = 0; jCol < iCol; jCol++) {
+				HtH[iCol][jCol] = HtH[jCol][iCol];
+			}
 		}
 
 		/* Compute the resulting differential correction. */
 
-		ctnRes.dz = dz;
-		ctnRes.H = H;
+		ctnRes.dz = new Matrix(dz);
+		ctnRes.H = new Matrix(H);
 		if (ctnRes.option.equals("Levenberg-Marquardt")) {
 
 			/* Apply the full differential correction. */
@@ -562,15 +581,7 @@ public class OrbitDetermination implements Serializable {
 			 * correction computed using the _lesser_ damping factor.
 			 */
 			// dx_l = (H' * H + (lambda / nu) * diag(diag(H' * H))) \ (H' * dz);
-			// D.print(16, 8);
-			for (int idx : diagIdx) {
-				D.set(idx, idx, H.transpose().times(H).get(idx, idx));
-			}
-			// D.setMatrix(diagIdx, diagIdx,
-			// H.transpose().times(H).getMatrix(diagIdx, diagIdx));
-			// D.print(16, 8);
-			double[] dx_l = H.transpose().times(H).plus(D.times(ctnRes.lambda / ctnRes.nu))
-					.solve(H.transpose().times(dz)).getRowPackedCopy();
+			double[] dx_l = solveNormal(HtH, Htdz, ctnRes.lambda / ctnRes.nu);
 			schRes = applyCorrection(popOrb_i, dx_l, alpha, obs_dNm, obs_gei);
 			double sSq_l = schRes.sSq;
 
@@ -579,8 +590,7 @@ public class OrbitDetermination implements Serializable {
 			 * correction computed using the _greater_ damping factor.
 			 */
 			// dx_g = (H' * H + lambda * diag(diag(H' * H))) \ (H' * dz);
-			double[] dx_g = H.transpose().times(H).plus(D.times(ctnRes.lambda)).solve(H.transpose().times(dz))
-					.getRowPackedCopy();
+			double[] dx_g = solveNormal(HtH, Htdz, ctnRes.lambda);
 			schRes = applyCorrection(popOrb_i, dx_g, alpha, obs_dNm, obs_gei);
 			double sSq_g = schRes.sSq;
 
@@ -593,14 +603,12 @@ public class OrbitDetermination implements Serializable {
 
 				// dx_l = (H' * H + (lambda / nu) * diag(diag(H' * H))) \ (H' *
 				// dz);
-				dx_l = H.transpose().times(H).plus(D.times(ctnRes.lambda / ctnRes.nu)).solve(H.transpose().times(dz))
-						.getRowPackedCopy();
+				dx_l = solveNormal(HtH, Htdz, ctnRes.lambda / ctnRes.nu);
 				schRes = applyCorrection(popOrb_i, dx_l, alpha, obs_dNm, obs_gei);
 				sSq_l = schRes.sSq;
 
 				// dx_g = (H' * H + lambda * diag(diag(H' * H))) \ (H' * dz);
-				dx_g = H.transpose().times(H).plus(D.times(ctnRes.lambda)).solve(H.transpose().times(dz))
-						.getRowPackedCopy();
+				dx_g = solveNormal(HtH, Htdz, ctnRes.lambda);
 				schRes = applyCorrection(popOrb_i, dx_g, alpha, obs_dNm, obs_gei);
 				sSq_g = schRes.sSq;
 			}
@@ -626,8 +634,29 @@ public class OrbitDetermination implements Serializable {
 			/* Compute the differential correction. */
 
 			// dx = (H' * H) \ (H' * dz);
-			ctnRes.dx = H.transpose().times(H).solve(H.transpose().times(dz)).getRowPackedCopy();
+			ctnRes.dx = solveNormal(HtH, Htdz, 0);
+		}
+	}
+
+	/**
+	 * Solve the damped normal equations (H' * H + lambda * diag(diag(H' * H)))
+	 * \ (H' * dz).
+	 *
+	 * @param HtH
+	 *            The product H' * H
+	 * @param Htdz
+	 *            The product H' * dz
+	 * @param lambda
+	 *            Damping factor
+	 * @return The differential corrections
+	 */
+	private static double[] solveNormal(double[][] HtH, double[] Htdz, double lambda) {
+		double[][] A = new double[6][];
+		for (int iCol = 0; iCol < 6; iCol++) {
+			A[iCol] = HtH[iCol].clone();
+			A[iCol][iCol] += lambda * HtH[iCol][iCol];
 		}
+		return new Matrix(A).solve(new Matrix(Htdz, 6)).getRowPackedCopy();
 	}
 
 	/**
@@ -692,149 +721,284 @@ public class OrbitDetermination implements Serializable {
 
 		/*
 		 * Measure the fit by computing the sum of the squared differences
-		 * between the modeled and measured observations.
+		 * between the modeled and measured observations, evaluating
+		 * observations in parallel, and summing in order.
 		 */
-		double sSq = 0.0;
 		int nDNm = obs_dNm.length;
+		double[] obs_sSq = new double[nDNm];
+		EstimatedOrbit mdlOrb = popOrb_ip1;
+		evaluate(nDNm, GRAIN, iDNm -> {
+			Matrix mdl_gei = mdlOrb.r_gei(obs_dNm[iDNm]);
+			for (int iCmp = 0; iCmp < 3; iCmp++) {
+				double obs_res = obs_gei[iDNm].get(iCmp, 0) - mdl_gei.get(iCmp, 0);
+				obs_sSq[iDNm] += obs_res * obs_res;
+			}
+		});
+		double sSq = 0.0;
 		for (int iDNm = 0; iDNm < nDNm; iDNm++) {
-			Matrix mdl_gei = popOrb_ip1.r_gei(obs_dNm[iDNm]);
-			Matrix obs_res = obs_gei[iDNm].minus(mdl_gei);
-			sSq = obs_res.norm2();
+			sSq += obs_sSq[iDNm];
 		}
 		return new SearchResult(popOrb_ip1, sSq);
 	}
 
-	private enum OrbProps {
-		a, e, i, Omega, omega, M
-	};
-
-	private static EnumSet<OrbProps> orbProps = EnumSet.allOf(OrbProps.class);
-
 	/**
-	 * Compute the Jacobian for differential orbit correction using a centered
-	 * difference. (7.108)
-	 * 
-	 * @param popOrbU
+	 * Compute the geocentric equatorial inertial position of a Keplerian orbit,
+	 * and the Jacobian of the position with respect to the elements a, e, i,
+	 * Omega, omega, and M, analytically.
+	 *
+	 * @param kepOrb
 	 *            The orbit
 	 * @param dNm
 	 *            The date number
-	 * @return The Jacobian
-	 * @throws ValueOutOfRangeException
-	 * @throws SatElsetException
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position, output [er]
+	 * @param H
+	 *            The Jacobian, rows row to row + 2 output
+	 * @param row
+	 *            First row of the Jacobian output
 	 */
-	private static Matrix jacobianNumerical(EstimatedOrbit popOrbU, ModJulianDate dNm)
-			throws SatElsetException, ValueOutOfRangeException {
+	static void jacobianAnalytic(KeplerianOrbit kepOrb, ModJulianDate dNm, double[] r_gei, double[][] H, int row) {
+
+		double a = kepOrb.get_a();
+		double e = kepOrb.get_e();
+		double c_i = Math.cos(kepOrb.get_i());
+		double s_i = Math.sin(kepOrb.get_i());
+		double c_Omega = Math.cos(kepOrb.get_Omega());
+		double s_Omega = Math.sin(kepOrb.get_Omega());
+		double c_omega = Math.cos(kepOrb.get_omega());
+		double s_omega = Math.sin(kepOrb.get_omega());
+
+		/* Compute the eccentric anomaly, as does r_gei. */
+
+		double E = kepOrb.keplersEquation(kepOrb.meanPosition(dNm));
+		double c_E = Math.cos(E);
+		double s_E = Math.sin(E);
+		double s_e = Math.sqrt(1 - e * e);
 
 		/*
-		 * Compute geocentric equatorial inertial position corresponding to the
-		 * unmodified orbit.
+		 * Compute the perifocal unit vectors, and the orbital plane position.
+		 * (MG-2.50, 2.30)
 		 */
-		Matrix r_gei_1 = popOrbU.r_gei(dNm);
+		double[] P = { c_Omega * c_omega - s_Omega * s_omega * c_i, s_Omega * c_omega + c_Omega * s_omega * c_i,
+				s_omega * s_i };
+		double[] Q = { -c_Omega * s_omega - s_Omega * c_omega * c_i, -s_Omega * s_omega + c_Omega * c_omega * c_i,
+				c_omega * s_i };
+		double x = a * (c_E - e);
+		double y = a * s_e * s_E;
 
 		/*
-		 * Differentially modify each property of the orbit, and compute the
-		 * geocentric equatorial inertial position of the modified orbit and
-		 * elements of the Jacobian matrix.
+		 * Compute the derivatives of the eccentric anomaly with respect to mean
+		 * anomaly, and eccentricity, and of the mean anomaly at the date with
+		 * respect to semi-major axis. (MG-2.42)
 		 */
-		Matrix H = new Matrix(3, 6);
-
-		int rowBeg = 0;
-		int rowEnd = 2;
-		int colBeg = -1;
-		int colEnd = -1;
-
-		EstimatedOrbit popOrbM = null;
-		if (popOrbU instanceof KeplerianOrbit) {
-			popOrbM = new KeplerianOrbit((KeplerianOrbit) popOrbU);
-		} else if (popOrbU instanceof Sgp4Orbit) {
-			popOrbM = new Sgp4Orbit((Sgp4Orbit) popOrbU);
+		double dE_dM = 1 / (1 - e * c_E);
+		double dE_de = s_E * dE_dM;
+		double dM_da = -1.5 * kepOrb.meanMotion() * dNm.getOffset(kepOrb.get_epoch()) / a;
+		// [rad/er] = [rad/s] * [s] / [er]
+
+		double dx_dM = -a * s_E * dE_dM;
+		double dy_dM = a * s_e * c_E * dE_dM;
+		double dx_de = -a * s_E * dE_de - a;
+		double dy_de = -a * e / s_e * s_E + a * s_e * c_E * dE_de;
+
+		for (int iCmp = 0; iCmp < 3; iCmp++) {
+			r_gei[iCmp] = x * P[iCmp] + y * Q[iCmp];
 		}
+		double[] W = { s_Omega * s_i, -c_Omega * s_i, c_i };
+		double[] N = { c_Omega, s_Omega, 0 };
+		for (int iCmp = 0; iCmp < 3; iCmp++) {
+			int jCmp = (iCmp + 1) % 3;
+			int kCmp = (iCmp + 2) % 3;
+			double dr_dM = dx_dM * P[iCmp] + dy_dM * Q[iCmp];
+			double[] h = H[row + iCmp];
 
-		double dx = 0.0;
-		Matrix dhp = null;
-		Matrix dhm = null;
-		int iPrp = -1;
-		for (OrbProps p : orbProps) {
-			iPrp++;
-			switch (p) {
-			case a:
-				dx = popOrbU.get_a() * SimulationConstants.decimal_delta;
-
-				popOrbM.set_a(popOrbU.get_a() + dx / 2);
-				dhp = popOrbM.r_gei(dNm).minus(r_gei_1);
+			// Semi-major axis, which scales the orbit, and changes the mean
+			// motion
+			h[0] = r_gei[iCmp] / a + dr_dM * dM_da;
 
-				popOrbM.set_a(popOrbU.get_a() - dx / 2);
-				dhm = popOrbM.r_gei(dNm).minus(r_gei_1);
-
-				popOrbM.set_a(popOrbU.get_a());
-				break;
+			// Eccentricity
+			h[1] = dx_de * P[iCmp] + dy_de * Q[iCmp];
 
-			case e:
-				dx = popOrbU.get_e() * SimulationConstants.decimal_delta;
+			// Inclination, a rotation about the line of nodes
+			h[2] = N[jCmp] * r_gei[kCmp] - N[kCmp] * r_gei[jCmp];
 
-				popOrbM.set_e(popOrbU.get_e() + dx / 2);
-				dhp = popOrbM.r_gei(dNm).minus(r_gei_1);
-
-				popOrbM.set_e(popOrbU.get_e() - dx / 2);
-				dhm = popOrbM.r_gei(dNm).minus(r_gei_1);
-
-				popOrbM.set_e(popOrbU.get_e());
-				break;
+			// Right ascension of the ascending node, a rotation about the
+			// z axis
+			h[3] = iCmp == 0 ? -r_gei[1] : iCmp == 1 ? r_gei[0] : 0;
 
-			case i:
-				dx = popOrbU.get_i() * SimulationConstants.decimal_delta;
+			// Argument of perigee, a rotation about the orbit normal
+			h[4] = W[jCmp] * r_gei[kCmp] - W[kCmp] * r_gei[jCmp];
 
-				popOrbM.set_i(popOrbU.get_i() + dx / 2);
-				dhp = popOrbM.r_gei(dNm).minus(r_gei_1);
-
-				popOrbM.set_i(popOrbU.get_i() - dx / 2);
-				dhm = popOrbM.r_gei(dNm).minus(r_gei_1);
-
-				popOrbM.set_i(popOrbU.get_i());
-				break;
-
-			case Omega:
-				dx = popOrbU.get_Omega() * SimulationConstants.decimal_delta;
+			// Mean anomaly
+			h[5] = dr_dM;
+		}
+	}
 
-				popOrbM.set_Omega(popOrbU.get_Omega() + dx / 2);
-				dhp = popOrbM.r_gei(dNm).minus(r_gei_1);
+	/**
+	 * Compute the Jacobian for differential orbit correction using a centered
+	 * difference. (7.108) The orbits differing in each element are constructed
+	 * once, and evaluated at each date, with elements evaluated in parallel.
+	 *
+	 * @param popOrbU
+	 *            The orbit
+	 * @param obs_dNm
+	 *            The date numbers
+	 * @param H
+	 *            The Jacobian, three rows for each date number, output
+	 * @throws ValueOutOfRangeException
+	 * @throws SatElsetException
+	 */
+	static void jacobianNumerical(EstimatedOrbit popOrbU, ModJulianDate[] obs_dNm, double[][] H)
+			throws SatElsetException, ValueOutOfRangeException {
 
-				popOrbM.set_Omega(popOrbU.get_Omega() - dx / 2);
-				dhm = popOrbM.r_gei(dNm).minus(r_gei_1);
+		double[] x = new double[] { popOrbU.get_a(), popOrbU.get_e(), popOrbU.get_i(), popOrbU.get_Omega(),
+				popOrbU.get_omega(), popOrbU.get_M() };
 
-				popOrbM.set_Omega(popOrbU.get_Omega());
-				break;
+		/*
+		 * Differentially modify each element of the orbit, and compute the
+		 * geocentric equatorial inertial position of the modified orbits and
+		 * elements of the Jacobian matrix.
+		 */
+		evaluate(x.length, 1, iPrp -> {
+			double dx = x[iPrp] * SimulationConstants.decimal_delta;
+			if (dx == 0) {
+				dx = SimulationConstants.decimal_delta;
+			}
+			EstimatedOrbit popOrbP = modifyOrbit(popOrbU, iPrp, x[iPrp] + dx / 2);
+			EstimatedOrbit popOrbM = modifyOrbit(popOrbU, iPrp, x[iPrp] - dx / 2);
+			for (int iDNm = 0; iDNm < obs_dNm.length; iDNm++) {
+				Matrix dh = popOrbP.r_gei(obs_dNm[iDNm]).minus(popOrbM.r_gei(obs_dNm[iDNm]));
+				for (int iCmp = 0; iCmp < 3; iCmp++) {
+					H[3 * iDNm + iCmp][iPrp] = dh.get(iCmp, 0) / dx;
+				}
+			}
+		});
+	}
 
-			case omega:
-				dx = popOrbU.get_omega() * SimulationConstants.decimal_delta;
+	/**
+	 * Copy an orbit, with its own element set, and modify one element.
+	 *
+	 * @param popOrbU
+	 *            The orbit
+	 * @param iPrp
+	 *            Index of the element: a, e, i, Omega, omega, or M
+	 * @param value
+	 *            Value of the element
+	 * @return The modified orbit
+	 */
+	private static EstimatedOrbit modifyOrbit(EstimatedOrbit popOrbU, int iPrp, double value)
+			throws SatElsetException, ValueOutOfRangeException {
+		EstimatedOrbit popOrbM = null;
+		if (popOrbU instanceof KeplerianOrbit) {
+			popOrbM = new KeplerianOrbit((KeplerianOrbit) popOrbU);
+		} else if (popOrbU instanceof Sgp4Orbit) {
+			Sgp4Orbit sgp4OrbM = new Sgp4Orbit((Sgp4Orbit) popOrbU);
+			sgp4OrbM.updateElset(new SatElset(((Sgp4Orbit) popOrbU).getElSet()));
+			popOrbM = sgp4OrbM;
+		}
+		switch (iPrp) {
+		case 0:
+			popOrbM.set_a(value);
+			break;
+		case 1:
+			popOrbM.set_e(value);
+			break;
+		case 2:
+			popOrbM.set_i(value);
+			break;
+		case 3:
+			popOrbM.set_Omega(value);
+			break;
+		case 4:
+			popOrbM.set_omega(value);
+			break;
+		default:
+			popOrbM.set_M(value);
+			break;
+		}
+		return popOrbM;
+	}
 
-				popOrbM.set_omega(popOrbU.get_omega() + dx / 2);
-				dhp = popOrbM.r_gei(dNm).minus(r_gei_1);
+	/** Minimum number of evaluations performed by each parallel task */
+	private static final int GRAIN = 16;
 
-				popOrbM.set_omega(popOrbU.get_omega() - dx / 2);
-				dhm = popOrbM.r_gei(dNm).minus(r_gei_1);
+	/**
+	 * An evaluation for one observation, or element.
+	 */
+	private interface Evaluation {
+		void evaluate(int k) throws SatElsetException, ValueOutOfRangeException;
+	}
 
-				popOrbM.set_omega(popOrbU.get_omega());
-				break;
+	/**
+	 * Performs evaluations in parallel, unless few, and unwraps exceptions.
+	 * Each evaluation must write only its own outputs.
+	 */
+	private static void evaluate(int n, int grain, Evaluation evaluation)
+			throws SatElsetException, ValueOutOfRangeException {
+		if (n <= grain) {
+			for (int k = 0; k < n; k++) {
+				evaluation.evaluate(k);
+			}
+			return;
+		}
+		try {
+			ForkJoinPool.commonPool().invoke(new EvaluationTask(evaluation, 0, n, grain));
+		} catch (EvaluationError ee) {
+			// The pool may wrap an exception thrown by another thread in a new
+			// exception of the same class
+			Throwable cause = ee.getCause() instanceof EvaluationError ? ee.getCause().getCause() : ee.getCause();
+			if (cause instanceof ValueOutOfRangeException) {
+				throw (ValueOutOfRangeException) cause;
+			}
+			throw (SatElsetException) cause;
+		}
+	}
 
-			case M:
-				dx = popOrbU.get_M() * SimulationConstants.decimal_delta;
+	/**
+	 * Wraps an exception thrown by an evaluation, to pass it out of the pool.
+	 */
+	@SuppressWarnings("serial")
+	private static final class EvaluationError extends RuntimeException {
 
-				popOrbM.set_M(popOrbU.get_M() + dx / 2);
-				dhp = popOrbM.r_gei(dNm).minus(r_gei_1);
+		private EvaluationError(Exception cause) {
+			super(cause);
+		}
+	}
 
-				popOrbM.set_M(popOrbU.get_M() - dx / 2);
-				dhm = popOrbM.r_gei(dNm).minus(r_gei_1);
+	/**
+	 * Performs evaluations from a start to an end, splitting the range in two
+	 * until no more than the grain.
+	 */
+	@SuppressWarnings("serial")
+	private static final class EvaluationTask extends RecursiveAction {
+
+		private final Evaluation evaluation;
+		private final int start;
+		private final int end;
+		private final int grain;
+
+		private EvaluationTask(Evaluation evaluation, int start, int end, int grain) {
+			this.evaluation = evaluation;
+			this.start = start;
+			this.end = end;
+			this.grain = grain;
+		}
 
-				popOrbM.set_M(popOrbU.get_M());
-				break;
+		@Override
+		protected void compute() {
+			if (end - start <= grain) {
+				for (int k = start; k < end; k++) {
+					try {
+						evaluation.evaluate(k);
+					} catch (SatElsetException | ValueOutOfRangeException e) {
+						throw new EvaluationError(e);
+					}
+				}
+			} else {
+				int mid = (start + end) >>> 1;
+				invokeAll(new EvaluationTask(evaluation, start, mid, grain),
+						new EvaluationTask(evaluation, mid, end, grain));
 			}
-			colBeg = iPrp;
-			colEnd = iPrp;
-			// H.print(16, 8);
-			H.setMatrix(rowBeg, rowEnd, colBeg, colEnd, dhp.minus(dhm).times(1 / dx));
-			// H.print(16, 8);
 		}
-		return H;
 	}
 }
@@ -16,15 +16,20 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 package com.springbok.operator;
 
 import Jama.Matrix;
+import com.celestrak.sgp4v.SatElsetException;
+import com.celestrak.sgp4v.ValueOutOfRangeException;
 import com.springbok.sgp4v.Sgp4Orbit;
 import com.springbok.twobody.KeplerianOrbit;
 import com.springbok.twobody.ModJulianDate;
+import com.springbok.utility.TestUtility;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.time.Instant;
 import java.util.Date;
 
+import static org.junit.Assert.*;
+
 /**
  * Tests methods of OrbitDetermination class.
  */
@@ -70,6 +75,10 @@ public class OrbitDeterminationTest {
     // A Keplerian orbit
     private static KeplerianOrbit kep_orb;
 
+    // A Keplerian orbit with epoch a modified Julian date
+    private static final KeplerianOrbit kep_orb_mjd = new KeplerianOrbit(a, e, i, Omega, omega, M,
+            new ModJulianDate(51544.5), method);
+
     // First inertial geocentric position vector
     private static Matrix kep_r_a;
 
@@ -137,4 +146,62 @@ public class OrbitDeterminationTest {
     public void test2() {
         System.out.println("test2");
     }
+
+    @Test
+    // Tests jacobianAnalytic method against jacobianNumerical method.
+    public void test_jacobianAnalytic() throws SatElsetException, ValueOutOfRangeException {
+        ModJulianDate[] obs_dNm = observationDates(25);
+        double[][] H_expected = new double[3 * obs_dNm.length][6];
+        OrbitDetermination.jacobianNumerical(kep_orb_mjd, obs_dNm, H_expected);
+
+        double[] r_gei = new double[3];
+        double[][] H_actual = new double[3 * obs_dNm.length][6];
+        for (int iDNm = 0; iDNm < obs_dNm.length; iDNm++) {
+            OrbitDetermination.jacobianAnalytic(kep_orb_mjd, obs_dNm[iDNm], r_gei, H_actual, 3 * iDNm);
+
+            assertArrayEquals(kep_orb_mjd.r_gei(obs_dNm[iDNm]).getColumnPackedCopy(), r_gei,
+                    TestUtility.HIGH_PRECISION);
+        }
+        for (int iRow = 0; iRow < H_expected.length; iRow++) {
+            for (int iCol = 0; iCol < 6; iCol++) {
+                assertEquals(H_expected[iRow][iCol], H_actual[iRow][iCol], 1e-5 * (1 + Math.abs(H_expected[iRow][iCol])));
+            }
+        }
+    }
+
+    @Test
+    // Tests docNumerical method for a Keplerian orbit with many
+    // observations.
+    public void test_docNumerical() throws SatElsetException, ValueOutOfRangeException {
+        ModJulianDate[] obs_dNm = observationDates(400);
+        Matrix[] obs_gei = new Matrix[obs_dNm.length];
+        for (int iDNm = 0; iDNm < obs_dNm.length; iDNm++) {
+            obs_gei[iDNm] = kep_orb_mjd.r_gei(obs_dNm[iDNm]);
+        }
+        KeplerianOrbit popOrbP = new KeplerianOrbit(a * 1.0001, e + 0.0001, i, Omega, omega, M + 0.0001,
+                kep_orb_mjd.get_epoch(), method);
+
+        for (String option : new String[]{"Levenberg-Marquardt", "Guass-Newton"}) {
+            OrbitDetermination.DeterminationResult result = OrbitDetermination.docNumerical(popOrbP, obs_dNm, obs_gei,
+                    option);
+
+            assertEquals("differential correction successful", result.status);
+            for (int iDNm = 0; iDNm < obs_dNm.length; iDNm++) {
+                assertArrayEquals(obs_gei[iDNm].getColumnPackedCopy(),
+                        result.estOrb.r_gei(obs_dNm[iDNm]).getColumnPackedCopy(), 1e-4);
+            }
+        }
+    }
+
+    /**
+     * Computes date numbers evenly spaced over the two hours following the
+     * epoch of the Keplerian orbit.
+     */
+    private static ModJulianDate[] observationDates(int nDNm) {
+        ModJulianDate[] obs_dNm = new ModJulianDate[nDNm];
+        for (int iDNm = 0; iDNm < nDNm; iDNm++) {
+            obs_dNm[iDNm] = new ModJulianDate(kep_orb_mjd.get_epoch().getAsDouble() + iDNm * (2.0 / 24.0) / (nDNm - 1));
+        }
+        return obs_dNm;
+    }
 }
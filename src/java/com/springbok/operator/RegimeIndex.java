@@ -0,0 +1,311 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.operator;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.springbok.antenna.Antenna;
+import com.springbok.sgp4v.LazySgp4Orbit;
+import com.springbok.station.Beam;
+import com.springbok.station.EarthStation;
+import com.springbok.station.Emission;
+import com.springbok.station.SpaceStation;
+import com.springbok.twobody.EarthConstants;
+import com.springbok.utility.MException;
+
+/**
+ * An index of the orbital regime of each element set of a catalog, by
+ * perigee and apogee altitude, inclination, and right ascension of the
+ * ascending node, used to select candidate interfering space stations
+ * without scanning the catalog.
+ *
+ * Element sets are sorted by perigee altitude, and a tree holding the
+ * maximum apogee altitude of each range of element sets makes an interval
+ * tree over the altitude band of each element set. A query for the
+ * altitude bands which intersect an interval takes time logarithmic in the
+ * size of the catalog, plus time proportional to the number of bands
+ * found. Inclination and right ascension of the ascending node are tested
+ * for each band found.
+ */
+public class RegimeIndex {
+
+	// Element sets of the catalog
+	private final List<SatelliteCatalog.TwoLineElementSet> catalog;
+
+	// Catalog index of each element set, sorted by perigee altitude
+	private final int[] order;
+
+	// Perigee and apogee altitude [km], inclination [rad], and right
+	// ascension of the ascending node [rad] of each element set, sorted by
+	// perigee altitude
+	private final double[] h_p;
+	private final double[] h_a;
+	private final double[] i;
+	private final double[] Omega;
+
+	// Number of leaves, and maximum apogee altitude of each node of the tree
+	// with leaves in perigee altitude order [km]
+	private final int nLeaf;
+	private final double[] h_a_max;
+
+	/**
+	 * Constructs an index of a catalog.
+	 *
+	 * @param catalog
+	 *            Two line element sets, such as the latest of each object in
+	 *            a CatalogStore
+	 */
+	public RegimeIndex(List<SatelliteCatalog.TwoLineElementSet> catalog) {
+		this.catalog = catalog;
+		int nSet = catalog.size();
+
+		// Sort element sets by perigee altitude
+		double[] h_p_cat = new double[nSet];
+		Integer[] sorted = new Integer[nSet];
+		for (int iSet = 0; iSet < nSet; iSet++) {
+			SatelliteCatalog.TwoLineElementSet tle = catalog.get(iSet);
+			h_p_cat[iSet] = (tle.a * (1 - tle.e) - 1) * EarthConstants.R_oplus;
+			sorted[iSet] = iSet;
+		}
+		Arrays.sort(sorted, (iOne, iTwo) -> Double.compare(h_p_cat[iOne], h_p_cat[iTwo]));
+
+		this.order = new int[nSet];
+		this.h_p = new double[nSet];
+		this.h_a = new double[nSet];
+		this.i = new double[nSet];
+		this.Omega = new double[nSet];
+		for (int k = 0; k < nSet; k++) {
+			SatelliteCatalog.TwoLineElementSet tle = catalog.get(sorted[k]);
+			this.order[k] = sorted[k];
+			this.h_p[k] = h_p_cat[sorted[k]];
+			this.h_a[k] = (tle.a * (1 + tle.e) - 1) * EarthConstants.R_oplus;
+			this.i[k] = tle.i;
+			this.Omega[k] = tle.Omega;
+		}
+
+		// Build the tree bottom up, with node one the root, and the children
+		// of node j at 2 j and 2 j + 1
+		int nLeaf = 2;
+		while (nLeaf < nSet) {
+			nLeaf *= 2;
+		}
+		this.nLeaf = nLeaf;
+		this.h_a_max = new double[2 * nLeaf];
+		Arrays.fill(this.h_a_max, Double.NEGATIVE_INFINITY);
+		System.arraycopy(this.h_a, 0, this.h_a_max, nLeaf, nSet);
+		for (int j = nLeaf - 1; j > 0; j--) {
+			this.h_a_max[j] = Math.max(this.h_a_max[2 * j], this.h_a_max[2 * j + 1]);
+		}
+	}
+
+	/**
+	 * Gets the number of element sets.
+	 *
+	 * @return Number of element sets
+	 */
+	public int size() {
+		return order.length;
+	}
+
+	/**
+	 * Gets an element set of the catalog.
+	 *
+	 * @param iSet
+	 *            Catalog index of the element set
+	 * @return Element set
+	 */
+	public SatelliteCatalog.TwoLineElementSet get(int iSet) {
+		return catalog.get(iSet);
+	}
+
+	/**
+	 * Finds element sets with altitude band intersecting an interval.
+	 *
+	 * @param h_min
+	 *            Minimum altitude [km]
+	 * @param h_max
+	 *            Maximum altitude [km]
+	 * @return Catalog indexes of element sets found, in increasing order
+	 */
+	public int[] find(double h_min, double h_max) {
+		return find(h_min, h_max, 0, Math.PI, 0, 2 * Math.PI);
+	}
+
+	/**
+	 * Finds element sets with altitude band intersecting an interval, and
+	 * inclination and right ascension of the ascending node within ranges.
+	 *
+	 * @param h_min
+	 *            Minimum altitude [km]
+	 * @param h_max
+	 *            Maximum altitude [km]
+	 * @param i_min
+	 *            Minimum inclination [rad]
+	 * @param i_max
+	 *            Maximum inclination [rad]
+	 * @param Omega_min
+	 *            Minimum right ascension of the ascending node [rad]
+	 * @param Omega_max
+	 *            Maximum right ascension of the ascending node, less than the
+	 *            minimum for a range containing zero [rad]
+	 * @return Catalog indexes of element sets found, in increasing order
+	 */
+	public int[] find(double h_min, double h_max, double i_min, double i_max, double Omega_min,
+			double Omega_max) {
+		if (h_min > h_max || i_min > i_max) {
+			throw new MException("Springbok:IllegalArgumentException", "Minimum must not exceed maximum.");
+		}
+		boolean isWrapped = Omega_min > Omega_max;
+		int[] found = new int[order.length];
+		int nFnd = 0;
+		int end = upperBound(h_max);
+		for (int k = next(0, end, h_min); k < end; k = next(k + 1, end, h_min)) {
+			double Omega_k = Omega[k];
+			if (i[k] >= i_min && i[k] <= i_max && (isWrapped ? Omega_k >= Omega_min || Omega_k <= Omega_max
+					: Omega_k >= Omega_min && Omega_k <= Omega_max)) {
+				found[nFnd++] = order[k];
+			}
+		}
+		found = Arrays.copyOf(found, nFnd);
+		Arrays.sort(found);
+		return found;
+	}
+
+	/**
+	 * Finds element sets with altitude band intersecting an interval, and
+	 * which may be visible from an Earth station. An orbit reaches
+	 * latitudes no greater than its inclination, or its supplement if
+	 * retrograde, and is visible at apogee, where the coverage is greatest,
+	 * within an Earth central angle of the Earth station determined by the
+	 * angle from zenith.
+	 *
+	 * @param h_min
+	 *            Minimum altitude [km]
+	 * @param h_max
+	 *            Maximum altitude [km]
+	 * @param earthStation
+	 *            Earth station
+	 * @param angleFromZenith
+	 *            Maximum angle between the Earth station zenith and the space
+	 *            station [deg]
+	 * @return Catalog indexes of element sets found, in increasing order
+	 */
+	public int[] findVisible(double h_min, double h_max, EarthStation earthStation, double angleFromZenith) {
+		double[] r_ES = earthStation.get_R_ger().getColumnPackedCopy();
+		double rho = Math.sqrt(r_ES[0] * r_ES[0] + r_ES[1] * r_ES[1] + r_ES[2] * r_ES[2]);
+		double varphi = Math.abs(Math.asin(r_ES[2] / rho));
+		double theta_z = Math.toRadians(angleFromZenith);
+		double sin_theta_z = Math.sin(theta_z);
+
+		int[] found = find(h_min, h_max);
+		int nFnd = 0;
+		for (int iSet : found) {
+			SatelliteCatalog.TwoLineElementSet tle = catalog.get(iSet);
+			double r_a = tle.a * (1 + tle.e);
+			double i_max = Math.min(tle.i, Math.PI - tle.i);
+			double lambda = theta_z - Math.asin(Math.min(1, rho * sin_theta_z / r_a));
+			if (varphi - i_max <= lambda) {
+				found[nFnd++] = iSet;
+			}
+		}
+		return Arrays.copyOf(found, nFnd);
+	}
+
+	/**
+	 * Constructs space stations for element sets, with lazy SGP4 orbits,
+	 * initialized on first propagation in the default pool. Each station is
+	 * identified by the object identification number. The
+	 * antennas and emission are shared by all stations, and each station is
+	 * assigned copies of the beams.
+	 *
+	 * @param iSets
+	 *            Catalog indexes of element sets, such as those found
+	 * @param transmitAntenna
+	 *            Transmit antenna gain, and pattern
+	 * @param receiveAntenna
+	 *            Receive antenna gain, pattern, and noise temperature
+	 * @param emission
+	 *            Signal power, frequency, and requirement
+	 * @param beams
+	 *            Beam array to copy for each station
+	 * @return Space station array
+	 */
+	public SpaceStation[] getSpaceStations(int[] iSets, Antenna transmitAntenna, Antenna receiveAntenna,
+			Emission emission, Beam[] beams) {
+		SpaceStation[] spaceStations = new SpaceStation[iSets.length];
+		for (int iSS = 0; iSS < iSets.length; iSS++) {
+			SatelliteCatalog.TwoLineElementSet tle = catalog.get(iSets[iSS]);
+			Beam[] stationBeams = new Beam[beams.length];
+			for (int iBeam = 0; iBeam < beams.length; iBeam++) {
+				stationBeams[iBeam] = beams[iBeam].copy();
+			}
+			spaceStations[iSS] = new SpaceStation(String.valueOf(tle.objectId), transmitAntenna, receiveAntenna,
+					emission, stationBeams, new LazySgp4Orbit(tle.lineOne, tle.lineTwo));
+		}
+		return spaceStations;
+	}
+
+	/**
+	 * Finds the index of the first perigee altitude above an altitude.
+	 */
+	private int upperBound(double h) {
+		int lo = 0;
+		int hi = h_p.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (h_p[mid] <= h) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Finds the first index, at or after a start and before an end, with
+	 * apogee altitude at or above an altitude, by descending only into
+	 * nodes with maximum apogee altitude at or above the altitude.
+	 *
+	 * @return Index found, or the end
+	 */
+	private int next(int start, int end, double h) {
+		if (start >= end) {
+			return end;
+		}
+
+		// Ascend from the start leaf until a node, or the right sibling of a
+		// node, covering indexes from the start contains an apogee high
+		// enough
+		int j = nLeaf + start;
+		while (h_a_max[j] < h) {
+			while ((j & 1) == 1) {
+				j >>= 1;
+				if (j == 1) {
+					return end;
+				}
+			}
+			j++;
+		}
+
+		// Descend to the leftmost leaf with apogee high enough
+		while (j < nLeaf) {
+			j = h_a_max[2 * j] >= h ? 2 * j : 2 * j + 1;
+		}
+		return Math.min(j - nLeaf, end);
+	}
+}
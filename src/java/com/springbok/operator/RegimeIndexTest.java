@@ -0,0 +1,154 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.operator;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.celestrak.sgp4v.ObjectDecayed;
+import com.celestrak.sgp4v.SatElsetException;
+import com.springbok.antenna.SpaceStationAntenna;
+import com.springbok.pattern.PatternSREC408V01;
+import com.springbok.sgp4v.LazySgp4Orbit;
+import com.springbok.sgp4v.Sgp4Orbit;
+import com.springbok.station.Beam;
+import com.springbok.station.EarthStation;
+import com.springbok.station.Emission;
+import com.springbok.station.SpaceStation;
+import com.springbok.system.System;
+import com.springbok.twobody.Coordinates;
+import com.springbok.twobody.EarthConstants;
+import com.springbok.twobody.KeplerianOrbit;
+import com.springbok.twobody.ModJulianDate;
+
+public class RegimeIndexTest {
+
+	// Epoch date number
+	private final ModJulianDate epoch = new ModJulianDate(58849.0);
+
+	// Element sets with random elements
+	private ArrayList<SatelliteCatalog.TwoLineElementSet> catalog;
+
+	@Before
+	public void setUp() throws Exception {
+
+		Random random = new Random(1);
+		this.catalog = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		for (int iSet = 0; iSet < 2000; iSet++) {
+			double a = 1 + (200 + 40000 * random.nextDouble() * random.nextDouble()) / EarthConstants.R_oplus;
+			double e = Math.min(0.7, random.nextDouble() * random.nextDouble()) * (1 - 1.03 / a);
+			this.catalog.add(new SatelliteCatalog.TwoLineElementSet("", "", iSet + 1, "U", "", this.epoch, 0, 0, 0,
+					0, 1, Math.PI * random.nextDouble(), 2 * Math.PI * random.nextDouble(), e,
+					2 * Math.PI * random.nextDouble(), 2 * Math.PI * random.nextDouble(), 0, a, 0));
+		}
+	}
+
+	@Test
+	// Tests find method against a scan of the catalog.
+	public void test_find() {
+
+		RegimeIndex index = new RegimeIndex(this.catalog);
+		assertEquals(this.catalog.size(), index.size());
+
+		Random random = new Random(2);
+		for (int iTst = 0; iTst < 200; iTst++) {
+			double h_min = 30000 * random.nextDouble();
+			double h_max = h_min + 2000 * random.nextDouble();
+			double i_min = Math.PI * random.nextDouble() / 2;
+			double i_max = i_min + Math.PI * random.nextDouble() / 2;
+			double Omega_min = 2 * Math.PI * random.nextDouble();
+			double Omega_max = 2 * Math.PI * random.nextDouble();
+
+			ArrayList<Integer> expected = new ArrayList<Integer>();
+			for (int iSet = 0; iSet < this.catalog.size(); iSet++) {
+				SatelliteCatalog.TwoLineElementSet tle = this.catalog.get(iSet);
+				double h_p = (tle.a * (1 - tle.e) - 1) * EarthConstants.R_oplus;
+				double h_a = (tle.a * (1 + tle.e) - 1) * EarthConstants.R_oplus;
+				boolean isInOmega = Omega_min <= Omega_max ? tle.Omega >= Omega_min && tle.Omega <= Omega_max
+						: tle.Omega >= Omega_min || tle.Omega <= Omega_max;
+				if (h_p <= h_max && h_a >= h_min && tle.i >= i_min && tle.i <= i_max && isInOmega) {
+					expected.add(iSet);
+				}
+			}
+			int[] actual = index.find(h_min, h_max, i_min, i_max, Omega_min, Omega_max);
+
+			assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual);
+		}
+		assertEquals(this.catalog.size(), index.find(-1000, 1e6).length);
+		assertEquals(0, new RegimeIndex(new ArrayList<SatelliteCatalog.TwoLineElementSet>()).find(0, 1e6).length);
+	}
+
+	@Test
+	// Tests findVisible method by sampling each orbit.
+	public void test_findVisible() {
+
+		RegimeIndex index = new RegimeIndex(this.catalog);
+		EarthStation earthStation = new EarthStation("one", 60 * Math.PI / 180, 20 * Math.PI / 180);
+		double[] r_ES = earthStation.get_R_ger().getColumnPackedCopy();
+
+		int[] found = index.findVisible(0, 2000, earthStation, 80);
+
+		assertTrue(found.length > 0);
+		assertTrue(found.length < index.find(0, 2000).length);
+		for (int iSet : index.find(0, 2000)) {
+			SatelliteCatalog.TwoLineElementSet tle = this.catalog.get(iSet);
+			KeplerianOrbit orbit = new KeplerianOrbit(tle.a, tle.e, tle.i, tle.Omega, tle.omega, tle.M, tle.epoch,
+					"halley");
+			boolean isVisible = false;
+			for (int k = 0; k < 1000 && !isVisible; k++) {
+				ModJulianDate dNm = new ModJulianDate(this.epoch.getAsDouble() + k / 1000.0);
+				double[] r_SS = Coordinates.gei2ger(orbit.r_gei(dNm), dNm).getColumnPackedCopy();
+				isVisible = System.computeAngleFromZenith(r_SS, 0, r_ES, 0) <= 80;
+			}
+			if (isVisible) {
+				assertTrue(Arrays.binarySearch(found, iSet) >= 0);
+			}
+		}
+	}
+
+	@Test
+	// Tests getSpaceStations method.
+	public void test_getSpaceStations() throws ObjectDecayed, SatElsetException {
+
+		ArrayList<SatelliteCatalog.TwoLineElementSet> catalog = new ArrayList<SatelliteCatalog.TwoLineElementSet>();
+		catalog.add(new SatelliteCatalog.TwoLineElementSet(
+				"1 00001U 00001A   00001.50000000  .00000000  00000-0  00000+0 0    00",
+				"2 00001 001.0000 045.0000 0000000 045.0000 045.0000 01.00273791  1002", 1, "U", "00001A",
+				this.epoch, 0, 0, 0, 0, 0, Math.PI / 180, Math.PI / 4, 0, Math.PI / 4, Math.PI / 4, 0,
+				EarthConstants.a_gso, 100));
+		RegimeIndex index = new RegimeIndex(catalog);
+		SpaceStationAntenna antenna = new SpaceStationAntenna("GSO SS Tx", 27, 1, new PatternSREC408V01(6.9));
+		Emission emission = new Emission("1K20G1D--", -73, Double.NaN, 11200, Double.NaN, Double.NaN);
+		Beam[] beams = new Beam[] { new Beam("one", 1, 100) };
+
+		int[] found = index.find(35000, 36000);
+		SpaceStation[] spaceStations = index.getSpaceStations(found, antenna, antenna, emission, beams);
+
+		assertEquals(1, spaceStations.length);
+		assertEquals("1", spaceStations[0].getStationId());
+		assertSame(antenna, spaceStations[0].getTransmitAntenna());
+		assertNotSame(beams[0], spaceStations[0].getBeams()[0]);
+		LazySgp4Orbit orbit = (LazySgp4Orbit) spaceStations[0].getOrbit();
+		assertArrayEquals(new Sgp4Orbit(orbit.get_lineOne(), orbit.get_lineTwo()).r_gei(this.epoch).getColumnPackedCopy(),
+				orbit.r_gei(this.epoch).getColumnPackedCopy(), 0);
+	}
+}
@@ -536,6 +536,24 @@ public class SatelliteCatalog implements Serializable {
 		return true;
 	}
 
+	/**
+	 * Writes binary file containing two line element sets, in the columnar
+	 * format read by BinaryCatalog.
+	 *
+	 * @param catalog
+	 *            Array list containing two line element set parameters
+	 * @param catDir
+	 *            Directory containing catalog file
+	 * @param catFNm
+	 *            File containing the binary catalog
+	 * @throws IOException
+	 */
+	public static boolean writeBinary(ArrayList<TwoLineElementSet> catalog, String catDir, String catFNm)
+			throws IOException {
+		BinaryCatalog.write(catalog, Paths.get(catDir + File.separator + catFNm));
+		return true;
+	}
+
 	/**
 	 * Converts a two digit year to a four digit year.
 	 * 
@@ -0,0 +1,143 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.pattern;
+
+import com.springbok.utility.PatternUtility;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Contains optional gain parameters, validated once on construction, so
+ * that a pattern can be evaluated for many angles without validating,
+ * or allocating, per angle.
+ */
+public class GainOptions {
+
+	/** Options with no entries, other than the DoValidate default */
+	public static final GainOptions DEFAULT = new GainOptions(Collections.EMPTY_MAP);
+
+	/** Validated optional parameters */
+	private final Map<String, Object> options;
+
+	/** Flag to indicate output validation */
+	private final boolean doValidate;
+
+	/** Flag to indicate output validation was specified */
+	private final boolean hasDoValidate;
+
+	/** Flag to indicate a maximum antenna gain was specified */
+	private final boolean hasGainMax;
+
+	/** Maximum antenna gain, if specified [dB] */
+	private final double gainMax;
+
+	/**
+	 * Constructs a GainOptions given optional parameters.
+	 *
+	 * @param options
+	 *            Optional parameters (entered as key/value pairs)
+	 */
+	public GainOptions(Map options) {
+		this.hasDoValidate = options != null && options.containsKey("DoValidate");
+		this.options = Collections.unmodifiableMap(PatternUtility.validateOptions(options));
+		this.doValidate = (boolean) this.options.get("DoValidate");
+		this.hasGainMax = this.options.containsKey("GainMax");
+		this.gainMax = this.hasGainMax ? (double) this.options.get("GainMax") : 0;
+	}
+
+	/**
+	 * Determines if output parameters are to be validated.
+	 *
+	 * @return Flag to indicate output validation
+	 */
+	public boolean doValidate() {
+		return doValidate;
+	}
+
+	/**
+	 * Determines if output parameters are to be validated, given the
+	 * pattern default used when DoValidate was not specified.
+	 *
+	 * @param defaultValue
+	 *            Flag to indicate output validation, if not specified
+	 *
+	 * @return Flag to indicate output validation
+	 */
+	public boolean doValidate(boolean defaultValue) {
+		return hasDoValidate ? doValidate : defaultValue;
+	}
+
+	/**
+	 * Determines if output validation was specified, rather than defaulted.
+	 *
+	 * @return Flag to indicate output validation was specified
+	 */
+	public boolean hasDoValidate() {
+		return hasDoValidate;
+	}
+
+	/**
+	 * Determines if a maximum antenna gain was specified.
+	 *
+	 * @return Flag to indicate a maximum antenna gain was specified
+	 */
+	public boolean hasGainMax() {
+		return hasGainMax;
+	}
+
+	/**
+	 * Gets the maximum antenna gain, or zero, if not specified.
+	 *
+	 * @return Maximum antenna gain [dB]
+	 */
+	public double getGainMax() {
+		return gainMax;
+	}
+
+	/**
+	 * Determines if an optional parameter was specified.
+	 *
+	 * @param key
+	 *            Parameter name
+	 *
+	 * @return Flag to indicate the parameter was specified
+	 */
+	public boolean containsKey(String key) {
+		return options.containsKey(key);
+	}
+
+	/**
+	 * Gets an optional parameter value.
+	 *
+	 * @param key
+	 *            Parameter name
+	 *
+	 * @return Parameter value, or null, if not specified
+	 */
+	public Object get(String key) {
+		return options.get(key);
+	}
+
+	/**
+	 * Gets the validated optional parameters.
+	 *
+	 * @return An unmodifiable map of validated optional parameters
+	 */
+	public Map<String, Object> asMap() {
+		return options;
+	}
+}
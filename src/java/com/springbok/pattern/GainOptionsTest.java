@@ -0,0 +1,67 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.pattern;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests methods of GainOptions class.
+ */
+public class GainOptionsTest {
+
+	/**
+	 * Tests GainOptions method.
+	 */
+	@Test
+	public void test_GainOptions() {
+		GainOptions o_1 = new GainOptions(null);
+
+		assertFalse(o_1.doValidate());
+		assertTrue(o_1.doValidate(true));
+		assertFalse(o_1.hasDoValidate());
+		assertFalse(o_1.hasGainMax());
+		assertEquals(0.0, o_1.getGainMax(), 0.0);
+
+		Map<String, Object> options = new HashMap<String, Object>();
+		options.put("DoValidate", false);
+		options.put("GainMax", 57.0);
+		GainOptions o_2 = new GainOptions(options);
+
+		assertFalse(o_2.doValidate());
+		assertFalse(o_2.doValidate(true));
+		assertTrue(o_2.hasDoValidate());
+		assertTrue(o_2.hasGainMax());
+		assertEquals(57.0, o_2.getGainMax(), 0.0);
+		assertEquals(57.0, (double) o_2.get("GainMax"), 0.0);
+	}
+
+	/**
+	 * Tests GainOptions method with an invalid option.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void test_GainOptions_invalid() {
+		Map<String, Object> options = new HashMap<String, Object>();
+		options.put("DoValidate", 1);
+		new GainOptions(options);
+	}
+}
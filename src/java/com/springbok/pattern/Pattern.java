@@ -35,7 +35,30 @@ public interface Pattern {
 	 *
 	 * @return Co-polar and cross-polar gain [dB]
 	 */
-	public abstract Gain gain(double phi, Map options);
+	public default Gain gain(double phi, Map options) {
+		double[] G = new double[1];
+		double[] Gx = new double[1];
+		gain(new double[] { phi }, 1, G, Gx,
+				options == null || options.isEmpty() ? GainOptions.DEFAULT : new GainOptions(options));
+		return new Gain(G[0], Gx[0]);
+	}
+
+	/**
+	 * Implements an ITU antenna pattern for a batch of angles, without
+	 * allocating per angle.
+	 *
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
+	 * @param options
+	 *            Optional parameters, validated once
+	 */
+	public abstract void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options);
 
 	/**
 	 * Copies a Pattern.
@@ -16,7 +16,6 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 package com.springbok.pattern;
 
 import java.util.Collections;
-import java.util.Map;
 
 import com.springbok.utility.PatternUtility;
 
@@ -75,51 +74,59 @@ public class PatternELUX201V01 implements EarthPattern {
 	 * Transmitting earth station antenna pattern submitted by LUX for analyses
 	 * under Appendix 30A.
 	 *
-	 * @param phi     Angle for which a gain is calculated [degrees]
-	 * @param options Optional parameters (entered as key/value pairs): None
-	 * @return Co-polar and cross-polar gain [dB]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
+	 * @param options
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		phi = Math.max(eps, phi);
-		double G0 = GainMax - 2.5e-3 * (d_over_lambda * phi) * (d_over_lambda * phi);
-		double G2 = 29 - 25 * Math.log10(phi);
-		double G3 = -10;
-
-		double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi & phi < phi_r ? 1 : 0)
-				+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi <= 180 ? 1 : 0);
-
-		double Gx0 = GainMax - 30;
-		double Gx1 = 29 - 25 * Math.log10(phi);
-		double Gx2 = -10;
-		double phi_x = Math.pow(10, ((59 - GainMax) / 25));
-		double Gx = Gx0 * (0 <= phi && phi < phi_x ? 1 : 0) + Gx1 * (phi_x <= phi && phi < phi_b ? 1 : 0)
-				+ Gx2 * (phi_b <= phi && phi <= 180 ? 1 : 0);
-
-		/* Validate low level rules */
-		if (G < Gx) {
-			throw new IllegalStateException("Co-polar curve is less than cross-polar curve.");
-		}
-		if (phi_b < phi_x) {
-			throw new IllegalStateException("Phi_b is less than Phi_x.");
-		}
-		if (phi_r < phi_m) {
-			throw new IllegalStateException("Phi_r is less than Phi_m.");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			phi = Math.max(eps, phi);
+			double G0 = GainMax - 2.5e-3 * (d_over_lambda * phi) * (d_over_lambda * phi);
+			double G2 = 29 - 25 * Math.log10(phi);
+			double G3 = -10;
+
+			double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi & phi < phi_r ? 1 : 0)
+					+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi <= 180 ? 1 : 0);
+
+			double Gx0 = GainMax - 30;
+			double Gx1 = 29 - 25 * Math.log10(phi);
+			double Gx2 = -10;
+			double phi_x = Math.pow(10, ((59 - GainMax) / 25));
+			double Gx = Gx0 * (0 <= phi && phi < phi_x ? 1 : 0) + Gx1 * (phi_x <= phi && phi < phi_b ? 1 : 0)
+					+ Gx2 * (phi_b <= phi && phi <= 180 ? 1 : 0);
+
+			/* Validate low level rules */
+			if (G < Gx) {
+				throw new IllegalStateException("Co-polar curve is less than cross-polar curve.");
+			}
+			if (phi_b < phi_x) {
+				throw new IllegalStateException("Phi_b is less than Phi_x.");
+			}
+			if (phi_r < phi_m) {
+				throw new IllegalStateException("Phi_r is less than Phi_m.");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
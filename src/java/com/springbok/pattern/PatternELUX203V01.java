@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ELUX203V01.
  */
@@ -80,70 +78,78 @@ public class PatternELUX203V01 implements EarthPattern, ReceivePattern {
 	 * Receiving earth station antenna pattern submitted by LUX for individual
 	 * reception for analyses under Appendix 30.
 	 *
-	 * @param Phi     Angle for which a gain is calculated [deg]
-	 * @param options Optional parameters (entered as key/value pairs): None
-	 * @return Co-polar and cross-polar gain [dB]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
+	 * @param options
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double G0 = GainMax - 2.95e-3 * Math.pow(d_over_lambda * phi, 2);
-
-		double G2 = 29 - 25 * Math.log10(phi);
-		double G3 = -5;
-		double G4 = 0;
-
-		double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-				+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi < 70 ? 1 : 0)
-				+ G4 * (70 <= phi && phi <= 180 ? 1 : 0);
-
-		double Gx0 = GainMax - 22;
-
-		double phi_0 = 2 / d_over_lambda * Math.sqrt(3 / 0.00295);
-		double Gx1 = GainMax - 22 + 5 * ((phi - 0.25 * phi_0) / (0.19 * phi_0));
-		double Gx2 = GainMax - 17;
-		double Gx3 = GainMax - 17 - 40 * (phi / phi_0 - 1);
-		double Gx4 = GainMax - 27;
-		double Gx5 = G;
-
-		double phi_1 = 0.25 * phi_0;
-		double phi_2 = 0.44 * phi_0;
-		double phi_3 = 1.25 * phi_0;
-		double phi_x = Math.pow(10, (56 - GainMax) / 25);
-
-		double Gx = Gx0 * (0 <= phi && phi < phi_1 ? 1 : 0) + Gx1 * (phi_1 <= phi && phi < phi_2 ? 1 : 0)
-				+ Gx2 * (phi_2 <= phi && phi < phi_0 ? 1 : 0) + Gx3 * (phi_0 <= phi && phi < phi_3 ? 1 : 0)
-				+ Gx4 * (phi_3 <= phi && phi < phi_x ? 1 : 0) + Gx5 * (phi_x <= phi && phi <= 180 ? 1 : 0);
-
-		/* Validate low level rules */
-		if (phi_x < phi_3) {
-			throw new IllegalStateException("Phi_x is less than Phi_3 [6008: STDC_ERR_ANG2_LT_ANG1]");
-		}
-		if (GainMax < 22) {
-			throw new IllegalStateException(
-					"GainMax is less than 22. Cross-polar pattern does not intersect with co-polar pattern [6004: STDC_ERR_CXCO_NOTINTERS]");
-		}
-		if (GainMax < G1) {
-			throw new IllegalStateException("GainMax is less than G1 [6001: STDC_ERR_GNAX_LT_G1]");
-		}
-		if (phi_r < phi_m) {
-			PatternUtility.logger.warn("Phi_r is less than Phi_m.");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double G0 = GainMax - 2.95e-3 * Math.pow(d_over_lambda * phi, 2);
+
+			double G2 = 29 - 25 * Math.log10(phi);
+			double G3 = -5;
+			double G4 = 0;
+
+			double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+					+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi < 70 ? 1 : 0)
+					+ G4 * (70 <= phi && phi <= 180 ? 1 : 0);
+
+			double Gx0 = GainMax - 22;
+
+			double phi_0 = 2 / d_over_lambda * Math.sqrt(3 / 0.00295);
+			double Gx1 = GainMax - 22 + 5 * ((phi - 0.25 * phi_0) / (0.19 * phi_0));
+			double Gx2 = GainMax - 17;
+			double Gx3 = GainMax - 17 - 40 * (phi / phi_0 - 1);
+			double Gx4 = GainMax - 27;
+			double Gx5 = G;
+
+			double phi_1 = 0.25 * phi_0;
+			double phi_2 = 0.44 * phi_0;
+			double phi_3 = 1.25 * phi_0;
+			double phi_x = Math.pow(10, (56 - GainMax) / 25);
+
+			double Gx = Gx0 * (0 <= phi && phi < phi_1 ? 1 : 0) + Gx1 * (phi_1 <= phi && phi < phi_2 ? 1 : 0)
+					+ Gx2 * (phi_2 <= phi && phi < phi_0 ? 1 : 0) + Gx3 * (phi_0 <= phi && phi < phi_3 ? 1 : 0)
+					+ Gx4 * (phi_3 <= phi && phi < phi_x ? 1 : 0) + Gx5 * (phi_x <= phi && phi <= 180 ? 1 : 0);
+
+			/* Validate low level rules */
+			if (phi_x < phi_3) {
+				throw new IllegalStateException("Phi_x is less than Phi_3 [6008: STDC_ERR_ANG2_LT_ANG1]");
+			}
+			if (GainMax < 22) {
+				throw new IllegalStateException(
+						"GainMax is less than 22. Cross-polar pattern does not intersect with co-polar pattern [6004: STDC_ERR_CXCO_NOTINTERS]");
+			}
+			if (GainMax < G1) {
+				throw new IllegalStateException("GainMax is less than G1 [6001: STDC_ERR_GNAX_LT_G1]");
+			}
+			if (phi_r < phi_m) {
+				PatternUtility.logger.warn("Phi_r is less than Phi_m.");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ELUX204V01.
  */
@@ -143,47 +141,55 @@ public class PatternELUX204V01 implements EarthPattern, TransmitPattern, Receive
 	 * Earth station antenna pattern submitted by LUX for both uplinks and downlinks
 	 * for analyses under Appendix 30B.
 	 *
-	 * @param Phi     Angle for which a gain is calculated [degrees]
-	 * @param options Optional parameters (entered as key/value pairs)
-	 * @return Co-polar gain and coss-polar gain [dB]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
+	 * @param options
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double G0 = GainMax - 2.5e-3 * Math.pow((d_over_lambda * phi), 2);
-
-		double G2 = 29 - 25 * Math.log10(phi);
-		double G3 = 32 - 25 * Math.log10(phi);
-		double G4 = -10;
-
-		double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-				+ G2 * (phi_r <= phi && phi < 20 ? 1 : 0) + G3 * (20 <= phi && phi < phi_b ? 1 : 0)
-				+ G4 * (phi_b <= phi && phi <= 180 ? 1 : 0);
-
-		double Gx = G;
-
-		/* Validate low level rules */
-		if (d_over_lambda < 100) {
-			throw new IllegalStateException("D/lambda is less than 100 [6002: STDC_ERR_DLAMBDA]");
-		}
-		if (GainMax < G1) {
-			throw new IllegalStateException("GainMax is less than G1 [6001: STDC_ERR_GNAX_LT_G1]");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double G0 = GainMax - 2.5e-3 * Math.pow((d_over_lambda * phi), 2);
+
+			double G2 = 29 - 25 * Math.log10(phi);
+			double G3 = 32 - 25 * Math.log10(phi);
+			double G4 = -10;
+
+			double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+					+ G2 * (phi_r <= phi && phi < 20 ? 1 : 0) + G3 * (20 <= phi && phi < phi_b ? 1 : 0)
+					+ G4 * (phi_b <= phi && phi <= 180 ? 1 : 0);
+
+			double Gx = G;
+
+			/* Validate low level rules */
+			if (d_over_lambda < 100) {
+				throw new IllegalStateException("D/lambda is less than 100 [6002: STDC_ERR_DLAMBDA]");
+			}
+			if (GainMax < G1) {
+				throw new IllegalStateException("GainMax is less than G1 [6001: STDC_ERR_GNAX_LT_G1]");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
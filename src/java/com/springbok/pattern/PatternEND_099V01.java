@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern END_099V01.
  */
@@ -69,29 +67,34 @@ public class PatternEND_099V01 implements EarthPattern, TransmitPattern, Receive
 	/**
 	 * Non-directional earth station antenna pattern.
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 *
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		double G = GainMax;
-		double Gx = G;
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			double G = GainMax;
+			double Gx = G;
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ENOR208V01.
  */
@@ -85,48 +83,55 @@ public class PatternENOR208V01 implements EarthPattern, TransmitPattern {
 	/**
 	 * Earth station transmitting antenna pattern for analyses under Appendix 30B
 	 * for the BIFROST terminal type II transmitting antenna.
-*
-	 * @param Phi Angle for which a gain is calculated [degrees]
-* @param options Optional parameters (entered as key/value pairs)
-* 
-	 * @return Co-polar and cross-polar gain [dB]
+	 *
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
+	 * @param options
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
 
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-		
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
 
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
 
-		double phi_over_phi0 = phi / Phi0;
+			double phi_over_phi0 = phi / Phi0;
 
-		double G0 = GainMax;
-		double G1 = GainMax - 12 * Math.pow(phi_over_phi0, 2);
-		double G2 = GainMax - 12.5 - 25 * Math.log10(phi_over_phi0);
+			double G0 = GainMax;
+			double G1 = GainMax - 12 * Math.pow(phi_over_phi0, 2);
+			double G2 = GainMax - 12.5 - 25 * Math.log10(phi_over_phi0);
 
-		double G = G0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 0.25 ? 1 : 0)
-				+ G1 * (0.25 < phi_over_phi0 && phi_over_phi0 <= 1.0363 ? 1 : 0)
-				+ G2 * (1.0363 < phi_over_phi0 ? 1 : 0);
+			double G = G0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 0.25 ? 1 : 0)
+					+ G1 * (0.25 < phi_over_phi0 && phi_over_phi0 <= 1.0363 ? 1 : 0)
+					+ G2 * (1.0363 < phi_over_phi0 ? 1 : 0);
 
-		G = Math.max(GainMax - 42, G);
+			G = Math.max(GainMax - 42, G);
 
-		double Gx = G;
+			double Gx = G;
 
-		/* Validate low level rules */
-		if (Phi0 < 0.1 || Phi0 > 5.0) {
-			PatternUtility.logger.warn("Phi0 is out of limits.");
-		}
+			/* Validate low level rules */
+			if (Phi0 < 0.1 || Phi0 > 5.0) {
+				PatternUtility.logger.warn("Phi0 is out of limits.");
+			}
 
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
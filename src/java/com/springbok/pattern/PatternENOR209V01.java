@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ENOR209V01.
  */
@@ -63,43 +61,48 @@ public class PatternENOR209V01 implements EarthPattern, TransmitPattern {
 	 * Earth station transmitting antenna pattern for analyses under Appendix 30B
 	 * for the BIFROST terminal type I transmitting antenna.
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 * 
-	 * @return Co-polar gain and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
 
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
 
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
 
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
+			double G0 = 50.7 - 42.3 * Math.pow(phi, 2);
+			double G1 = 30.7;
+			double G2 = 29 - 25 * Math.log10(phi);
+			double G3 = -10;
 
-		double G0 = 50.7 - 42.3 * Math.pow(phi, 2);
-		double G1 = 30.7;
-		double G2 = 29 - 25 * Math.log10(phi);
-		double G3 = -10;
+			double G = G0 * (0 <= phi && phi < 0.634 ? 1 : 0) + G1 * (0.634 <= phi && phi < 0.854 ? 1 : 0)
+					+ G2 * (0.854 <= phi && phi < 48 ? 1 : 0) + G3 * (48 <= phi && phi <= 180 ? 1 : 0);
 
-		double G = G0 * (0 <= phi && phi < 0.634 ? 1 : 0) + G1 * (0.634 <= phi && phi < 0.854 ? 1 : 0)
-				+ G2 * (0.854 <= phi && phi < 48 ? 1 : 0) + G3 * (48 <= phi && phi <= 180 ? 1 : 0);
+			double Gx = G;
 
-		double Gx = G;
-
-		/* Validate low level rules */
-		/* None */
+			/* Validate low level rules */
+			/* None */
 
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ENST803V01.
  */
@@ -160,57 +158,62 @@ public class PatternENST803V01 implements EarthPattern, TransmitPattern, Receive
 	 * Appendix 30B (RR-2001), where the side-lobe radiation is represented by the
 	 * expression CoefA - 25 log(phi).
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 *
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double G0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2);
-		double G2, G3;
-
-		if (d_over_lambda >= 100) {
-			G2 = CoefA - 25 * Math.log10(phi);
-			G3 = -10;
-		} else { // d_over_lambda < 100
-			G2 = CoefA + 20 - 10 * Math.log10(d_over_lambda) - 25 * Math.log10(phi);
-			G3 = 10 - 10 * Math.log10(d_over_lambda);
-		}
-
-		double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-				+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi <= 180 ? 1 : 0);
-
-		double Gx = G;
-
-		/* Validate low level rules */
-		if (CoefA < 18 || CoefA > 47) {
-			throw new IllegalStateException("CoefA is out of limits [6014: STDC_ERR_COEFA_LIM]");
-		}
-		if (phi_b < phi_r) {
-			throw new IllegalStateException("phi_b is less than phi_r [6010: STDC_ERR_PHIB_LT_PHIR]");
-		}
-		if (GainMax < G1) {
-			throw new IllegalStateException("GainMax is less than G1 [6001: STDC_ERR_GNAX_LT_G1]");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double G0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2);
+			double G2, G3;
+
+			if (d_over_lambda >= 100) {
+				G2 = CoefA - 25 * Math.log10(phi);
+				G3 = -10;
+			} else { // d_over_lambda < 100
+				G2 = CoefA + 20 - 10 * Math.log10(d_over_lambda) - 25 * Math.log10(phi);
+				G3 = 10 - 10 * Math.log10(d_over_lambda);
+			}
+
+			double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+					+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi <= 180 ? 1 : 0);
+
+			double Gx = G;
+
+			/* Validate low level rules */
+			if (CoefA < 18 || CoefA > 47) {
+				throw new IllegalStateException("CoefA is out of limits [6014: STDC_ERR_COEFA_LIM]");
+			}
+			if (phi_b < phi_r) {
+				throw new IllegalStateException("phi_b is less than phi_r [6010: STDC_ERR_PHIB_LT_PHIR]");
+			}
+			if (GainMax < G1) {
+				throw new IllegalStateException("GainMax is less than G1 [6001: STDC_ERR_GNAX_LT_G1]");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
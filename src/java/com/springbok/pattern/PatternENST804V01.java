@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ENST804V01.
  */
@@ -127,47 +125,52 @@ public class PatternENST804V01 implements EarthPattern, TransmitPattern, Receive
 	 * Non-standard generic earth station antenna pattern described by 2 main
 	 * coefficients: A and B.
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 *
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
 
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
 
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
 
-		double G0 = GainMax;
-		double G1 = Math.max(CoefA - CoefB * Math.log10(phi), -10);
+			double G0 = GainMax;
+			double G1 = Math.max(CoefA - CoefB * Math.log10(phi), -10);
 
-		double G = G0 * (0 <= phi && phi <= phi_r ? 1 : 0) + G1 * (phi_r < phi && phi <= 180 ? 1 : 0);
+			double G = G0 * (0 <= phi && phi <= phi_r ? 1 : 0) + G1 * (phi_r < phi && phi <= 180 ? 1 : 0);
 
-		G = Math.min(GainMax, G);
+			G = Math.min(GainMax, G);
 
-		double Gx = G;
+			double Gx = G;
 
-		/* Validate low level rules */
-		if (CoefB < 10 || CoefB > 50) {
-			throw new IllegalStateException("CoefB is out of limits [6015: STDC_ERR_COEFB]");
-		}
-		if (CoefA < 18 || CoefA > 47) {
-			throw new IllegalStateException("CoefA is out of limits [6014: STDC_ERR_COEFA_LIM]");
-		}
+			/* Validate low level rules */
+			if (CoefB < 10 || CoefB > 50) {
+				throw new IllegalStateException("CoefB is out of limits [6015: STDC_ERR_COEFB]");
+			}
+			if (CoefA < 18 || CoefA > 47) {
+				throw new IllegalStateException("CoefA is out of limits [6014: STDC_ERR_COEFA_LIM]");
+			}
 
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ENST805V01.
  */
@@ -37,7 +35,12 @@ public class PatternENST805V01 implements EarthPattern, TransmitPattern, Receive
 	private double Phi1;
 
 	/* Intermediate gain calculation results */
-	/* None */
+
+	/** Appendix 8 pattern */
+	private PatternERR_001V01 pattern_AP8;
+
+	/** Appendix 8 gain at Phi1 [dB] */
+	private double G_AP8_Phi1;
 
 	/**
 	 * Constructs a PatternENST805V01 given a maximum antenna gain.
@@ -66,7 +69,11 @@ public class PatternENST805V01 implements EarthPattern, TransmitPattern, Receive
 		this.Phi1 = Phi1;
 
 		/* Compute derived properties */
-		/* None */
+		this.pattern_AP8 = new PatternERR_001V01(GainMax);
+		double[] G = new double[1];
+		double[] Gx = new double[1];
+		this.pattern_AP8.gain(new double[] { Phi1 }, 1, G, Gx, GainOptions.DEFAULT);
+		this.G_AP8_Phi1 = G[0];
 	}
 
 	/**
@@ -120,64 +127,71 @@ public class PatternENST805V01 implements EarthPattern, TransmitPattern, Receive
 	 * certain range and the Appendix 8 (RR- 2001) earth station antenna pattern
 	 * onwards.
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 * 
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double G0 = GainMax;
-		double G1 = Math.max(CoefA - CoefB * Math.log10(phi), -10);
-
-		double G_AB_Phi1 = CoefA - CoefB * Math.log10(Phi1);
-		PatternERR_001V01 p = new PatternERR_001V01(GainMax);
-		double G_AP8_Phi1 = p.gain(Phi1, options).G;
-		double G_AP8 = p.gain(phi, options).G;
-
-		double G2;
-		if (G_AP8_Phi1 > G_AB_Phi1) {
-			G2 = Math.min(G_AB_Phi1, G_AP8);
-		} else {
-			G2 = G_AP8;
-		}
-
-		double G = G0 * (0 <= phi && phi < 1 ? 1 : 0) + G1 * (1 <= phi && phi <= Phi1 ? 1 : 0)
-				+ G2 * (Phi1 < phi && phi <= 180 ? 1 : 0);
-
-		G = Math.min(GainMax, G);
-		G = Math.max(-10, G);
-
-		double Gx = G;
-
-		/* Validate low level rules */
-		if (Phi1 < 1 || Phi1 > 99.9) {
-			throw new IllegalStateException("Phi1 is out of limits [6018: STDC_ERR_NSTD_PHI1]");
-		}
-		if (CoefB < 10 || CoefB > 50) {
-			throw new IllegalStateException("CoefB is out of limits [6015: STDC_ERR_COEFB]");
-		}
-		if (CoefA < 18 || CoefA > 47) {
-			throw new IllegalStateException("CoefA is out of limits [6014: STDC_ERR_COEFA_LIM]");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+
+		/* Evaluate the Appendix 8 pattern once for all angles */
+		pattern_AP8.gain(phis, n, Gs, Gxs, options);
+
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double G0 = GainMax;
+			double G1 = Math.max(CoefA - CoefB * Math.log10(phi), -10);
+
+			double G_AB_Phi1 = CoefA - CoefB * Math.log10(Phi1);
+			double G_AP8 = Gs[iPhi];
+
+			double G2;
+			if (G_AP8_Phi1 > G_AB_Phi1) {
+				G2 = Math.min(G_AB_Phi1, G_AP8);
+			} else {
+				G2 = G_AP8;
+			}
+
+			double G = G0 * (0 <= phi && phi < 1 ? 1 : 0) + G1 * (1 <= phi && phi <= Phi1 ? 1 : 0)
+					+ G2 * (Phi1 < phi && phi <= 180 ? 1 : 0);
+
+			G = Math.min(GainMax, G);
+			G = Math.max(-10, G);
+
+			double Gx = G;
+
+			/* Validate low level rules */
+			if (Phi1 < 1 || Phi1 > 99.9) {
+				throw new IllegalStateException("Phi1 is out of limits [6018: STDC_ERR_NSTD_PHI1]");
+			}
+			if (CoefB < 10 || CoefB > 50) {
+				throw new IllegalStateException("CoefB is out of limits [6015: STDC_ERR_COEFB]");
+			}
+			if (CoefA < 18 || CoefA > 47) {
+				throw new IllegalStateException("CoefA is out of limits [6014: STDC_ERR_COEFA_LIM]");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
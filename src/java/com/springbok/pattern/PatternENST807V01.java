@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ENST807V01.
  */
@@ -150,64 +148,69 @@ public class PatternENST807V01 implements EarthPattern, TransmitPattern, Receive
 	 * Non-standard generic earth station antenna pattern described by 4 main
 	 * coefficients: A, B, C, D and angle phi1. Minimum antenna gain (Gmin) is -10
 	 * dB.
-	 * 
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 *
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 * 
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double G0 = GainMax;
-		double G1 = CoefA - CoefB * Math.log10(phi);
-		double G_phi1 = CoefA - CoefB * Math.log10(Phi1);
-		double G2 = Math.max(Math.min(G_phi1, CoefC - CoefD * Math.log10(phi)), -10);
-
-		double G = G0 * (0 <= phi && phi < 1 ? 1 : 0) + G1 * (1 <= phi && phi <= Phi1 ? 1 : 0)
-				+ G2 * (Phi1 < phi && phi <= 180 ? 1 : 0);
-
-		G = Math.min(GainMax, G);
-		G = Math.max(-10, G);
-
-		double Gx = G;
-
-		/* Validate low level rules */
-		if (G < -100 || G > GainMax) {
-			throw new IllegalStateException("Gmin is out of limits [6020: STDC_ERR_GMIN]");
-		}
-		if (Phi1 < 1 || Phi1 > 99.9) {
-			throw new IllegalStateException("Phi1 is out of limits [6018: STDC_ERR_NSTD_PHI1]");
-		}
-		if (CoefD < 10 || CoefD > 50) {
-			throw new IllegalStateException("CoefD is out of limits [6017: STDC_ERR_COEFD]");
-		}
-		if (CoefC < 18 || CoefC > 47) {
-			throw new IllegalStateException("CoefC is out of limits [6016: STDC_ERR_COEFC]");
-		}
-		if (CoefB < 10 || CoefB > 50) {
-			throw new IllegalStateException("CoefB is out of limits [6015: STDC_ERR_COEFB]");
-		}
-		if (CoefA < 18 || CoefA > 47) {
-			throw new IllegalStateException("CoefA is out of limits [6014: STDC_ERR_COEFA_LIM]");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double G0 = GainMax;
+			double G1 = CoefA - CoefB * Math.log10(phi);
+			double G_phi1 = CoefA - CoefB * Math.log10(Phi1);
+			double G2 = Math.max(Math.min(G_phi1, CoefC - CoefD * Math.log10(phi)), -10);
+
+			double G = G0 * (0 <= phi && phi < 1 ? 1 : 0) + G1 * (1 <= phi && phi <= Phi1 ? 1 : 0)
+					+ G2 * (Phi1 < phi && phi <= 180 ? 1 : 0);
+
+			G = Math.min(GainMax, G);
+			G = Math.max(-10, G);
+
+			double Gx = G;
+
+			/* Validate low level rules */
+			if (G < -100 || G > GainMax) {
+				throw new IllegalStateException("Gmin is out of limits [6020: STDC_ERR_GMIN]");
+			}
+			if (Phi1 < 1 || Phi1 > 99.9) {
+				throw new IllegalStateException("Phi1 is out of limits [6018: STDC_ERR_NSTD_PHI1]");
+			}
+			if (CoefD < 10 || CoefD > 50) {
+				throw new IllegalStateException("CoefD is out of limits [6017: STDC_ERR_COEFD]");
+			}
+			if (CoefC < 18 || CoefC > 47) {
+				throw new IllegalStateException("CoefC is out of limits [6016: STDC_ERR_COEFC]");
+			}
+			if (CoefB < 10 || CoefB > 50) {
+				throw new IllegalStateException("CoefB is out of limits [6015: STDC_ERR_COEFB]");
+			}
+			if (CoefA < 18 || CoefA > 47) {
+				throw new IllegalStateException("CoefA is out of limits [6014: STDC_ERR_COEFA_LIM]");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
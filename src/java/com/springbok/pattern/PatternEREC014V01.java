@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern EREC014V01.
  */
@@ -151,68 +149,73 @@ public class PatternEREC014V01 implements EarthPattern, TransmitPattern, Receive
 	 * Recommendation ITU-R S.580-5 reference Earth station antenna pattern for
 	 * antennas installed BEFORE 1995.
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 * 
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double G0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2);
-		double G2;
-		double G3;
-		double G4;
-		double G;
-
-		if (d_over_lambda > 150) {
-			G2 = 29 - 25 * Math.log10(phi);
-			G3 = Math.min(-3.5, 32 - 25 * Math.log10(phi));
-			G4 = -10;
-
-			G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-					+ G2 * (phi_r <= phi && phi <= 19.95 ? 1 : 0) + G3 * (19.95 < phi && phi < phi_b ? 1 : 0)
-					+ G4 * (phi_b <= phi && phi <= 180 ? 1 : 0);
-
-		} else if (50 <= d_over_lambda && d_over_lambda <= 150) {
-			G2 = 32 - 25 * Math.log10(phi);
-			G3 = -10;
-
-			G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-					+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi <= 180 ? 1 : 0);
-		} else {
-			G2 = 52 - 10 * Math.log10(d_over_lambda) - 25 * Math.log10(phi);
-			G3 = 10 - 10 * Math.log10(d_over_lambda);
-
-			G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-					+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi <= 180 ? 1 : 0);
-		}
-		double Gx = G;
-
-		/* Validate low level rules */
-		if (phi_b < phi_r) {
-			throw new IllegalStateException("phi_b is less than phi_r [6010: STDC_ERR_PHIB_LT_PHIR]");
-		}
-		if (GainMax < G1) {
-			throw new IllegalStateException("GainMax is less than G1 [6001: STDC_ERR_GNAX_LT_G1]");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double G0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2);
+			double G2;
+			double G3;
+			double G4;
+			double G;
+
+			if (d_over_lambda > 150) {
+				G2 = 29 - 25 * Math.log10(phi);
+				G3 = Math.min(-3.5, 32 - 25 * Math.log10(phi));
+				G4 = -10;
+
+				G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+						+ G2 * (phi_r <= phi && phi <= 19.95 ? 1 : 0) + G3 * (19.95 < phi && phi < phi_b ? 1 : 0)
+						+ G4 * (phi_b <= phi && phi <= 180 ? 1 : 0);
+
+			} else if (50 <= d_over_lambda && d_over_lambda <= 150) {
+				G2 = 32 - 25 * Math.log10(phi);
+				G3 = -10;
+
+				G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+						+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi <= 180 ? 1 : 0);
+			} else {
+				G2 = 52 - 10 * Math.log10(d_over_lambda) - 25 * Math.log10(phi);
+				G3 = 10 - 10 * Math.log10(d_over_lambda);
+
+				G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+						+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi <= 180 ? 1 : 0);
+			}
+			double Gx = G;
+
+			/* Validate low level rules */
+			if (phi_b < phi_r) {
+				throw new IllegalStateException("phi_b is less than phi_r [6010: STDC_ERR_PHIB_LT_PHIR]");
+			}
+			if (GainMax < G1) {
+				throw new IllegalStateException("GainMax is less than G1 [6001: STDC_ERR_GNAX_LT_G1]");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
@@ -101,4 +101,30 @@ public class PatternEREC015V01Test {
 			assertTrue(TestUtility.isDoublesEquals(Gx_expected_2[i], gains[i].Gx));
 		}
 	}
+
+	/**
+	 * Tests batch gain method.
+	 */
+	@Test
+	public void test_gain_batch() {
+		PatternEREC015V01 p_1 = new PatternEREC015V01(GainMax_input_1, Efficiency_input);
+
+		Map<String, Object> options = new HashMap<String, Object>();
+		options.put("DoValidate", false);
+		GainOptions gainOptions = new GainOptions(options);
+
+		double[] G = new double[Phi_input.length + 1];
+		double[] Gx = new double[Phi_input.length + 1];
+		G[Phi_input.length] = Double.NaN;
+		Gx[Phi_input.length] = Double.NaN;
+
+		p_1.gain(Phi_input, Phi_input.length, G, Gx, gainOptions);
+
+		for (int i = 0; i < Phi_input.length; i++) {
+			assertTrue(TestUtility.isDoublesEquals(G_expected_1[i], G[i]));
+			assertTrue(TestUtility.isDoublesEquals(Gx_expected_1[i], Gx[i]));
+		}
+		assertTrue(Double.isNaN(G[Phi_input.length]));
+		assertTrue(Double.isNaN(Gx[Phi_input.length]));
+	}
 }
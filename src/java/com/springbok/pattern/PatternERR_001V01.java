@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ERR_001V01.
  */
@@ -127,51 +125,56 @@ public class PatternERR_001V01 implements EarthPattern, TransmitPattern, Receive
 	 * Appendix 8 (RR-2001) Earth station antenna pattern. (Former Appendix 28 and
 	 * Appendix 29 antenna pattern.)
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 *
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double G0 = this.GainMax - 2.5e-3 * Math.pow(this.d_over_lambda * phi, 2);
-		double G2, G3;
-		if (this.d_over_lambda >= 100) {
-			G2 = 32 - 25 * Math.log10(phi);
-			G3 = -10;
-		} else {
-			G2 = 52 - 10 * Math.log10(this.d_over_lambda) - 25 * Math.log10(phi);
-			G3 = 10 - 10 * Math.log10(this.d_over_lambda);
-		}
-
-		double G = G0 * (0 <= phi && phi < this.phi_m ? 1 : 0)
-				+ this.G1 * (this.phi_m <= phi && phi < this.phi_r ? 1 : 0)
-				+ G2 * (this.phi_r <= phi && phi < this.phi_b ? 1 : 0) + G3 * (this.phi_b <= phi && phi <= 180 ? 1 : 0);
-
-		double Gx = G;
-
-		/* Validate low level rules */
-		if (this.phi_b < this.phi_r) {
-			PatternUtility.logger.warn("phi_b is less than phi_r.");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double G0 = this.GainMax - 2.5e-3 * Math.pow(this.d_over_lambda * phi, 2);
+			double G2, G3;
+			if (this.d_over_lambda >= 100) {
+				G2 = 32 - 25 * Math.log10(phi);
+				G3 = -10;
+			} else {
+				G2 = 52 - 10 * Math.log10(this.d_over_lambda) - 25 * Math.log10(phi);
+				G3 = 10 - 10 * Math.log10(this.d_over_lambda);
+			}
+
+			double G = G0 * (0 <= phi && phi < this.phi_m ? 1 : 0)
+					+ this.G1 * (this.phi_m <= phi && phi < this.phi_r ? 1 : 0)
+					+ G2 * (this.phi_r <= phi && phi < this.phi_b ? 1 : 0) + G3 * (this.phi_b <= phi && phi <= 180 ? 1 : 0);
+
+			double Gx = G;
+
+			/* Validate low level rules */
+			if (this.phi_b < this.phi_r) {
+				PatternUtility.logger.warn("phi_b is less than phi_r.");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ERR_007V01.
  */
@@ -151,77 +149,82 @@ public class PatternERR_007V01 implements EarthPattern, ReceivePattern {
 	 * Appendix 30 (RR-2003) reference receiving earth station antenna pattern for
 	 * Regions 1 and 3 (WRC-97).
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 * 
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double G0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2);
-		double G2 = 29.0 - 25.0 * Math.log10(phi);
-		double G3 = -5.0;
-		double G4 = 0.0;
-
-		double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-				+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi < 70 ? 1 : 0)
-				+ G4 * (70 <= phi && phi <= 180 ? 1 : 0);
-
-		double Gx0 = GainMax - 25.0;
-
-		double phi_0 = 2.0 / d_over_lambda * Math.sqrt(3 / 0.0025);
-		double Gx1 = GainMax - 25.0 + 8.0 * (phi - 0.25 * phi_0) / (0.19 * phi_0);
-		double Gx2 = GainMax - 17.0;
-
-		double phi_1 = phi_0 / 2.0 * Math.sqrt(10.1875);
-		double S = 21.0 - 25.0 * Math.log10(phi_1) - (GainMax - 17.0);
-		double Gx3 = GainMax - 17.0 + S * Math.abs((phi - phi_0) / (phi_1 - phi_0));
-		double Gx4 = 21.0 - 25.0 * Math.log10(phi);
-		double Gx5 = -5.0;
-		double Gx6 = 0.0;
-
-		double phi_2 = Math.pow(10.0, 26.0 / 25.0);
-
-		double Gx = Gx0 * (0.0 <= phi && phi < 0.25 * phi_0 ? 1 : 0)
-				+ Gx1 * (0.25 * phi_0 <= phi && phi < 0.44 * phi_0 ? 1 : 0)
-				+ Gx2 * (0.44 * phi_0 <= phi && phi < phi_0 ? 1 : 0) + Gx3 * (phi_0 <= phi && phi < phi_1 ? 1 : 0)
-				+ Gx4 * (phi_1 <= phi && phi < phi_2 ? 1 : 0) + Gx5 * (phi_2 <= phi && phi < 70.0 ? 1 : 0)
-				+ Gx6 * (70.0 <= phi && phi <= 180.0 ? 1 : 0);
-
-		/* Validate low level rules */
-		if (0 < S) {
-			throw new IllegalStateException("0 is less than S [6031: STDC_ERR_0_LT_S]");
-		}
-		if (phi_r < phi_m) {
-			throw new IllegalStateException("phi_r is less than phi_m [6009: STDC_ERR_PHIR_LT_PHIM]");
-		}
-		if (phi_2 < phi_1) {
-			throw new IllegalStateException("Phi_2 is less than Phi_1 [6008: STDC_ERR_ANG2_LT_ANG1]");
-		}
-		if (GainMax < G1) {
-			throw new IllegalStateException("GainMax is less than G1 [6001: STDC_ERR_GNAX_LT_G1]");
-		}
-		if (phi_r < phi_m) {
-			PatternUtility.logger.warn("phi_r is less than phi_m.");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double G0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2);
+			double G2 = 29.0 - 25.0 * Math.log10(phi);
+			double G3 = -5.0;
+			double G4 = 0.0;
+
+			double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+					+ G2 * (phi_r <= phi && phi < phi_b ? 1 : 0) + G3 * (phi_b <= phi && phi < 70 ? 1 : 0)
+					+ G4 * (70 <= phi && phi <= 180 ? 1 : 0);
+
+			double Gx0 = GainMax - 25.0;
+
+			double phi_0 = 2.0 / d_over_lambda * Math.sqrt(3 / 0.0025);
+			double Gx1 = GainMax - 25.0 + 8.0 * (phi - 0.25 * phi_0) / (0.19 * phi_0);
+			double Gx2 = GainMax - 17.0;
+
+			double phi_1 = phi_0 / 2.0 * Math.sqrt(10.1875);
+			double S = 21.0 - 25.0 * Math.log10(phi_1) - (GainMax - 17.0);
+			double Gx3 = GainMax - 17.0 + S * Math.abs((phi - phi_0) / (phi_1 - phi_0));
+			double Gx4 = 21.0 - 25.0 * Math.log10(phi);
+			double Gx5 = -5.0;
+			double Gx6 = 0.0;
+
+			double phi_2 = Math.pow(10.0, 26.0 / 25.0);
+
+			double Gx = Gx0 * (0.0 <= phi && phi < 0.25 * phi_0 ? 1 : 0)
+					+ Gx1 * (0.25 * phi_0 <= phi && phi < 0.44 * phi_0 ? 1 : 0)
+					+ Gx2 * (0.44 * phi_0 <= phi && phi < phi_0 ? 1 : 0) + Gx3 * (phi_0 <= phi && phi < phi_1 ? 1 : 0)
+					+ Gx4 * (phi_1 <= phi && phi < phi_2 ? 1 : 0) + Gx5 * (phi_2 <= phi && phi < 70.0 ? 1 : 0)
+					+ Gx6 * (70.0 <= phi && phi <= 180.0 ? 1 : 0);
+
+			/* Validate low level rules */
+			if (0 < S) {
+				throw new IllegalStateException("0 is less than S [6031: STDC_ERR_0_LT_S]");
+			}
+			if (phi_r < phi_m) {
+				throw new IllegalStateException("phi_r is less than phi_m [6009: STDC_ERR_PHIR_LT_PHIM]");
+			}
+			if (phi_2 < phi_1) {
+				throw new IllegalStateException("Phi_2 is less than Phi_1 [6008: STDC_ERR_ANG2_LT_ANG1]");
+			}
+			if (GainMax < G1) {
+				throw new IllegalStateException("GainMax is less than G1 [6001: STDC_ERR_GNAX_LT_G1]");
+			}
+			if (phi_r < phi_m) {
+				PatternUtility.logger.warn("phi_r is less than phi_m.");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
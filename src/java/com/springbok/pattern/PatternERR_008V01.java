@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ERR_008V01.
  */
@@ -86,70 +84,74 @@ public class PatternERR_008V01 implements EarthPattern, ReceivePattern {
 	 * Appendix 30 (RR-2001) reference receiving earth station antenna pattern for
 	 * Region 2 for individual reception.
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 *
-	 * @param Co-polar
-	 *            and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-		double phi_over_phi0 = phi / Phi0;
-
-		double G0 = GainMax;
-		double G1 = GainMax - 12.0 * Math.pow(phi_over_phi0, 2);
-		double G2 = GainMax - 14.0 - 25.0 * Math.log10(phi_over_phi0);
-		double G3 = GainMax - 43.2;
-		double G4 = GainMax - 85.2 + 27.2 * Math.log10(phi_over_phi0);
-		double G5 = GainMax - 40.2;
-		double G6 = GainMax + 55.2 - 51.7 * Math.log10(phi_over_phi0);
-		double G7 = GainMax - 43.2;
-
-		double G = G0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 0.25 ? 1 : 0)
-				+ G1 * (0.25 < phi_over_phi0 && phi_over_phi0 <= 1.13 ? 1 : 0)
-				+ G2 * (1.13 < phi_over_phi0 && phi_over_phi0 <= 14.7 ? 1 : 0)
-				+ G3 * (14.7 < phi_over_phi0 && phi_over_phi0 <= 35 ? 1 : 0)
-				+ G4 * (35 < phi_over_phi0 && phi_over_phi0 <= 45.1 ? 1 : 0)
-				+ G5 * (45.1 < phi_over_phi0 && phi_over_phi0 <= 70 ? 1 : 0)
-				+ G6 * (70 < phi_over_phi0 && phi_over_phi0 <= 80 ? 1 : 0) + G7 * (80 < phi_over_phi0 ? 1 : 0);
-
-		double Gx0 = GainMax - 25.0;
-
-		double phix = Math.max(eps, Math.abs(phi_over_phi0 - 1.0));
-
-		double Gx1 = GainMax - 30.0 - 40.0 * Math.log10(phix);
-		double Gx2 = GainMax - 20.0;
-		double Gx3 = GainMax - 17.3 - 25.0 * Math.log10(Math.abs(phi_over_phi0));
-		double Gx4 = GainMax - 30.0;
-
-		double Gx = Gx0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 0.25 ? 1 : 0)
-				+ Gx1 * (0.25 < phi_over_phi0 && phi_over_phi0 <= 0.44 ? 1 : 0)
-				+ Gx2 * (0.44 < phi_over_phi0 && phi_over_phi0 <= 1.28 ? 1 : 0)
-				+ Gx3 * (1.28 < phi_over_phi0 && phi_over_phi0 <= 3.22 ? 1 : 0) + Gx4 * (3.22 < phi_over_phi0 ? 1 : 0);
-
-		Gx = Math.min(Gx, G);
-
-		/* Validate low level rules */
-		if (Phi0 < 0.1 || Phi0 > 5.0) {
-			PatternUtility.logger.warn("Phi0 is out of limits.");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+			double phi_over_phi0 = phi / Phi0;
+
+			double G0 = GainMax;
+			double G1 = GainMax - 12.0 * Math.pow(phi_over_phi0, 2);
+			double G2 = GainMax - 14.0 - 25.0 * Math.log10(phi_over_phi0);
+			double G3 = GainMax - 43.2;
+			double G4 = GainMax - 85.2 + 27.2 * Math.log10(phi_over_phi0);
+			double G5 = GainMax - 40.2;
+			double G6 = GainMax + 55.2 - 51.7 * Math.log10(phi_over_phi0);
+			double G7 = GainMax - 43.2;
+
+			double G = G0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 0.25 ? 1 : 0)
+					+ G1 * (0.25 < phi_over_phi0 && phi_over_phi0 <= 1.13 ? 1 : 0)
+					+ G2 * (1.13 < phi_over_phi0 && phi_over_phi0 <= 14.7 ? 1 : 0)
+					+ G3 * (14.7 < phi_over_phi0 && phi_over_phi0 <= 35 ? 1 : 0)
+					+ G4 * (35 < phi_over_phi0 && phi_over_phi0 <= 45.1 ? 1 : 0)
+					+ G5 * (45.1 < phi_over_phi0 && phi_over_phi0 <= 70 ? 1 : 0)
+					+ G6 * (70 < phi_over_phi0 && phi_over_phi0 <= 80 ? 1 : 0) + G7 * (80 < phi_over_phi0 ? 1 : 0);
+
+			double Gx0 = GainMax - 25.0;
+
+			double phix = Math.max(eps, Math.abs(phi_over_phi0 - 1.0));
+
+			double Gx1 = GainMax - 30.0 - 40.0 * Math.log10(phix);
+			double Gx2 = GainMax - 20.0;
+			double Gx3 = GainMax - 17.3 - 25.0 * Math.log10(Math.abs(phi_over_phi0));
+			double Gx4 = GainMax - 30.0;
+
+			double Gx = Gx0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 0.25 ? 1 : 0)
+					+ Gx1 * (0.25 < phi_over_phi0 && phi_over_phi0 <= 0.44 ? 1 : 0)
+					+ Gx2 * (0.44 < phi_over_phi0 && phi_over_phi0 <= 1.28 ? 1 : 0)
+					+ Gx3 * (1.28 < phi_over_phi0 && phi_over_phi0 <= 3.22 ? 1 : 0) + Gx4 * (3.22 < phi_over_phi0 ? 1 : 0);
+
+			Gx = Math.min(Gx, G);
+
+			/* Validate low level rules */
+			if (Phi0 < 0.1 || Phi0 > 5.0) {
+				PatternUtility.logger.warn("Phi0 is out of limits.");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
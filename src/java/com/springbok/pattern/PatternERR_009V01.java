@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ERR_009V01.
  */
@@ -67,41 +65,46 @@ public class PatternERR_009V01 implements EarthPattern, TransmitPattern {
 	 * Appendix 30A (RR-2001) reference transmitting earth station antenna pattern
 	 * for Regions 1 and 3 (WARC Orb-88).
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 * 
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-		double G0 = GainMax;
-		double G1 = GainMax - 21.0 - 20.0 * Math.log10(phi);
-		double G2 = GainMax - 5.7 - 53.2 * Math.pow(phi, 2);
-		double G3 = GainMax - 25.0 - 25.0 * Math.log10(phi);
-		double G4 = GainMax - 67.0;
-
-		double G = G0 * (0 <= phi && phi <= 0.1 ? 1 : 0) + G1 * (0.1 < phi && phi <= 0.32 ? 1 : 0)
-				+ G2 * (0.32 < phi && phi <= 0.44 ? 1 : 0) + G3 * (0.44 < phi && phi <= 48 ? 1 : 0)
-				+ G4 * (48 < phi && phi <= 180 ? 1 : 0);
-
-		double Gx = Math.min(GainMax - 30, G);
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+			double G0 = GainMax;
+			double G1 = GainMax - 21.0 - 20.0 * Math.log10(phi);
+			double G2 = GainMax - 5.7 - 53.2 * Math.pow(phi, 2);
+			double G3 = GainMax - 25.0 - 25.0 * Math.log10(phi);
+			double G4 = GainMax - 67.0;
+
+			double G = G0 * (0 <= phi && phi <= 0.1 ? 1 : 0) + G1 * (0.1 < phi && phi <= 0.32 ? 1 : 0)
+					+ G2 * (0.32 < phi && phi <= 0.44 ? 1 : 0) + G3 * (0.44 < phi && phi <= 48 ? 1 : 0)
+					+ G4 * (48 < phi && phi <= 180 ? 1 : 0);
+
+			double Gx = Math.min(GainMax - 30, G);
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
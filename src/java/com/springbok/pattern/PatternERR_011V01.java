@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ERR_011V01.
  */
@@ -84,57 +82,64 @@ public class PatternERR_011V01 implements EarthPattern, TransmitPattern {
 	 * Appendix 30A (RR-2003) reference transmitting earth station antenna pattern
 	 * for Region 2.
 	 *
-	 * @param Phi Angle for which a gain is calculated [degrees]
-	 * @param options Optional parameters (entered as key/value pairs)
-	 * 
-	 * @return Co-polar and cross-polar gain [dB
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
+	 * @param options
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-		double G0 = GainMax;
-		double G1 = 36.0 - 20.0 * Math.log10(phi);
-		double G2 = 51.3 - 53.2 * Math.pow(phi, 2);
-		double G3 = Math.max(29.0 - 25.0 * Math.log10(phi), -10.0);
-
-		double G = G0 * (0 <= phi && phi < 0.1 ? 1 : 0)
-				+ G1 * (0.1 <= phi && phi < 0.32 ? 1 : 0)
-				+ G2 * (0.32 <= phi && phi < 0.54 ? 1 : 0)
-				+ G3 * (0.54 <= phi && phi <= 180 ? 1 : 0);
-
-		G = Math.min(GainMax, G);
-
-		double Gx0 = GainMax - 30;
-		double Gx1 = Math.max(9.0 - 20.0 * Math.log10(phi), -10.0);
-
-		double phi_x = 0.6 / Diameter;
-
-		double Gx = Gx0 * (0 <= phi && phi < phi_x ? 1 : 0)
-				+ Gx1 * (phi_x <= phi && phi <= 180 ? 1 : 0);
-
-		Gx = Math.min(GainMax - 30, Gx);
-
-		/* Validate low level rules */
-		if (G < Gx) {
-			throw new IllegalStateException("Co-polar curve is less than cross-polar curve [6013: STDC_ERR_CO_LT_CX]");
-		}
-		if (Diameter < 2.5) {
-			throw new IllegalStateException("Diameter is less that 2.5 [6007: STDC_ERR_Diameter]");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+			double G0 = GainMax;
+			double G1 = 36.0 - 20.0 * Math.log10(phi);
+			double G2 = 51.3 - 53.2 * Math.pow(phi, 2);
+			double G3 = Math.max(29.0 - 25.0 * Math.log10(phi), -10.0);
+
+			double G = G0 * (0 <= phi && phi < 0.1 ? 1 : 0)
+					+ G1 * (0.1 <= phi && phi < 0.32 ? 1 : 0)
+					+ G2 * (0.32 <= phi && phi < 0.54 ? 1 : 0)
+					+ G3 * (0.54 <= phi && phi <= 180 ? 1 : 0);
+
+			G = Math.min(GainMax, G);
+
+			double Gx0 = GainMax - 30;
+			double Gx1 = Math.max(9.0 - 20.0 * Math.log10(phi), -10.0);
+
+			double phi_x = 0.6 / Diameter;
+
+			double Gx = Gx0 * (0 <= phi && phi < phi_x ? 1 : 0)
+					+ Gx1 * (phi_x <= phi && phi <= 180 ? 1 : 0);
+
+			Gx = Math.min(GainMax - 30, Gx);
+
+			/* Validate low level rules */
+			if (G < Gx) {
+				throw new IllegalStateException("Co-polar curve is less than cross-polar curve [6013: STDC_ERR_CO_LT_CX]");
+			}
+			if (Diameter < 2.5) {
+				throw new IllegalStateException("Diameter is less that 2.5 [6007: STDC_ERR_Diameter]");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
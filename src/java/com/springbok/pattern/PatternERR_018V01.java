@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ERR_018V01.
  */
@@ -69,47 +67,52 @@ public class PatternERR_018V01 implements EarthPattern, ReceivePattern {
 	 * Appendix 30 (RR-2003) reference receiving earth station antenna pattern for
 	 * Region 2 for analogue BSS assignments.
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 * 
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
 
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
 
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
 
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
+			double Phi0 = 1.7;
+			double phi_over_phi0 = phi / Phi0;
 
-		double Phi0 = 1.7;
-		double phi_over_phi0 = phi / Phi0;
+			double G0 = GainMax;
+			double G1 = GainMax - 12.0 * Math.pow(phi_over_phi0, 2);
+			double G2 = GainMax - 14.0 - 25.0 * Math.log10(phi_over_phi0);
+			double G3 = GainMax - 43.2;
 
-		double G0 = GainMax;
-		double G1 = GainMax - 12.0 * Math.pow(phi_over_phi0, 2);
-		double G2 = GainMax - 14.0 - 25.0 * Math.log10(phi_over_phi0);
-		double G3 = GainMax - 43.2;
+			double G = G0 * (0.0 <= phi_over_phi0 && phi_over_phi0 <= 0.25 ? 1 : 0)
+					+ G1 * (0.25 < phi_over_phi0 && phi_over_phi0 <= 1.13 ? 1 : 0)
+					+ G2 * (1.13 < phi_over_phi0 && phi_over_phi0 <= 14.7 ? 1 : 0) + G3 * (14.7 < phi_over_phi0 ? 1 : 0);
 
-		double G = G0 * (0.0 <= phi_over_phi0 && phi_over_phi0 <= 0.25 ? 1 : 0)
-				+ G1 * (0.25 < phi_over_phi0 && phi_over_phi0 <= 1.13 ? 1 : 0)
-				+ G2 * (1.13 < phi_over_phi0 && phi_over_phi0 <= 14.7 ? 1 : 0) + G3 * (14.7 < phi_over_phi0 ? 1 : 0);
+			double Gx = G;
 
-		double Gx = G;
-
-		/* Validate low level rules */
-		/* None */
+			/* Validate low level rules */
+			/* None */
 
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
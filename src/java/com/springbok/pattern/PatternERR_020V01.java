@@ -18,8 +18,6 @@ package com.springbok.pattern;
 import com.springbok.utility.PatternUtility;
 import com.springbok.utility.SException;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern ERR_020V01.
  */
@@ -169,74 +167,79 @@ public class PatternERR_020V01 implements EarthPattern, ReceivePattern {
 	 * Recommendation ITU-R S.1428-1 reference receiving earth station antenna
 	 * pattern.
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 *
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double G0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2);
-		double G2;
-		double G3;
-		double G4;
-		double G5;
-		double G6;
-		double G = 0.0;
-
-		if (d_over_lambda > 100.0) {
-			G2 = 29.0 - 25.0 * Math.log10(phi);
-			G3 = 34.0 - 30.0 * Math.log10(phi);
-			G4 = -12.0;
-			G5 = -7.0;
-			G6 = -12.0;
-
-			G = G0 * (0.0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-					+ G2 * (phi_r <= phi && phi < 10.0 ? 1 : 0) + G3 * (10.0 <= phi && phi < phi_b ? 1 : 0)
-					+ G4 * (phi_b <= phi && phi < 80.0 ? 1 : 0) + G5 * (80.0 <= phi && phi < 120.0 ? 1 : 0)
-					+ G6 * (120.0 <= phi && phi <= 180.0 ? 1 : 0);
-		} else if (25 < d_over_lambda && d_over_lambda <= 100.0) {
-			G2 = 29.0 - 25.0 * Math.log10(phi);
-			G3 = -9.0;
-			G4 = -4.0;
-			G5 = -9.0;
-
-			G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-					+ G2 * (phi_r <= phi && phi <= phi_b ? 1 : 0) + G3 * (phi_b < phi && phi <= 80.0 ? 1 : 0)
-					+ G4 * (80.0 < phi && phi <= 120.0 ? 1 : 0) + G5 * (120.0 < phi && phi <= 180.0 ? 1 : 0);
-		} else if (20.0 <= d_over_lambda && d_over_lambda <= 25.0) {
-			G2 = 29.0 - 25.0 * Math.log10(phi);
-			G3 = -9.0;
-			G4 = -5.0;
-
-			G = G0 * (0.0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-					+ G2 * (phi_r <= phi && phi <= phi_b ? 1 : 0) + G3 * (phi_b < phi && phi <= 80.0 ? 1 : 0)
-					+ G4 * (80.0 < phi && phi <= 180.0 ? 1 : 0);
-		}
-		double Gx = G;
-
-		/* Validate low level rules */
-		if (d_over_lambda < 20.0) {
-			throw new IllegalStateException("D/lambda is less than 20 [6002: STDC_ERR_DLAMBDA]");
-		}
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double G0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2);
+			double G2;
+			double G3;
+			double G4;
+			double G5;
+			double G6;
+			double G = 0.0;
+
+			if (d_over_lambda > 100.0) {
+				G2 = 29.0 - 25.0 * Math.log10(phi);
+				G3 = 34.0 - 30.0 * Math.log10(phi);
+				G4 = -12.0;
+				G5 = -7.0;
+				G6 = -12.0;
+
+				G = G0 * (0.0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+						+ G2 * (phi_r <= phi && phi < 10.0 ? 1 : 0) + G3 * (10.0 <= phi && phi < phi_b ? 1 : 0)
+						+ G4 * (phi_b <= phi && phi < 80.0 ? 1 : 0) + G5 * (80.0 <= phi && phi < 120.0 ? 1 : 0)
+						+ G6 * (120.0 <= phi && phi <= 180.0 ? 1 : 0);
+			} else if (25 < d_over_lambda && d_over_lambda <= 100.0) {
+				G2 = 29.0 - 25.0 * Math.log10(phi);
+				G3 = -9.0;
+				G4 = -4.0;
+				G5 = -9.0;
+
+				G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+						+ G2 * (phi_r <= phi && phi <= phi_b ? 1 : 0) + G3 * (phi_b < phi && phi <= 80.0 ? 1 : 0)
+						+ G4 * (80.0 < phi && phi <= 120.0 ? 1 : 0) + G5 * (120.0 < phi && phi <= 180.0 ? 1 : 0);
+			} else if (20.0 <= d_over_lambda && d_over_lambda <= 25.0) {
+				G2 = 29.0 - 25.0 * Math.log10(phi);
+				G3 = -9.0;
+				G4 = -5.0;
+
+				G = G0 * (0.0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+						+ G2 * (phi_r <= phi && phi <= phi_b ? 1 : 0) + G3 * (phi_b < phi && phi <= 80.0 ? 1 : 0)
+						+ G4 * (80.0 < phi && phi <= 180.0 ? 1 : 0);
+			}
+			double Gx = G;
+
+			/* Validate low level rules */
+			if (d_over_lambda < 20.0) {
+				throw new IllegalStateException("D/lambda is less than 20 [6002: STDC_ERR_DLAMBDA]");
+			}
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern EUSA211V01.
  */
@@ -120,53 +118,58 @@ public class PatternEUSA211V01 implements EarthPattern, TransmitPattern {
 	 * Earth station transmitting antenna pattern for analyses under Appendix 30A
 	 * for USABSS-14 and USABSS-15 networks.
 	 *
-	 * @param Phi
-	 *            Angle for which a gain is calculated [degrees]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
 	 * @param options
-	 *            Optional parameters (entered as key/value pairs)
-	 *
-	 * @return Co-polar and cross-polar gain [dB]
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double G0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2);
-
-		double G2 = 29.0 - 25.0 * Math.log10(phi);
-		double G3 = 7.9;
-		double G4 = Math.max(32.0 - 25.0 * Math.log10(phi), -10.0);
-
-		double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
-				+ G2 * (phi_r <= phi && phi < 7 ? 1 : 0) + G3 * (7 <= phi && phi < 9 ? 1 : 0)
-				+ G4 * (9 <= phi && phi <= 180 ? 1 : 0);
-
-		double Gx0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2) - 30.0;
-		double Gx1 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2) - 20.0;
-		double Gx2 = G1 - 20.0;
-		double Gx3 = 19.0 - 25.0 * Math.log10(phi);
-		double Gx4 = Math.min(-2.0, G);
-
-		double Gx = Gx0 * (0.0 <= phi && phi < phi_m / 2 ? 1 : 0) + Gx1 * (phi_m / 2.0 <= phi && phi < phi_m ? 1 : 0)
-				+ Gx2 * (phi_m <= phi && phi < phi_r ? 1 : 0) + Gx3 * (phi_r <= phi && phi < 6.92 ? 1 : 0)
-				+ Gx4 * (6.92 <= phi && phi <= 180.0 ? 1 : 0);
-
-		/* Validate low level rules */
-		/* None */
-
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double G0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2);
+
+			double G2 = 29.0 - 25.0 * Math.log10(phi);
+			double G3 = 7.9;
+			double G4 = Math.max(32.0 - 25.0 * Math.log10(phi), -10.0);
+
+			double G = G0 * (0 <= phi && phi < phi_m ? 1 : 0) + G1 * (phi_m <= phi && phi < phi_r ? 1 : 0)
+					+ G2 * (phi_r <= phi && phi < 7 ? 1 : 0) + G3 * (7 <= phi && phi < 9 ? 1 : 0)
+					+ G4 * (9 <= phi && phi <= 180 ? 1 : 0);
+
+			double Gx0 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2) - 30.0;
+			double Gx1 = GainMax - 2.5e-3 * Math.pow(d_over_lambda * phi, 2) - 20.0;
+			double Gx2 = G1 - 20.0;
+			double Gx3 = 19.0 - 25.0 * Math.log10(phi);
+			double Gx4 = Math.min(-2.0, G);
+
+			double Gx = Gx0 * (0.0 <= phi && phi < phi_m / 2 ? 1 : 0) + Gx1 * (phi_m / 2.0 <= phi && phi < phi_m ? 1 : 0)
+					+ Gx2 * (phi_m <= phi && phi < phi_r ? 1 : 0) + Gx3 * (phi_r <= phi && phi < 6.92 ? 1 : 0)
+					+ Gx4 * (6.92 <= phi && phi <= 180.0 ? 1 : 0);
+
+			/* Validate low level rules */
+			/* None */
+
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
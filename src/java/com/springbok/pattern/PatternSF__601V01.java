@@ -17,10 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-
 public class PatternSF__601V01 implements SpacePattern {
 
 	private double GainMax;
@@ -31,64 +27,47 @@ public class PatternSF__601V01 implements SpacePattern {
 		this.Phi0 = Phi0;
 	}
 
-	public Gain gain(double phi, Map options) {
-		PatternUtility.validate_input("Phi", phi);
-		Map<String, Object> input = new HashMap<>();
-		for (Object entry : options.entrySet()) {
-			Map.Entry e = (Map.Entry) entry;
-			Object key = e.getKey();
-			String strKey;
-			if (key instanceof String) {
-				strKey = (String) key;
-			} else {
-				throw new IllegalArgumentException("Options keys must be String");
-			}
-			Object value = e.getValue();
-			input = PatternUtility.validate_input(strKey, value, input);
-		}
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		boolean absolute_pattern = options.hasGainMax();
+		double GainMax = options.getGainMax();
+		boolean DoValidate = options.doValidate(true);
 
-		boolean absolute_pattern;
-		boolean DoValidate = true;
-		if (input.containsKey("GainMax")) {
-			this.GainMax = (Double) input.get("GainMax");
-			absolute_pattern = true;
-		} else {
-			this.GainMax = 0;
-			absolute_pattern = false;
-		}
-		if (input.containsKey("DoValidate")) {
-			DoValidate = (boolean) input.get("DoValidate");
-		}
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double phi = phis[iPhi];
 
-		double eps = Math.ulp(1.0);
-		phi = Math.max(eps, phi);
+			PatternUtility.validate_phi(phi);
 
-		double phi_over_phi0 = phi / this.Phi0;
-		double Beamlet = 0.8;
+			double eps = Math.ulp(1.0);
+			phi = Math.max(eps, phi);
 
-		double G0 = this.GainMax - 12 * Math.pow(phi_over_phi0, 2);
+			double phi_over_phi0 = phi / this.Phi0;
+			double Beamlet = 0.8;
 
-		double x = 0.5 * (1 - Beamlet / this.Phi0);
-		double phi1 = 1.45 / this.Phi0 * Beamlet + x;
-		double G1 = this.GainMax - 12 * Math.pow((phi_over_phi0 - x) / (Beamlet / this.Phi0), 2);
+			double G0 = GainMax - 12 * Math.pow(phi_over_phi0, 2);
 
-		double G2 = this.GainMax - 25.23 + 40 * Math.log10(phi1) - 40 * Math.log10(phi_over_phi0);
+			double x = 0.5 * (1 - Beamlet / this.Phi0);
+			double phi1 = 1.45 / this.Phi0 * Beamlet + x;
+			double G1 = GainMax - 12 * Math.pow((phi_over_phi0 - x) / (Beamlet / this.Phi0), 2);
 
-		double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= 0.5 ? 1 : 0)
-				+ G1 * (0.5 < phi_over_phi0 & phi_over_phi0 <= phi1 ? 1 : 0) + G2 * (phi1 < phi_over_phi0 ? 1 : 0);
+			double G2 = GainMax - 25.23 + 40 * Math.log10(phi1) - 40 * Math.log10(phi_over_phi0);
 
-		double Gx = Math.min(this.GainMax - 30, G);
+			double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= 0.5 ? 1 : 0)
+					+ G1 * (0.5 < phi_over_phi0 & phi_over_phi0 <= phi1 ? 1 : 0) + G2 * (phi1 < phi_over_phi0 ? 1 : 0);
 
-		if (absolute_pattern) {
-			G = Math.max(0, G);
-			Gx = Math.max(0, Gx);
-		}
+			double Gx = Math.min(GainMax - 30, G);
 
-		if (DoValidate) {
-			PatternUtility.validate_output(G, Gx, GainMax);
-		}
+			if (absolute_pattern) {
+				G = Math.max(0, G);
+				Gx = Math.max(0, Gx);
+			}
 
-		return new Gain(G, Gx);
+			if (DoValidate) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
+		}
 	}
 
 	@Override
@@ -17,58 +17,38 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class PatternSND_499V01 implements Pattern {
 
 	private double GainMax;
 
-	public Gain gain(double phi, Map options) {
-		PatternUtility.validate_input("Phi", phi);
-		Map<String, Object> input = new HashMap<>();
-		for (Object entry : options.entrySet()) {
-			Map.Entry e = (Map.Entry) entry;
-			Object key = e.getKey();
-			String strKey;
-			if (key instanceof String) {
-				strKey = (String) key;
-			} else {
-				throw new IllegalArgumentException("Options keys must be String");
-			}
-			Object value = e.getValue();
-			input = PatternUtility.validate_input(strKey, value, input);
-		}
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		boolean absolute_pattern = options.hasGainMax();
+		double GainMax = options.getGainMax();
+		boolean DoValidate = options.doValidate(true);
 
-		boolean absolute_pattern;
-		boolean DoValidate = true;
-		if (input.containsKey("GainMax")) {
-			this.GainMax = (Double) input.get("GainMax");
-			absolute_pattern = true;
-		} else {
-			this.GainMax = 0;
-			absolute_pattern = false;
-		}
-		if (input.containsKey("DoValidate")) {
-			DoValidate = (boolean) input.get("DoValidate");
-		}
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double phi = phis[iPhi];
 
-		// double eps = Math.ulp(1.0);
-		// phi = Math.max(eps, phi);
+			PatternUtility.validate_phi(phi);
 
-		double G = GainMax;
-		double Gx = G;
+			// double eps = Math.ulp(1.0);
+			// phi = Math.max(eps, phi);
 
-		if (absolute_pattern) {
-			G = Math.max(0, G);
-			Gx = Math.max(0, Gx);
-		}
+			double G = GainMax;
+			double Gx = G;
 
-		if (DoValidate) {
-			PatternUtility.validate_output(G, Gx, GainMax);
-		}
+			if (absolute_pattern) {
+				G = Math.max(0, G);
+				Gx = Math.max(0, Gx);
+			}
 
-		return new Gain(G, Gx);
+			if (DoValidate) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
+		}
 	}
 
 	@Override
@@ -17,9 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class PatternSNOR605V01 implements Pattern {
 	private double GainMax;
 	private double Phi0;
@@ -31,51 +28,40 @@ public class PatternSNOR605V01 implements Pattern {
 		this.GainMax = GainMax;
 	}
 
-	public Gain gain(double phi, Map options) {
-		PatternUtility.validate_input("Phi", phi);
-		Map<String, Object> input = new HashMap<>();
-		for (Object entry : options.entrySet()) {
-			Map.Entry e = (Map.Entry) entry;
-			Object key = e.getKey();
-			String strKey;
-			if (key instanceof String) {
-				strKey = (String) key;
-			} else {
-				throw new IllegalArgumentException("Options keys must be String");
-			}
-			Object value = e.getValue();
-			input = PatternUtility.validate_input(strKey, value, input);
-		}
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		boolean DoValidate = options.doValidate(true);
 
-		boolean DoValidate = true;
-		if (input.containsKey("DoValidate")) {
-			DoValidate = (boolean) input.get("DoValidate");
-		}
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double phi = phis[iPhi];
 
-		double eps = Math.ulp(1.0);
-		phi = Math.max(eps, phi);
+			PatternUtility.validate_phi(phi);
 
-		double phi_over_phi0 = phi / this.Phi0;
+			double eps = Math.ulp(1.0);
+			phi = Math.max(eps, phi);
 
-		double G0 = this.GainMax - 12 * Math.pow(phi_over_phi0, 2);
-		double G1 = this.GainMax - 30;
-		double G2 = this.GainMax - 17.5 - 25 * Math.log10(phi_over_phi0);
+			double phi_over_phi0 = phi / this.Phi0;
 
-		double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= 1.58 ? 1 : 0)
-				+ G1 * (1.58 < phi_over_phi0 & phi_over_phi0 <= 3.16 ? 1 : 0) + G2 * (3.16 < phi_over_phi0 ? 1 : 0);
+			double G0 = GainMax - 12 * Math.pow(phi_over_phi0, 2);
+			double G1 = GainMax - 30;
+			double G2 = GainMax - 17.5 - 25 * Math.log10(phi_over_phi0);
 
-		G = Math.min(35, G);
+			double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= 1.58 ? 1 : 0)
+					+ G1 * (1.58 < phi_over_phi0 & phi_over_phi0 <= 3.16 ? 1 : 0) + G2 * (3.16 < phi_over_phi0 ? 1 : 0);
 
-		double Gx = G;
+			G = Math.min(35, G);
 
-		G = Math.max(0, G);
-		Gx = Math.max(0, Gx);
+			double Gx = G;
 
-		if (DoValidate) {
-			PatternUtility.validate_output(G, Gx, GainMax);
-		}
+			G = Math.max(0, G);
+			Gx = Math.max(0, Gx);
+
+			if (DoValidate) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
 
-		return new Gain(G, Gx);
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
+		}
 	}
 
 	@Override
@@ -17,9 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class PatternSNOR606V01 implements Pattern {
 	private double GainMax;
 	private double Phi0;
@@ -29,62 +26,45 @@ public class PatternSNOR606V01 implements Pattern {
 		this.Phi0 = Phi0;
 	}
 
-	public Gain gain(double phi, Map options) {
-		PatternUtility.validate_input("Phi", phi);
-		Map<String, Object> input = new HashMap<>();
-		for (Object entry : options.entrySet()) {
-			Map.Entry e = (Map.Entry) entry;
-			Object key = e.getKey();
-			String strKey;
-			if (key instanceof String) {
-				strKey = (String) key;
-			} else {
-				throw new IllegalArgumentException("Options keys must be String");
-			}
-			Object value = e.getValue();
-			input = PatternUtility.validate_input(strKey, value, input);
-		}
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		boolean absolute_pattern = options.hasGainMax();
+		double GainMax = options.getGainMax();
+		boolean DoValidate = options.doValidate(true);
 
-		boolean absolute_pattern;
-		boolean DoValidate = true;
-		if (input.containsKey("GainMax")) {
-			this.GainMax = (Double) input.get("GainMax");
-			absolute_pattern = true;
-		} else {
-			this.GainMax = 0;
-			absolute_pattern = false;
-		}
-		if (input.containsKey("DoValidate")) {
-			DoValidate = (boolean) input.get("DoValidate");
-		}
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double phi = phis[iPhi];
 
-		double eps = Math.ulp(1.0);
-		phi = Math.max(eps, phi);
+			PatternUtility.validate_phi(phi);
 
-		double phi_over_phi0 = phi / this.Phi0;
+			double eps = Math.ulp(1.0);
+			phi = Math.max(eps, phi);
 
-		double G0 = this.GainMax;
-		double G1 = this.GainMax + 6 - 12 * Math.pow(Math.sqrt(3) * phi_over_phi0, 2);
-		double G2 = this.GainMax - 24;
-		double G3 = this.GainMax - 11.5 - 25 * Math.log10(Math.sqrt(3) * phi_over_phi0);
+			double phi_over_phi0 = phi / this.Phi0;
 
-		double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= 1 / Math.sqrt(6) ? 1 : 0)
-				+ G1 * (1 / Math.sqrt(6) < phi_over_phi0 & phi_over_phi0 <= 1.58 / Math.sqrt(3) ? 1 : 0)
-				+ G2 * (1.58 / Math.sqrt(3) < phi_over_phi0 & phi_over_phi0 <= 3.16 / Math.sqrt(3) ? 1 : 0)
-				+ G3 * (3.16 / Math.sqrt(3) < phi_over_phi0 ? 1 : 0);
+			double G0 = GainMax;
+			double G1 = GainMax + 6 - 12 * Math.pow(Math.sqrt(3) * phi_over_phi0, 2);
+			double G2 = GainMax - 24;
+			double G3 = GainMax - 11.5 - 25 * Math.log10(Math.sqrt(3) * phi_over_phi0);
 
-		double Gx = G;
+			double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= 1 / Math.sqrt(6) ? 1 : 0)
+					+ G1 * (1 / Math.sqrt(6) < phi_over_phi0 & phi_over_phi0 <= 1.58 / Math.sqrt(3) ? 1 : 0)
+					+ G2 * (1.58 / Math.sqrt(3) < phi_over_phi0 & phi_over_phi0 <= 3.16 / Math.sqrt(3) ? 1 : 0)
+					+ G3 * (3.16 / Math.sqrt(3) < phi_over_phi0 ? 1 : 0);
 
-		if (absolute_pattern) {
-			G = Math.max(0, G);
-			Gx = Math.max(0, Gx);
-		}
+			double Gx = G;
 
-		if (DoValidate) {
-			PatternUtility.validate_output(G, Gx, GainMax);
-		}
+			if (absolute_pattern) {
+				G = Math.max(0, G);
+				Gx = Math.max(0, Gx);
+			}
 
-		return new Gain(G, Gx);
+			if (DoValidate) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
+		}
 	}
 
 	@Override
@@ -16,7 +16,6 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 package com.springbok.pattern;
 
 import java.util.Collections;
-import java.util.Map;
 
 import com.springbok.utility.PatternUtility;
 
@@ -50,47 +49,40 @@ public class PatternSREC407V01 implements EarthPattern {
 		return gain(phi, Collections.EMPTY_MAP);
 	}
 
-	public Gain gain(double phi, Map options) {
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double phi = phis[iPhi];
 
-		// Check number and class of input arguments.
-		PatternUtility.validate_input("Phi", phi);
-
-		if (options == null) {
-			options = Collections.EMPTY_MAP;
-		}
+			// Check number and class of input arguments.
+			PatternUtility.validate_phi(phi);
 
-		for (Object entry : options.entrySet()) {
-			Map.Entry e = (Map.Entry) entry;
-			Object key = e.getKey();
-			Object value = e.getValue();
-			// Validate key values
-		}
-
-		// Implement pattern. phi = max(eps, Phi)
-		double eps = Math.ulp(1.0);
-		phi = Math.max(eps, phi);
+			// Implement pattern. phi = max(eps, Phi)
+			double eps = Math.ulp(1.0);
+			phi = Math.max(eps, phi);
 
-		double phi_over_phi0 = phi / this.Phi0;
+			double phi_over_phi0 = phi / this.Phi0;
 
-		double Ls = -10, a = 1.83, b = 6.32;
+			double Ls = -10, a = 1.83, b = 6.32;
 
-		double G0 = this.GainMax - 12 * Math.pow(phi_over_phi0, 2);
-		double G1 = this.GainMax + Ls;
-		double G2 = this.GainMax + Ls + 20 - 25 * Math.log10(2 * phi_over_phi0);
+			double G0 = this.GainMax - 12 * Math.pow(phi_over_phi0, 2);
+			double G1 = this.GainMax + Ls;
+			double G2 = this.GainMax + Ls + 20 - 25 * Math.log10(2 * phi_over_phi0);
 
-		double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= a / 2 ? 0 : 1)
-				+ G1 * (a / 2 < phi_over_phi0 & phi_over_phi0 <= b / 2 ? 0 : 1) + G2 * (b / 2 < phi_over_phi0 ? 0 : 1);
+			double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= a / 2 ? 0 : 1)
+					+ G1 * (a / 2 < phi_over_phi0 & phi_over_phi0 <= b / 2 ? 0 : 1) + G2 * (b / 2 < phi_over_phi0 ? 0 : 1);
 
-		double Gx = G;
+			double Gx = G;
 
-		// Apply "flooring" for absolute gain pattern.
-		G = Math.max(0, G);
-		Gx = Math.max(0, Gx);
+			// Apply "flooring" for absolute gain pattern.
+			G = Math.max(0, G);
+			Gx = Math.max(0, Gx);
 
-		// Validate output parameters. if DoValidate
-		PatternUtility.validate_output(G, Gx, this.GainMax);
+			// Validate output parameters. if DoValidate
+			PatternUtility.validate_output(G, Gx, this.GainMax);
 
-		return new Gain(G, Gx);
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
+		}
 	}
 
 	/*
@@ -16,7 +16,6 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 package com.springbok.pattern;
 
 import java.util.Collections;
-import java.util.Map;
 
 import com.springbok.utility.PatternUtility;
 
@@ -58,45 +57,50 @@ public class PatternSREC408V01 implements SpacePattern {
 		return gain(phi, Collections.EMPTY_MAP);
 	}
 
-	public Gain gain(double phi, Map options) {
-		// Check number and class of input arguments.
-		PatternUtility.validate_input("Phi", phi);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		double GainMax = options.hasGainMax() ? options.getGainMax() : this.GainMax;
 
-		if (options == null) {
-			options = Collections.EMPTY_MAP;
-		}
-		for (Object entry : options.entrySet()) {
-			Map.Entry e = (Map.Entry) entry;
-			Object key = e.getKey();
-			Object value = e.getValue();
-			// Validate key values
-		}
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double phi = phis[iPhi];
 
-		// Implement pattern. phi = max(eps, Phi)
-		double eps = Math.ulp(1.0);
-		phi = Math.max(eps, phi);
+			// Check number and class of input arguments.
+			PatternUtility.validate_phi(phi);
 
-		double phi_over_phi0 = phi / this.Phi0;
+			// Implement pattern. phi = max(eps, Phi)
+			double eps = Math.ulp(1.0);
+			phi = Math.max(eps, phi);
 
-		double Ls = -20, a = 2.58, b = 6.32;
+			double phi_over_phi0 = phi / this.Phi0;
 
-		double G0 = this.GainMax - 12 * Math.pow(phi_over_phi0, 2);
-		double G1 = this.GainMax + Ls;
-		double G2 = this.GainMax + Ls + 20 - 25 * Math.log10(2 * phi_over_phi0);
+			double Ls = -20, a = 2.58, b = 6.32;
 
-		double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= a / 2 ? 0 : 1)
-				+ G1 * (a / 2 < phi_over_phi0 & phi_over_phi0 <= b / 2 ? 0 : 1) + G2 * (b / 2 < phi_over_phi0 ? 0 : 1);
+			double G0 = GainMax - 12 * Math.pow(phi_over_phi0, 2);
+			double G1 = GainMax + Ls;
+			double G2 = GainMax + Ls + 20 - 25 * Math.log10(2 * phi_over_phi0);
 
-		double Gx = G;
+			double G;
+			if (phi_over_phi0 <= a / 2) {
+				G = G0;
+			} else if (phi_over_phi0 <= b / 2) {
+				G = G1;
+			} else {
+				G = G2;
+			}
 
-		// Apply "flooring" for absolute gain pattern.
-		G = Math.max(0, G);
-		Gx = Math.max(0, Gx);
+			double Gx = G;
 
-		// Validate output parameters. if DoValidate
-		PatternUtility.validate_output(G, Gx, this.GainMax);
+			// Apply "flooring" for absolute gain pattern.
+			G = Math.max(0, G);
+			Gx = Math.max(0, Gx);
 
-		return new Gain(G, Gx);
+			// Validate output parameters, by default. Gx is not calculated
+			if (options.doValidate(true)) {
+				PatternUtility.validate_output(G, GainMax);
+			}
+
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
+		}
 	}
 
 	/*
@@ -17,7 +17,11 @@ package com.springbok.pattern;
 
 import com.springbok.utility.TestUtility;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import junit.framework.Assert;
+import org.junit.Test;
 
 public class PatternSREC408V01Test {
 
@@ -51,4 +55,18 @@ public class PatternSREC408V01Test {
 		}
 
 	}
+
+	/**
+	 * Tests that output is validated unless DoValidate is false.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void test_gain_validates_by_default() {
+		PatternSREC408V01 pattern = new PatternSREC408V01(-5, Phi0_input);
+		Map options = new HashMap();
+		options.put("DoValidate", false);
+		Assert.assertEquals(0, pattern.gain(Phi_input[0], options).G, TestUtility.HIGH_PRECISION);
+
+		// Floored gain exceeds the maximum gain
+		pattern.gain(Phi_input[0], new HashMap());
+	}
 }
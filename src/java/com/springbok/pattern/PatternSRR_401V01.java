@@ -16,7 +16,6 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 package com.springbok.pattern;
 
 import java.util.Collections;
-import java.util.Map;
 
 import com.springbok.utility.PatternUtility;
 
@@ -44,44 +43,39 @@ public class PatternSRR_401V01 implements EarthPattern {
 		return gain(phi, Collections.EMPTY_MAP);
 	}
 
-	public Gain gain(double phi, Map options) {
-		// Check number and class of input arguments.
-		PatternUtility.validate_input("Phi", phi);
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double phi = phis[iPhi];
 
-		if (options == null) {
-			options = Collections.EMPTY_MAP;
-		}
-		for (Object entry : options.entrySet()) {
-			Map.Entry e = (Map.Entry) entry;
-			Object key = e.getKey();
-			Object value = e.getValue();
-			// Validate key values
-		}
+			// Check number and class of input arguments.
+			PatternUtility.validate_phi(phi);
 
-		// Implement pattern. phi = max(eps, Phi)
-		double eps = Math.ulp(1.0);
-		phi = Math.max(eps, phi);
+			// Implement pattern. phi = max(eps, Phi)
+			double eps = Math.ulp(1.0);
+			phi = Math.max(eps, phi);
 
-		double phi_over_phi0 = phi / this.Phi0;
+			double phi_over_phi0 = phi / this.Phi0;
 
-		double G0 = this.GainMax - 12 * Math.pow(phi_over_phi0, 2);
-		double G1 = this.GainMax - 22 - 20 * Math.log10(phi_over_phi0);
+			double G0 = this.GainMax - 12 * Math.pow(phi_over_phi0, 2);
+			double G1 = this.GainMax - 22 - 20 * Math.log10(phi_over_phi0);
 
-		double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= 1.45 ? 1 : 0) + G1 * (1.45 < phi_over_phi0 ? 1 : 0);
+			double G = G0 * (0 <= phi_over_phi0 & phi_over_phi0 <= 1.45 ? 1 : 0) + G1 * (1.45 < phi_over_phi0 ? 1 : 0);
 
-		double Gx = Math.min(this.GainMax - 30, G);
+			double Gx = Math.min(this.GainMax - 30, G);
 
-		// Apply "flooring" for absolute gain pattern.
-		G = Math.max(0, G);
-		Gx = Math.max(0, Gx);
+			// Apply "flooring" for absolute gain pattern.
+			G = Math.max(0, G);
+			Gx = Math.max(0, Gx);
 
-		if (this.GainMax < 30)
-			throw new IllegalArgumentException("Springbok:InvalidResult: GainMax is less than 30.");
+			if (this.GainMax < 30)
+				throw new IllegalArgumentException("Springbok:InvalidResult: GainMax is less than 30.");
 
-		// Validate output parameters. if DoValidate
-		PatternUtility.validate_output(G, Gx, this.GainMax);
+			// Validate output parameters. if DoValidate
+			PatternUtility.validate_output(G, Gx, this.GainMax);
 
-		return new Gain(G, Gx);
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
+		}
 	}
 
 	/*
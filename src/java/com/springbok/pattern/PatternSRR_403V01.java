@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern SRR_403V01.
  */
@@ -66,65 +64,66 @@ public class PatternSRR_403V01 implements SpacePattern, ReceivePattern {
 	/**
 	 * Appendix 30A (RR-2001) reference receiving space station antenna pattern for
 	 * Regions 1 and 3 (WARC Orb-88).
-	 * <p>
-	 * Parameters: Phi - Angle for which a gain is calculated [degrees]
-	 * <p>
-	 * Optional parameters (entered as key/value pairs): None
-	 * <p>
-	 * Returns: G - Co-polar gain [dB] Gx - Cross-polar gain [dB] fH - figure handle
+	 *
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
+	 * @param options
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-		// Validate input parameters.
-		PatternUtility.validate_input("Phi", Phi);
-		Map<String, Object> input = PatternUtility.validateOptions(options);
-
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
 		// TODO: Test constructor optional agruments
-		this.GainMax = 0;
-		boolean absolute_pattern = false;
-		if (input.containsKey("GainMax")) {
-			this.GainMax = (double) input.get("GainMax");
-			absolute_pattern = true;
+		double GainMax = options.getGainMax();
+		boolean absolute_pattern = options.hasGainMax();
+		boolean DoValidate = options.doValidate();
 
-		}
-		boolean DoValidate = true;
-		if (input.containsKey("DoValidate")) {
-			DoValidate = (boolean) input.get("DoValidate");
-		}
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
 
-		// Implement pattern.
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
+			// Validate input parameters.
+			PatternUtility.validate_phi(Phi);
 
-		double phi_over_phi0 = phi / this.Phi0;
+			// Implement pattern.
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
 
-		double G0 = this.GainMax - 12 * Math.pow(phi_over_phi0, 2);
-		double G1 = this.GainMax - 17.5 - 25 * Math.log10(phi_over_phi0);
+			double phi_over_phi0 = phi / this.Phi0;
 
-		double G = 0 <= phi_over_phi0 && phi_over_phi0 < 1.3 ? G0 : G1;
-		double Gx0 = this.GainMax - 30 - 12 * Math.pow(phi_over_phi0, 2);
-		double Gx1 = this.GainMax - 33;
+			double G0 = GainMax - 12 * Math.pow(phi_over_phi0, 2);
+			double G1 = GainMax - 17.5 - 25 * Math.log10(phi_over_phi0);
 
-        double phix = Math.max(eps, phi_over_phi0 - 1);
-        double Gx2 = this.GainMax - 40 - 40 * Math.log10(phix);
-        double Gx = 0 <= phi_over_phi0 && phi_over_phi0 <= 0.5 ? Gx0 : 0.5 < phi_over_phi0 && phi_over_phi0 <= 1.67 ? Gx1 : Gx2;
+			double G = 0 <= phi_over_phi0 && phi_over_phi0 < 1.3 ? G0 : G1;
+			double Gx0 = GainMax - 30 - 12 * Math.pow(phi_over_phi0, 2);
+			double Gx1 = GainMax - 33;
 
-        // Apply "flooring" for absolute gain pattern.
-		if (absolute_pattern) {
-			G = Math.max(0, G);
-			Gx = Math.max(0, Gx);
+			double phix = Math.max(eps, phi_over_phi0 - 1);
+			double Gx2 = GainMax - 40 - 40 * Math.log10(phix);
+			double Gx = 0 <= phi_over_phi0 && phi_over_phi0 <= 0.5 ? Gx0 : 0.5 < phi_over_phi0 && phi_over_phi0 <= 1.67 ? Gx1 : Gx2;
 
-		}
+			// Apply "flooring" for absolute gain pattern.
+			if (absolute_pattern) {
+				G = Math.max(0, G);
+				Gx = Math.max(0, Gx);
 
-		// Validate low level rules.
-		if (this.GainMax < 30 && absolute_pattern) {
-			PatternUtility.logger.warn("Springbok:InvalidResult", "GainMax is less than 30.");
-		}
+			}
+
+			// Validate low level rules.
+			if (GainMax < 30 && absolute_pattern) {
+				PatternUtility.logger.warn("Springbok:InvalidResult", "GainMax is less than 30.");
+			}
 
-		// Validate output parameters.
-		if (DoValidate) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+			// Validate output parameters.
+			if (DoValidate) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
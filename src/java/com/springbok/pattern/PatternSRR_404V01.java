@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern SRR_404V01.
  */
@@ -79,58 +77,64 @@ public class PatternSRR_404V01 implements SpacePattern, ReceivePattern {
 	 * Appendix 30A (RR-2001) reference receiving space station antenna pattern for
 	 * Regions 1 and 3 (WRC-97).
 	 *
-	 * @param Phi     Angle for which a gain is calculated [degrees]
-	 * @param options Optional parameter (entered as key/value pairs)
-	 * @return Co-polar and cross-polar gain [dB]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
+	 * @param options
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
 		// TODO: Test constructor optional agruments
-		GainMax = 0;
-		boolean absolute_pattern = false;
-		if (options.containsKey("GainMax")) {
-			GainMax = (double) options.get("GainMax");
-			absolute_pattern = true;
-
-		}
-		/* Implement pattern */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double phi_over_phi0 = phi / Phi0;
-
-		double G0 = GainMax - 12 * Math.pow(phi_over_phi0, 2);
-		double G1 = GainMax - 17.5 - 25 * Math.log10(phi_over_phi0);
-
-		double G = G0 * (0 <= phi_over_phi0 && phi_over_phi0 < 1.3 ? 1 : 0)
-				+ G1 * (1.3 <= phi_over_phi0 ? 1 : 0);
-
-		double Gx0 = GainMax - 35;
-		double phix = Math.max(eps, phi_over_phi0 - 1);
-		double Gx1 = GainMax - 40 - 40 * Math.log10(phix);
-
-		double Gx = Gx0 * (0 <= phi_over_phi0 && phi_over_phi0 < 1.75 ? 1 : 0)
-				+ Gx1 * (1.75 <= phi_over_phi0 ? 1 : 0);
-
-		/* Apply "flooring" for absolute gain pattern */
-		if (absolute_pattern) {
-			G = Math.max(0, G);
-			Gx = Math.max(0, Gx);
-
-		}
-		/* Validate low level rules */
-		if (GainMax < 35 && absolute_pattern) {
-			PatternUtility.logger.warn("GainMax is less than 35.");
-		}
-		/* Validate output parameters */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+		double GainMax = options.getGainMax();
+		boolean absolute_pattern = options.hasGainMax();
+
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double phi_over_phi0 = phi / Phi0;
+
+			double G0 = GainMax - 12 * Math.pow(phi_over_phi0, 2);
+			double G1 = GainMax - 17.5 - 25 * Math.log10(phi_over_phi0);
+
+			double G = G0 * (0 <= phi_over_phi0 && phi_over_phi0 < 1.3 ? 1 : 0)
+					+ G1 * (1.3 <= phi_over_phi0 ? 1 : 0);
+
+			double Gx0 = GainMax - 35;
+			double phix = Math.max(eps, phi_over_phi0 - 1);
+			double Gx1 = GainMax - 40 - 40 * Math.log10(phix);
+
+			double Gx = Gx0 * (0 <= phi_over_phi0 && phi_over_phi0 < 1.75 ? 1 : 0)
+					+ Gx1 * (1.75 <= phi_over_phi0 ? 1 : 0);
+
+			/* Apply "flooring" for absolute gain pattern */
+			if (absolute_pattern) {
+				G = Math.max(0, G);
+				Gx = Math.max(0, Gx);
+
+			}
+			/* Validate low level rules */
+			if (GainMax < 35 && absolute_pattern) {
+				PatternUtility.logger.warn("GainMax is less than 35.");
+			}
+			/* Validate output parameters */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
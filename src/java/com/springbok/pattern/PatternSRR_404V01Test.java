@@ -67,4 +67,25 @@ public class PatternSRR_404V01Test {
 			assertTrue(TestUtility.isDoublesEquals(Gx_expected[i], gains[i].Gx));
 		}
 	}
+
+	/**
+	 * Tests batch gain method
+	 */
+	@Test
+	public void test_gain_batch() {
+		PatternSRR_404V01 p = new PatternSRR_404V01(this.Phi0_input);
+
+		Map<String, Object> options = new HashMap<String, Object>();
+		options.put("DoValidate", false);
+		options.put("GainMax", GainMax_input);
+
+		double[] G = new double[Phi_input.length];
+		double[] Gx = new double[Phi_input.length];
+		p.gain(Phi_input, Phi_input.length, G, Gx, new GainOptions(options));
+
+		for (int i = 0; i < Phi_input.length; i++) {
+			assertTrue(TestUtility.isDoublesEquals(G_expected[i], G[i]));
+			assertTrue(TestUtility.isDoublesEquals(Gx_expected[i], Gx[i]));
+		}
+	}
 }
@@ -17,8 +17,6 @@ package com.springbok.pattern;
 
 import com.springbok.utility.PatternUtility;
 
-import java.util.Map;
-
 /**
  * Describes the ITU antenna pattern SRR_406V01.
  */
@@ -96,83 +94,86 @@ public class PatternSRR_406V01 implements SpacePattern, TransmitPattern {
 	 * Appendix 30 (RR-2001) improved fast roll-off transmitting space station
 	 * antenna pattern for Regions 1 and 3 (WRC-2000).
 	 *
-	 * @param Phi     Angle for which a gain is calculated [degrees]
-	 * @param options Optional parameters (entered as key/value pairs)
-	 * @return Co-polar and cross-polar gain [dB]
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
+	 * @param options
+	 *            Optional parameters, validated once
 	 */
-	public Gain gain(double Phi, Map options) {
-		/* Validate input parameters */
-		PatternUtility.validate_input("Phi", Phi);
-		Map<String, Object> input = PatternUtility.validateOptions(options);
-
-		/* Validate input options */
-		options = PatternUtility.validateOptions(options);
-
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
 		// TODO: Test constructor optional agruments
-		GainMax = 0;
-		boolean absolute_pattern = false;
-		if (input.containsKey("GainMax")) {
-			GainMax = (double) input.get("GainMax");
-			absolute_pattern = true;
-
-		}
-
-		/* Implement pattern. */
-		double eps = Math.ulp(1.0);
-		double phi = Math.max(eps, Phi);
-
-		double phi_over_phi0 = phi / Phi0;
-		double x = 0.5 * (1 - Beamlet / Phi0);
-		double phi1 = 1.45 / Phi0 * Beamlet + x;
-
-		double delta_G1_0 = -12 * Math.pow(phi_over_phi0, 2);
-		double delta_G1_1 = -12 * Math.pow((phi_over_phi0 - x) / (Beamlet / Phi0), 2);
-		double delta_G1_2 = -25.3;
-		double delta_G1_3 = -22 - 20 * Math.log10(phi_over_phi0);
-
-		double delta_G1 = delta_G1_0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 0.5 ? 1 : 0)
-				+ delta_G1_1 * (0.5 < phi_over_phi0 && phi_over_phi0 <= phi1 ? 1 : 0)
-				+ delta_G1_2 * (phi1 < phi_over_phi0 && phi_over_phi0 <= 1.45 ? 1 : 0)
-				+ delta_G1_3 * (1.45 < phi_over_phi0 ? 1 : 0);
-
-		double delta_G2_0 = -12 * Math.pow(phi_over_phi0, 2);
-		double delta_G2_1 = -30;
-		double delta_G2_2 = -17.5 - 25 * Math.log10(phi_over_phi0);
-
-		double delta_G2 = delta_G2_0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 1.58 ? 1 : 0)
-				+ delta_G2_1 * (1.58 < phi_over_phi0 && phi_over_phi0 <= 3.16 ? 1 : 0)
-				+ delta_G2_2 * (3.16 < phi_over_phi0 ? 1 : 0);
-
-		double delta_G = Math.min(delta_G1, delta_G2);
-
-		double G = GainMax + delta_G;
-
-		double phix = Math.max(eps, Math.abs(phi_over_phi0 - 1));
-		double Gx0 = GainMax - 40 - 40 * Math.log10(phix);
-		double Gx1 = GainMax - 33;
-		double Gx2 = GainMax - 40 - 40 * Math.log10(phix);
-
-		double Gx = Gx0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 0.33 ? 1 : 0)
-				+ Gx1 * (0.33 < phi_over_phi0 && phi_over_phi0 <= 1.67 ? 1 : 0)
-				+ Gx2 * (1.67 < phi_over_phi0 ? 1 : 0);
-
-		/* Apply "flooring" for absolute gain pattern */
-		if (absolute_pattern) {
-			G = Math.max(0, G);
-			Gx = Math.max(0, Gx);
-		}
-		/* Validate low level rules. */
-		if (Phi0 < Beamlet) {
-			PatternUtility.logger.warn("Phi0 is less than Beamlet.");
-		}
-		if (GainMax < 33 && absolute_pattern) {
-			PatternUtility.logger.warn("GainMax is less than 33.");
-		}
-		/* Validate output parameters. */
-		if ((boolean) options.get("DoValidate")) {
-			PatternUtility.validate_output(G, Gx, GainMax);
+		double GainMax = options.getGainMax();
+		boolean absolute_pattern = options.hasGainMax();
+
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double Phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(Phi);
+
+			/* Implement pattern. */
+			double eps = Math.ulp(1.0);
+			double phi = Math.max(eps, Phi);
+
+			double phi_over_phi0 = phi / Phi0;
+			double x = 0.5 * (1 - Beamlet / Phi0);
+			double phi1 = 1.45 / Phi0 * Beamlet + x;
+
+			double delta_G1_0 = -12 * Math.pow(phi_over_phi0, 2);
+			double delta_G1_1 = -12 * Math.pow((phi_over_phi0 - x) / (Beamlet / Phi0), 2);
+			double delta_G1_2 = -25.3;
+			double delta_G1_3 = -22 - 20 * Math.log10(phi_over_phi0);
+
+			double delta_G1 = delta_G1_0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 0.5 ? 1 : 0)
+					+ delta_G1_1 * (0.5 < phi_over_phi0 && phi_over_phi0 <= phi1 ? 1 : 0)
+					+ delta_G1_2 * (phi1 < phi_over_phi0 && phi_over_phi0 <= 1.45 ? 1 : 0)
+					+ delta_G1_3 * (1.45 < phi_over_phi0 ? 1 : 0);
+
+			double delta_G2_0 = -12 * Math.pow(phi_over_phi0, 2);
+			double delta_G2_1 = -30;
+			double delta_G2_2 = -17.5 - 25 * Math.log10(phi_over_phi0);
+
+			double delta_G2 = delta_G2_0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 1.58 ? 1 : 0)
+					+ delta_G2_1 * (1.58 < phi_over_phi0 && phi_over_phi0 <= 3.16 ? 1 : 0)
+					+ delta_G2_2 * (3.16 < phi_over_phi0 ? 1 : 0);
+
+			double delta_G = Math.min(delta_G1, delta_G2);
+
+			double G = GainMax + delta_G;
+
+			double phix = Math.max(eps, Math.abs(phi_over_phi0 - 1));
+			double Gx0 = GainMax - 40 - 40 * Math.log10(phix);
+			double Gx1 = GainMax - 33;
+			double Gx2 = GainMax - 40 - 40 * Math.log10(phix);
+
+			double Gx = Gx0 * (0 <= phi_over_phi0 && phi_over_phi0 <= 0.33 ? 1 : 0)
+					+ Gx1 * (0.33 < phi_over_phi0 && phi_over_phi0 <= 1.67 ? 1 : 0)
+					+ Gx2 * (1.67 < phi_over_phi0 ? 1 : 0);
+
+			/* Apply "flooring" for absolute gain pattern */
+			if (absolute_pattern) {
+				G = Math.max(0, G);
+				Gx = Math.max(0, Gx);
+			}
+			/* Validate low level rules. */
+			if (Phi0 < Beamlet) {
+				PatternUtility.logger.warn("Phi0 is less than Beamlet.");
+			}
+			if (GainMax < 33 && absolute_pattern) {
+				PatternUtility.logger.warn("GainMax is less than 33.");
+			}
+			/* Validate output parameters. */
+			if (options.doValidate()) {
+				PatternUtility.validate_output(G, Gx, GainMax);
+			}
+			Gs[iPhi] = G;
+			Gxs[iPhi] = Gx;
 		}
-		return new Gain(G, Gx);
 	}
 
 	/*
@@ -0,0 +1,71 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.pattern;
+
+import java.util.Map;
+
+/**
+ * Decorates an Earth station pattern with a table of gains sampled once on an
+ * adaptive angle grid.
+ */
+public class TabulatedEarthPattern extends TabulatedPattern implements EarthPattern {
+
+	/**
+	 * Constructs a TabulatedEarthPattern given a pattern to decorate, using
+	 * no options and the default maximum interpolation error.
+	 *
+	 * @param pattern
+	 *            Pattern to decorate
+	 */
+	public TabulatedEarthPattern(EarthPattern pattern) {
+		super(pattern);
+	}
+
+	/**
+	 * Constructs a TabulatedEarthPattern given a pattern to decorate,
+	 * options used to sample the pattern, and a maximum interpolation error.
+	 *
+	 * @param pattern
+	 *            Pattern to decorate
+	 * @param options
+	 *            Optional parameters (entered as key/value pairs)
+	 * @param maxError
+	 *            Maximum interpolation error [dB]
+	 */
+	public TabulatedEarthPattern(EarthPattern pattern, Map options, double maxError) {
+		super(pattern, options, maxError);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.springbok.pattern.TabulatedPattern#getPattern()
+	 */
+	@Override
+	public EarthPattern getPattern() {
+		return (EarthPattern) pattern;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.springbok.pattern.EarthPattern#copy()
+	 */
+	@Override
+	public TabulatedEarthPattern copy() {
+		return new TabulatedEarthPattern(getPattern().copy(), givenOptions, maxError);
+	}
+}
@@ -0,0 +1,556 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.pattern;
+
+import com.springbok.utility.PatternUtility;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decorates a pattern with a table of gains sampled once on an adaptive
+ * angle grid, and serves gains by linear interpolation.
+ * <p>
+ * The angle range [0:180] degrees is divided into uniform cells, each of
+ * which is bisected uniformly until a bound on the error of linear
+ * interpolation is at most a maximum error. Cells containing a breakpoint
+ * of the pattern, such as phi_m, phi_r, or phi_b, are therefore refined,
+ * while cells in which the pattern is constant or linear are not. Since
+ * each cell is uniformly subdivided, an interpolation requires only two
+ * index computations.
+ * <p>
+ * The pattern is sampled at a quarter, half, and three quarters of each
+ * sub-cell of width w, as well as at its ends. The error of linear
+ * interpolation is at most (w^2 / 8) max|G''|, and each second difference
+ * d of the five samples equals (w / 4)^2 G'' somewhere in the sub-cell, so
+ * the error is at most 2 max|d| if G'' varies by no more than the sampled
+ * second differences. Where the second differences vary smoothly, by at
+ * most half their largest value, the error is bounded by twice that, which
+ * allows G'' to vary by a factor of two within a sub-cell, and by the
+ * error measured at the interior samples. At a kink, where the slope of
+ * the pattern changes, or a discontinuity, the second differences do not
+ * vary smoothly. Where the samples are monotone, the error is then bounded
+ * by the change in gain across the sub-cell, which holds for any monotone
+ * gain. A cell which cannot be bounded within the maximum error at the
+ * minimum sub-cell width of 0.1 / 2^10 degrees, such as one containing a
+ * larger discontinuity, is not tabulated, and gains in it are calculated
+ * by the decorated pattern. Features narrower than a quarter of the
+ * sub-cell width are assumed absent, since they may fall between samples.
+ * <p>
+ * The pattern is sampled with the options given, so output validation
+ * requested by the options, or by default for the pattern, is applied to
+ * every sample. Since an interpolated gain lies between two sampled gains,
+ * it also satisfies the validated bounds.
+ * <p>
+ * Tables are shared by tabulated patterns with equal decorated patterns,
+ * options, and maximum errors. At most MAX_TABLES tables are retained for
+ * sharing, the least recently used being released first; a tabulated
+ * pattern keeps its own table regardless.
+ */
+public class TabulatedPattern implements Pattern {
+
+	/** Default maximum interpolation error [dB] */
+	public static final double DEFAULT_MAX_ERROR = 0.01;
+
+	/** Number of uniform cells in [0:180] degrees */
+	public static final int NUMBER_OF_CELLS = 1800;
+
+	/** Maximum number of bisections of a cell */
+	public static final int MAX_LEVEL = 10;
+
+	/** Maximum number of tables retained for sharing */
+	public static final int MAX_TABLES = 64;
+
+	/** Width of a uniform cell [degrees] */
+	private static final double CELL_WIDTH = 180.0 / NUMBER_OF_CELLS;
+
+	/** Number of sampled intervals in a sub-cell, used to bound the error */
+	private static final int SAMPLES = 4;
+
+	/** Factor by which the second derivative may vary within a sub-cell */
+	private static final double CURVATURE_FACTOR = 2.0;
+
+	/** Second difference attributed to rounding [dB] */
+	private static final double ROUNDING = 1.0e-9;
+
+	/** Tables shared across tabulated patterns, in access order */
+	private static final Map<Key, Table> tables = new LinkedHashMap<Key, Table>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Table> eldest) {
+			return size() > MAX_TABLES;
+		}
+	};
+
+	/** Decorated pattern */
+	protected final Pattern pattern;
+
+	/** Options, as given, used to sample the decorated pattern */
+	protected final Map<String, Object> givenOptions;
+
+	/** Options used to sample the decorated pattern */
+	protected final GainOptions options;
+
+	/** Maximum interpolation error [dB] */
+	protected final double maxError;
+
+	/** Sampled gains */
+	private final Table table;
+
+	/**
+	 * Constructs a TabulatedPattern given a pattern to decorate, using no
+	 * options and the default maximum interpolation error.
+	 *
+	 * @param pattern
+	 *            Pattern to decorate
+	 */
+	public TabulatedPattern(Pattern pattern) {
+		this(pattern, null, DEFAULT_MAX_ERROR);
+	}
+
+	/**
+	 * Constructs a TabulatedPattern given a pattern to decorate, options
+	 * used to sample the pattern, and a maximum interpolation error.
+	 *
+	 * @param pattern
+	 *            Pattern to decorate
+	 * @param options
+	 *            Optional parameters (entered as key/value pairs)
+	 * @param maxError
+	 *            Maximum interpolation error [dB]
+	 */
+	public TabulatedPattern(Pattern pattern, Map options, double maxError) {
+		if (pattern == null) {
+			throw new IllegalArgumentException("Pattern must not be null.");
+		}
+		if (!(maxError > 0)) {
+			throw new IllegalArgumentException("Maximum error must be positive.");
+		}
+		this.pattern = pattern;
+		this.maxError = maxError;
+
+		Map<String, Object> givenOptions = new HashMap<String, Object>();
+		if (options != null) {
+			for (Object option : options.entrySet()) {
+				Map.Entry<?, ?> entry = (Map.Entry<?, ?>) option;
+				if (!(entry.getKey() instanceof String)) {
+					throw new IllegalArgumentException("Option names must be strings.");
+				}
+				givenOptions.put((String) entry.getKey(), entry.getValue());
+			}
+		}
+		this.givenOptions = Collections.unmodifiableMap(givenOptions);
+		this.options = new GainOptions(this.givenOptions);
+
+		/* Sample outside the lock, keeping the first table shared */
+		Key key = new Key(pattern, this.givenOptions, maxError);
+		Table table;
+		synchronized (tables) {
+			table = tables.get(key);
+		}
+		if (table == null) {
+			table = new Table(pattern, this.options, maxError);
+			synchronized (tables) {
+				Table shared = tables.putIfAbsent(key, table);
+				if (shared != null) {
+					table = shared;
+				}
+			}
+		}
+		this.table = table;
+	}
+
+	/**
+	 * Gets the decorated pattern.
+	 *
+	 * @return Decorated pattern
+	 */
+	public Pattern getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * Gets the maximum interpolation error [dB].
+	 *
+	 * @return Maximum interpolation error [dB]
+	 */
+	public double getMaxError() {
+		return maxError;
+	}
+
+	/**
+	 * Gets the largest bound on the interpolation error of a sub-cell, which
+	 * is at most the maximum interpolation error [dB].
+	 *
+	 * @return Largest bound on the interpolation error [dB]
+	 */
+	public double getErrorBound() {
+		return table.errorBound;
+	}
+
+	/**
+	 * Gets the number of cells in which gains are calculated by the
+	 * decorated pattern, rather than interpolated.
+	 *
+	 * @return Number of cells not tabulated
+	 */
+	public int getNumberOfDelegatedCells() {
+		return table.nDelegated;
+	}
+
+	/**
+	 * Gets the number of sampled angles.
+	 *
+	 * @return Number of sampled angles
+	 */
+	public int getNumberOfSamples() {
+		return table.G.length;
+	}
+
+	/**
+	 * Gets the number of tables shared across tabulated patterns.
+	 *
+	 * @return Number of tables
+	 */
+	public static int getNumberOfTables() {
+		synchronized (tables) {
+			return tables.size();
+		}
+	}
+
+	/**
+	 * Clears the tables shared across tabulated patterns.
+	 */
+	public static void clearTables() {
+		synchronized (tables) {
+			tables.clear();
+		}
+	}
+
+	/**
+	 * Interpolates gains for a batch of angles, or delegates to the
+	 * decorated pattern if the options differ from those used to sample the
+	 * pattern.
+	 *
+	 * @param phis
+	 *            Angles for which a gain is calculated [degrees]
+	 * @param n
+	 *            Number of angles for which a gain is calculated
+	 * @param Gs
+	 *            Co-polar gain for each angle, output [dB]
+	 * @param Gxs
+	 *            Cross-polar gain for each angle, output [dB]
+	 * @param options
+	 *            Optional parameters, validated once
+	 */
+	public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+		if (options != this.options && (options.hasDoValidate() != this.options.hasDoValidate()
+				|| !options.asMap().equals(this.options.asMap()))) {
+			pattern.gain(phis, n, Gs, Gxs, options);
+			return;
+		}
+		double[] G = table.G;
+		double[] Gx = table.Gx;
+		int[] offset = table.offset;
+		int[] level = table.level;
+		int[] delegated = null;
+		int nDelegated = 0;
+		for (int iPhi = 0; iPhi < n; iPhi++) {
+			double phi = phis[iPhi];
+
+			/* Validate input parameters */
+			PatternUtility.validate_phi(phi);
+
+			/* Locate cell, then sub-cell */
+			double u = phi / CELL_WIDTH;
+			int iCell = Math.min((int) u, NUMBER_OF_CELLS - 1);
+			if (level[iCell] < 0) {
+				if (delegated == null) {
+					delegated = new int[n];
+				}
+				delegated[nDelegated++] = iPhi;
+				continue;
+			}
+			int m = 1 << level[iCell];
+			double v = (u - iCell) * m;
+			int j = Math.min((int) v, m - 1);
+			double t = v - j;
+
+			/* Interpolate */
+			int k = offset[iCell] + j;
+			Gs[iPhi] = G[k] + t * (G[k + 1] - G[k]);
+			Gxs[iPhi] = Gx[k] + t * (Gx[k + 1] - Gx[k]);
+		}
+
+		/* Calculate gains in cells not tabulated */
+		if (nDelegated > 0) {
+			double[] phis_d = new double[nDelegated];
+			double[] Gs_d = new double[nDelegated];
+			double[] Gxs_d = new double[nDelegated];
+			for (int i = 0; i < nDelegated; i++) {
+				phis_d[i] = phis[delegated[i]];
+			}
+			pattern.gain(phis_d, nDelegated, Gs_d, Gxs_d, options);
+			for (int i = 0; i < nDelegated; i++) {
+				Gs[delegated[i]] = Gs_d[i];
+				Gxs[delegated[i]] = Gxs_d[i];
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.springbok.pattern.Pattern#copy()
+	 */
+	public TabulatedPattern copy() {
+		return new TabulatedPattern(pattern.copy(), givenOptions, maxError);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + pattern.hashCode();
+		result = prime * result + givenOptions.hashCode();
+		long temp;
+		temp = Double.doubleToLongBits(maxError);
+		result = prime * result + (int) (temp ^ (temp >>> 32));
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		TabulatedPattern other = (TabulatedPattern) obj;
+		if (!pattern.equals(other.pattern)) {
+			return false;
+		}
+		if (!givenOptions.equals(other.givenOptions)) {
+			return false;
+		}
+		if (Double.doubleToLongBits(maxError) != Double.doubleToLongBits(other.maxError)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Identifies a shared table.
+	 */
+	private static final class Key {
+
+		/** Decorated pattern */
+		private final Pattern pattern;
+
+		/** Options used to sample the decorated pattern */
+		private final Map<String, Object> options;
+
+		/** Maximum interpolation error [dB] */
+		private final double maxError;
+
+		private Key(Pattern pattern, Map<String, Object> options, double maxError) {
+			this.pattern = pattern;
+			this.options = options;
+			this.maxError = maxError;
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + pattern.hashCode();
+			result = prime * result + options.hashCode();
+			long temp;
+			temp = Double.doubleToLongBits(maxError);
+			result = prime * result + (int) (temp ^ (temp >>> 32));
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return pattern.getClass() == other.pattern.getClass() && pattern.equals(other.pattern)
+					&& options.equals(other.options)
+					&& Double.doubleToLongBits(maxError) == Double.doubleToLongBits(other.maxError);
+		}
+	}
+
+	/**
+	 * Contains gains sampled on an adaptive angle grid.
+	 */
+	private static final class Table {
+
+		/** Co-polar gain at each sampled angle [dB] */
+		private final double[] G;
+
+		/** Cross-polar gain at each sampled angle [dB] */
+		private final double[] Gx;
+
+		/** Index of the first sampled angle of each cell */
+		private final int[] offset;
+
+		/** Number of bisections of each cell, or -1 if not tabulated */
+		private final int[] level;
+
+		/** Number of cells not tabulated */
+		private final int nDelegated;
+
+		/** Largest bound on the interpolation error of a sub-cell [dB] */
+		private final double errorBound;
+
+		private Table(Pattern pattern, GainOptions options, double maxError) {
+			int nMax = 1 << MAX_LEVEL;
+			double[] phi = new double[SAMPLES * nMax + 1];
+			double[] G_s = new double[SAMPLES * nMax + 1];
+			double[] Gx_s = new double[SAMPLES * nMax + 1];
+			double[][] G_c = new double[NUMBER_OF_CELLS][];
+			double[][] Gx_c = new double[NUMBER_OF_CELLS][];
+
+			this.offset = new int[NUMBER_OF_CELLS];
+			this.level = new int[NUMBER_OF_CELLS];
+			double errorBound = 0;
+			int nDelegated = 0;
+			int nSamples = 0;
+			for (int iCell = 0; iCell < NUMBER_OF_CELLS; iCell++) {
+				double a = iCell * CELL_WIDTH;
+				for (int d = 0; d <= MAX_LEVEL; d++) {
+					int m = 1 << d;
+					double h = CELL_WIDTH / (SAMPLES * m);
+
+					/* Sample each sub-cell at its ends, and interior angles */
+					int nSmp = SAMPLES * m + 1;
+					for (int k = 0; k < nSmp; k++) {
+						phi[k] = k < nSmp - 1 ? a + k * h : (iCell + 1) * CELL_WIDTH;
+					}
+					pattern.gain(phi, nSmp, G_s, Gx_s, options);
+
+					/* Bound the interpolation error of each sub-cell */
+					double bound = 0;
+					for (int j = 0; j < m; j++) {
+						bound = Math.max(bound, computeErrorBound(G_s, SAMPLES * j));
+						bound = Math.max(bound, computeErrorBound(Gx_s, SAMPLES * j));
+					}
+					if (bound <= maxError) {
+						errorBound = Math.max(errorBound, bound);
+						double[] G_n = new double[m + 1];
+						double[] Gx_n = new double[m + 1];
+						for (int j = 0; j <= m; j++) {
+							G_n[j] = G_s[SAMPLES * j];
+							Gx_n[j] = Gx_s[SAMPLES * j];
+						}
+						G_c[iCell] = G_n;
+						Gx_c[iCell] = Gx_n;
+						this.level[iCell] = d;
+						this.offset[iCell] = nSamples;
+						nSamples += m + 1;
+						break;
+					} else if (d == MAX_LEVEL) {
+						this.level[iCell] = -1;
+						this.offset[iCell] = -1;
+						nDelegated++;
+					}
+				}
+			}
+
+			/* Pack cells */
+			this.G = new double[nSamples];
+			this.Gx = new double[nSamples];
+			for (int iCell = 0; iCell < NUMBER_OF_CELLS; iCell++) {
+				if (G_c[iCell] == null) {
+					continue;
+				}
+				System.arraycopy(G_c[iCell], 0, this.G, this.offset[iCell], G_c[iCell].length);
+				System.arraycopy(Gx_c[iCell], 0, this.Gx, this.offset[iCell], Gx_c[iCell].length);
+			}
+			this.errorBound = errorBound;
+			this.nDelegated = nDelegated;
+		}
+
+		/**
+		 * Bounds the error of linear interpolation within a sub-cell, given
+		 * gains sampled at its ends and interior angles.
+		 *
+		 * @param G
+		 *            Sampled gains [dB]
+		 * @param k
+		 *            Index of the gain sampled at the start of the sub-cell
+		 * @return Bound on the interpolation error [dB]
+		 */
+		private static double computeErrorBound(double[] G, int k) {
+			double error = 0;
+			double curvature = 0;
+			double variation = 0;
+			boolean isIncreasing = true;
+			boolean isDecreasing = true;
+			for (int i = 1; i < SAMPLES; i++) {
+				double G_i = G[k] + (G[k + SAMPLES] - G[k]) * i / SAMPLES;
+				error = Math.max(error, Math.abs(G_i - G[k + i]));
+				double d = G[k + i - 1] - 2 * G[k + i] + G[k + i + 1];
+				curvature = Math.max(curvature, Math.abs(d));
+				if (i > 1) {
+					double d_p = G[k + i - 2] - 2 * G[k + i - 1] + G[k + i];
+					variation = Math.max(variation, Math.abs(d - d_p));
+				}
+			}
+			for (int i = 0; i < SAMPLES; i++) {
+				isIncreasing &= G[k + i] <= G[k + i + 1];
+				isDecreasing &= G[k + i] >= G[k + i + 1];
+			}
+			/*
+			 * (w^2 / 8) |G''| = (SAMPLES^2 / 8) |d|, if the second differences
+			 * vary smoothly, which they do not at a kink or discontinuity
+			 */
+			double bound = Double.POSITIVE_INFINITY;
+			if (variation <= curvature / 2 || curvature <= ROUNDING) {
+				bound = Math.max(error, CURVATURE_FACTOR * SAMPLES * SAMPLES / 8.0 * curvature);
+			}
+
+			/* A monotone gain, and its interpolation, lie between the ends */
+			if (isIncreasing || isDecreasing) {
+				bound = Math.min(bound, Math.abs(G[k + SAMPLES] - G[k]));
+			}
+			return bound;
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.pattern;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests methods of TabulatedPattern class.
+ */
+public class TabulatedPatternTest {
+	private static final double GainMax_input = 54.4;
+	private static final double Efficiency_input = 0.7;
+	private static final double Phi0_input = 2.0;
+	private static final double SpaceGainMax_input = 57.0;
+
+	private static final int n = 180001;
+
+	/**
+	 * Computes the largest difference between a pattern and its tabulation
+	 * over a dense grid of angles.
+	 */
+	private static double computeMaxError(Pattern p, Pattern t, GainOptions options) {
+		double[] phi = new double[n];
+		for (int i = 0; i < n; i++) {
+			phi[i] = 180.0 * i / (n - 1);
+		}
+		double[] G_p = new double[n];
+		double[] Gx_p = new double[n];
+		double[] G_t = new double[n];
+		double[] Gx_t = new double[n];
+		p.gain(phi, n, G_p, Gx_p, options);
+		t.gain(phi, n, G_t, Gx_t, options);
+		double error = 0;
+		for (int i = 0; i < n; i++) {
+			error = Math.max(error, Math.abs(G_p[i] - G_t[i]));
+			error = Math.max(error, Math.abs(Gx_p[i] - Gx_t[i]));
+		}
+		return error;
+	}
+
+	/**
+	 * Tests gain method.
+	 */
+	@Test
+	public void test_gain() {
+		PatternEREC013V01 p = new PatternEREC013V01(GainMax_input, Efficiency_input);
+		TabulatedEarthPattern t = new TabulatedEarthPattern(p);
+
+		assertTrue(t.getErrorBound() <= t.getMaxError());
+		assertTrue(computeMaxError(p, t, GainOptions.DEFAULT) <= t.getErrorBound());
+
+		Gain g_p = p.gain(0.6, null);
+		Gain g_t = t.gain(0.6, null);
+		assertEquals(g_p.G, g_t.G, t.getMaxError());
+		assertEquals(g_p.Gx, g_t.Gx, t.getMaxError());
+	}
+
+	/**
+	 * Tests gain method with options.
+	 */
+	@Test
+	public void test_gain_options() {
+		Map<String, Object> options = new HashMap<String, Object>();
+		options.put("GainMax", SpaceGainMax_input);
+
+		PatternSRR_404V01 p = new PatternSRR_404V01(Phi0_input);
+		TabulatedSpacePattern t = new TabulatedSpacePattern(p, options, 0.05);
+
+		assertTrue(computeMaxError(p, t, new GainOptions(options)) <= t.getMaxError());
+
+		// Differing options are delegated to the pattern
+		options.put("GainMax", SpaceGainMax_input - 10);
+		assertEquals(0.0, computeMaxError(p, t, new GainOptions(options)), 0.0);
+	}
+
+	/**
+	 * Tests that the error bound holds for patterns with kinks, at which the
+	 * slope changes.
+	 */
+	@Test
+	public void test_gain_bound() {
+		Pattern[] patterns = new Pattern[] { new PatternERR_020V01(3.0, 11000.0),
+				new PatternSRR_405V01(Phi0_input), new PatternELUX201V01(GainMax_input) };
+		for (Pattern p : patterns) {
+			TabulatedPattern t = new TabulatedPattern(p, null, 0.02);
+
+			assertTrue(t.getErrorBound() <= t.getMaxError());
+			assertTrue(computeMaxError(p, t, GainOptions.DEFAULT) <= t.getErrorBound());
+		}
+	}
+
+	/**
+	 * Tests that gains in a cell containing a discontinuity are calculated by
+	 * the decorated pattern.
+	 */
+	@Test
+	public void test_gain_discontinuous() {
+		Pattern p = new Pattern() {
+			public void gain(double[] phis, int n, double[] Gs, double[] Gxs, GainOptions options) {
+				for (int iPhi = 0; iPhi < n; iPhi++) {
+					Gs[iPhi] = phis[iPhi] < 10.05 ? 30.0 - phis[iPhi] : 0.0;
+					Gxs[iPhi] = Gs[iPhi] - 20.0;
+				}
+			}
+
+			public Pattern copy() {
+				return this;
+			}
+		};
+		TabulatedPattern t = new TabulatedPattern(p);
+
+		assertEquals(1, t.getNumberOfDelegatedCells());
+		assertTrue(computeMaxError(p, t, GainOptions.DEFAULT) <= t.getErrorBound());
+
+		Gain g_t = t.gain(10.0499, null);
+		assertEquals(30.0 - 10.0499, g_t.G, 0.0);
+		g_t = t.gain(10.0501, null);
+		assertEquals(0.0, g_t.G, 0.0);
+		assertEquals(-20.0, g_t.Gx, 0.0);
+	}
+
+	/**
+	 * Tests sharing of tables.
+	 */
+	@Test
+	public void test_sharing() {
+		TabulatedPattern.clearTables();
+
+		TabulatedEarthPattern t_1 = new TabulatedEarthPattern(new PatternERR_020V01(3.0, 11000.0));
+		TabulatedEarthPattern t_2 = new TabulatedEarthPattern(new PatternERR_020V01(3.0, 11000.0));
+		TabulatedEarthPattern t_3 = t_1.copy();
+
+		assertEquals(t_1, t_2);
+		assertEquals(t_1, t_3);
+		assertEquals(t_1.hashCode(), t_3.hashCode());
+		assertEquals(1, TabulatedPattern.getNumberOfTables());
+
+		new TabulatedEarthPattern(new PatternERR_020V01(1.0, 11000.0));
+		assertEquals(2, TabulatedPattern.getNumberOfTables());
+	}
+
+	/**
+	 * Tests that the number of shared tables is bounded.
+	 */
+	@Test
+	public void test_sharing_bounded() {
+		TabulatedPattern.clearTables();
+
+		TabulatedEarthPattern t_0 = new TabulatedEarthPattern(new PatternERR_020V01(1.0, 11000.0));
+		for (int i = 1; i <= TabulatedPattern.MAX_TABLES; i++) {
+			new TabulatedEarthPattern(new PatternERR_020V01(1.0 + i, 11000.0));
+		}
+		assertEquals(TabulatedPattern.MAX_TABLES, TabulatedPattern.getNumberOfTables());
+
+		// An evicted table is still used by its tabulated pattern
+		Gain g_p = t_0.getPattern().gain(0.6, null);
+		Gain g_t = t_0.gain(0.6, null);
+		assertEquals(g_p.G, g_t.G, t_0.getMaxError());
+	}
+
+	/**
+	 * Tests that the pattern is sampled with the output validation of the
+	 * options given.
+	 */
+	@Test
+	public void test_validation() {
+		Map<String, Object> options = new HashMap<String, Object>();
+		options.put("DoValidate", false);
+
+		// The floored gain exceeds the maximum gain
+		PatternSREC408V01 p = new PatternSREC408V01(-5.0, Phi0_input);
+		TabulatedSpacePattern t = new TabulatedSpacePattern(p, options, 0.05);
+		assertEquals(0.0, t.gain(0.6, options).G, 0.0);
+		assertEquals(t, t.copy());
+
+		// The pattern validates output by default
+		try {
+			new TabulatedSpacePattern(p);
+			fail("Expected output validation to fail.");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+		try {
+			t.gain(0.6, null);
+			fail("Expected output validation to fail.");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+	}
+}
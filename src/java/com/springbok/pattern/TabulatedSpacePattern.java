@@ -0,0 +1,71 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.pattern;
+
+import java.util.Map;
+
+/**
+ * Decorates a space station pattern with a table of gains sampled once on an
+ * adaptive angle grid.
+ */
+public class TabulatedSpacePattern extends TabulatedPattern implements SpacePattern {
+
+	/**
+	 * Constructs a TabulatedSpacePattern given a pattern to decorate, using
+	 * no options and the default maximum interpolation error.
+	 *
+	 * @param pattern
+	 *            Pattern to decorate
+	 */
+	public TabulatedSpacePattern(SpacePattern pattern) {
+		super(pattern);
+	}
+
+	/**
+	 * Constructs a TabulatedSpacePattern given a pattern to decorate,
+	 * options used to sample the pattern, and a maximum interpolation error.
+	 *
+	 * @param pattern
+	 *            Pattern to decorate
+	 * @param options
+	 *            Optional parameters (entered as key/value pairs)
+	 * @param maxError
+	 *            Maximum interpolation error [dB]
+	 */
+	public TabulatedSpacePattern(SpacePattern pattern, Map options, double maxError) {
+		super(pattern, options, maxError);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.springbok.pattern.TabulatedPattern#getPattern()
+	 */
+	@Override
+	public SpacePattern getPattern() {
+		return (SpacePattern) pattern;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.springbok.pattern.SpacePattern#copy()
+	 */
+	@Override
+	public TabulatedSpacePattern copy() {
+		return new TabulatedSpacePattern(getPattern().copy(), givenOptions, maxError);
+	}
+}
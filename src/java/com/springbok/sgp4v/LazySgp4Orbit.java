@@ -0,0 +1,193 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.sgp4v;
+
+import Jama.Matrix;
+import com.celestrak.sgp4v.ObjectDecayed;
+
+import com.springbok.operator.SatelliteCatalog;
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.twobody.ModJulianInstant;
+import com.springbok.twobody.Orbit;
+import com.springbok.twobody.TimeGrid;
+import com.springbok.utility.MException;
+
+/**
+ * Describes an orbit using a two line element set, parsing only the epoch
+ * and mean motion at construction. The element set is validated, and the
+ * SGP4 propagator initialized, on the first propagation. The initialized
+ * orbit is kept in a bounded pool, which may evict it, so constructing
+ * orbits for a large catalog takes little time or memory. Copies share the
+ * initialized orbit. An element set found invalid on the first propagation
+ * raises an MException.
+ */
+public class LazySgp4Orbit implements Orbit {
+
+	/** Line one of a two line element set */
+	private final String lineOne;
+	/** Line two of a two line element set */
+	private final String lineTwo;
+
+	/** Epoch MJD calendar date */
+	private final ModJulianDate epoch;
+	/** Mean motion [rev/day] */
+	private final double meanMotion;
+
+	/** Pool of initialized orbits */
+	private final Sgp4OrbitPool pool;
+
+	/** Handle to the initialized orbit, shared by copies */
+	private final Sgp4OrbitPool.Handle handle;
+
+	/**
+	 * Constructs a LazySgp4Orbit given two line elements as strings, using
+	 * the default pool.
+	 *
+	 * @param lineOne
+	 *            Line one of a two line element set
+	 * @param lineTwo
+	 *            Line two of a two line element set
+	 */
+	public LazySgp4Orbit(String lineOne, String lineTwo) {
+		this(lineOne, lineTwo, Sgp4OrbitPool.getDefault());
+	}
+
+	/**
+	 * Constructs a LazySgp4Orbit given two line elements as strings.
+	 *
+	 * @param lineOne
+	 *            Line one of a two line element set
+	 * @param lineTwo
+	 *            Line two of a two line element set
+	 * @param pool
+	 *            Pool of initialized orbits
+	 */
+	public LazySgp4Orbit(String lineOne, String lineTwo, Sgp4OrbitPool pool) {
+		if (lineOne == null || lineTwo == null || lineOne.length() < 32 || lineTwo.length() < 63) {
+			throw new MException("Springbok:IllegalArgumentException", "Two line element set is incomplete.");
+		}
+
+		// Fundamental values.
+
+		this.lineOne = lineOne;
+		this.lineTwo = lineTwo;
+		this.pool = pool;
+		this.handle = new Sgp4OrbitPool.Handle(lineOne, lineTwo);
+
+		// Derived values.
+
+		int year = SatelliteCatalog
+				.fixedWindowYYtoYYYY(Integer.parseInt(lineOne.substring(18, 20).trim().replace("+", "")));
+		double day = Double.parseDouble(lineOne.substring(20, 32));
+		this.epoch = ModJulianDate.convertDayOfYear(year, day);
+		this.meanMotion = Double.parseDouble(lineTwo.substring(52, 63));
+	}
+
+	/**
+	 * Constructs a LazySgp4Orbit sharing the element set, pool, and handle
+	 * of another.
+	 *
+	 * @param lazyOrbit
+	 *            Lazy orbit to copy
+	 */
+	private LazySgp4Orbit(LazySgp4Orbit lazyOrbit) {
+		this.lineOne = lazyOrbit.lineOne;
+		this.lineTwo = lazyOrbit.lineTwo;
+		this.epoch = new ModJulianDate(lazyOrbit.epoch.getAsDouble());
+		this.meanMotion = lazyOrbit.meanMotion;
+		this.pool = lazyOrbit.pool;
+		this.handle = lazyOrbit.handle;
+	}
+
+	/**
+	 * Gets the initialized orbit from the pool, initializing it if not
+	 * pooled.
+	 *
+	 * @return Initialized orbit
+	 */
+	public Sgp4Orbit getSgp4Orbit() {
+		return pool.get(this);
+	}
+
+	public Sgp4OrbitPool getPool() {
+		return pool;
+	}
+
+	Sgp4OrbitPool.Handle getHandle() {
+		return handle;
+	}
+
+	public String get_lineOne() {
+		return lineOne;
+	}
+
+	public String get_lineTwo() {
+		return lineTwo;
+	}
+
+	@Override
+	public ModJulianDate getEpoch() {
+		return epoch;
+	}
+
+	/**
+	 * Computes mean motion, without initialization.
+	 *
+	 * @return Mean motion [rad/s]
+	 */
+	@Override
+	public double meanMotion() {
+		return meanMotion * ((2 * Math.PI) / 86400.0);
+		// [rad/s] = [rev/day] * ([rad/rev] / [s/day])
+	}
+
+	/**
+	 * Computes orbital period, without initialization.
+	 *
+	 * @return Orbital period [s]
+	 */
+	@Override
+	public double orbitalPeriod() {
+		return 86400 / meanMotion;
+		// [s/rev] = [s/day] / [rev/day]
+	}
+
+	@Override
+	public Matrix r_gei(ModJulianDate dNm) throws ObjectDecayed {
+		return getSgp4Orbit().r_gei(dNm);
+	}
+
+	@Override
+	public Matrix r_gei(ModJulianInstant t) throws ObjectDecayed {
+		return getSgp4Orbit().r_gei(t);
+	}
+
+	@Override
+	public void ephemeris(TimeGrid grid, double[] xyz) throws ObjectDecayed {
+		getSgp4Orbit().ephemeris(grid, xyz);
+	}
+
+	/**
+	 * Constructs a LazySgp4Orbit sharing the element set, pool, and
+	 * initialized orbit.
+	 *
+	 * @return A new LazySgp4Orbit instance
+	 */
+	@Override
+	public Orbit copy() {
+		return new LazySgp4Orbit(this);
+	}
+}
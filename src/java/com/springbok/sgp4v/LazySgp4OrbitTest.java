@@ -0,0 +1,149 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.sgp4v;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.celestrak.sgp4v.ObjectDecayed;
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.twobody.TimeGrid;
+import com.springbok.utility.MException;
+import com.springbok.utility.TestUtility;
+
+public class LazySgp4OrbitTest {
+
+	// Line one of a two line element set
+	private final String lineOne_input = "1 00001U 00001A   00001.50000000  .00000000  00000-0  00000+0 0    00";
+	// Line two of a two line element set
+	private final String lineTwo_input = "2 00001 001.0000 045.0000 0000000 045.0000 045.0000 01.00273791  1002";
+
+	// Date number at which to propagate
+	private final ModJulianDate dNm_input = new ModJulianDate(51545.25);
+
+	// An initialized orbit
+	private Sgp4Orbit sgp4Orbit_expected;
+
+	@Before
+	public void setUp() throws Exception {
+		this.sgp4Orbit_expected = new Sgp4Orbit(this.lineOne_input, this.lineTwo_input);
+	}
+
+	@Test
+	// Tests constructor, epoch, mean motion, and orbital period, without
+	// initialization.
+	public void test_constructor() {
+
+		Sgp4OrbitPool pool = new Sgp4OrbitPool(2);
+		LazySgp4Orbit orbit = new LazySgp4Orbit(this.lineOne_input, this.lineTwo_input, pool);
+
+		assertEquals(this.sgp4Orbit_expected.getEpoch().getAsDouble(), orbit.getEpoch().getAsDouble(), 0);
+		assertEquals(this.sgp4Orbit_expected.meanMotion(), orbit.meanMotion(), TestUtility.HIGH_PRECISION);
+		assertEquals(this.sgp4Orbit_expected.orbitalPeriod(), orbit.orbitalPeriod(), TestUtility.MEDIUM_PRECISION);
+		assertEquals(0, pool.size());
+		assertEquals(0, pool.getMisses());
+	}
+
+	@Test
+	// Tests r_gei and ephemeris methods against an initialized orbit.
+	public void test_r_gei() throws ObjectDecayed {
+
+		LazySgp4Orbit orbit = new LazySgp4Orbit(this.lineOne_input, this.lineTwo_input);
+
+		assertArrayEquals(this.sgp4Orbit_expected.r_gei(this.dNm_input).getColumnPackedCopy(),
+				orbit.r_gei(this.dNm_input).getColumnPackedCopy(), 0);
+
+		TimeGrid grid = new TimeGrid(this.dNm_input, 600, 10);
+		double[] xyz_expected = new double[3 * grid.size()];
+		double[] xyz_actual = new double[3 * grid.size()];
+		this.sgp4Orbit_expected.ephemeris(grid, xyz_expected);
+		orbit.ephemeris(grid, xyz_actual);
+		assertArrayEquals(xyz_expected, xyz_actual, 0);
+		assertSame(orbit.getSgp4Orbit(), orbit.getSgp4Orbit());
+	}
+
+	@Test
+	// Tests pool eviction of a recently unused orbit.
+	public void test_pool() throws ObjectDecayed {
+
+		Sgp4OrbitPool pool = new Sgp4OrbitPool(2);
+		LazySgp4Orbit[] orbits = new LazySgp4Orbit[3];
+		for (int k = 0; k < orbits.length; k++) {
+			orbits[k] = new LazySgp4Orbit(this.lineOne_input, this.lineTwo_input, pool);
+		}
+		orbits[0].r_gei(this.dNm_input);
+		orbits[1].r_gei(this.dNm_input);
+		orbits[0].r_gei(this.dNm_input);
+		orbits[2].r_gei(this.dNm_input);
+
+		assertEquals(2, pool.size());
+		assertTrue(pool.contains(orbits[0]));
+		assertFalse(pool.contains(orbits[1]));
+		assertTrue(pool.contains(orbits[2]));
+		assertEquals(1, pool.getHits());
+		assertEquals(3, pool.getMisses());
+
+		// An evicted orbit is initialized again
+		assertArrayEquals(this.sgp4Orbit_expected.r_gei(this.dNm_input).getColumnPackedCopy(),
+				orbits[1].r_gei(this.dNm_input).getColumnPackedCopy(), 0);
+		assertEquals(4, pool.getMisses());
+
+		pool.evict(orbits[1]);
+		assertEquals(1, pool.size());
+		pool.clear();
+		assertEquals(0, pool.size());
+	}
+
+	@Test
+	// Tests that a copy uses the pooled orbit of the original, and that
+	// copies occupy one pooled orbit.
+	public void test_copy() throws ObjectDecayed {
+
+		Sgp4OrbitPool pool = new Sgp4OrbitPool(2);
+		LazySgp4Orbit orbit = new LazySgp4Orbit(this.lineOne_input, this.lineTwo_input, pool);
+		Sgp4Orbit sgp4Orbit = orbit.getSgp4Orbit();
+		assertEquals(1, pool.getMisses());
+
+		LazySgp4Orbit copy = (LazySgp4Orbit) orbit.copy();
+		assertTrue(pool.contains(copy));
+		assertSame(sgp4Orbit, copy.getSgp4Orbit());
+		assertArrayEquals(orbit.r_gei(this.dNm_input).getColumnPackedCopy(),
+				copy.r_gei(this.dNm_input).getColumnPackedCopy(), 0);
+		assertEquals(1, pool.getMisses());
+		assertEquals(3, pool.getHits());
+		assertEquals(1, pool.size());
+		assertEquals(orbit.getEpoch().getAsDouble(), copy.getEpoch().getAsDouble(), 0);
+		assertNotSame(orbit.getEpoch(), copy.getEpoch());
+
+		// Evicting a copy evicts the original
+		pool.evict(copy);
+		assertFalse(pool.contains(orbit));
+		assertEquals(0, pool.size());
+	}
+
+	@Test(expected = MException.class)
+	// Tests r_gei method with an invalid element set, which is constructed,
+	// but not initialized.
+	public void test_r_gei_invalid() throws ObjectDecayed {
+
+		LazySgp4Orbit orbit = new LazySgp4Orbit(this.lineOne_input, this.lineTwo_input.replace("01.00273791", "18.04384562"),
+				new Sgp4OrbitPool(1));
+
+		orbit.r_gei(this.dNm_input);
+	}
+}
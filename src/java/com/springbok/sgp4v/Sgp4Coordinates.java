@@ -20,6 +20,7 @@ import java.io.Serializable;
 import Jama.Matrix;
 
 import com.springbok.station.EarthStation;
+import com.springbok.twobody.EarthFrame;
 import com.springbok.twobody.ModJulianDate;
 
 /**
@@ -88,11 +89,12 @@ public final class Sgp4Coordinates implements Serializable {
 	 *         modeled)
 	 */
 	public static Matrix TETEDToCIRS(ModJulianDate dNm, Matrix TETED) {
-		double T = (dNm.getAsDouble() - 51544.5) / 36525.0;
-		double epsilon = (Math.PI / (180.0 * 3600.0)) * (-0.014506 - 4612.156534 * T - 1.3915817 * Math.pow(T, 2)
-				+ 0.00000044 * Math.pow(T, 3) + 0.000029956 * Math.pow(T, 4) + 0.0000000368 * Math.pow(T, 5));
-		Matrix CIRS = com.springbok.twobody.Coordinates.R_z(-epsilon).times(TETED);
-		return CIRS;
+		EarthFrame frame = EarthFrame.at(dNm);
+		double[] CIRS = TETED.getColumnPackedCopy();
+		for (int off = 0; off < CIRS.length; off += 3) {
+			frame.TETEDToCIRS(CIRS, off, CIRS, off);
+		}
+		return new Matrix(CIRS, 3);
 	}
 
 	/**
@@ -109,10 +111,12 @@ public final class Sgp4Coordinates implements Serializable {
 	 *         nutation modeled)
 	 */
 	public static Matrix CIRSToTIRS(ModJulianDate dNm, Matrix CIRS) {
-		double T = dNm.getAsDouble() - 51544.5;
-		double angle = 2 * Math.PI * (0.7790572732640 + 1.00273781191135448 * T);
-		Matrix TIRS = com.springbok.twobody.Coordinates.R_z(angle).times(CIRS);
-		return TIRS;
+		EarthFrame frame = EarthFrame.at(dNm);
+		double[] TIRS = CIRS.getColumnPackedCopy();
+		for (int off = 0; off < TIRS.length; off += 3) {
+			frame.CIRSToTIRS(TIRS, off, TIRS, off);
+		}
+		return new Matrix(TIRS, 3);
 	}
 
 	/**
@@ -170,10 +174,12 @@ public final class Sgp4Coordinates implements Serializable {
 	 *         modeled)
 	 */
 	public static Matrix TIRSToCIRS(ModJulianDate dNm, Matrix TIRS) {
-		double T = dNm.getAsDouble() - 51544.5;
-		double angle = 2.0 * Math.PI * (0.7790572732640 + 1.00273781191135448 * T);
-		Matrix CIRS = com.springbok.twobody.Coordinates.R_z(-angle).times(TIRS);
-		return CIRS;
+		EarthFrame frame = EarthFrame.at(dNm);
+		double[] CIRS = TIRS.getColumnPackedCopy();
+		for (int off = 0; off < CIRS.length; off += 3) {
+			frame.TIRSToCIRS(CIRS, off, CIRS, off);
+		}
+		return new Matrix(CIRS, 3);
 	}
 
 	/**
@@ -190,11 +196,12 @@ public final class Sgp4Coordinates implements Serializable {
 	 *         nutation modeled)
 	 */
 	public static Matrix CIRSToTETED(ModJulianDate dNm, Matrix CIRS) {
-		double T = (dNm.getAsDouble() - 51544.5) / 36525.0;
-		double epsilon = (Math.PI / (180.0 * 3600.0)) * (-0.014506 - 4612.156534 * T - 1.3915817 * Math.pow(T, 2)
-				+ 0.00000044 * Math.pow(T, 3) + 0.000029956 * Math.pow(T, 4) + 0.0000000368 * Math.pow(T, 5));
-		Matrix TETED = com.springbok.twobody.Coordinates.R_z(epsilon).times(CIRS);
-		return TETED;
+		EarthFrame frame = EarthFrame.at(dNm);
+		double[] TETED = CIRS.getColumnPackedCopy();
+		for (int off = 0; off < TETED.length; off += 3) {
+			frame.CIRSToTETED(TETED, off, TETED, off);
+		}
+		return new Matrix(TETED, 3);
 	}
 
 	/**
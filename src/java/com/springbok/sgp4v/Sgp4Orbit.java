@@ -19,6 +19,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 
 import Jama.Matrix;
+import com.celestrak.sgp4v.ConstellationPropagator;
 import com.celestrak.sgp4v.ObjectDecayed;
 import com.celestrak.sgp4v.SatElset;
 import com.celestrak.sgp4v.SatElsetException;
@@ -32,7 +33,10 @@ import com.springbok.twobody.EstimatedOrbit;
 import com.springbok.twobody.EarthConstants;
 import com.springbok.twobody.KeplerianOrbit;
 import com.springbok.twobody.ModJulianDate;
+import com.springbok.twobody.ModJulianInstant;
 import com.springbok.twobody.Orbit;
+import com.springbok.twobody.TimeGrid;
+import com.springbok.utility.MException;
 
 /**
  * Describes an orbit using S1S2 elements by computing position relative to the
@@ -58,6 +62,9 @@ public class Sgp4Orbit implements Orbit, EstimatedOrbit, Serializable {
 	/** The SGP4 data */
 	private Sgp4Data sgp4Data;
 
+	/** Conversion of SGP4 velocity to [er/s], see Sgp4Unit.main */
+	private static final double vkmpersec = 7.436685316871e-2 / 60.0;
+
 	// TODO: Remove
 	// private static ModJulianDateConversions mjdConverter = new ModJulianDateConversions();
 	// private static DayOfYearConversions doyConverter = new DayOfYearConversions();
@@ -124,8 +131,11 @@ public class Sgp4Orbit implements Orbit, EstimatedOrbit, Serializable {
 		this.epoch = sgp4Orb.epoch;
 		this.satElset = sgp4Orb.satElset;
 
-		this.sgp4Unit = sgp4Orb.sgp4Unit;
-		this.sgp4Data = sgp4Orb.sgp4Data;
+		// Propagation does not update the unit state, so copies share it
+		if (sgp4Orb.sgp4Unit != null) {
+			this.sgp4Unit = sgp4Orb.sgp4Unit;
+			this.sgp4Data = new Sgp4Data(this.satElset.getSatID());
+		}
 	}
 
 	public void updateElset(SatElset elset) throws SatElsetException {
@@ -323,8 +333,27 @@ public class Sgp4Orbit implements Orbit, EstimatedOrbit, Serializable {
 		// - SGP4 expects 1-based days (same as TLE).
 		// - milliseconds from the new year is 0-based.
 
-		sgp4Data = sgp4Unit.runSgp4(dNm.getYear(), dNm.getDayOfYear() + dNm.getFraction());
-		double[][] elements = { { sgp4Data.getX() }, { sgp4Data.getY() }, { sgp4Data.getZ() } };
+		return r_gei(dNm.getYear(), dNm.getDayOfYear() + dNm.getFraction());
+	}
+
+	/**
+	 * Computes geocentric equatorial intertial position vector, using the
+	 * calendar values cached by the instant.
+	 * 
+	 * @param t
+	 *            MJD instant at which the position vector occurs
+	 * @return Geocentric equatorial intertial position vector [er]
+	 * @throws ObjectDecayed
+	 */
+	@Override
+	public Matrix r_gei(ModJulianInstant t) throws ObjectDecayed {
+		return r_gei(t.getYear(), t.getDayOfYear() + t.getFraction());
+	}
+
+	private Matrix r_gei(int year, double day) throws ObjectDecayed {
+		double[] rv = new double[6];
+		sgp4Unit.propagate(sgp4Unit.getTsince(year, day), rv, 0);
+		double[][] elements = { { rv[0] }, { rv[1] }, { rv[2] } };
 		// [er]
 		Matrix r_gei = new Matrix(elements);
 		// System.out.println("r_gei"); r_gei.print(16, 8);
@@ -350,12 +379,28 @@ public class Sgp4Orbit implements Orbit, EstimatedOrbit, Serializable {
 		// - months are 0-based.
 		// - SGP4 expects 1-based days (same as TLE).
 		// - milliseconds from the new year is 0-based.
-		double vkmpersec = 7.436685316871e-2 / 60.0; // See Sgp4Unit.java line
-														// 51
-		sgp4Data = sgp4Unit.runSgp4(dNm.getYear(), dNm.getDayOfYear() + dNm.getFraction());
-		double[][] elements = { { sgp4Data.getX() }, { sgp4Data.getY() }, { sgp4Data.getZ() },
-				{ sgp4Data.getXdot() * vkmpersec }, { sgp4Data.getYdot() * vkmpersec },
-				{ sgp4Data.getZdot() * vkmpersec } };
+		return rv_gei(dNm.getYear(), dNm.getDayOfYear() + dNm.getFraction());
+	}
+
+	/**
+	 * Computes geocentric equatorial intertial position and velocity vectors,
+	 * using the calendar values cached by the instant.
+	 * 
+	 * @param t
+	 *            MJD instant at which the position vector occurs
+	 * @return Geocentric equatorial intertial position and velocity vectors
+	 *         [er] and [er/s]
+	 * @throws ObjectDecayed
+	 */
+	public Matrix rv_gei(ModJulianInstant t) throws ObjectDecayed {
+		return rv_gei(t.getYear(), t.getDayOfYear() + t.getFraction());
+	}
+
+	private Matrix rv_gei(int year, double day) throws ObjectDecayed {
+		double[] rv = new double[6];
+		sgp4Unit.propagate(sgp4Unit.getTsince(year, day), rv, 0);
+		double[][] elements = { { rv[0] }, { rv[1] }, { rv[2] }, { rv[3] * vkmpersec }, { rv[4] * vkmpersec },
+				{ rv[5] * vkmpersec } };
 		// [er] and [er/s] = [er/min] * [min/sec]
 		Matrix rv_gei = new Matrix(elements);
 		// System.out.println("rv_gei"); rv_gei.print(16, 8);
@@ -363,6 +408,66 @@ public class Sgp4Orbit implements Orbit, EstimatedOrbit, Serializable {
 		// [er] and [er/s]
 	}
 
+	/**
+	 * Computes geocentric equatorial intertial position vectors at each step
+	 * of a time grid, converting the first step to a year and day of year
+	 * only.
+	 * 
+	 * @param grid
+	 *            MJD time grid at which the position vectors occur
+	 * @param xyz
+	 *            Geocentric equatorial intertial position vectors, step k at
+	 *            offset 3 * k, output [er]
+	 * @throws ObjectDecayed
+	 */
+	@Override
+	public void ephemeris(TimeGrid grid, double[] xyz) throws ObjectDecayed {
+		ephemeris(grid, xyz, null);
+	}
+
+	/**
+	 * Computes geocentric equatorial intertial position and velocity vectors
+	 * at each step of a time grid, converting the first step to a year and
+	 * day of year only.
+	 * 
+	 * @param grid
+	 *            MJD time grid at which the position vectors occur
+	 * @param xyz
+	 *            Geocentric equatorial intertial position vectors, step k at
+	 *            offset 3 * k, output [er]
+	 * @param vxyz
+	 *            Geocentric equatorial intertial velocity vectors, step k at
+	 *            offset 3 * k, output, or null [er/s]
+	 * @throws ObjectDecayed
+	 */
+	public void ephemeris(TimeGrid grid, double[] xyz, double[] vxyz) throws ObjectDecayed {
+		int n = grid.size();
+		if (xyz.length < 3 * n || (vxyz != null && vxyz.length < 3 * n)) {
+			throw new MException("Springbok:IllegalArgumentException", "Output arrays must hold each step");
+		}
+		if (n == 0) {
+			return;
+		}
+		ModJulianInstant t_0 = grid.get(0);
+		double tsince_0 = sgp4Unit.getTsince(t_0.getYear(), t_0.getDayOfYear() + t_0.getFraction());
+		// [min]
+		double step = grid.getStep() / 60.0;
+		// [min] = [s] / [s/min]
+		double[] rv = new double[6];
+		for (int k = 0; k < n; k++) {
+			sgp4Unit.propagate(tsince_0 + k * step, rv, 0);
+			xyz[3 * k] = rv[0];
+			xyz[3 * k + 1] = rv[1];
+			xyz[3 * k + 2] = rv[2];
+			if (vxyz != null) {
+				vxyz[3 * k] = rv[3] * vkmpersec;
+				vxyz[3 * k + 1] = rv[4] * vkmpersec;
+				vxyz[3 * k + 2] = rv[5] * vkmpersec;
+				// [er/s] = [er/min] * [min/sec]
+			}
+		}
+	}
+
 	/**
 	 * Sets semi-major axis [er].
 	 * 
@@ -532,11 +637,23 @@ public class Sgp4Orbit implements Orbit, EstimatedOrbit, Serializable {
 		return satElset;
 	}
 
+	/**
+	 * Gets the SGP4 procedures.
+	 * 
+	 * @return The SGP4 procedures
+	 */
+	public Sgp4Unit getSgp4Unit() {
+		return sgp4Unit;
+	}
+
 	/**
 	 * Gets the data associated with the calculation of satellite positions.
 	 * 
 	 * @return The data associated with the calculation of satellite positions
+	 * @deprecated Position computation no longer records data, so that an
+	 *             orbit may be shared between threads
 	 */
+	@Deprecated
 	public Sgp4Data getData() {
 		return sgp4Data;
 	}
@@ -594,6 +711,23 @@ public class Sgp4Orbit implements Orbit, EstimatedOrbit, Serializable {
 		}
 	}
 
+	/**
+	 * Constructs a ConstellationPropagator given Sgp4Orbits, for propagating
+	 * all orbits to a date in one call.
+	 * 
+	 * @param sgp4Orbs
+	 *            The Sgp4Orbits
+	 * 
+	 * @return The ConstellationPropagator
+	 */
+	public static ConstellationPropagator getConstellationPropagator(Sgp4Orbit[] sgp4Orbs) {
+		Sgp4Unit[] sgp4Units = new Sgp4Unit[sgp4Orbs.length];
+		for (int i = 0; i < sgp4Orbs.length; i++) {
+			sgp4Units[i] = sgp4Orbs[i].sgp4Unit;
+		}
+		return new ConstellationPropagator(sgp4Units);
+	}
+
 	/**
 	 * Constructs an Sgp4Orbit given a KeplerianOrbit by fitting an Sgp4 orbit
 	 * the positions corresponding to the Keplerian orbit.
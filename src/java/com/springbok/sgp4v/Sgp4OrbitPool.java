@@ -0,0 +1,202 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.sgp4v;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.celestrak.sgp4v.SatElsetException;
+import com.springbok.utility.MException;
+
+/**
+ * A bounded pool of initialized SGP4 orbits, used by lazy SGP4 orbits, so
+ * that memory is bounded for large catalogs. A lazy orbit and its copies
+ * share a handle, which references the initialized orbit while pooled, so
+ * copies share one initialized orbit, and finding a pooled orbit takes no
+ * lock. When full, a recently unused orbit is evicted first, by giving each
+ * orbit used since it was last considered a second chance, and is
+ * initialized again if used again. The pool may be shared between threads;
+ * orbits are initialized outside the lock, so concurrent misses on the same
+ * handle may each initialize, and the first pooled wins.
+ */
+public final class Sgp4OrbitPool {
+
+	/** Default number of pooled orbits */
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	// Pool shared by lazy orbits constructed without a pool
+	private static final Sgp4OrbitPool defaultPool = new Sgp4OrbitPool(DEFAULT_CAPACITY);
+
+	// Maximum number of pooled orbits
+	private final int capacity;
+
+	// Handles of pooled orbits, in the order considered for eviction
+	private final LinkedHashSet<Handle> handles = new LinkedHashSet<Handle>();
+
+	// Number of lookups found in the pool
+	private final LongAdder hits = new LongAdder();
+
+	// Number of lookups which required initialization
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * The element set of a lazy orbit, shared by its copies, and the
+	 * initialized orbit, while pooled.
+	 */
+	static final class Handle {
+
+		/** Line one of a two line element set */
+		final String lineOne;
+		/** Line two of a two line element set */
+		final String lineTwo;
+
+		/** Initialized orbit, or null, if not pooled */
+		volatile Sgp4Orbit orbit;
+
+		/** Flag indicating the orbit was used since last considered for eviction */
+		volatile boolean isReferenced;
+
+		Handle(String lineOne, String lineTwo) {
+			this.lineOne = lineOne;
+			this.lineTwo = lineTwo;
+		}
+	}
+
+	/**
+	 * Constructs an empty pool.
+	 *
+	 * @param capacity
+	 *            Maximum number of pooled orbits
+	 */
+	public Sgp4OrbitPool(int capacity) {
+		if (capacity < 1) {
+			throw new MException("Springbok:IllegalArgumentException", "Capacity must be positive.");
+		}
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Gets the pool shared by lazy orbits constructed without a pool.
+	 *
+	 * @return Default pool
+	 */
+	public static Sgp4OrbitPool getDefault() {
+		return defaultPool;
+	}
+
+	/**
+	 * Gets the initialized orbit of a lazy orbit, without a lock if pooled,
+	 * or initializing it, and evicting a recently unused orbit if full, on a
+	 * miss.
+	 *
+	 * @param lazyOrbit
+	 *            Lazy orbit
+	 * @return Initialized orbit
+	 */
+	public Sgp4Orbit get(LazySgp4Orbit lazyOrbit) {
+		Handle handle = lazyOrbit.getHandle();
+		Sgp4Orbit orbit = handle.orbit;
+		if (orbit != null) {
+			if (!handle.isReferenced) {
+				handle.isReferenced = true;
+			}
+			hits.increment();
+			return orbit;
+		}
+		misses.increment();
+		try {
+			orbit = new Sgp4Orbit(handle.lineOne, handle.lineTwo);
+		} catch (SatElsetException e) {
+			throw new MException("Springbok:IllegalArgumentException", e.getMessage());
+		}
+		synchronized (this) {
+			Sgp4Orbit pooled = handle.orbit;
+			if (pooled != null) {
+				return pooled;
+			}
+
+			// Evict the first orbit not used since last considered
+			Iterator<Handle> iterator = handles.iterator();
+			while (handles.size() >= capacity) {
+				Handle eldest = iterator.next();
+				iterator.remove();
+				if (eldest.isReferenced) {
+					eldest.isReferenced = false;
+					handles.add(eldest);
+					iterator = handles.iterator();
+				} else {
+					eldest.orbit = null;
+				}
+			}
+			handle.isReferenced = false;
+			handle.orbit = orbit;
+			handles.add(handle);
+			return orbit;
+		}
+	}
+
+	/**
+	 * Evicts the initialized orbit of a lazy orbit, and its copies, if
+	 * pooled.
+	 *
+	 * @param lazyOrbit
+	 *            Lazy orbit
+	 */
+	public synchronized void evict(LazySgp4Orbit lazyOrbit) {
+		Handle handle = lazyOrbit.getHandle();
+		if (handles.remove(handle)) {
+			handle.orbit = null;
+		}
+	}
+
+	/**
+	 * Evicts all orbits.
+	 */
+	public synchronized void clear() {
+		for (Handle handle : handles) {
+			handle.orbit = null;
+		}
+		handles.clear();
+	}
+
+	/**
+	 * Determines if the initialized orbit of a lazy orbit is pooled.
+	 *
+	 * @param lazyOrbit
+	 *            Lazy orbit
+	 * @return Flag indicating whether the orbit is pooled
+	 */
+	public boolean contains(LazySgp4Orbit lazyOrbit) {
+		return lazyOrbit.getHandle().orbit != null;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public synchronized int size() {
+		return handles.size();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+}
@@ -17,18 +17,27 @@ package com.springbok.sgp4v;
 
 import static org.junit.Assert.*;
 
+import java.util.Random;
+import java.util.stream.IntStream;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import Jama.Matrix;
 
+import com.celestrak.sgp4v.ConstellationPropagator;
 import com.celestrak.sgp4v.ObjectDecayed;
 import com.celestrak.sgp4v.SatElsetException;
+import com.celestrak.sgp4v.Sgp4Data;
+import com.celestrak.sgp4v.Sgp4Unit;
 import com.celestrak.sgp4v.ValueOutOfRangeException;
 import com.springbok.twobody.EarthConstants;
 import com.springbok.twobody.KeplerianOrbit;
 import com.springbok.twobody.ModJulianDate;
+import com.springbok.twobody.ModJulianInstant;
+import com.springbok.twobody.SecularPropagator;
+import com.springbok.twobody.TimeGrid;
 import com.springbok.utility.TestUtility;
 
 public class Sgp4OrbitTest {
@@ -145,6 +154,79 @@ public class Sgp4OrbitTest {
 		assertTrue(Math.sqrt(delta_r_gei.transpose().times(delta_r_gei).get(0, 0)) < 20.0 / EarthConstants.R_oplus);
 	}
 
+	@Test
+	// Tests r_gei and rv_gei methods given an instant.
+	public void test_r_gei_instant() throws ObjectDecayed {
+
+		ModJulianInstant t = new ModJulianInstant(this.epoch_input.getAsDouble() + 0.3);
+
+		assertArrayEquals(this.sgp4_orbit.r_gei(t.toModJulianDate()).getColumnPackedCopy(),
+				this.sgp4_orbit.r_gei(t).getColumnPackedCopy(), 0);
+		assertArrayEquals(this.sgp4_orbit.rv_gei(t.toModJulianDate()).getColumnPackedCopy(),
+				this.sgp4_orbit.rv_gei(t).getColumnPackedCopy(), 0);
+		assertArrayEquals(this.kep_orbit.r_gei(t.toModJulianDate()).getColumnPackedCopy(),
+				this.kep_orbit.r_gei(t).getColumnPackedCopy(), 0);
+	}
+
+	@Test
+	// Tests propagate method against runSgp4, sharing one unit between
+	// threads, for deep space and near Earth orbits.
+	public void test_propagate() throws ObjectDecayed, SatElsetException, ValueOutOfRangeException {
+
+		Sgp4Orbit[] sgp4_orbits = { this.sgp4_orbit, new Sgp4Orbit(2, new KeplerianOrbit(1.1, 0.01,
+				30 * Math.PI / 180, Math.PI / 3, Math.PI / 5, Math.PI / 7, this.epoch_input, this.method_input)) };
+		for (Sgp4Orbit sgp4_orb : sgp4_orbits) {
+			Sgp4Unit sgp4Unit = sgp4_orb.getSgp4Unit();
+			Sgp4Unit sgp4Unit_expected = new Sgp4Unit(sgp4_orb.getElSet());
+			int n = 200;
+			int year = sgp4_orb.getEpoch().getYear();
+			double[] day = new double[n];
+			double[] rv_expected = new double[6 * n];
+			for (int k = 0; k < n; k++) {
+				day[k] = sgp4_orb.getEpoch().getDayOfYear() + 0.01 * k;
+				Sgp4Data data = sgp4Unit_expected.runSgp4(year, day[k]);
+				double[] rv = { data.getX(), data.getY(), data.getZ(), data.getXdot(), data.getYdot(),
+						data.getZdot() };
+				System.arraycopy(rv, 0, rv_expected, 6 * k, 6);
+			}
+
+			double[] rv_actual = new double[6 * n];
+			IntStream.range(0, n).parallel().forEach(k -> {
+				try {
+					sgp4Unit.propagate(sgp4Unit.getTsince(year, day[k]), rv_actual, 6 * k);
+				} catch (ObjectDecayed e) {
+					throw new IllegalStateException(e);
+				}
+			});
+
+			assertArrayEquals(rv_expected, rv_actual, 0);
+		}
+	}
+
+	@Test
+	// Tests ephemeris methods against r_gei and rv_gei at each step, which
+	// differ by the rounding of the calendar values of each step.
+	public void test_ephemeris() throws ObjectDecayed {
+
+		TimeGrid grid = new TimeGrid(this.epoch_input.getAsDouble() + 0.3, 60.0, 1441);
+		double[] xyz = new double[3 * grid.size()];
+		double[] vxyz = new double[3 * grid.size()];
+		double[] xyz_kep = new double[3 * grid.size()];
+
+		this.sgp4_orbit.ephemeris(grid, xyz, vxyz);
+		this.kep_orbit.ephemeris(grid, xyz_kep);
+
+		for (int k = 0; k < grid.size(); k++) {
+			double[] rv_expected = this.sgp4_orbit.rv_gei(grid.get(k)).getColumnPackedCopy();
+			double[] r_kep_expected = this.kep_orbit.r_gei(grid.get(k)).getColumnPackedCopy();
+			for (int j = 0; j < 3; j++) {
+				assertEquals(rv_expected[j], xyz[3 * k + j], TestUtility.LOW_PRECISION);
+				assertEquals(rv_expected[3 + j], vxyz[3 * k + j], TestUtility.LOW_PRECISION);
+				assertEquals(r_kep_expected[j], xyz_kep[3 * k + j], 0);
+			}
+		}
+	}
+
 	@Test
 	// Tests v_gei method.
 	public void test_v_gei() throws ObjectDecayed {
@@ -252,4 +334,89 @@ public class Sgp4OrbitTest {
 
 		assertTrue(M_actual == M_expected);
 	}
+
+	@Test
+	// Tests getConstellationPropagator method.
+	public void test_getConstellationPropagator()
+			throws ObjectDecayed, SatElsetException, ValueOutOfRangeException {
+
+		// Near Earth orbits, and the deep space input orbit
+		int n = 5;
+		Sgp4Orbit[] sgp4_orbits = new Sgp4Orbit[n];
+		for (int i = 0; i < n - 1; i++) {
+			KeplerianOrbit kep_orb = new KeplerianOrbit(1.1 + 0.05 * i, 0.001 * i, (10 + 20 * i) * Math.PI / 180,
+					i * Math.PI / 3, i * Math.PI / 5, i * Math.PI / 7, this.epoch_input, this.method_input);
+			sgp4_orbits[i] = new Sgp4Orbit(i + 1, kep_orb);
+		}
+		sgp4_orbits[n - 1] = this.sgp4_orbit;
+
+		ConstellationPropagator propagator = Sgp4Orbit.getConstellationPropagator(sgp4_orbits);
+
+		assertEquals(n, propagator.getNumberOfSatellites());
+
+		double[] x = new double[n];
+		double[] y = new double[n];
+		double[] z = new double[n];
+		ModJulianDate dNm = new ModJulianDate(this.epoch_input.getAsDouble() + 0.3);
+
+		int nDecayed = propagator.propagate(dNm.getYear(), dNm.getDayOfYear() + dNm.getFraction(), x, y, z);
+
+		assertEquals(0, nDecayed);
+		for (int i = 0; i < n; i++) {
+			Matrix r_gei_expected = sgp4_orbits[i].r_gei(dNm);
+
+			assertEquals(0, propagator.getError(i));
+			assertEquals(r_gei_expected.get(0, 0), x[i], TestUtility.HIGH_PRECISION);
+			assertEquals(r_gei_expected.get(1, 0), y[i], TestUtility.HIGH_PRECISION);
+			assertEquals(r_gei_expected.get(2, 0), z[i], TestUtility.HIGH_PRECISION);
+		}
+	}
+
+	@Test
+	// Tests SecularPropagator against SGP4 by comparing orbital planes of low
+	// Earth orbits over three days. Along-track errors are dominated by the
+	// difference between the Keplerian and SGP4 mean motions, so are not
+	// compared.
+	public void test_SecularPropagator() throws ObjectDecayed, SatElsetException, ValueOutOfRangeException {
+
+		Random random = new Random(1);
+		int n = 100;
+		KeplerianOrbit[] kepOrbs = new KeplerianOrbit[n];
+		Sgp4Orbit[] sgp4Orbs = new Sgp4Orbit[n];
+		for (int i = 0; i < n; i++) {
+			kepOrbs[i] = new KeplerianOrbit(1 + (500 + 800 * random.nextDouble()) / EarthConstants.R_oplus,
+					0.001 + 0.01 * random.nextDouble(), Math.PI * random.nextDouble(), 2 * Math.PI * random.nextDouble(),
+					2 * Math.PI * random.nextDouble(), 2 * Math.PI * random.nextDouble(), this.epoch_input, "halley");
+			sgp4Orbs[i] = new Sgp4Orbit(i + 1, kepOrbs[i]);
+		}
+
+		ModJulianDate dNm_a = new ModJulianDate(this.epoch_input.getAsDouble() + 3);
+		ModJulianDate dNm_b = new ModJulianDate(dNm_a.getAsDouble() + 1.0 / 1440);
+		double[] maxAngle = new double[2];
+		String[] modes = { "two-body", "j2" };
+		for (int iMod = 0; iMod < modes.length; iMod++) {
+			SecularPropagator propagator = new SecularPropagator(kepOrbs, modes[iMod]);
+			double[] x_a = new double[n], y_a = new double[n], z_a = new double[n];
+			double[] x_b = new double[n], y_b = new double[n], z_b = new double[n];
+			propagator.propagate(dNm_a, x_a, y_a, z_a);
+			propagator.propagate(dNm_b, x_b, y_b, z_b);
+			for (int i = 0; i < n; i++) {
+				Matrix h_expected = cross(sgp4Orbs[i].r_gei(dNm_a), sgp4Orbs[i].r_gei(dNm_b));
+				Matrix h_actual = cross(new Matrix(new double[] { x_a[i], y_a[i], z_a[i] }, 3),
+						new Matrix(new double[] { x_b[i], y_b[i], z_b[i] }, 3));
+				double cosAngle = h_expected.transpose().times(h_actual).get(0, 0)
+						/ (h_expected.normF() * h_actual.normF());
+				maxAngle[iMod] = Math.max(maxAngle[iMod], Math.acos(Math.min(1, cosAngle)) * 180 / Math.PI);
+			}
+		}
+		// [deg]
+		assertTrue(maxAngle[0] > 1.0);
+		assertTrue(maxAngle[1] < 0.1);
+	}
+
+	private static Matrix cross(Matrix a, Matrix b) {
+		return new Matrix(new double[] { a.get(1, 0) * b.get(2, 0) - a.get(2, 0) * b.get(1, 0),
+				a.get(2, 0) * b.get(0, 0) - a.get(0, 0) * b.get(2, 0),
+				a.get(0, 0) * b.get(1, 0) - a.get(1, 0) * b.get(0, 0) }, 3);
+	}
 }
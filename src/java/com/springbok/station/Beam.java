@@ -90,7 +90,11 @@ public class Beam {
      * @return A new Beam instance
      */
     public Beam copy() {
-        return new Beam(this.name, this.multiplicity, this.dutyCycle);
+        Beam that = new Beam(this.name, this.multiplicity, this.dutyCycle);
+        that.set_isAvailable(this.isAvailable);
+        that.set_isMultiplexed(this.isMultiplexed);
+        that.set_divisions(this.divisions);
+        return that;
     }
 
     /**
@@ -186,4 +186,22 @@ public class BeamTest {
         assertFalse(beam.isMultiplexed());
         assertTrue(TestUtility.isDoublesEquals(0, beam.getDivisions()));
     }
+
+    /**
+     * Tests that copy keeps the assignment state.
+     */
+    @Test
+    public void test_copy() {
+        Beam beam = new Beam(this.name, 3, 100);
+        beam.assign(true);
+
+        Beam that = beam.copy();
+
+        assertTrue(that.isAvailable());
+        assertTrue(that.isMultiplexed());
+        assertTrue(TestUtility.isDoublesEquals(1, that.getDivisions()));
+
+        that.assign(true);
+        assertTrue(TestUtility.isDoublesEquals(1, beam.getDivisions()));
+    }
 }
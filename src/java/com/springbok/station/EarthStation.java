@@ -188,7 +188,7 @@ public class EarthStation extends Station implements Serializable {
     }
 
     public Matrix compute_r_gei(ModJulianDate dNm) {
-        if (dNm != null && this.dNm != null && !dNm.equals(this.dNm)) {
+        if (dNm != null && (this.dNm == null || !dNm.equals(this.dNm))) {
             this.dNm = dNm;
             this.r_gei = Coordinates.ger2gei(this.R_ger, dNm);
         }
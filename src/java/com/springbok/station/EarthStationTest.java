@@ -24,6 +24,10 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.celestrak.sgp4v.ObjectDecayed;
+import com.springbok.twobody.EarthFrame;
+import com.springbok.twobody.KeplerianOrbit;
+import com.springbok.twobody.ModJulianDate;
 import com.springbok.utility.TestUtility;
 
 public class EarthStationTest {
@@ -122,4 +126,24 @@ public class EarthStationTest {
         double lambda_actual = this.earthStation.lambda;
         assertEquals(lambda_actual, lambda_expected, TestUtility.HIGH_PRECISION);
     }
+
+    @Test
+    /*
+     * Tests that Earth and space stations evaluated at a date share one
+     * Earth frame.
+     */
+    public void test_shared_frame() throws ObjectDecayed {
+        ModJulianDate dNm = new ModJulianDate(51000.123456789);
+        EarthStation otherStation = this.earthStation.copy();
+        otherStation.set_lambda(this.lambda + 1.0);
+
+        long misses = EarthFrame.getMisses();
+        long hits = EarthFrame.getHits();
+        this.earthStation.compute_r_gei(dNm);
+        otherStation.compute_r_gei(dNm);
+        new EphemerisCache().get(new KeplerianOrbit(), dNm);
+
+        assertEquals(misses + 1, EarthFrame.getMisses());
+        assertEquals(hits + 2, EarthFrame.getHits());
+    }
 }
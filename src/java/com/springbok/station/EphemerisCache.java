@@ -0,0 +1,184 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.station;
+
+import Jama.Matrix;
+import com.celestrak.sgp4v.ObjectDecayed;
+import com.springbok.twobody.Coordinates;
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.twobody.Orbit;
+import com.springbok.utility.MException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the position vectors of an orbit at a bounded number of dates, so
+ * that alternating between dates, such as the assignment and performance
+ * dates of a simulation, does not repeat the propagation. Entries are
+ * immutable, and are kept in a ring buffer, so the oldest entry is evicted
+ * first. Dates are compared by value. The cache may be shared between
+ * threads; concurrent misses on the same date each propagate, and the last
+ * entry wins.
+ */
+public final class EphemerisCache {
+
+    // Default number of cached dates
+    public static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * Position vectors of the orbit at one date.
+     */
+    static final class Entry {
+
+        // Date number value at which the position vectors occur
+        final double value;
+
+        // Date number at which the position vectors occur
+        final ModJulianDate dNm;
+
+        // Geocentric equatorial inertial position vector [er]
+        final Matrix r_gei;
+
+        // Geocentric equatorial rotating position vector [er]
+        final Matrix r_ger;
+
+        Entry(ModJulianDate dNm, Matrix r_gei, Matrix r_ger) {
+            this.value = dNm.getAsDouble();
+            this.dNm = new ModJulianDate(this.value);
+            this.r_gei = r_gei;
+            this.r_ger = r_ger;
+        }
+    }
+
+    // Ring buffer of entries
+    private final AtomicReferenceArray<Entry> entries;
+
+    // Index of the next entry to replace
+    private final AtomicInteger next = new AtomicInteger();
+
+    // Most recently used entry
+    private volatile Entry latest;
+
+    // Number of lookups found in the cache
+    private final AtomicLong hits = new AtomicLong();
+
+    // Number of lookups which required propagation
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructs an EphemerisCache with the default capacity.
+     */
+    public EphemerisCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an EphemerisCache.
+     *
+     * @param capacity Number of cached dates
+     */
+    public EphemerisCache(int capacity) {
+        if (capacity < 1) {
+            throw new MException("Springbok:IllegalArgumentException", "Capacity must be positive");
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Gets the entry at a date, propagating the orbit if the date is not
+     * cached.
+     *
+     * @param orbit The orbit
+     * @param dNm Date number at which the position vectors occur
+     *
+     * @return The entry at the date
+     */
+    Entry get(Orbit orbit, ModJulianDate dNm) throws ObjectDecayed {
+        double value = dNm.getAsDouble();
+
+        // Check the most recently used entry first, since it is the most
+        // likely to match
+        Entry entry = this.latest;
+        if (entry == null || entry.value != value) {
+            entry = null;
+            for (int i = 0; i < this.entries.length(); i++) {
+                Entry candidate = this.entries.get(i);
+                if (candidate != null && candidate.value == value) {
+                    entry = candidate;
+                    break;
+                }
+            }
+        }
+        if (entry != null) {
+            this.hits.incrementAndGet();
+        } else {
+            this.misses.incrementAndGet();
+            Matrix r_gei = orbit.r_gei(dNm);
+            entry = new Entry(dNm, r_gei, Coordinates.gei2ger(r_gei, dNm));
+            this.entries.set(Math.floorMod(this.next.getAndIncrement(), this.entries.length()), entry);
+        }
+        this.latest = entry;
+        return entry;
+    }
+
+    /**
+     * Gets the most recently used entry.
+     *
+     * @return The most recently used entry, or null, if none
+     */
+    Entry getLatest() {
+        return this.latest;
+    }
+
+    /**
+     * Removes all entries, but not the hit and miss counts.
+     */
+    public void clear() {
+        for (int i = 0; i < this.entries.length(); i++) {
+            this.entries.set(i, null);
+        }
+        this.latest = null;
+    }
+
+    /**
+     * Gets the number of cached dates.
+     *
+     * @return Number of cached dates
+     */
+    public int getCapacity() {
+        return this.entries.length();
+    }
+
+    /**
+     * Gets the number of lookups found in the cache.
+     *
+     * @return Number of hits
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Gets the number of lookups which required propagation.
+     *
+     * @return Number of misses
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+}
@@ -18,7 +18,6 @@ package com.springbok.station;
 import Jama.Matrix;
 import com.celestrak.sgp4v.ObjectDecayed;
 import com.springbok.antenna.Antenna;
-import com.springbok.twobody.Coordinates;
 import com.springbok.twobody.ModJulianDate;
 import com.springbok.twobody.Orbit;
 
@@ -35,17 +34,8 @@ public class SpaceStation extends Station {
     // A satellite orbit
     private Orbit orbit;
 
-    // Date number at which the inertial position vector occurs
-    private ModJulianDate dNm_i;
-
-    // Geocentric equatorial inertial position vector [er]
-    private Matrix r_gei;
-
-    // Date number at which the rotation position vector occurs
-    private ModJulianDate dNm_r;
-
-    // Geocentric equatorial rotating position vector [er]
-    private Matrix r_ger;
+    // Position vectors at recently computed dates
+    private EphemerisCache ephemerisCache = new EphemerisCache();
 
     // Flag indicating if the station is available, or not
     private boolean isAvailable;
@@ -59,19 +49,26 @@ public class SpaceStation extends Station {
     }
 
     public ModJulianDate getdNm_i() {
-        return dNm_i;
+        EphemerisCache.Entry entry = ephemerisCache.getLatest();
+        return entry == null ? null : entry.dNm;
     }
 
     public Matrix getR_gei() {
-        return r_gei;
+        EphemerisCache.Entry entry = ephemerisCache.getLatest();
+        return entry == null ? null : entry.r_gei;
     }
 
     public ModJulianDate getdNm_r() {
-        return dNm_r;
+        return getdNm_i();
     }
 
     public Matrix getR_ger() {
-        return r_ger;
+        EphemerisCache.Entry entry = ephemerisCache.getLatest();
+        return entry == null ? null : entry.r_ger;
+    }
+
+    public EphemerisCache getEphemerisCache() {
+        return ephemerisCache;
     }
 
     public boolean isAvailable() {
@@ -119,8 +116,9 @@ public class SpaceStation extends Station {
         SpaceStation that = new SpaceStation(this.getStationId(), this.getTransmitAntenna().copy(), this.getReceiveAntenna().copy(),
                 this.getEmission().copy(), beams, this.orbit.copy());
         that.set_isAvailable(this.isAvailable);
+        that.set_ephemerisCapacity(this.ephemerisCache.getCapacity());
         try {
-            that.compute_r_ger(this.dNm_r);
+            that.compute_r_ger(this.getdNm_r());
         } catch (ObjectDecayed objectDecayed) {
             objectDecayed.printStackTrace();
         }
@@ -137,12 +135,24 @@ public class SpaceStation extends Station {
     }
 
     /**
-     * Set the satellite orbit
+     * Set the satellite orbit, and replace the ephemeris cache, since its
+     * position vectors belong to the previous orbit
      *
      * @param orbit The satellite orbit
      */
     public void set_orbit(Orbit orbit) {
         this.orbit = orbit;
+        this.ephemerisCache = new EphemerisCache(this.ephemerisCache.getCapacity());
+    }
+
+    /**
+     * Sets the number of dates at which position vectors are cached, and
+     * clears the cache.
+     *
+     * @param capacity Number of cached dates
+     */
+    public void set_ephemerisCapacity(int capacity) {
+        this.ephemerisCache = new EphemerisCache(capacity);
     }
 
     /**
@@ -180,33 +190,33 @@ public class SpaceStation extends Station {
     }
 
     /**
-     * Computes geocentric equatorial inertial position vector.
+     * Computes geocentric equatorial inertial position vector, or gets it
+     * from the ephemeris cache. The returned vector is shared, and must not
+     * be modified.
      *
      * @param dNm Date number at which the position vector occurs
      *
      * @return Geocentric equatorial inertial position vector [er]
      */
     public Matrix compute_r_gei(ModJulianDate dNm) throws ObjectDecayed {
-        if (!dNm.equals(this.dNm_i)) {
-            this.dNm_i = dNm;
-            this.r_gei = this.orbit.r_gei(dNm);
-        }
-        return this.r_gei;
+        return this.ephemerisCache.get(this.orbit, dNm).r_gei;
     }
 
     /**
-     * Computes the geocentric equatorial rotating position vector.
+     * Computes the geocentric equatorial rotating position vector, or gets
+     * it from the ephemeris cache. The returned vector is shared, and must
+     * not be modified.
      *
-     * @param dNm Date number at which the position vector occurs
+     * @param dNm Date number at which the position vector occurs, or null
+     * for the most recently computed vector
      *
      * @return Geocentric equatorial rotating position vector [er]
      */
     public Matrix compute_r_ger(ModJulianDate dNm) throws ObjectDecayed {
-        if (dNm != null && this.dNm_r != null && !dNm.equals(this.dNm_r)) {
-            this.dNm_r = dNm;
-            this.r_ger = Coordinates.gei2ger(this.compute_r_gei(dNm), dNm);
+        if (dNm == null) {
+            return this.getR_ger();
         }
-        return this.r_ger;
+        return this.ephemerisCache.get(this.orbit, dNm).r_ger;
     }
 
     /**
@@ -218,10 +228,7 @@ public class SpaceStation extends Station {
             beam.reset();
         }
 
-        this.dNm_i = null;
-        this.r_gei = null;
-        this.dNm_r = null;
-        this.r_ger = null;
+        this.ephemerisCache.clear();
         this.isAvailable = true;
     }
 
@@ -237,13 +244,8 @@ public class SpaceStation extends Station {
         result = prime * result + (int) (temp ^ (temp >>> 32));
         temp = Double.doubleToLongBits(orbit.hashCode());
         result = prime * result + (int) (temp ^ (temp >>> 32));
-        temp = Double.doubleToLongBits(dNm_i.hashCode());
-        result = prime * result + (int) (temp ^ (temp >>> 32));
-        temp = Double.doubleToLongBits(r_gei.hashCode());
-        result = prime * result + (int) (temp ^ (temp >>> 32));
-        temp = Double.doubleToLongBits(dNm_r.hashCode());
-        result = prime * result + (int) (temp ^ (temp >>> 32));
-        temp = Double.doubleToLongBits(r_ger.hashCode());
+        ModJulianDate dNm = getdNm_i();
+        temp = Double.doubleToLongBits(dNm == null ? 0 : dNm.getAsDouble());
         result = prime * result + (int) (temp ^ (temp >>> 32));
         temp = Double.doubleToLongBits(isAvailable ? 1 : 0);
         result = prime * result + (int) (temp ^ (temp >>> 32));
@@ -268,19 +270,18 @@ public class SpaceStation extends Station {
         if (!Arrays.equals(beams, other.beams)) {
             return false;
         }
-        if (orbit.equals(other.orbit)) {
-            return false;
-        }
-        if (dNm_i.equals(other.dNm_i)) {
+        if (!orbit.equals(other.orbit)) {
             return false;
         }
-        if (r_gei.equals(other.r_gei)) {
+        ModJulianDate dNm = getdNm_i();
+        ModJulianDate otherDNm = other.getdNm_i();
+        if (dNm == null || otherDNm == null ? dNm != otherDNm : dNm.getAsDouble() != otherDNm.getAsDouble()) {
             return false;
         }
-        if (dNm_r.equals(other.dNm_r)) {
+        if (!matrixEquals(getR_gei(), other.getR_gei())) {
             return false;
         }
-        if (r_ger.equals(other.r_ger)) {
+        if (!matrixEquals(getR_ger(), other.getR_ger())) {
             return false;
         }
         if (isAvailable != other.isAvailable) {
@@ -289,4 +290,14 @@ public class SpaceStation extends Station {
 
         return true;
     }
+
+    /**
+     * Compares position vectors by value, since Matrix does not.
+     */
+    private static boolean matrixEquals(Matrix a, Matrix b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return Arrays.deepEquals(a.getArray(), b.getArray());
+    }
 }
@@ -15,11 +15,15 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
 package com.springbok.station;
 
+import Jama.Matrix;
+import com.celestrak.sgp4v.ObjectDecayed;
 import com.springbok.antenna.EarthStationAntenna;
 import com.springbok.antenna.SpaceStationAntenna;
 import com.springbok.pattern.PatternELUX201V01;
 import com.springbok.pattern.PatternSRR_405V01;
+import com.springbok.twobody.Coordinates;
 import com.springbok.twobody.KeplerianOrbit;
+import com.springbok.twobody.ModJulianDate;
 import com.springbok.utility.TestUtility;
 import org.junit.Before;
 import org.junit.Test;
@@ -159,8 +163,61 @@ public class SpaceStationTest {
         assertFalse(this.spaceStation.isAvailable());
     }
 
-    // TODO: Test function r_gei = compute_r_gei(this, dNm)
-    // TODO: Test function r_ger = compute_r_ger(this, dNm)
+    /**
+     * Tests the compute_r_gei and compute_r_ger methods, and the ephemeris
+     * cache.
+     */
+    @Test
+    public void test_compute_r_ger() throws ObjectDecayed {
+        this.spaceStation.set_ephemerisCapacity(2);
+        EphemerisCache cache = this.spaceStation.getEphemerisCache();
+        ModJulianDate dNm_a = new ModJulianDate(this.orbit.getEpoch().getAsDouble() + 0.1);
+        ModJulianDate dNm_b = new ModJulianDate(this.orbit.getEpoch().getAsDouble() + 0.2);
+        ModJulianDate dNm_c = new ModJulianDate(this.orbit.getEpoch().getAsDouble() + 0.3);
+
+        Matrix r_gei = this.spaceStation.compute_r_gei(dNm_a);
+        assertArrayEquals(this.orbit.r_gei(dNm_a).getColumnPackedCopy(), r_gei.getColumnPackedCopy(), 0);
+        Matrix r_ger = this.spaceStation.compute_r_ger(new ModJulianDate(dNm_a.getAsDouble()));
+        assertArrayEquals(Coordinates.gei2ger(r_gei, dNm_a).getColumnPackedCopy(), r_ger.getColumnPackedCopy(), 0);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+
+        // Alternate between two dates without propagating
+        this.spaceStation.compute_r_ger(dNm_b);
+        assertSame(r_ger, this.spaceStation.compute_r_ger(dNm_a));
+        this.spaceStation.compute_r_ger(dNm_b);
+        assertEquals(2, cache.getMisses());
+        assertEquals(3, cache.getHits());
+        assertSame(this.spaceStation.getR_ger(), this.spaceStation.compute_r_ger(null));
+        assertEquals(dNm_b.getAsDouble(), this.spaceStation.getdNm_r().getAsDouble(), 0);
+
+        // Evict the oldest date
+        this.spaceStation.compute_r_ger(dNm_c);
+        assertNotSame(r_ger, this.spaceStation.compute_r_ger(dNm_a));
+        assertEquals(4, cache.getMisses());
+
+        this.spaceStation.reset();
+        assertNull(this.spaceStation.getR_ger());
+        assertNull(this.spaceStation.compute_r_ger(null));
+    }
+
+    /**
+     * Tests that setting the orbit discards position vectors of the previous
+     * orbit.
+     */
+    @Test
+    public void test_set_orbit() throws ObjectDecayed {
+        ModJulianDate dNm = new ModJulianDate(this.orbit.getEpoch().getAsDouble() + 0.1);
+        this.spaceStation.compute_r_ger(dNm);
+
+        KeplerianOrbit orbit = new KeplerianOrbit(2.0, 0.1, 0.5, 1.0, 1.0, 1.0, this.orbit.getEpoch(), "halley");
+        this.spaceStation.set_orbit(orbit);
+        assertNull(this.spaceStation.getR_ger());
+        assertArrayEquals(orbit.r_gei(dNm).getColumnPackedCopy(),
+                this.spaceStation.compute_r_gei(dNm).getColumnPackedCopy(), 0);
+        assertArrayEquals(Coordinates.gei2ger(orbit.r_gei(dNm), dNm).getColumnPackedCopy(),
+                this.spaceStation.compute_r_ger(dNm).getColumnPackedCopy(), 0);
+    }
 
     @Test
     public void test_reset() {
@@ -204,4 +261,16 @@ public class SpaceStationTest {
 
         assertTrue(this.spaceStation.isAvailable());
     }
+
+    /**
+     * Tests the equals method of a copy.
+     */
+    @Test
+    public void test_equals() throws Exception {
+        SpaceStation that = this.spaceStation.copy();
+        assertEquals(this.spaceStation, that);
+
+        that.set_isAvailable(false);
+        assertNotEquals(this.spaceStation, that);
+    }
 }
@@ -0,0 +1,266 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.station;
+
+import Jama.Matrix;
+import com.springbok.antenna.Antenna;
+import com.springbok.twobody.Coordinates;
+import com.springbok.twobody.EarthConstants;
+import com.springbok.twobody.EarthFrame;
+import com.springbok.twobody.KeplerianOrbit;
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.utility.MException;
+
+/**
+ * Describes a Walker constellation of circular orbits: a number of equally
+ * spaced orbital planes, each with a number of equally spaced satellites,
+ * and a phasing between satellites of adjacent planes. The planes of a
+ * "delta" pattern span 360 degrees of right ascension of the ascending node,
+ * and those of a "star" pattern span 180 degrees. For either pattern, the
+ * satellites of adjacent planes are offset in mean anomaly by the phasing
+ * times 360 degrees divided by the number of satellites.
+ *
+ * Since the satellites of a plane are time shifted copies of each other, and
+ * the planes are rotations of each other, position vectors of the whole
+ * constellation are computed from one mean position per plane per date.
+ */
+public class WalkerConstellation {
+
+    // Walker pattern: "delta" or "star"
+    private final String pattern;
+
+    // Number of orbital planes
+    private final int nPlanes;
+
+    // Number of satellites in each plane
+    private final int nSatsPerPlane;
+
+    // Phasing factor, in units of the phase difference between adjacent
+    // satellites of a plane divided by the number of planes
+    private final int phasing;
+
+    // Semi-major axis [er]
+    private final double a;
+
+    // Inclination [rad]
+    private final double i;
+
+    // Epoch date number
+    private final ModJulianDate epoch;
+
+    // Method to solve Kepler's equation: "newton" or "halley"
+    private final String method;
+
+    // Orbit of each satellite, in plane, then satellite order
+    private final KeplerianOrbit[] orbits;
+
+    // Unit vectors toward the ascending node, and normal to it in the
+    // plane, of each plane [-]
+    private final double[] p_gei;
+    private final double[] q_gei;
+
+    // Cosine and sine of the phase of each satellite relative to the first
+    // satellite of its plane [-]
+    private final double[] cos_u;
+    private final double[] sin_u;
+
+    /**
+     * Constructs a WalkerConstellation.
+     *
+     * @param pattern Walker pattern: "delta" or "star"
+     * @param nPlanes Number of orbital planes
+     * @param nSatsPerPlane Number of satellites in each plane
+     * @param phasing Phasing factor, from 0 to one less than the number of
+     * planes
+     * @param altitude Altitude [km]
+     * @param inclination Inclination [rad]
+     * @param epoch Epoch date number
+     */
+    public WalkerConstellation(String pattern, int nPlanes, int nSatsPerPlane, int phasing, double altitude,
+                               double inclination, ModJulianDate epoch) {
+        double span;
+        if (pattern.equals("delta")) {
+            span = 2 * Math.PI;
+        } else if (pattern.equals("star")) {
+            span = Math.PI;
+        } else {
+            throw new MException("Springbok:IllegalArgumentException", "Pattern must be either \"delta\" or \"star\".");
+        }
+        if (nPlanes < 1 || nSatsPerPlane < 1) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Number of planes and satellites per plane must be positive");
+        }
+        if (phasing < 0 || phasing >= nPlanes && nPlanes > 1) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Phasing must be non-negative and less than the number of planes");
+        }
+        this.pattern = pattern;
+        this.nPlanes = nPlanes;
+        this.nSatsPerPlane = nSatsPerPlane;
+        this.phasing = phasing;
+        this.a = 1 + altitude / EarthConstants.R_oplus;
+        this.i = inclination;
+        this.epoch = epoch;
+        this.method = "halley";
+
+        // Assign orbits, and the rotation of each plane
+        double d_Omega = span / nPlanes;
+        double d_M = 2 * Math.PI / nSatsPerPlane;
+        this.orbits = new KeplerianOrbit[nPlanes * nSatsPerPlane];
+        this.p_gei = new double[3 * nPlanes];
+        this.q_gei = new double[3 * nPlanes];
+        for (int iPln = 0; iPln < nPlanes; iPln++) {
+            double Omega = iPln * d_Omega;
+            double M_0 = iPln * phasing * 2 * Math.PI / (nPlanes * nSatsPerPlane);
+            for (int iSat = 0; iSat < nSatsPerPlane; iSat++) {
+                double M = Coordinates.checkWrap(M_0 + iSat * d_M);
+                this.orbits[iPln * nSatsPerPlane + iSat] = new KeplerianOrbit(this.a, 0, this.i, Omega, 0, M,
+                        epoch, this.method);
+            }
+            Matrix R = Coordinates.R_z(-Omega).times(Coordinates.R_x(-this.i)).times(Coordinates.R_z(-0.0));
+            for (int k = 0; k < 3; k++) {
+                this.p_gei[3 * iPln + k] = R.get(k, 0);
+                this.q_gei[3 * iPln + k] = R.get(k, 1);
+            }
+        }
+        this.cos_u = new double[nSatsPerPlane];
+        this.sin_u = new double[nSatsPerPlane];
+        for (int iSat = 0; iSat < nSatsPerPlane; iSat++) {
+            this.cos_u[iSat] = Math.cos(iSat * d_M);
+            this.sin_u[iSat] = Math.sin(iSat * d_M);
+        }
+    }
+
+    /**
+     * Constructs space stations for each satellite, in plane, then satellite
+     * order. The antennas and emission are shared by all stations, and each
+     * station is assigned copies of the beams.
+     *
+     * @param stationId Identifier for each station
+     * @param transmitAntenna Transmit antenna gain, and pattern
+     * @param receiveAntenna Receive antenna gain, pattern, and noise
+     * temperature
+     * @param emission Signal power, frequency, and requirement
+     * @param beams Beam array to copy for each station
+     *
+     * @return Space station array
+     */
+    public SpaceStation[] getSpaceStations(String stationId, Antenna transmitAntenna, Antenna receiveAntenna,
+                                           Emission emission, Beam[] beams) {
+        SpaceStation[] spaceStations = new SpaceStation[this.orbits.length];
+        for (int iSS = 0; iSS < this.orbits.length; iSS++) {
+            Beam[] stationBeams = new Beam[beams.length];
+            for (int iBeam = 0; iBeam < beams.length; iBeam++) {
+                stationBeams[iBeam] = beams[iBeam].copy();
+            }
+            spaceStations[iSS] = new SpaceStation(stationId, transmitAntenna, receiveAntenna, emission,
+                    stationBeams, this.orbits[iSS]);
+        }
+        return spaceStations;
+    }
+
+    /**
+     * Computes geocentric equatorial inertial position vectors of each
+     * satellite, in plane, then satellite order.
+     *
+     * @param dNm Date number at which the position vectors occur
+     * @param r_gei Geocentric equatorial inertial position vectors, packed
+     * three per satellite, output [er]
+     */
+    public void r_gei(ModJulianDate dNm, double[] r_gei) {
+        if (r_gei.length < 3 * this.orbits.length) {
+            throw new MException("Springbok:IllegalArgumentException", "Position array is too short");
+        }
+        for (int iPln = 0; iPln < this.nPlanes; iPln++) {
+
+            // Mean position of the first satellite of the plane, which for a
+            // circular orbit is also its argument of latitude
+            double u = this.orbits[iPln * this.nSatsPerPlane].meanPosition(dNm);
+            double cos_u_0 = this.a * Math.cos(u);
+            double sin_u_0 = this.a * Math.sin(u);
+
+            int iP = 3 * iPln;
+            for (int iSat = 0; iSat < this.nSatsPerPlane; iSat++) {
+                double x = cos_u_0 * this.cos_u[iSat] - sin_u_0 * this.sin_u[iSat];
+                double y = sin_u_0 * this.cos_u[iSat] + cos_u_0 * this.sin_u[iSat];
+                int iR = 3 * (iPln * this.nSatsPerPlane + iSat);
+                r_gei[iR] = x * this.p_gei[iP] + y * this.q_gei[iP];
+                r_gei[iR + 1] = x * this.p_gei[iP + 1] + y * this.q_gei[iP + 1];
+                r_gei[iR + 2] = x * this.p_gei[iP + 2] + y * this.q_gei[iP + 2];
+            }
+        }
+    }
+
+    /**
+     * Computes geocentric equatorial rotating position vectors of each
+     * satellite, in plane, then satellite order.
+     *
+     * @param dNm Date number at which the position vectors occur
+     * @param r_ger Geocentric equatorial rotating position vectors, packed
+     * three per satellite, output [er]
+     */
+    public void r_ger(ModJulianDate dNm, double[] r_ger) {
+        this.r_gei(dNm, r_ger);
+        EarthFrame frame = EarthFrame.at(dNm);
+        for (int iR = 0; iR < 3 * this.orbits.length; iR += 3) {
+            frame.gei2ger(r_ger, iR, r_ger, iR);
+        }
+    }
+
+    /**
+     * Gets the orbit of a satellite.
+     *
+     * @param iPln Index of the plane
+     * @param iSat Index of the satellite in the plane
+     *
+     * @return The satellite orbit
+     */
+    public KeplerianOrbit getOrbit(int iPln, int iSat) {
+        return this.orbits[iPln * this.nSatsPerPlane + iSat];
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public int getnPlanes() {
+        return nPlanes;
+    }
+
+    public int getnSatsPerPlane() {
+        return nSatsPerPlane;
+    }
+
+    public int getPhasing() {
+        return phasing;
+    }
+
+    public double getA() {
+        return a;
+    }
+
+    public double getI() {
+        return i;
+    }
+
+    public ModJulianDate getEpoch() {
+        return epoch;
+    }
+
+    public int size() {
+        return orbits.length;
+    }
+}
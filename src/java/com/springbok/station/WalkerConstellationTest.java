@@ -0,0 +1,127 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.station;
+
+import com.springbok.antenna.SpaceStationAntenna;
+import com.springbok.pattern.PatternSREC408V01;
+import com.springbok.twobody.Coordinates;
+import com.springbok.twobody.KeplerianOrbit;
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.utility.MException;
+import com.springbok.utility.TestUtility;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests methods of WalkerConstellation class.
+ */
+public class WalkerConstellationTest {
+
+    // Epoch date number
+    private final ModJulianDate epoch = new ModJulianDate(51544.5);
+
+    // A Walker delta constellation
+    private WalkerConstellation delta;
+
+    // A Walker star constellation
+    private WalkerConstellation star;
+
+    @Before
+    public void setUp() throws Exception {
+        this.delta = new WalkerConstellation("delta", 6, 8, 1, 1200, 53 * Math.PI / 180, this.epoch);
+        this.star = new WalkerConstellation("star", 5, 4, 2, 780, 86.4 * Math.PI / 180, this.epoch);
+    }
+
+    /**
+     * Tests the WalkerConstellation constructor.
+     */
+    @Test
+    public void test_WalkerConstellation() {
+        assertEquals(48, this.delta.size());
+        assertEquals(20, this.star.size());
+
+        // Planes span 360 or 180 degrees, and satellites of adjacent planes
+        // are offset by the phasing times 360 degrees over the number of
+        // satellites
+        KeplerianOrbit orbit = this.delta.getOrbit(1, 2);
+        assertEquals(60 * Math.PI / 180, orbit.get_Omega(), TestUtility.HIGH_PRECISION);
+        assertEquals((2 * 45 + 1 * 1 * 360 / 48.0) * Math.PI / 180, orbit.get_M(), TestUtility.HIGH_PRECISION);
+        assertEquals(1 + 1200 / 6378.137, orbit.get_a(), TestUtility.MEDIUM_PRECISION);
+        assertEquals(0, orbit.get_e(), 0);
+        orbit = this.star.getOrbit(4, 0);
+        assertEquals(4 * 36 * Math.PI / 180, orbit.get_Omega(), TestUtility.HIGH_PRECISION);
+        assertEquals(4 * 2 * 360 / 20.0 * Math.PI / 180, orbit.get_M(), TestUtility.HIGH_PRECISION);
+    }
+
+    /**
+     * Tests the getSpaceStations method.
+     */
+    @Test
+    public void test_getSpaceStations() {
+        SpaceStationAntenna antenna = new SpaceStationAntenna("NGSO SS Tx", 27, 1, new PatternSREC408V01(6.9));
+        Emission emission = new Emission("1K20G1D--", -73, Double.NaN, 11200, Double.NaN, Double.NaN);
+        Beam[] beams = new Beam[]{new Beam("one", 1, 100), new Beam("two", 1, 100)};
+
+        SpaceStation[] spaceStations = this.star.getSpaceStations("interfering", antenna, antenna, emission, beams);
+
+        assertEquals(this.star.size(), spaceStations.length);
+        for (int iSS = 0; iSS < spaceStations.length; iSS++) {
+            assertSame(antenna, spaceStations[iSS].getTransmitAntenna());
+            assertSame(emission, spaceStations[iSS].getEmission());
+            assertSame(this.star.getOrbit(iSS / 4, iSS % 4), spaceStations[iSS].getOrbit());
+            assertNotSame(beams[0], spaceStations[iSS].getBeams()[0]);
+        }
+        assertNotSame(spaceStations[0].getBeams()[0], spaceStations[1].getBeams()[0]);
+    }
+
+    /**
+     * Tests the r_gei and r_ger methods against the orbit of each satellite.
+     */
+    @Test
+    public void test_r_ger() {
+        for (WalkerConstellation constellation : new WalkerConstellation[]{this.delta, this.star}) {
+            double[] r_gei = new double[3 * constellation.size()];
+            double[] r_ger = new double[3 * constellation.size()];
+            for (double dt : new double[]{0, 0.37, 3.9}) {
+                ModJulianDate dNm = new ModJulianDate(this.epoch.getAsDouble() + dt);
+                constellation.r_gei(dNm, r_gei);
+                constellation.r_ger(dNm, r_ger);
+                for (int iPln = 0; iPln < constellation.getnPlanes(); iPln++) {
+                    for (int iSat = 0; iSat < constellation.getnSatsPerPlane(); iSat++) {
+                        int iR = 3 * (iPln * constellation.getnSatsPerPlane() + iSat);
+                        KeplerianOrbit orbit = constellation.getOrbit(iPln, iSat);
+                        double[] expected = orbit.r_gei(dNm).getColumnPackedCopy();
+                        assertArrayEquals(expected, new double[]{r_gei[iR], r_gei[iR + 1], r_gei[iR + 2]},
+                                TestUtility.MEDIUM_PRECISION);
+                        expected = Coordinates.gei2ger(orbit.r_gei(dNm), dNm).getColumnPackedCopy();
+                        assertArrayEquals(expected, new double[]{r_ger[iR], r_ger[iR + 1], r_ger[iR + 2]},
+                                TestUtility.MEDIUM_PRECISION);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the WalkerConstellation constructor with an invalid pattern.
+     */
+    @Test(expected = MException.class)
+    public void test_invalid_pattern() {
+        new WalkerConstellation("rosette", 6, 8, 1, 1200, 53 * Math.PI / 180, this.epoch);
+    }
+}
@@ -19,6 +19,7 @@ package com.springbok.system;
 import com.springbok.twobody.ModJulianDate;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Encapsulates the result of a System beam assignment.
@@ -29,16 +30,17 @@ public class Assignment {
     private ModJulianDate dNm;
 
     // Angle between space station position vector relative to the
-
-    // Earth station and GSO arc
-    private double[][] theta_g;
+    // Earth station and GSO arc, for each pair considered
+    private SparseMatrix theta_g;
 
     // Angle between space station position vector relative to the
-    // Earth station and Earth station zenith direction
-    private double[][] theta_z;
+    // Earth station and Earth station zenith direction, for each pair
+    // considered
+    private SparseMatrix theta_z;
 
-    // Metric used to select space station for each Earth station
-    private double[][] metrics;
+    // Metric used to select space station for each Earth station, for
+    // each pair considered
+    private SparseMatrix metrics;
 
     // A network array
     private Network[] networks;
@@ -89,7 +91,7 @@ public class Assignment {
      * @param divisions_SS_Bm     Number of divisions in use array
      * @param dutyCycle_ES_Bm     Duty cycle array
      */
-    public Assignment(ModJulianDate dNm, double[][] theta_g, double[][] theta_z, double[][] metrics, Network[] networks,
+    public Assignment(ModJulianDate dNm, SparseMatrix theta_g, SparseMatrix theta_z, SparseMatrix metrics, Network[] networks,
                       int[] idxNetES, int[] idxNetSS, boolean[] isAvailable_SS, boolean[] isAvailable_SS_Bm,
                       boolean[] isMultiplexed_SS_Bm, int[] divisions_SS_Bm, double[] dutyCycle_ES_Bm) {
 
@@ -108,19 +110,88 @@ public class Assignment {
         this.set_dutyCycle_ES_Bm(dutyCycle_ES_Bm);
     }
 
+    /**
+     * Constructs an Assignment from dense arrays of angles and metrics,
+     * in which entries not considered are NaN.
+     *
+     * @param dNm                 Current date number
+     * @param theta_g             Angle between space station position vector
+     *                            relative to the Earth station and GSO arc
+     * @param theta_z             Angle between space station position vector
+     *                            relative to the Earth station and Earth station zenith
+     *                            direction
+     * @param metrics             Metric used to select space station for each
+     *                            Earth station
+     * @param networks            A network array
+     * @param idxNetES            Index of each Earth station assigned to a
+     *                            network
+     * @param idxNetSS            Index of each space station assigned to a
+     *                            network
+     * @param isAvailable_SS      Flag array indicating if the station is
+     *                            available, or not
+     * @param isAvailable_SS_Bm   Flag array indicating if the beam is
+     *                            available, or not
+     * @param isMultiplexed_SS_Bm Flag array indicating if the beam
+     *                            is multiplexed, or not
+     * @param divisions_SS_Bm     Number of divisions in use array
+     * @param dutyCycle_ES_Bm     Duty cycle array
+     */
+    public Assignment(ModJulianDate dNm, double[][] theta_g, double[][] theta_z, double[][] metrics, Network[] networks,
+                      int[] idxNetES, int[] idxNetSS, boolean[] isAvailable_SS, boolean[] isAvailable_SS_Bm,
+                      boolean[] isMultiplexed_SS_Bm, int[] divisions_SS_Bm, double[] dutyCycle_ES_Bm) {
+        this(dNm, SparseMatrix.fromDense(theta_g), SparseMatrix.fromDense(theta_z), SparseMatrix.fromDense(metrics),
+                networks, idxNetES, idxNetSS, isAvailable_SS, isAvailable_SS_Bm, isMultiplexed_SS_Bm,
+                divisions_SS_Bm, dutyCycle_ES_Bm);
+    }
+
     public ModJulianDate getdNm() {
         return dNm;
     }
 
+    /**
+     * Gets a dense view of the angle between space station position
+     * vector relative to the Earth station and GSO arc, suitable only for
+     * small scenarios.
+     *
+     * @return Angle for each Earth and space station, or NaN, if not
+     * considered
+     */
     public double[][] getTheta_g() {
-        return theta_g;
+        return theta_g != null ? theta_g.toDense() : null;
     }
 
+    /**
+     * Gets a dense view of the angle between space station position
+     * vector relative to the Earth station and Earth station zenith
+     * direction, suitable only for small scenarios.
+     *
+     * @return Angle for each Earth and space station, or NaN, if not
+     * considered
+     */
     public double[][] getTheta_z() {
-        return theta_z;
+        return theta_z != null ? theta_z.toDense() : null;
     }
 
+    /**
+     * Gets a dense view of the metric used to select space station for
+     * each Earth station, suitable only for small scenarios.
+     *
+     * @return Metric for each Earth and space station, or NaN, if not
+     * considered
+     */
     public double[][] getMetrics() {
+        return metrics != null ? metrics.toDense() : null;
+    }
+
+    public SparseMatrix getSparseTheta_g() {
+        return theta_g;
+    }
+
+    public SparseMatrix getSparseTheta_z() {
+        return theta_z;
+    }
+
+    public SparseMatrix getSparseMetrics() {
         return metrics;
     }
 
@@ -186,10 +257,21 @@ public class Assignment {
      * @param theta_g Angle between space station position vector
      *                relative to the Earth station and GSO arc
      */
-    public void set_theta_g(double[][] theta_g) {
+    public void set_theta_g(SparseMatrix theta_g) {
         this.theta_g = theta_g;
     }
 
+    /**
+     * Sets angle between space station position vector relative to
+     * the Earth station and GSO arc from a dense array. NaN entries are
+     * not stored.
+     *
+     * @param theta_g Dense array, NaN if not considered
+     */
+    public void set_theta_g(double[][] theta_g) {
+        this.theta_g = SparseMatrix.fromDense(theta_g);
+    }
+
     /**
      * Sets Angle between space station position vector relative to
      * the Earth station and Earth station zenith direction.
@@ -198,10 +280,21 @@ public class Assignment {
      *                relative to the Earth station and Earth station zenith
      *                direction
      */
-    public void set_theta_z(double[][] theta_z) {
+    public void set_theta_z(SparseMatrix theta_z) {
         this.theta_z = theta_z;
     }
 
+    /**
+     * Sets angle between space station position vector relative to
+     * the Earth station and Earth station zenith direction from a dense
+     * array. NaN entries are not stored.
+     *
+     * @param theta_z Dense array, NaN if not considered
+     */
+    public void set_theta_z(double[][] theta_z) {
+        this.theta_z = SparseMatrix.fromDense(theta_z);
+    }
+
     /**
      * Sets metric used to select space station for each Earth
      * station.
@@ -209,10 +302,20 @@ public class Assignment {
      * @param metrics Metric used to select space station for each
      *                Earth station
      */
-    public void set_metrics(double[][] metrics) {
+    public void set_metrics(SparseMatrix metrics) {
         this.metrics = metrics;
     }
 
+    /**
+     * Sets metric used to select space station for each Earth
+     * station from a dense array. NaN entries are not stored.
+     *
+     * @param metrics Dense array, NaN if not considered
+     */
+    public void set_metrics(double[][] metrics) {
+        this.metrics = SparseMatrix.fromDense(metrics);
+    }
+
     /**
      * Sets a network array.
      *
@@ -302,11 +405,11 @@ public class Assignment {
         long temp;
         temp = Double.doubleToLongBits(dNm.hashCode());
         result = prime * result + (int) (temp ^ (temp >>> 32));
-        temp = Double.doubleToLongBits(Arrays.hashCode(theta_g));
+        temp = Double.doubleToLongBits(Objects.hashCode(theta_g));
         result = prime * result + (int) (temp ^ (temp >>> 32));
-        temp = Double.doubleToLongBits(Arrays.hashCode(theta_z));
+        temp = Double.doubleToLongBits(Objects.hashCode(theta_z));
         result = prime * result + (int) (temp ^ (temp >>> 32));
-        temp = Double.doubleToLongBits(Arrays.hashCode(metrics));
+        temp = Double.doubleToLongBits(Objects.hashCode(metrics));
         result = prime * result + (int) (temp ^ (temp >>> 32));
         temp = Double.doubleToLongBits(Arrays.hashCode(networks));
         result = prime * result + (int) (temp ^ (temp >>> 32));
@@ -340,16 +443,13 @@ public class Assignment {
                 .doubleToLongBits(other.dNm.hashCode())) {
             return false;
         }
-        if (Double.doubleToLongBits(Arrays.hashCode(theta_g)) != Double
-                .doubleToLongBits(Arrays.hashCode(other.theta_g))) {
+        if (!Objects.equals(theta_g, other.theta_g)) {
             return false;
         }
-        if (Double.doubleToLongBits(Arrays.hashCode(theta_z)) != Double
-                .doubleToLongBits(Arrays.hashCode(other.theta_z))) {
+        if (!Objects.equals(theta_z, other.theta_z)) {
             return false;
         }
-        if (Double.doubleToLongBits(Arrays.hashCode(metrics)) != Double
-                .doubleToLongBits(Arrays.hashCode(other.metrics))) {
+        if (!Objects.equals(metrics, other.metrics)) {
             return false;
         }
         if (Double.doubleToLongBits(Arrays.hashCode(networks)) != Double
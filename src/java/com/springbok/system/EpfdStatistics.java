@@ -0,0 +1,361 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.system;
+
+import com.springbok.utility.Article22Utility;
+import com.springbok.utility.MException;
+
+/**
+ * Accumulates equivalent power flux density samples, each representing
+ * an equal interval of time, in a histogram of fixed resolution, so that
+ * the percentage of time a level is exceeded can be computed at any
+ * point in a run using memory independent of the number of samples.
+ * <p>
+ * Samples are counted in bins of equal width in dB. Samples with no
+ * interference, which exceed no level, are counted together, as are
+ * samples below the first bin, and samples at or above the last bin. A
+ * level is resolved to the bin containing it, and the samples in that
+ * bin are taken to exceed the level, so percentages exceeded are over
+ * estimated by at most the percentage of samples in one bin.
+ * <p>
+ * Instances are not thread safe: use one instance for each task, then
+ * merge.
+ */
+public class EpfdStatistics {
+
+    // Default minimum level resolved [dB(W/m^2)]
+    public static final double DEFAULT_MINIMUM = -300;
+
+    // Default maximum level resolved [dB(W/m^2)]
+    public static final double DEFAULT_MAXIMUM = -100;
+
+    // Default bin width [dB]
+    public static final double DEFAULT_RESOLUTION = 0.001;
+
+    // Minimum level resolved [dB(W/m^2)]
+    private final double minimum;
+
+    // Bin width [dB]
+    private final double resolution;
+
+    // Number of samples in each bin
+    private final long[] counts;
+
+    // Number of samples, excluding those which are not a number
+    private long nSmp;
+
+    // Number of samples with no interference
+    private long nNone;
+
+    // Number of samples below the minimum level
+    private long nBelow;
+
+    // Number of samples at or above the maximum level
+    private long nAbove;
+
+    // Number of samples which are not a number
+    private long nInvalid;
+
+    // Minimum and maximum sample
+    private double epfd_min = Double.POSITIVE_INFINITY;
+    private double epfd_max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Constructs an EpfdStatistics resolving levels from -300 to -100
+     * dB(W/m^2) in bins of 0.001 dB.
+     */
+    public EpfdStatistics() {
+        this(DEFAULT_MINIMUM, DEFAULT_MAXIMUM, DEFAULT_RESOLUTION);
+    }
+
+    /**
+     * Constructs an EpfdStatistics.
+     *
+     * @param minimum    Minimum level resolved [dB(W/m^2)]
+     * @param maximum    Maximum level resolved [dB(W/m^2)]
+     * @param resolution Bin width [dB]
+     */
+    public EpfdStatistics(double minimum, double maximum, double resolution) {
+        if (!(maximum > minimum) || !(resolution > 0)
+                || Double.isInfinite(minimum) || Double.isInfinite(maximum)) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Levels must be finite, and increasing, and resolution must be positive");
+        }
+        long nBin = (long) Math.ceil((maximum - minimum) / resolution);
+        if (nBin > Integer.MAX_VALUE - 8) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Number of bins too large");
+        }
+        this.minimum = minimum;
+        this.resolution = resolution;
+        this.counts = new long[(int) nBin];
+    }
+
+    public double getMinimum() {
+        return minimum;
+    }
+
+    public double getMaximum() {
+        return minimum + counts.length * resolution;
+    }
+
+    public double getResolution() {
+        return resolution;
+    }
+
+    /**
+     * Gets the number of samples added, excluding those which are not a
+     * number.
+     *
+     * @return Number of samples
+     */
+    public long getNumberOfSamples() {
+        return nSmp;
+    }
+
+    /**
+     * Gets the number of samples added which are not a number, and are
+     * otherwise ignored.
+     *
+     * @return Number of invalid samples
+     */
+    public long getNumberOfInvalidSamples() {
+        return nInvalid;
+    }
+
+    /**
+     * Gets the minimum sample added with interference.
+     *
+     * @return Minimum sample, or positive infinity, if none [dB(W/m^2)]
+     */
+    public double getMinimumEpfd() {
+        return epfd_min;
+    }
+
+    /**
+     * Gets the maximum sample added with interference.
+     *
+     * @return Maximum sample, or negative infinity, if none [dB(W/m^2)]
+     */
+    public double getMaximumEpfd() {
+        return epfd_max;
+    }
+
+    /**
+     * Adds a sample.
+     *
+     * @param epfd Equivalent power flux density [dB(W/m^2)]
+     */
+    public void add(double epfd) {
+        if (Double.isNaN(epfd)) {
+            nInvalid++;
+            return;
+        }
+        nSmp++;
+        if (epfd == Double.NEGATIVE_INFINITY) {
+            nNone++;
+            return;
+        }
+        epfd_min = Math.min(epfd_min, epfd);
+        epfd_max = Math.max(epfd_max, epfd);
+        int iBin = bin(epfd);
+        if (iBin < 0) {
+            nBelow++;
+        } else if (iBin >= counts.length) {
+            nAbove++;
+        } else {
+            counts[iBin]++;
+        }
+    }
+
+    /**
+     * Adds the total equivalent power flux density of a performance as a
+     * sample.
+     *
+     * @param performance Performance of a wanted network
+     */
+    public void add(Performance performance) {
+        add(performance.getEPFD());
+    }
+
+    /**
+     * Adds the samples of another instance with the same levels and
+     * resolution to this instance.
+     *
+     * @param that Another instance
+     */
+    public void merge(EpfdStatistics that) {
+        if (that.minimum != this.minimum || that.resolution != this.resolution
+                || that.counts.length != this.counts.length) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Levels and resolution must be equal");
+        }
+        for (int iBin = 0; iBin < counts.length; iBin++) {
+            this.counts[iBin] += that.counts[iBin];
+        }
+        this.nSmp += that.nSmp;
+        this.nNone += that.nNone;
+        this.nBelow += that.nBelow;
+        this.nAbove += that.nAbove;
+        this.nInvalid += that.nInvalid;
+        this.epfd_min = Math.min(this.epfd_min, that.epfd_min);
+        this.epfd_max = Math.max(this.epfd_max, that.epfd_max);
+    }
+
+    /**
+     * Computes the percentage of time a level is exceeded, over
+     * estimated by at most the percentage of samples in the bin
+     * containing the level.
+     *
+     * @param epfd Equivalent power flux density level [dB(W/m^2)]
+     * @return Percentage of time exceeded, or NaN, if no samples
+     */
+    public double computePercentageExceeded(double epfd) {
+        if (nSmp == 0) {
+            return Double.NaN;
+        }
+        return 100.0 * countExceeding(epfd) / nSmp;
+    }
+
+    /**
+     * Computes the level not exceeded for a percentage of time, over
+     * estimated by at most the resolution.
+     *
+     * @param percentage Percentage of time [%]
+     * @return Equivalent power flux density level, negative infinity, if
+     * within the samples with no interference, positive infinity, if
+     * within the samples above the maximum level, or NaN, if no samples
+     * [dB(W/m^2)]
+     */
+    public double computeEpfd(double percentage) {
+        if (!(percentage >= 0 && percentage <= 100)) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Percentage must be between 0 and 100");
+        }
+        if (nSmp == 0) {
+            return Double.NaN;
+        }
+        long nNot = (long) Math.ceil(percentage / 100.0 * nSmp);
+        long nCum = nNone;
+        if (nCum >= nNot) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        nCum += nBelow;
+        if (nCum >= nNot) {
+            return minimum;
+        }
+        for (int iBin = 0; iBin < counts.length; iBin++) {
+            nCum += counts[iBin];
+            if (nCum >= nNot) {
+                return minimum + (iBin + 1) * resolution;
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Computes the percentage of time each level of a limit is
+     * exceeded.
+     *
+     * @param limit An Article 22 limit
+     * @return Percentage of time each level is exceeded
+     */
+    public double[] computePercentageExceeded(Article22Utility.Limit limit) {
+        double[] epfd = limit.getEpfd();
+        double[] exceeded = new double[epfd.length];
+        for (int iLvl = 0; iLvl < epfd.length; iLvl++) {
+            exceeded[iLvl] = computePercentageExceeded(epfd[iLvl]);
+        }
+        return exceeded;
+    }
+
+    /**
+     * Computes the margin by which the percentage of time each level of
+     * a limit is exceeded is less than the percentage allowed.
+     *
+     * @param limit An Article 22 limit
+     * @return Margin for each level, negative if the level is exceeded
+     * for more time than allowed [%]
+     */
+    public double[] computeMargin(Article22Utility.Limit limit) {
+        double[] percentage = limit.getPercentage();
+        double[] margin = computePercentageExceeded(limit);
+        for (int iLvl = 0; iLvl < margin.length; iLvl++) {
+            margin[iLvl] = (100 - percentage[iLvl]) - margin[iLvl];
+        }
+        return margin;
+    }
+
+    /**
+     * Determines if no level of a limit is exceeded for more time than
+     * allowed.
+     *
+     * @param limit An Article 22 limit
+     * @return True if the limit is met, or no samples were added
+     */
+    public boolean isCompliant(Article22Utility.Limit limit) {
+        for (double margin : computeMargin(limit)) {
+            if (margin < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines if each row of an Article 22 table is met.
+     *
+     * @param table Name of the table, for example "TABLE_22_1A"
+     * @return True for each row met
+     */
+    public boolean[] isCompliant(String table) {
+        Article22Utility.Limit[] limits = Article22Utility.getLimits(table);
+        boolean[] isCompliant = new boolean[limits.length];
+        for (int iRow = 0; iRow < limits.length; iRow++) {
+            isCompliant[iRow] = isCompliant(limits[iRow]);
+        }
+        return isCompliant;
+    }
+
+    /**
+     * Counts the samples taken to exceed a level, including all samples
+     * in the bin containing the level.
+     */
+    private long countExceeding(double epfd) {
+        long nExc = nAbove;
+        int iBin = bin(epfd);
+        if (iBin < 0) {
+            nExc += nBelow;
+            iBin = 0;
+        }
+        for (int jBin = iBin; jBin < counts.length; jBin++) {
+            nExc += counts[jBin];
+        }
+        return nExc;
+    }
+
+    /**
+     * Finds the bin containing a level: negative below the minimum, and
+     * the number of bins at or above the maximum.
+     */
+    private int bin(double epfd) {
+        double x = Math.floor((epfd - minimum) / resolution);
+        if (x < 0) {
+            return -1;
+        }
+        return x >= counts.length ? counts.length : (int) x;
+    }
+}
@@ -0,0 +1,137 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.system;
+
+import com.springbok.utility.Article22Utility;
+import com.springbok.utility.MException;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests methods of EpfdStatistics class.
+ */
+public class EpfdStatisticsTest {
+
+    // Samples uniformly spaced from -200 to -150 dB(W/m^2), and samples
+    // with no interference
+    private double[] epfd;
+
+    @Before
+    public void setUp() {
+        this.epfd = new double[60000];
+        for (int iSmp = 0; iSmp < 50000; iSmp++) {
+            this.epfd[iSmp] = -200 + 0.001 * iSmp + 0.0005;
+        }
+        for (int iSmp = 50000; iSmp < 60000; iSmp++) {
+            this.epfd[iSmp] = Double.NEGATIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Tests computePercentageExceeded and computeEpfd methods against
+     * the sorted samples.
+     */
+    @Test
+    public void test_compute() {
+        EpfdStatistics statistics = new EpfdStatistics();
+        for (double epfd : this.epfd) {
+            statistics.add(epfd);
+        }
+        statistics.add(Double.NaN);
+
+        assertEquals(60000, statistics.getNumberOfSamples());
+        assertEquals(1, statistics.getNumberOfInvalidSamples());
+        assertEquals(-199.9995, statistics.getMinimumEpfd(), 1e-9);
+        assertEquals(-150.0005, statistics.getMaximumEpfd(), 1e-9);
+
+        // One bin contains at most one sample
+        for (double level : new double[]{-210, -199.5, -175.25, -160, -150, -120}) {
+            int nExc = 0;
+            for (double epfd : this.epfd) {
+                if (epfd > level) {
+                    nExc++;
+                }
+            }
+            double percentage = statistics.computePercentageExceeded(level);
+            assertTrue(percentage >= 100.0 * nExc / 60000);
+            assertTrue(percentage <= 100.0 * (nExc + 1) / 60000);
+        }
+
+        assertEquals(Double.NEGATIVE_INFINITY, statistics.computeEpfd(10), 0);
+        assertEquals(-175, statistics.computeEpfd(100.0 * 35000 / 60000), 1e-9);
+        assertEquals(-150, statistics.computeEpfd(100), 1e-9);
+    }
+
+    /**
+     * Tests that merging the statistics of parts of the samples gives
+     * the statistics of all the samples.
+     */
+    @Test
+    public void test_merge() {
+        EpfdStatistics all = new EpfdStatistics();
+        EpfdStatistics one = new EpfdStatistics();
+        EpfdStatistics two = new EpfdStatistics();
+        for (int iSmp = 0; iSmp < this.epfd.length; iSmp++) {
+            all.add(this.epfd[iSmp]);
+            (iSmp % 3 == 0 ? one : two).add(this.epfd[iSmp]);
+        }
+        one.merge(two);
+
+        assertEquals(all.getNumberOfSamples(), one.getNumberOfSamples());
+        for (double level = -205; level < -145; level += 0.37) {
+            assertEquals(all.computePercentageExceeded(level), one.computePercentageExceeded(level), 0);
+        }
+    }
+
+    @Test(expected = MException.class)
+    public void test_merge_different_resolution() {
+        new EpfdStatistics().merge(new EpfdStatistics(-300, -100, 0.01));
+    }
+
+    /**
+     * Tests compliance with Article 22 limits.
+     */
+    @Test
+    public void test_isCompliant() {
+        Article22Utility.Limit limit = Article22Utility.getLimit("TABLE_22_1A", 1);
+
+        // Levels are exceeded for less time than allowed
+        EpfdStatistics statistics = new EpfdStatistics();
+        for (int iSmp = 0; iSmp < 9950; iSmp++) {
+            statistics.add(-180);
+        }
+        for (int iSmp = 0; iSmp < 50; iSmp++) {
+            statistics.add(-172);
+        }
+        assertArrayEquals(new double[]{0.5, 0.5, 0, 0, 0, 0, 0},
+                statistics.computePercentageExceeded(limit), 1e-12);
+        assertTrue(statistics.isCompliant(limit));
+
+        // The level -170.8 is exceeded for 1.5% of time, more than the
+        // 1% allowed
+        for (int iSmp = 0; iSmp < 150; iSmp++) {
+            statistics.add(-170);
+        }
+        assertFalse(statistics.isCompliant(limit));
+        assertTrue(statistics.computeMargin(limit)[2] < 0);
+        assertEquals(4, statistics.isCompliant("TABLE_22_1A").length);
+    }
+}
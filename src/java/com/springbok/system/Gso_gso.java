@@ -82,7 +82,7 @@ public class Gso_gso {
         // Required C/N
         double c_to_n = Double.NaN;
 
-        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, 0);
+        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, Double.NaN);
 
         // === Beam
 
@@ -211,7 +211,7 @@ public class Gso_gso {
         // Required C/N
         double c_to_n = Double.NaN;
 
-        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, 0);
+        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, Double.NaN);
 
         // === Beam
 
@@ -305,7 +305,7 @@ public class Gso_gso {
         // Required C/N
         double c_to_n = Double.NaN;
 
-        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, 0);
+        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, Double.NaN);
 
         // === Beam
 
@@ -397,7 +397,7 @@ public class Gso_gso {
         // Required C/N
         double c_to_n = Double.NaN;
 
-        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, 0);
+        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, Double.NaN);
 
         // === Beam
 
@@ -473,7 +473,7 @@ public class Gso_gso {
         // = Interfering system
 
         Map options = new HashMap<String, Object>();
-        options.put("TestAngleFromGsoArc", 0);
+        options.put("TestAngleFromGsoArc", false);
 
         Object[] losses = new Object[0];
         return new System(new EarthStation[]{earthStation}, new SpaceStation[]{spaceStation}, losses, new ModJulianDate(epoch_0), options);
@@ -528,7 +528,7 @@ public class Gso_gso {
         //Required C/N
         double c_to_n = Double.NaN;
 
-        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, 0);
+        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, Double.NaN);
 
         // === Beam
         Beam beam = new Beam("WntGsoEarthSegment", 1, 100);
@@ -629,7 +629,7 @@ public class Gso_gso {
         //Required C/N
         double c_to_n = Double.NaN;
 
-        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, 0);
+        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, Double.NaN);
 
         //=== Receive pattern
 
@@ -733,7 +733,7 @@ public class Gso_gso {
         //Required C/N
         double c_to_n = Double.NaN;
 
-        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, 0);
+        Emission emission = new Emission(design_emi, pwr_ds_max, pwr_ds_min, freq_mhz, c_to_n, Double.NaN);
 
         // ===Receive pattern
 
@@ -17,13 +17,18 @@ package com.springbok.system;
 
 import Jama.Matrix;
 import com.celestrak.sgp4v.ObjectDecayed;
+import com.springbok.antenna.Antenna;
+import com.springbok.antenna.EarthStationAntenna;
+import com.springbok.antenna.SpaceStationAntenna;
+import com.springbok.pattern.GainOptions;
+import com.springbok.pattern.Pattern;
 import com.springbok.station.Beam;
 import com.springbok.station.EarthStation;
 import com.springbok.station.SpaceStation;
 import com.springbok.station.Station;
-import com.springbok.twobody.Coordinates;
 import com.springbok.twobody.EarthConstants;
 import com.springbok.twobody.ModJulianDate;
+import com.springbok.twobody.Vec3;
 import com.springbok.utility.MException;
 
 import java.util.Arrays;
@@ -222,22 +227,21 @@ public class Link {
      * @param numSmpES          Factor of Earth stations to which a space station
      *                          was assigned
      * @param numSmpBm          Factor of Space station beams assigned
-     *                          ref_bw - Reference bandwidth [kHz]
-     * @param DoIS              Flag for computing up link performance in the
-     *                          presence of inter-satellite interference (optional,
-     *                          default is 0)
+     * @param ref_bw            Reference bandwidth [kHz]
+     * @param options           Map of options containing:
+     *                              PlDs Polarization discrimination [dB] (default is 0)
+     *                              DoIS Flag for computing up link performance in the
+     *                                   presence of inter-satellite interference (default is false)
      * @return Link performance
      */
-
-
     public Performance computePerformance(ModJulianDate dNm, System interferingSystem, double numSmpES, double numSmpBm,
                                           double ref_bw, Map options) throws ObjectDecayed {
-    /*    Performance performance;
         if (this.isEmpty()) {
             return new Performance();
         }
 
         // Parse variable input arguments
+        double PlDs = ((Number) options.getOrDefault("PlDs", 0.0)).doubleValue();
         boolean doIS = (boolean) options.getOrDefault("DoIS", false);
 
         // Assign wanted transmit and receive station, for clarity
@@ -245,143 +249,48 @@ public class Link {
         Beam trnStnBm_w = this.transmitStationBeam;
         Station rcvStn_w = this.receiveStation;
 
-        Matrix trnStn_w_r_ger;
-        Matrix rcvStn_w_r_ger;
-        // Assign positions for the wanted stations
-        //TODO: Probably error in code. EarthStation class does not have public method compute_r_ger with param dNm
-        if (trnStn_w instanceof SpaceStation) {
-            trnStn_w_r_ger = ((SpaceStation) trnStn_w).getR_ger();
-            rcvStn_w_r_ger = ((SpaceStation) rcvStn_w).compute_r_ger(dNm);
-        } else {
-            trnStn_w_r_ger = ((EarthStation) trnStn_w).compute_r_gei(dNm); //TODO: must be compute_r_ger
-            rcvStn_w_r_ger = ((EarthStation) rcvStn_w).get_R_ger();
-        }
-
-        Station[] trnStns_i = new Station[]{};
-        Beam[] trnStnsBms_i;
-        Station[] rcvStns_i = new Station[]{};
-        int idxVisSS, idxVisTx;
-        int nNet = 0;
-            // Assign visible interfering transmit and receive stations
-        if (interferingSystem != null) {
-            if (!doIS) {
-                //  for consistency with wanted transmit station class
-                if (trnStn_w instanceof EarthStation) {
-                    trnStns_i = interferingSystem.get_assignedEarthStations();
-                    trnStnsBms_i = interferingSystem.get_assignedEarthStationBeams();
-                    rcvStns_i = interferingSystem.get_assignedSpaceStations();
-
-                    // This is an up link, so assign interfering system Earth
-                    // stations visible to this link space station
-                    int[] arr = findIdxVisEStoSS(Arrays.copyOf(trnStns_i, trnStns_i.length, EarthStation[].class),
-                            new SpaceStation[]{(SpaceStation) rcvStn_w}, dNm);
-                    idxVisSS = arr[0];
-                    idxVisTx = arr[1];
-                } else {
-                    trnStns_i = interferingSystem.get_assignedSpaceStations();
-                    trnStnsBms_i = interferingSystem.get_assignedSpaceStationBeams();
-                    rcvStns_i = interferingSystem.get_assignedEarthStations();
-
-                    // This is a down link, so assign interfering system space
-                    // stations visible to this link Earth station
-                    int[] arr = findIdxVisEStoSS(new EarthStation[]{(EarthStation) rcvStn_w},
-                            Arrays.copyOf(trnStns_i, trnStns_i.length, SpaceStation[].class), dNm);
-                    idxVisSS = arr[0];
-                    idxVisTx = arr[1];
-                }
-            } else {
-                if (!(trnStn_w instanceof EarthStation)) {
-                    throw new MException("Springbok:IllegalArgumentException",
-                            "IS case only applicable for an uplink");
-                }
-                trnStns_i = interferingSystem.get_assignedSpaceStations();
-                trnStnsBms_i = interferingSystem.get_assignedSpaceStationBeams();
-                rcvStns_i = interferingSystem.get_assignedEarthStations();
-
-                // This is an inter-satellite link, so assign interfering
-                // system space stations visible to this link space station
-                int[] arr = findIdxVisSStoSS(new Station[]{rcvStn_w}, trnStns_i, dNm);
-                idxVisSS = arr[0];
-                idxVisTx = arr[1];
+        boolean isUpLink;
+        if (trnStn_w instanceof EarthStation && rcvStn_w instanceof SpaceStation) {
+            isUpLink = true;
+        } else if (trnStn_w instanceof SpaceStation && rcvStn_w instanceof EarthStation) {
+            isUpLink = false;
+            if (doIS) {
+                throw new MException("Springbok:IllegalArgumentException",
+                        "IS case only applicable for an uplink");
             }
-            // Select visible interfering transmit and receive stations
-            trnStns_i = new Station[]{trnStns_i[idxVisSS]};
-            trnStnsBms_i = new Beam[]{trnStnsBms_i[idxVisTx]};
-            rcvStns_i = new Station[]{rcvStns_i[idxVisTx]};
-            nNet = trnStns_i.length;
+        } else {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Link must be between an Earth station and a space station");
         }
 
-        Matrix[] trnStns_i_r_ger = new Matrix[5];
-        Matrix[] rcvStns_i_r_ger = new Matrix[5];
-
-            // Assign positions for the interfering stations
-        if (interferingSystem != null) {
-            if (!doIS) {
-                if (trnStn_w instanceof EarthStation) {
-                    //  for consistency with wanted transmit station class
-                    for (int iNet = 0; iNet <= nNet; iNet++) {
-                        trnStns_i_r_ger[iNet] = ((EarthStation) trnStns_i[iNet]).get_R_ger();
-                        rcvStns_i_r_ger[iNet] = ((EarthStation) rcvStns_i[iNet]).compute_r_gei(dNm);
-                    }
-                } else {
-                    for (int iNet = 0; iNet <= nNet; iNet++) {
-                        trnStns_i_r_ger[iNet] = ((SpaceStation) trnStns_i[iNet]).compute_r_ger(dNm);
-                        rcvStns_i_r_ger[iNet] = ((SpaceStation) rcvStns_i[iNet]).getR_ger();
-                    }
-                }
-            } else {
-                for (int iNet = 0; iNet <= nNet; iNet++) {
-                    //TODO: variables trnStns_i and rcvStns_i are Earth or Space stations?
-                    trnStns_i_r_ger[iNet] = ((SpaceStation) trnStns_i[iNet]).compute_r_ger(dNm);
-                    rcvStns_i_r_ger[iNet] = ((SpaceStation) rcvStns_i[iNet]).getR_ger();
-                }
-            }
-        }
+        // Assign positions for the wanted stations
+        Scratch s = scratch.get();
+        loadPosition(trnStn_w, dNm, s.r_trn_w, 0);
+        loadPosition(rcvStn_w, dNm, s.r_rcv_w, 0);
 
         // Assign frequency and propagation path length
         double f_w = trnStn_w.getEmission().getFreq_mhz();
-        double d_w = computeDistance(trnStn_w_r_ger, rcvStn_w_r_ger);
+        double d_w = computeDistance(s.r_trn_w, 0, s.r_rcv_w, 0);
 
         // Assign power density, transmit and receive gain, and
         // propagation path loss
-        //TODO: uncomment when antenna will have pattern property
-            if (trnStn_w.getTransmitAntenna().getPattern() instanceof SampledPattern) {
-            phi_t_w = computeAngles(trnStn_w, trnStn_w_r_ger, rcvStn_w_r_ger);
-            G_t_w_0 = trnStn_w.transmitAntenna.pattern.gain(
-                    phi_t_w, 0, phi_t_w, trnStn_w.transmitAntenna.options {:});
-
-      else
-            G_t_w_0 = trnStn_w.transmitAntenna.pattern.gain(
-                    0, trnStn_w.transmitAntenna.options {:});
-
-            end         // if
-            if isa(rcvStn_w.receiveAntenna.pattern, "SampledPattern")
-            phi_r_w = Link.computeAngles(rcvStn_w, rcvStn_w_r_ger, trnStn_w_r_ger);
-            G_r_w_0 = rcvStn_w.receiveAntenna.pattern.gain(
-                    phi_r_w, 0, phi_r_w, rcvStn_w.receiveAntenna.options {:});
-
-      else
-            G_r_w_0 = rcvStn_w.receiveAntenna.pattern.gain(
-                    0, rcvStn_w.receiveAntenna.options {:});
-
-            end         // if
-        double SL_w = 0;
-        double PD_w = 0;
-        if (trnStn_w.getEmission().getPwr_flx_ds() != 0) {
-            SL_w = Propagation.computeSL(d_w);
-            //PD_w = trnStn_w.emission.pwr_flx_ds - G_t_w_0 + SL_w;
+        double G_t_w_0 = computeGain(trnStn_w.getTransmitAntenna(), 0, s);
+        double G_r_w_0 = computeGain(rcvStn_w.getReceiveAntenna(), 0, s);
+        double PwDn_w;
+        if (!Double.isNaN(trnStn_w.getEmission().getPwr_flx_ds())) {
+            double SL_w = Propagation.computeSL(d_w);
+            PwDn_w = trnStn_w.getEmission().getPwr_flx_ds() - G_t_w_0 + SL_w;
         } else {
-            PD_w = trnStn_w.getEmission().getPwr_ds_max();
+            PwDn_w = trnStn_w.getEmission().getPwr_ds_max();
         }
-
         double ML_w = 10 * Math.log10(trnStnBm_w.getDivisions());
         double DCL_w = 10 * Math.log10(100 / trnStnBm_w.getDutyCycle());
         double PL_w = Propagation.computeFSL(f_w, d_w);
 
         // Compute carrier power density
-            C = PD_w - ML_w - DCL_w + G_t_w_0 - PL_w + G_r_w_0;
+        double C = PwDn_w - ML_w - DCL_w + G_t_w_0 - PL_w + G_r_w_0;
 
-            // Assign receiver noise temperature
+        // Assign receiver noise temperature
         double T_w = rcvStn_w.getReceiveAntenna().get_noise_t();
 
         // Compute noise power density
@@ -392,101 +301,300 @@ public class Link {
         double I = Double.NEGATIVE_INFINITY;
         double[] epfd = new double[]{Double.NEGATIVE_INFINITY};
         double EPFD = Double.NEGATIVE_INFINITY;
-
         if (interferingSystem != null) {
+            // Assign visible interfering transmit and receive stations,
+            // and their positions, for consistency with the wanted
+            // transmit station class, or for the IS case
+            Network[] networks = interferingSystem.getNetworks();
+            s.ensureCapacity(networks.length);
+            int nNet = 0;
+            for (int iNet = 0; iNet < networks.length; iNet++) {
+                Network network = networks[iNet];
+                if (network.isEmpty()) {
+                    continue;
+                }
+                Station trnStn_i;
+                Station rcvStn_i;
+                if (isUpLink && !doIS) {
+                    trnStn_i = network.getEarthStation();
+                    rcvStn_i = network.getSpaceStation();
+                } else {
+                    trnStn_i = network.getSpaceStation();
+                    rcvStn_i = network.getEarthStation();
+                }
+                loadPosition(trnStn_i, dNm, s.r_trn_i, 3 * nNet);
+                loadPosition(rcvStn_i, dNm, s.r_rcv_i, 3 * nNet);
+                boolean isVisible;
+                if (doIS) {
+                    // This is an up link for the IS case, so select
+                    // interfering system space stations visible to this
+                    // link space station
+                    isVisible = isVisibleSStoSS(s.r_rcv_w, 0, s.r_trn_i, 3 * nNet);
+                } else if (isUpLink) {
+                    // This is an up link, so select interfering system
+                    // Earth stations visible to this link space station
+                    isVisible = isVisibleEStoSS(s.r_trn_i, 3 * nNet, s.r_rcv_w, 0);
+                } else {
+                    // This is a down link, so select interfering system
+                    // space stations visible to this link Earth station
+                    isVisible = isVisibleEStoSS(s.r_rcv_w, 0, s.r_trn_i, 3 * nNet);
+                }
+                if (isVisible) {
+                    s.idxNet[nNet++] = iNet;
+                }
+            }
+
+            // Sampling correction, and reference bandwidth, are the
+            // same for each interfering network
+            double SmL = 10 * Math.log10(numSmpES * numSmpBm);
+            double RBW = 10 * Math.log10(ref_bw * 1000);
+
+            // Compute the wanted receive gain toward each visible
+            // interfering transmit station in one batch, since the
+            // receive antenna is the same
+            for (int jNet = 0; jNet < nNet; jNet++) {
+                s.theta_r_w[jNet] = computeTheta(s.r_rcv_w, 0, s.r_trn_w, 0, s.r_trn_i, 3 * jNet);
+            }
+            computeGains(rcvStn_w.getReceiveAntenna(), s.theta_r_w, nNet, s.G_r_w, s.Gx_r_w);
+
             i = SystemUtils.negativeInf(nNet);
             epfd = SystemUtils.negativeInf(nNet);
-            for (int iNet = 0; iNet < nNet; iNet++) {
+            double sum_i = 0;
+            double sum_epfd = 0;
+            for (int jNet = 0; jNet < nNet; jNet++) {
+                int o = 3 * jNet;
+                Network network = networks[s.idxNet[jNet]];
+                Station trnStn_i;
+                Beam trnStnBm_i;
+                if (isUpLink && !doIS) {
+                    trnStn_i = network.getEarthStation();
+                    trnStnBm_i = network.getEarthStationBeam();
+                } else {
+                    trnStn_i = network.getSpaceStation();
+                    trnStnBm_i = network.getSpaceStationBeam();
+                }
+
                 // Assign frequency and propagation path length
-                double f_i = trnStns_i[iNet].getEmission().getFreq_mhz();
-                double d_i_i = computeDistance(trnStns_i_r_ger[iNet], rcvStns_i_r_ger[iNet]);
-                double d_i_w = computeDistance(trnStns_i_r_ger[iNet], rcvStn_w_r_ger);
+                double f_i = trnStn_i.getEmission().getFreq_mhz();
+                double d_i_i = computeDistance(s.r_trn_i, o, s.r_rcv_i, o);
+                double d_i_w = computeDistance(s.r_trn_i, o, s.r_rcv_w, 0);
 
                 // Assign power density, transmit and receive gain, and
                 // propagation path and spreading loss
-                    if isa(trnStns_i(iNet).transmitAntenna.pattern, "SampledPattern")
-                            [phi_t_i, azm_r_w, elv_r_w] =Link.computeAngles(
-                            trnStns_i(iNet), trnStns_i_r_ger {
-                        iNet
-                    },rcvStns_i_r_ger {
-                        iNet
-                    },rcvStn_w_r_ger);
-                    G_t_i = trnStns_i(iNet).transmitAntenna.pattern.gain(
-                            phi_t_i, azm_r_w, elv_r_w, trnStns_i(iNet).transmitAntenna.options {:});
-            else
-                    theta_t_i = Link.computeTheta(
-                            trnStns_i_r_ger {
-                        iNet
-                    },rcvStns_i_r_ger {
-                        iNet
-                    },rcvStn_w_r_ger);
-                    G_t_i = trnStns_i(iNet).transmitAntenna.pattern.gain(
-                            theta_t_i, trnStns_i(iNet).transmitAntenna.options {:});
-
-                    end         // if
+                double theta_t_i = computeTheta(s.r_trn_i, o, s.r_rcv_i, o, s.r_rcv_w, 0);
+                double G_t_i = computeGain(trnStn_i.getTransmitAntenna(), theta_t_i, s);
                 double SL_i_w = Propagation.computeSL(d_i_w);
-                    if isa(rcvStn_w.receiveAntenna.pattern, "SampledPattern")
-                            [phi_r_w, azm_t_i, elv_t_i] =Link.computeAngles(
-                            rcvStn_w, rcvStn_w_r_ger, trnStn_w_r_ger, trnStns_i_r_ger {
-                        iNet
-                    });
-                    G_r_w = rcvStn_w.receiveAntenna.pattern.gain(
-                            phi_r_w, azm_t_i, elv_t_i, rcvStn_w.receiveAntenna.options {:});
-
-          else
-                    theta_r_w = Link.computeTheta(
-                            rcvStn_w_r_ger, trnStn_w_r_ger, trnStns_i_r_ger {
-                        iNet
-                    });
-                    G_r_w = rcvStn_w.receiveAntenna.pattern.gain(
-                            theta_r_w, rcvStn_w.receiveAntenna.options {:});
-
-                    end         // if
+                double G_r_w = s.G_r_w[jNet];
+                double PwDn_i;
+                if (!Double.isNaN(trnStn_i.getEmission().getPwr_flx_ds())) {
+                    double G_t_i_0 = computeGain(trnStn_i.getTransmitAntenna(), 0, s);
+                    double SL_i_i = Propagation.computeSL(d_i_i);
+                    PwDn_i = trnStn_i.getEmission().getPwr_flx_ds() - G_t_i_0 + SL_i_i;
+                } else {
+                    PwDn_i = trnStn_i.getEmission().getPwr_ds_max();
+                }
+                double ML_i = 10 * Math.log10(trnStnBm_i.getDivisions());
+                double DCL_i = 10 * Math.log10(100 / trnStnBm_i.getDutyCycle());
+                double PL_i = Propagation.computeFSL(f_i, d_i_w);
+
+                // Compute interference power density, due to
+                // multiplexing, duty cycle, and sampling
+                i[jNet] = PwDn_i + G_t_i - PL_i + G_r_w - PlDs - ML_i - DCL_i + SmL;
+                sum_i += Math.pow(10, i[jNet] / 10);
+
+                // Compute equivalent power flux density
+                epfd[jNet] = PwDn_i + G_t_i - SL_i_w + G_r_w - PlDs - G_r_w_0 + RBW - ML_i - DCL_i + SmL;
+                sum_epfd += Math.pow(10, epfd[jNet] / 10);
             }
+            I = 10 * Math.log10(sum_i);
+            EPFD = 10 * Math.log10(sum_epfd);
         }
 
-        if ~isempty(trnStns_i(iNet).emission.pwr_flx_ds)
-        if isa(trnStns_i(iNet).transmitAntenna.pattern, "SampledPattern")
-        G_t_i_0 = trnStns_i(iNet).transmitAntenna.pattern.gain(
-                phi_t_i, 0, phi_t_i, trnStns_i(iNet).transmitAntenna.options {:});
-
-            else
-        G_t_i_0 = trnStns_i(iNet).transmitAntenna.pattern.gain(
-                0, trnStns_i(iNet).transmitAntenna.options {:});
-
-        end         // if
-                SL_i_i = Propagation.computeSL(d_i_i);
-        PD_i = trnStns_i(iNet).emission.pwr_flx_ds - G_t_i_0 + SL_i_i;
+        // Assign carrier, noise, and interference power density
+        return new Performance(C, N, i, I, epfd, EPFD);
+    }
 
-          else
-        PD_i = trnStns_i(iNet).emission.pwr_ds_max;
+    /**
+     * Scratch state reused by each call to computePerformance() on the
+     * same thread, so that the interference loop works on primitive
+     * position and gain buffers rather than on newly allocated matrices.
+     */
+    private static class Scratch {
+        // Wanted transmit station position [er]
+        private final double[] r_trn_w = new double[3];
+
+        // Wanted receive station position [er]
+        private final double[] r_rcv_w = new double[3];
+
+        // Interfering transmit station positions, packed by three [er]
+        private double[] r_trn_i = new double[0];
+
+        // Interfering receive station positions, packed by three [er]
+        private double[] r_rcv_i = new double[0];
+
+        // Index of each visible interfering network
+        private int[] idxNet = new int[0];
+
+        // Angle of each visible interfering transmit station from the
+        // wanted receive station boresight [deg]
+        private double[] theta_r_w = new double[0];
+
+        // Wanted receive co-polar and cross-polar gain toward each
+        // visible interfering transmit station [dB]
+        private double[] G_r_w = new double[0];
+        private double[] Gx_r_w = new double[0];
+
+        // Angle, and co-polar and cross-polar gain, for a single gain
+        // evaluation
+        private final double[] phi = new double[1];
+        private final double[] G = new double[1];
+        private final double[] Gx = new double[1];
+
+        /**
+         * Grows the buffers, if needed, to hold the given number of
+         * networks.
+         *
+         * @param nNet Number of networks
+         */
+        private void ensureCapacity(int nNet) {
+            if (idxNet.length < nNet) {
+                r_trn_i = new double[3 * nNet];
+                r_rcv_i = new double[3 * nNet];
+                idxNet = new int[nNet];
+                theta_r_w = new double[nNet];
+                G_r_w = new double[nNet];
+                Gx_r_w = new double[nNet];
+            }
+        }
+    }
 
-        end         // if
-                ML_i = 10 * log10(trnStnsBms_i(iNet).divisions);
-        DCL_i = 10 * log10(100 / trnStnsBms_i(iNet).dutyCycle);
-        PL_i = Propagation.computeFSL(f_i, d_i_w);
+    // Per-thread scratch state for computePerformance()
+    private static final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
 
-        // Compute interference power density
-        i(iNet) = PD_i - ML_i - DCL_i + G_t_i - PL_i + G_r_w
-                + 10 * log10(numSmpES * numSmpBm);         // Due to sampling
-        I = 10 * log10(10 ^ (I / 10) + 10 ^ (i(iNet) / 10));
+    /**
+     * Copies the geocentric equatorial rotating position of a station
+     * into a buffer.
+     *
+     * @param station A station
+     * @param dNm     Date number at which the position occurs
+     * @param r       Position buffer [er]
+     * @param offset  Offset of the position in the buffer
+     */
+    private static void loadPosition(Station station, ModJulianDate dNm, double[] r, int offset) throws ObjectDecayed {
+        Matrix r_ger;
+        if (station instanceof EarthStation) {
+            r_ger = ((EarthStation) station).get_R_ger();
+        } else {
+            r_ger = ((SpaceStation) station).compute_r_ger(dNm);
+        }
+        r[offset] = r_ger.get(0, 0);
+        r[offset + 1] = r_ger.get(1, 0);
+        r[offset + 2] = r_ger.get(2, 0);
+    }
 
-        // Compute equivalent power flux density
-        epfd(iNet) = PD_i - ML_i - DCL_i + G_t_i - SL_i_w + G_r_w - G_r_w_0 + 10 * log10(ref_bw * 1000)
-                + 10 * log10(numSmpES * numSmpBm);         // Due to sampling
-        EPFD = 10 * log10(10 ^ (EPFD / 10) + 10 ^ (epfd(iNet) / 10));
+    /**
+     * Computes the gain of an antenna using its pattern and options,
+     * without allocation.
+     *
+     * @param antenna An Earth or space station antenna
+     * @param phi     Angle from boresight [deg]
+     * @param s       Scratch state of the current thread
+     * @return Co-polar gain [dB]
+     */
+    private static double computeGain(Antenna antenna, double phi, Scratch s) {
+        s.phi[0] = phi;
+        computeGains(antenna, s.phi, 1, s.G, s.Gx);
+        return s.G[0];
+    }
 
-        end         // for
+    /**
+     * Computes the gain of an antenna for a batch of angles using its
+     * pattern and options, which are validated once, when set.
+     *
+     * @param antenna An Earth or space station antenna
+     * @param phis    Angles from boresight [deg]
+     * @param n       Number of angles
+     * @param Gs      Co-polar gain for each angle, output [dB]
+     * @param Gxs     Cross-polar gain for each angle, output [dB]
+     */
+    private static void computeGains(Antenna antenna, double[] phis, int n, double[] Gs, double[] Gxs) {
+        Pattern pattern;
+        GainOptions options;
+        if (antenna instanceof EarthStationAntenna) {
+            EarthStationAntenna earthStationAntenna = (EarthStationAntenna) antenna;
+            pattern = earthStationAntenna.get_pattern();
+            options = earthStationAntenna.get_gainOptions();
+        } else if (antenna instanceof SpaceStationAntenna) {
+            SpaceStationAntenna spaceStationAntenna = (SpaceStationAntenna) antenna;
+            pattern = spaceStationAntenna.get_pattern();
+            options = spaceStationAntenna.get_gainOptions();
+        } else {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Antenna must be an Earth or space station antenna");
+        }
+        pattern.gain(phis, n, Gs, Gxs, options);
+    }
 
-                    end         // if
+    /**
+     * Computes distance between two positions stored in buffers,
+     * without allocation.
+     *
+     * @param r_one   First position buffer [er]
+     * @param off_one Offset of the first position
+     * @param r_two   Second position buffer [er]
+     * @param off_two Offset of the second position
+     * @return Distance [km]
+     */
+    public static double computeDistance(double[] r_one, int off_one, double[] r_two, int off_two) {
+        return Vec3.distance(r_one, off_one, r_two, off_two) * EarthConstants.R_oplus;
+        // [km] = [er] * [km/er]
+    }
 
-            // Assign carrier, noise, and interference power density
-            performance = Performance(C, N, i, I, epfd, EPFD);
+    /**
+     * Computes the angle between two unit vectors pointing from a
+     * reference position to two other positions, all stored in
+     * buffers, without allocation.
+     *
+     * @param r_ref   Reference position buffer [er]
+     * @param off_ref Offset of the reference position
+     * @param r_one   First position buffer [er]
+     * @param off_one Offset of the first position
+     * @param r_two   Second position buffer [er]
+     * @param off_two Offset of the second position
+     * @return Angle between unit vectors [deg]
+     */
+    public static double computeTheta(double[] r_ref, int off_ref, double[] r_one, int off_one,
+                                      double[] r_two, int off_two) {
+        return Math.toDegrees(Vec3.angle(r_ref, off_ref, r_one, off_one, r_two, off_two));
+    }
 
-            end         // computePerformance(*/
-        return null;
+    /**
+     * Determines if a space station is above the horizon of an Earth
+     * station, that is, the angle from the Earth station zenith is less
+     * than 90 degrees.
+     */
+    private static boolean isVisibleEStoSS(double[] r_ES, int off_ES, double[] r_SS, int off_SS) {
+        return r_ES[off_ES] * (r_SS[off_SS] - r_ES[off_ES])
+                + r_ES[off_ES + 1] * (r_SS[off_SS + 1] - r_ES[off_ES + 1])
+                + r_ES[off_ES + 2] * (r_SS[off_SS + 2] - r_ES[off_ES + 2]) > 0;
     }
 
+    /**
+     * Determines if two space stations are visible to each other, that
+     * is, the angle between their position vectors is less than the sum
+     * of the angles at which each sees the Earth limb.
+     */
+    private static boolean isVisibleSStoSS(double[] r_A, int off_A, double[] r_B, int off_B) {
+        double d_A = Math.sqrt(r_A[off_A] * r_A[off_A] + r_A[off_A + 1] * r_A[off_A + 1]
+                + r_A[off_A + 2] * r_A[off_A + 2]);
+        double d_B = Math.sqrt(r_B[off_B] * r_B[off_B] + r_B[off_B + 1] * r_B[off_B + 1]
+                + r_B[off_B + 2] * r_B[off_B + 2]);
+        double alpha = Math.toDegrees(Math.acos(1.0 / d_A));
+        double beta = Math.toDegrees(Math.acos(1.0 / d_B));
+        double theta = Math.toDegrees(Math.acos((r_A[off_A] * r_B[off_B] + r_A[off_A + 1] * r_B[off_B + 1]
+                + r_A[off_A + 2] * r_B[off_B + 2]) / (d_A * d_B)));
+        return theta < alpha + beta;
+    }
 
     /**
      * Determines if Link properties are empty, or not.
@@ -510,14 +618,7 @@ public class Link {
             throw new MException("Springbok:IllegalArgumentException",
                     "Positions must be column vectors");
         }
-        // Compute relative position vector
-        Matrix r_two_one = r_two.minus(r_one);
-
-        double matrixProduct = r_two_one.transpose().times(r_two_one).get(0, 0);
-        // Compute distance
-        double distance = Math.sqrt(matrixProduct) * EarthConstants.R_oplus;
-        // [km] = [er] * [km/er]
-        return distance;
+        return computeDistance(r_one.getColumnPackedCopy(), 0, r_two.getColumnPackedCopy(), 0);
     }
 
     /**
@@ -536,28 +637,8 @@ public class Link {
             throw new MException("Springbok:IllegalArgumentException",
                     "Positions must be column vectors");
         }
-
-        // Compute relative position vectors
-        Matrix r_one_ref = r_one.minus(r_ref);
-        Matrix r_two_ref = r_two.minus(r_ref);
-
-        // Compute unit vectors
-        Matrix u_one_ref = r_one_ref.times(1 / Math.sqrt(r_one_ref.transpose().times(r_one_ref).get(0, 0)));
-        Matrix u_two_ref = r_two_ref.times(1 / Math.sqrt(r_two_ref.transpose().times(r_two_ref).get(0, 0)));
-
-        // Compute angle between
-        double cos = u_one_ref.transpose().times(u_two_ref).get(0, 0);
-        double acos;
-        if (Double.compare(Math.floor(cos), 1) == 0) {
-            acos = 0;
-        } else if (Double.compare(Math.ceil(cos), -1) == 0) {
-            acos = Math.PI;
-        } else {
-            acos = Math.acos(cos);
-        }
-
-        double theta = Math.toDegrees(acos);
-        return theta;
+        return computeTheta(r_ref.getColumnPackedCopy(), 0, r_one.getColumnPackedCopy(), 0,
+                r_two.getColumnPackedCopy(), 0);
     }
 
     /**
@@ -593,60 +674,96 @@ public class Link {
             }
         }
 
-        Matrix r_one = r_one_two[0];
-
-        // Compute first relative position vector
-        Matrix r_one_ref = r_one.minus(r_ref);
-
-        // Compute unit vectors
-        Matrix u_ref = r_ref.times(1 / Math.sqrt(r_ref.transpose().times(r_ref).get(0, 0)));
+        return computeAngles(refStn, r_ref.getColumnPackedCopy(), 0, r_one_two[0].getColumnPackedCopy(), 0,
+                r_one_two.length == 2 ? r_one_two[1].getColumnPackedCopy() : null, 0);
+    }
 
+    /**
+     * Computes the angles from boresight, defined by the reference
+     * position, and the first and second position relative to the
+     * reference position, all stored in buffers, allocating only the
+     * result.
+     *
+     * @param refStn  Reference station
+     * @param r_ref   Reference position buffer [er]
+     * @param off_ref Offset of the reference position
+     * @param r_one   First position buffer [er]
+     * @param off_one Offset of the first position
+     * @param r_two   Second position buffer, or null to compute the
+     *                scan angle only [er]
+     * @param off_two Offset of the second position
+     * @return Elevation (corresponds to second position) [deg]
+     * @see #computeAngles(Station, Matrix, Matrix...)
+     */
+    public static Angle computeAngles(Station refStn, double[] r_ref, int off_ref, double[] r_one, int off_one,
+                                      double[] r_two, int off_two) {
+        // Compute boresight unit vector. Space station antennas point
+        // toward the center of the Earth
+        double s_ref = 1 / Vec3.norm(r_ref, off_ref);
         if (refStn instanceof SpaceStation) {
-            // Space station antennas point toward the center of the
-            // Earth
-            u_ref = u_ref.uminus();
+            s_ref = -s_ref;
         }
-        Matrix u_one_ref = r_one_ref.times(1 / Math.sqrt(r_one_ref.transpose().times(r_one_ref).get(0, 0)));
+        double z_x = r_ref[off_ref] * s_ref;
+        double z_y = r_ref[off_ref + 1] * s_ref;
+        double z_z = r_ref[off_ref + 2] * s_ref;
+
+        // Compute first relative position unit vector
+        double x_one = r_one[off_one] - r_ref[off_ref];
+        double y_one = r_one[off_one + 1] - r_ref[off_ref + 1];
+        double z_one = r_one[off_one + 2] - r_ref[off_ref + 2];
+        double s_one = 1 / Math.sqrt(x_one * x_one + y_one * y_one + z_one * z_one);
+        x_one *= s_one;
+        y_one *= s_one;
+        z_one *= s_one;
 
         // Compute scan angle (angle between boresight and first
         // position directions)
-        double phi = Math.toDegrees(Math.acos(u_ref.transpose().times(u_one_ref).get(0, 0)));
+        double phi = Math.toDegrees(Math.acos(z_x * x_one + z_y * y_one + z_z * z_one));
 
         double azm = 0;
         double elv = 0;
-        if (r_one_two.length == 2) {
-            Matrix z_hat = u_ref;
-            Matrix y_hat = new Matrix(3, 1);
-
-            // Compute second relative position vector
-            Matrix r_two = r_one_two[1];
-            Matrix r_two_ref = r_two.minus(r_ref);
-
-            // Compute unit vector
-            Matrix u_two_ref = r_two_ref.times(1 / Math.sqrt(r_two_ref.transpose().times(r_two_ref).get(0, 0)));
+        if (r_two != null) {
+            // Compute second relative position unit vector
+            double x_two = r_two[off_two] - r_ref[off_ref];
+            double y_two = r_two[off_two + 1] - r_ref[off_ref + 1];
+            double z_two = r_two[off_two + 2] - r_ref[off_ref + 2];
+            double s_two = 1 / Math.sqrt(x_two * x_two + y_two * y_two + z_two * z_two);
+            x_two *= s_two;
+            y_two *= s_two;
+            z_two *= s_two;
 
             // Compute elevation (angle between scan and second position
             // directions)
-            double s = u_one_ref.transpose().times(u_two_ref).get(0, 0);
-            elv = Math.toDegrees(Math.acos(u_one_ref.transpose().times(u_two_ref).get(0, 0)));
+            elv = Math.toDegrees(Math.acos(x_one * x_two + y_one * y_two + z_one * z_two));
 
             // Compute local coordinate system unit vectors
-            if (Double.compare(u_one_ref.minus(z_hat).transpose().times(u_one_ref.minus(z_hat)).get(0, 0), 0) == 0) {
+            double y_hat_x, y_hat_y, y_hat_z;
+            double d_x = x_one - z_x;
+            double d_y = y_one - z_y;
+            double d_z = z_one - z_z;
+            if (Double.compare(d_x * d_x + d_y * d_y + d_z * d_z, 0) == 0) {
                 // Reference and first relative position vectors are aligned
-                y_hat.set(0, 0, 0);
-                y_hat.set(1, 0, z_hat.get(2, 0));
-                y_hat.set(2, 0, z_hat.get(1, 0));
+                y_hat_x = 0;
+                y_hat_y = z_z;
+                y_hat_z = z_y;
             } else {
-                y_hat = Coordinates.cross(z_hat, u_one_ref);
+                y_hat_x = z_y * z_one - z_z * y_one;
+                y_hat_y = z_z * x_one - z_x * z_one;
+                y_hat_z = z_x * y_one - z_y * x_one;
             }
-            y_hat = y_hat.times(1 / Math.sqrt(y_hat.transpose().times(y_hat).get(0, 0)));
-            Matrix x_hat = Coordinates.cross(y_hat, z_hat);
+            double s_hat = 1 / Math.sqrt(y_hat_x * y_hat_x + y_hat_y * y_hat_y + y_hat_z * y_hat_z);
+            y_hat_x *= s_hat;
+            y_hat_y *= s_hat;
+            y_hat_z *= s_hat;
+            double x_hat_x = y_hat_y * z_z - y_hat_z * z_y;
+            double x_hat_y = y_hat_z * z_x - y_hat_x * z_z;
+            double x_hat_z = y_hat_x * z_y - y_hat_y * z_x;
 
             // Compute azimuth (angle in the array plane between the
             // plane containing scan and boresight directions and plane
             // containing second position and boresight directions)
-            double x_two_ref = u_two_ref.transpose().times(x_hat).get(0, 0);
-            double y_two_ref = u_two_ref.transpose().times(y_hat).get(0, 0);
+            double x_two_ref = x_two * x_hat_x + y_two * x_hat_y + z_two * x_hat_z;
+            double y_two_ref = x_two * y_hat_x + y_two * y_hat_y + z_two * y_hat_z;
 
             azm = Math.atan2(y_two_ref, x_two_ref) * 180 / Math.PI;
         }
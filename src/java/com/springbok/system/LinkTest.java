@@ -17,16 +17,22 @@ package com.springbok.system;
 
 import Jama.Matrix;
 import com.celestrak.sgp4v.ObjectDecayed;
+import com.springbok.antenna.SpaceStationAntenna;
 import com.springbok.station.Beam;
 import com.springbok.station.EarthStation;
 import com.springbok.station.SpaceStation;
 import com.springbok.twobody.EarthConstants;
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.utility.MException;
 import com.springbok.utility.TestUtility;
 import com.springbok.utility.TimeUtility;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Tests methods of Link class.
  */
@@ -58,7 +64,47 @@ public class LinkTest {
 
     @Before
     public void setUp() throws ObjectDecayed {
-        // TODO: Complete
+        // Assign a multiplexed wanted space station beam to two Earth
+        // stations
+        System wantedSystem = Gso_gso.getWntGsoSystem();
+        SpaceStation spaceStation = wantedSystem.getSpaceStations()[0];
+        EarthStation earthStationA = wantedSystem.getEarthStations()[0];
+        Beam spaceStationBeam = spaceStation.getBeams()[0];
+        earthStationA.set_doMultiplexing(true);
+        spaceStationBeam.set_multiplicity(2);
+        spaceStationBeam.assign(true);
+        spaceStationBeam.assign(true);
+
+        // Assign a multiplexed interfering space station beam to two
+        // Earth stations
+        this.interferingSystem = Gso_gso.getIntGsoSystem();
+        SpaceStation spaceStation_i = this.interferingSystem.getSpaceStations()[0];
+        EarthStation earthStationA_i = this.interferingSystem.getEarthStations()[0];
+        Beam spaceStationBeam_i = spaceStation_i.getBeams()[0];
+        earthStationA_i.set_doMultiplexing(true);
+        spaceStationBeam_i.set_multiplicity(2);
+        EarthStation earthStationB_i = new EarthStation(
+                earthStationA_i.getStationId(),
+                earthStationA_i.getTransmitAntenna(),
+                earthStationA_i.getReceiveAntenna(),
+                earthStationA_i.getEmission(),
+                earthStationA_i.getBeam(),
+                earthStationA_i.get_varphi(),
+                earthStationA_i.get_lambda(),
+                earthStationA_i.doMultiplexing());
+        Map options = new HashMap();
+        spaceStationBeam_i.assign(true);
+        Network networkA_i = new Network(earthStationA_i, spaceStation_i, spaceStationBeam_i, new Object[0], options);
+        spaceStationBeam_i.assign(true);
+        Network networkB_i = new Network(earthStationB_i, spaceStation_i, spaceStationBeam_i, new Object[0], options);
+        this.interferingSystem.set_networks(new Network[]{networkA_i, networkB_i});
+
+        this.transmitStation = spaceStation;
+        this.transmitStationBeam = spaceStationBeam;
+        this.receiveStation = earthStationA;
+        this.losses = new Object[0];
+        this.link = new Link(this.transmitStation, this.transmitStationBeam, this.receiveStation, this.losses,
+                new HashMap());
     }
 
     /**
@@ -69,8 +115,132 @@ public class LinkTest {
         // TODO: Complete
     }
 
-    public void test_computePerformance() {
-        // TODO: Complete
+    @Test
+    public void test_computePerformance() throws ObjectDecayed {
+        Performance performance_expected = new Performance(-183.7920554531003 - 10 * Math.log10(2),
+                -206.8382560925405,
+                new double[]{-220.4414417558061, -220.4414417558061},
+                -217.4311417991658,
+                new double[]{-172.7123681232581, -172.7123681232581},
+                -169.7020681666177);
+
+        Performance performance_actual = this.link.computePerformance(
+                new ModJulianDate(this.dNm), this.interferingSystem, 1, 1, this.ref_bw, new HashMap());
+
+        assertPerformanceEquals(performance_expected, performance_actual);
+
+        double PlDs = 1;
+
+        performance_expected.set_i(new double[]{-220.4414417558061 - PlDs, -220.4414417558061 - PlDs});
+        performance_expected.set_I(-217.4311417991658 - PlDs);
+        performance_expected.set_epfd(new double[]{-172.7123681232581 - PlDs, -172.7123681232581 - PlDs});
+        performance_expected.set_EPFD(-169.7020681666177 - PlDs);
+
+        Map options = new HashMap();
+        options.put("PlDs", PlDs);
+        performance_actual = this.link.computePerformance(
+                new ModJulianDate(this.dNm), this.interferingSystem, 1, 1, this.ref_bw, options);
+
+        assertPerformanceEquals(performance_expected, performance_actual);
+
+        // Without an interfering system only the carrier and noise
+        // power densities are finite
+        performance_actual = this.link.computePerformance(
+                new ModJulianDate(this.dNm), null, 1, 1, this.ref_bw, new HashMap());
+
+        Assert.assertTrue(Math.abs(performance_actual.getC() - performance_expected.getC()) < TestUtility.MEDIUM_PRECISION);
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, performance_actual.getI(), 0);
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, performance_actual.getEPFD(), 0);
+    }
+
+    /**
+     * Tests computePerformance method for an up link, with and without
+     * inter-satellite interference.
+     */
+    @Test
+    public void test_computePerformance_upLink() throws ObjectDecayed {
+        System wantedSystem = Gso_gso.getWntGsoSystem();
+        wantedSystem.assignBeams(new int[]{}, 0, wantedSystem.getdNm(), new HashMap());
+        System interferingSystem = Gso_gso.getIntGsoSystem();
+        interferingSystem.assignBeams(new int[]{}, 0, interferingSystem.getdNm(), new HashMap());
+        ModJulianDate dNm = wantedSystem.getSpaceStations()[0].getOrbit().getEpoch();
+        Link upLink = wantedSystem.getNetworks()[0].getUp_Link();
+
+        // MATLAB SystemTest.test_computeUpLinkPerformance_without_multiplexing
+        Performance performance_expected = new Performance(-157.8181333616310,
+                -198.5991686830974,
+                new double[]{-197.6363768430820},
+                -197.6363768430820,
+                new double[]{-147.8812253020032},
+                -147.8812253020032);
+
+        Performance performance_actual = upLink.computePerformance(
+                dNm, interferingSystem, 1, 1, this.ref_bw, new HashMap());
+
+        assertPerformanceEquals(performance_expected, performance_actual);
+
+        // In the IS case the interfering space station transmits toward
+        // the wanted space station, as computed by MATLAB Link
+        SpaceStation rcvStn_w = (SpaceStation) upLink.getReceiveStation();
+        Network network_i = interferingSystem.getNetworks()[0];
+        SpaceStation trnStn_i = network_i.getSpaceStation();
+        Beam trnStnBm_i = network_i.getSpaceStationBeam();
+        Matrix r_trn_w = ((EarthStation) upLink.getTransmitStation()).get_R_ger();
+        Matrix r_rcv_w = rcvStn_w.compute_r_ger(dNm);
+        Matrix r_trn_i = trnStn_i.compute_r_ger(dNm);
+        Matrix r_rcv_i = network_i.getEarthStation().get_R_ger();
+
+        SpaceStationAntenna trnAnt_i = (SpaceStationAntenna) trnStn_i.getTransmitAntenna();
+        SpaceStationAntenna rcvAnt_w = (SpaceStationAntenna) rcvStn_w.getReceiveAntenna();
+
+        double d_i_w = upLink.computeDistance(r_trn_i, r_rcv_w);
+        double G_t_i = trnAnt_i.get_pattern().gain(
+                upLink.computeTheta(r_trn_i, r_rcv_i, r_rcv_w), trnAnt_i.get_options()).G;
+        double G_r_w = rcvAnt_w.get_pattern().gain(
+                upLink.computeTheta(r_rcv_w, r_trn_w, r_trn_i), rcvAnt_w.get_options()).G;
+        double G_r_w_0 = rcvAnt_w.get_pattern().gain(0, rcvAnt_w.get_options()).G;
+        Assert.assertTrue(Double.isNaN(trnStn_i.getEmission().getPwr_flx_ds()));
+        double PwDn_i = trnStn_i.getEmission().getPwr_ds_max();
+        double ML_i = 10 * Math.log10(trnStnBm_i.getDivisions());
+        double DCL_i = 10 * Math.log10(100 / trnStnBm_i.getDutyCycle());
+        double PL_i = Propagation.computeFSL(trnStn_i.getEmission().getFreq_mhz(), d_i_w);
+        double RBW = 10 * Math.log10(this.ref_bw * 1000);
+
+        double i_expected = PwDn_i + G_t_i - PL_i + G_r_w - ML_i - DCL_i;
+        double epfd_expected = PwDn_i + G_t_i - Propagation.computeSL(d_i_w) + G_r_w - G_r_w_0 + RBW - ML_i - DCL_i;
+        performance_expected.set_i(new double[]{i_expected});
+        performance_expected.set_I(i_expected);
+        performance_expected.set_epfd(new double[]{epfd_expected});
+        performance_expected.set_EPFD(epfd_expected);
+
+        Map options = new HashMap();
+        options.put("DoIS", true);
+        performance_actual = upLink.computePerformance(
+                dNm, interferingSystem, 1, 1, this.ref_bw, options);
+
+        assertPerformanceEquals(performance_expected, performance_actual);
+    }
+
+    /**
+     * Tests that computePerformance rejects the IS case for a down link.
+     */
+    @Test(expected = MException.class)
+    public void test_computePerformance_doIS_downLink() throws ObjectDecayed {
+        Map options = new HashMap();
+        options.put("DoIS", true);
+        this.link.computePerformance(new ModJulianDate(this.dNm), this.interferingSystem, 1, 1, this.ref_bw, options);
+    }
+
+    private void assertPerformanceEquals(Performance performance_expected, Performance performance_actual) {
+        Assert.assertTrue(Math.abs(performance_actual.getC() - performance_expected.getC()) < TestUtility.MEDIUM_PRECISION);
+        Assert.assertTrue(Math.abs(performance_actual.getN() - performance_expected.getN()) < TestUtility.MEDIUM_PRECISION);
+        Assert.assertEquals(performance_expected.get_i().length, performance_actual.get_i().length);
+        for (int iNet = 0; iNet < performance_expected.get_i().length; iNet++) {
+            Assert.assertTrue(Math.abs(performance_actual.get_i()[iNet] - performance_expected.get_i()[iNet]) < TestUtility.MEDIUM_PRECISION);
+            Assert.assertTrue(Math.abs(performance_actual.getEpfd()[iNet] - performance_expected.getEpfd()[iNet]) < TestUtility.MEDIUM_PRECISION);
+        }
+        Assert.assertTrue(Math.abs(performance_actual.getI() - performance_expected.getI()) < TestUtility.MEDIUM_PRECISION);
+        Assert.assertTrue(Math.abs(performance_actual.getEPFD() - performance_expected.getEPFD()) < TestUtility.MEDIUM_PRECISION);
     }
 
     @Test
@@ -0,0 +1,392 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.system;
+
+import Jama.Matrix;
+import com.celestrak.sgp4v.ObjectDecayed;
+import com.springbok.station.EarthStation;
+import com.springbok.station.SpaceStation;
+import com.springbok.twobody.EarthConstants;
+import com.springbok.twobody.EarthFrame;
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.twobody.ModJulianInstant;
+import com.springbok.twobody.Orbit;
+import com.springbok.twobody.TimeGrid;
+import com.springbok.utility.MException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Predicts the passes of a space station over an Earth station: the
+ * intervals during which the space station is within the angle from
+ * the Earth station zenith, and outside the angle from the GSO arc,
+ * used by System.assignBeams.
+ * <p>
+ * The margin by which a space station satisfies both tests is a
+ * continuous function of time, and changes no faster than the line of
+ * sight from the Earth station turns. The rate of turn is bounded by
+ * the maximum speed of the space station relative to the Earth station
+ * divided by the minimum range, so after each evaluation the margin
+ * cannot change sign for a time proportional to its magnitude. The
+ * predictor steps by the larger of this time and a coarse step. A step
+ * with a sign change is refined using Brent's method, and a step
+ * without one is bisected while the bound allows the margin to change
+ * sign and return within it, so passes longer than the tolerance are
+ * not missed. The angle from the GSO arc is approximate, so crossings
+ * of it are found to the same approximation.
+ */
+public class PassPredictor {
+
+    // Default coarse step [s]
+    public static final double DEFAULT_STEP = 60.0;
+
+    // Default tolerance of rise and set times [s]
+    public static final double DEFAULT_TOLERANCE = 0.01;
+
+    // Factor applied to the line of sight rate bound to absorb
+    // perturbations not included in the osculating radius bounds
+    private static final double RATE_MARGIN = 1.1;
+
+    // Number of samples per orbital period used to bound the radius
+    private static final int N_RADIUS_SAMPLES = 360;
+
+    // Maximum number of Brent's method iterations
+    private static final int MAX_ITERATION = 100;
+
+    /**
+     * An interval of date numbers.
+     */
+    public static final class Interval {
+
+        // Start date number value
+        private final double start;
+
+        // Stop date number value
+        private final double stop;
+
+        public Interval(double start, double stop) {
+            this.start = start;
+            this.stop = stop;
+        }
+
+        public double getStart() {
+            return start;
+        }
+
+        public double getStop() {
+            return stop;
+        }
+
+        /**
+         * Determines if a date number value is within this interval.
+         *
+         * @param t Date number value
+         *
+         * @return Flag indicating if the value is within, or not
+         */
+        public boolean contains(double t) {
+            return t >= start && t <= stop;
+        }
+    }
+
+    // Flag for avoiding angles from zenith
+    private final boolean testAngleFromZenith;
+
+    // Angle from zenith limit [deg]
+    private final double angleFromZenith;
+
+    // Flag for avoiding GSO arc
+    private final boolean testAngleFromGsoArc;
+
+    // Angle for avoiding GSO arc [deg]
+    private final double angleFromGsoArc;
+
+    // Coarse step [day]
+    private final double step;
+
+    // Tolerance of rise and set times [day]
+    private final double tolerance;
+
+    /**
+     * Constructs a PassPredictor using the tests of a system.
+     *
+     * @param system The system
+     */
+    public PassPredictor(System system) {
+        this(system.isTestAngleFromZenith(), system.getAngleFromZenith(), system.isTestAngleFromGsoArc(),
+                system.getAngleFromGsoArc(), DEFAULT_STEP, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Constructs a PassPredictor.
+     *
+     * @param testAngleFromZenith Flag for avoiding angles from zenith
+     * @param angleFromZenith Angle from zenith limit [deg]
+     * @param testAngleFromGsoArc Flag for avoiding GSO arc
+     * @param angleFromGsoArc Angle for avoiding GSO arc [deg]
+     * @param step Coarse step [s]
+     * @param tolerance Tolerance of rise and set times [s]
+     */
+    public PassPredictor(boolean testAngleFromZenith, double angleFromZenith, boolean testAngleFromGsoArc,
+                         double angleFromGsoArc, double step, double tolerance) {
+        if (!(step > 0) || !(tolerance > 0)) {
+            throw new MException("Springbok:IllegalArgumentException", "Step and tolerance must be positive");
+        }
+        this.testAngleFromZenith = testAngleFromZenith;
+        this.angleFromZenith = angleFromZenith;
+        this.testAngleFromGsoArc = testAngleFromGsoArc;
+        this.angleFromGsoArc = angleFromGsoArc;
+        this.step = step / 86400;
+        this.tolerance = tolerance / 86400;
+    }
+
+    /**
+     * Finds the passes of a space station over an Earth station.
+     *
+     * @param earthStation The Earth station
+     * @param spaceStation The space station
+     * @param start Date number of the start of the window
+     * @param stop Date number of the stop of the window
+     *
+     * @return Passes, in date order, clipped to the window
+     */
+    public List<Interval> findPasses(EarthStation earthStation, SpaceStation spaceStation, ModJulianDate start,
+                                     ModJulianDate stop) throws ObjectDecayed {
+        double t_a = start.getAsDouble();
+        double t_b = stop.getAsDouble();
+        if (!(t_b >= t_a)) {
+            throw new MException("Springbok:IllegalArgumentException", "Stop date must not precede start date");
+        }
+        List<Interval> passes = new ArrayList<>();
+        if (!this.testAngleFromZenith && !this.testAngleFromGsoArc) {
+            passes.add(new Interval(t_a, t_b));
+            return passes;
+        }
+        Pair pair = new Pair(earthStation, spaceStation.getOrbit(), t_a);
+
+        // Step through the window, finding each sign change of the margin
+        List<Double> crossings = new ArrayList<>();
+        double t = t_a;
+        double f = pair.margin(t);
+        boolean isVisible = f >= 0;
+        while (t < t_b) {
+            double t_n = Math.min(t_b, t + Math.max(this.step, Math.abs(f) / pair.rate));
+            double f_n = pair.margin(t_n);
+            this.scan(pair, t, f, t_n, f_n, crossings);
+            t = t_n;
+            f = f_n;
+        }
+
+        // Crossings alternate between rise and set
+        double rise = isVisible ? t_a : Double.NaN;
+        for (double crossing : crossings) {
+            if (isVisible) {
+                passes.add(new Interval(rise, crossing));
+            } else {
+                rise = crossing;
+            }
+            isVisible = !isVisible;
+        }
+        if (isVisible) {
+            passes.add(new Interval(rise, t_b));
+        }
+        return passes;
+    }
+
+    /**
+     * Determines, for each date of a time grid, if it is within a pass.
+     *
+     * @param passes Passes, in date order
+     * @param grid The time grid
+     *
+     * @return Flag for each date indicating if it is within a pass, or
+     * not
+     */
+    public static boolean[] isVisible(List<Interval> passes, TimeGrid grid) {
+        boolean[] isVisible = new boolean[grid.size()];
+        int iPss = 0;
+        for (int k = 0; k < grid.size(); k++) {
+            double t = grid.getAsDouble(k);
+            while (iPss < passes.size() && passes.get(iPss).getStop() < t) {
+                iPss++;
+            }
+            isVisible[k] = iPss < passes.size() && passes.get(iPss).contains(t);
+        }
+        return isVisible;
+    }
+
+    /**
+     * Finds the sign changes of the margin within a step, in date order.
+     */
+    private void scan(Pair pair, double t_0, double f_0, double t_1, double f_1, List<Double> crossings)
+            throws ObjectDecayed {
+        if ((f_0 >= 0) != (f_1 >= 0)) {
+            crossings.add(this.refine(pair, t_0, f_0, t_1, f_1));
+
+        } else if (t_1 - t_0 > this.tolerance && Math.abs(f_0) + Math.abs(f_1) < pair.rate * (t_1 - t_0)) {
+            // The margin may change sign and return within the step
+            double t_m = (t_0 + t_1) / 2;
+            double f_m = pair.margin(t_m);
+            this.scan(pair, t_0, f_0, t_m, f_m, crossings);
+            this.scan(pair, t_m, f_m, t_1, f_1, crossings);
+        }
+    }
+
+    /**
+     * Refines a sign change of the margin using Brent's method.
+     *
+     * @return Date number value of the sign change
+     */
+    private double refine(Pair pair, double a, double f_a, double b, double f_b) throws ObjectDecayed {
+        double c = a;
+        double f_c = f_a;
+        double d = b - a;
+        double e = d;
+        for (int iItn = 0; iItn < MAX_ITERATION; iItn++) {
+            if ((f_b > 0) == (f_c > 0)) {
+                c = a;
+                f_c = f_a;
+                d = b - a;
+                e = d;
+            }
+            if (Math.abs(f_c) < Math.abs(f_b)) {
+                a = b;
+                b = c;
+                c = a;
+                f_a = f_b;
+                f_b = f_c;
+                f_c = f_a;
+            }
+            double tol = this.tolerance / 2;
+            double m = (c - b) / 2;
+            if (Math.abs(m) <= tol || f_b == 0) {
+                break;
+            }
+            if (Math.abs(e) >= tol && Math.abs(f_a) > Math.abs(f_b)) {
+
+                // Attempt secant or inverse quadratic interpolation
+                double p, q, r;
+                double s = f_b / f_a;
+                if (a == c) {
+                    p = 2 * m * s;
+                    q = 1 - s;
+                } else {
+                    q = f_a / f_c;
+                    r = f_b / f_c;
+                    p = s * (2 * m * q * (q - r) - (b - a) * (r - 1));
+                    q = (q - 1) * (r - 1) * (s - 1);
+                }
+                if (p > 0) {
+                    q = -q;
+                } else {
+                    p = -p;
+                }
+                if (2 * p < Math.min(3 * m * q - Math.abs(tol * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = m;
+                    e = d;
+                }
+            } else {
+                d = m;
+                e = d;
+            }
+            a = b;
+            f_a = f_b;
+            b += Math.abs(d) > tol ? d : Math.copySign(tol, m);
+            f_b = pair.margin(b);
+        }
+        return b;
+    }
+
+    /**
+     * Evaluates the margin of a space station over an Earth station.
+     */
+    private final class Pair {
+
+        // Earth station position [er]
+        private final double[] r_ES = new double[3];
+
+        // Space station orbit
+        private final Orbit orbit;
+
+        // Space station position [er]
+        private final double[] r_SS = new double[3];
+
+        // Bound of the margin rate [deg/day]
+        private final double rate;
+
+        Pair(EarthStation earthStation, Orbit orbit, double t) throws ObjectDecayed {
+            Matrix r_ger_ES = earthStation.get_R_ger();
+            this.r_ES[0] = r_ger_ES.get(0, 0);
+            this.r_ES[1] = r_ger_ES.get(1, 0);
+            this.r_ES[2] = r_ger_ES.get(2, 0);
+            this.orbit = orbit;
+
+            // Bound the radius of the orbit by sampling one period, then
+            // bound the speed relative to the Earth station using the
+            // vis-viva law (MG-2.22)
+            double T = orbit.orbitalPeriod() / 86400;
+            // [day]
+            double r_min = Double.POSITIVE_INFINITY;
+            double r_max = 0;
+            for (int iSmp = 0; iSmp < N_RADIUS_SAMPLES; iSmp++) {
+                Matrix r = orbit.r_gei(new ModJulianInstant(t + iSmp * T / N_RADIUS_SAMPLES));
+                double r_n = r.normF();
+                r_min = Math.min(r_min, r_n);
+                r_max = Math.max(r_max, r_n);
+            }
+            double GM = EarthConstants.GM_oplus / Math.pow(EarthConstants.R_oplus, 3);
+            // [er^3/s^2]
+            double a = Math.cbrt(GM / Math.pow(orbit.meanMotion(), 2));
+            // [er]
+            double v_max = Math.sqrt(GM * Math.max(0, 2 / r_min - 1 / a))
+                    + EarthConstants.Theta_dot / 86400 * r_max;
+            // [er/s]
+            double rho_min = Math.max(r_min - Math.sqrt(r_ES[0] * r_ES[0] + r_ES[1] * r_ES[1] + r_ES[2] * r_ES[2]),
+                    1e-6);
+            // [er]
+            this.rate = RATE_MARGIN * Math.toDegrees(v_max / rho_min) * 86400;
+            // [deg/day]
+        }
+
+        /**
+         * Computes the smallest margin by which the space station
+         * satisfies the tests, which is non-negative if visible.
+         *
+         * @param t Date number value
+         *
+         * @return Margin [deg]
+         */
+        double margin(double t) throws ObjectDecayed {
+            Matrix r_gei = this.orbit.r_gei(new ModJulianInstant(t));
+            this.r_SS[0] = r_gei.get(0, 0);
+            this.r_SS[1] = r_gei.get(1, 0);
+            this.r_SS[2] = r_gei.get(2, 0);
+            EarthFrame.of(t).gei2ger(this.r_SS, 0, this.r_SS, 0);
+            double margin = Double.POSITIVE_INFINITY;
+            if (testAngleFromZenith) {
+                margin = angleFromZenith - System.computeAngleFromZenith(this.r_SS, 0, this.r_ES, 0);
+            }
+            if (testAngleFromGsoArc) {
+                margin = Math.min(margin, System.computeAngleFromGsoArc(this.r_SS, 0, this.r_ES, 0) - angleFromGsoArc);
+            }
+            return margin;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.system;
+
+import com.celestrak.sgp4v.ObjectDecayed;
+import com.springbok.station.EarthStation;
+import com.springbok.station.SpaceStation;
+import com.springbok.twobody.Coordinates;
+import com.springbok.twobody.KeplerianOrbit;
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.twobody.TimeGrid;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests methods of PassPredictor class.
+ */
+public class PassPredictorTest {
+
+    // Start date number
+    private final ModJulianDate start = new ModJulianDate(58849.0);
+
+    // Stop date number
+    private final ModJulianDate stop = new ModJulianDate(58850.0);
+
+    // An Earth station
+    private final EarthStation earthStation = new EarthStation("one", 10 * Math.PI / 180, 20 * Math.PI / 180);
+
+    // A low Earth orbit space station
+    private SpaceStation spaceStation;
+
+    @Before
+    public void setUp() throws Exception {
+        this.spaceStation = new SpaceStation();
+        this.spaceStation.set_orbit(new KeplerianOrbit(1 + 1200 / 6378.137, 0.001, 53 * Math.PI / 180,
+                Math.PI / 4, Math.PI / 4, Math.PI / 4, this.start, "halley"));
+    }
+
+    /**
+     * Tests the findPasses method by sampling every ten seconds.
+     */
+    @Test
+    public void test_findPasses() throws ObjectDecayed {
+        for (boolean testAngleFromGsoArc : new boolean[]{false, true}) {
+            PassPredictor predictor = new PassPredictor(true, 80, testAngleFromGsoArc, 10,
+                    PassPredictor.DEFAULT_STEP, PassPredictor.DEFAULT_TOLERANCE);
+
+            List<PassPredictor.Interval> passes = predictor.findPasses(this.earthStation, this.spaceStation,
+                    this.start, this.stop);
+
+            assertFalse(passes.isEmpty());
+            TimeGrid grid = new TimeGrid(this.start, 10, 8641);
+            boolean[] isVisible = PassPredictor.isVisible(passes, grid);
+            double[] r_ES = this.earthStation.get_R_ger().getColumnPackedCopy();
+            for (int k = 0; k < grid.size(); k++) {
+                ModJulianDate dNm = grid.get(k).toModJulianDate();
+                double[] r_SS = Coordinates.gei2ger(this.spaceStation.getOrbit().r_gei(dNm), dNm)
+                        .getColumnPackedCopy();
+                boolean isExpected = System.computeAngleFromZenith(r_SS, 0, r_ES, 0) <= 80
+                        && (!testAngleFromGsoArc || System.computeAngleFromGsoArc(r_SS, 0, r_ES, 0) >= 10);
+
+                // Skip samples within a second of a rise or set
+                boolean isNear = false;
+                for (PassPredictor.Interval pass : passes) {
+                    isNear |= Math.abs(pass.getStart() - dNm.getAsDouble()) < 1.0 / 86400
+                            || Math.abs(pass.getStop() - dNm.getAsDouble()) < 1.0 / 86400;
+                }
+                if (!isNear) {
+                    assertEquals(isExpected, isVisible[k]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the findPasses method without tests, and the isVisible
+     * method.
+     */
+    @Test
+    public void test_isVisible() throws ObjectDecayed {
+        PassPredictor predictor = new PassPredictor(false, 80, false, 10,
+                PassPredictor.DEFAULT_STEP, PassPredictor.DEFAULT_TOLERANCE);
+
+        List<PassPredictor.Interval> passes = predictor.findPasses(this.earthStation, this.spaceStation,
+                this.start, this.stop);
+
+        assertEquals(1, passes.size());
+        assertEquals(this.start.getAsDouble(), passes.get(0).getStart(), 0);
+        assertEquals(this.stop.getAsDouble(), passes.get(0).getStop(), 0);
+
+        TimeGrid grid = new TimeGrid(this.start.getAsDouble() - 0.5, 43200, 4);
+        assertArrayEquals(new boolean[]{false, true, true, true},
+                PassPredictor.isVisible(passes, grid));
+    }
+}
@@ -0,0 +1,308 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.system;
+
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.utility.MException;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Assigns beams, and computes performance, over a grid of date numbers
+ * in parallel. A System mutates its networks, angles, and station
+ * positions on each assignment or performance computation, so each task
+ * works on its own copy of each System, and evaluates a contiguous range
+ * of date numbers. Results are returned in the order of the date numbers.
+ */
+public class ScenarioExecutor {
+
+    // Pool in which tasks are run
+    private final ForkJoinPool pool;
+
+    // Number of date numbers evaluated by each task, or zero to divide
+    // the date numbers among four tasks per worker thread
+    private final int grain;
+
+    /**
+     * Constructs a ScenarioExecutor using the common pool.
+     */
+    public ScenarioExecutor() {
+        this(ForkJoinPool.commonPool(), 0);
+    }
+
+    /**
+     * Constructs a ScenarioExecutor.
+     *
+     * @param pool  Pool in which tasks are run
+     * @param grain Number of date numbers evaluated by each task, or
+     *              zero to divide the date numbers among four tasks per
+     *              worker thread
+     */
+    public ScenarioExecutor(ForkJoinPool pool, int grain) {
+        if (pool == null) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Pool must not be null");
+        }
+        if (grain < 0) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Grain must be a non-negative integer");
+        }
+        this.pool = pool;
+        this.grain = grain;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getGrain() {
+        return grain;
+    }
+
+    /**
+     * Establish a one-to-one correspondence between each Earth
+     * station and a space station and beam at each date number. The
+     * specified system is not modified.
+     *
+     * @param system   System for which beams are assigned
+     * @param idxSelES Index (one based) of Earth stations selected for
+     *                 assignment, or empty to select all Earth stations
+     * @param numSmpSS Number of samples of selected space stations
+     * @param dNms     Date numbers of assignment
+     * @param options  Map of options passed to System.assignBeams
+     * @return Beam assignment instance for each date number
+     */
+    public Assignment[] assignBeams(System system, int[] idxSelES, int numSmpSS, ModJulianDate[] dNms, Map options) {
+        Assignment[] assignments = new Assignment[dNms.length];
+        invoke(dNms.length, system::copy,
+                (copy, iDN) -> copy.assignBeams(idxSelES, numSmpSS, dNms[iDN], options),
+                assignments);
+        return assignments;
+    }
+
+    /**
+     * Compute performance measures for the up link of each wanted
+     * network at each date number, applying to the interfering system
+     * the latest assignment made at, or before, each date number. The
+     * specified systems are not modified.
+     *
+     * @param wantedSystem      Wanted system
+     * @param interferingSystem Interfering system
+     * @param assignments       Interfering system beam assignments, in
+     *                          date order
+     * @param dNms              Date numbers of performance
+     * @param numSmpES          Ratio of the number of Earth stations to the
+     *                          number for which asisgnment is attempted
+     * @param numSmpBm          Ratio of the number of Beams to the number which
+     *                          is assigned
+     * @param ref_bw            Reference bandwidth [kHz]
+     * @param options           Map of options passed to
+     *                          System.computeUpLinkPerformance
+     * @return Up link performance of each wanted network for each date
+     * number
+     */
+    public Performance[][] computeUpLinkPerformance(System wantedSystem, System interferingSystem,
+                                                    Assignment[] assignments, ModJulianDate[] dNms,
+                                                    double numSmpES, double numSmpBm, double ref_bw, Map options) {
+        return computePerformance(wantedSystem, interferingSystem, assignments, dNms,
+                (wanted, interfering, dNm) -> wanted.computeUpLinkPerformance(
+                        dNm, interfering, numSmpES, numSmpBm, ref_bw, options));
+    }
+
+    /**
+     * Compute performance measures for the down link of each wanted
+     * network at each date number, applying to the interfering system
+     * the latest assignment made at, or before, each date number. The
+     * specified systems are not modified.
+     *
+     * @param wantedSystem      Wanted system
+     * @param interferingSystem Interfering system
+     * @param assignments       Interfering system beam assignments, in
+     *                          date order
+     * @param dNms              Date numbers of performance
+     * @param numSmpES          Ratio of the number of Earth stations to the
+     *                          number for which asisgnment is attempted
+     * @param numSmpBm          Ratio of the number of Beams to the number which
+     *                          is assigned
+     * @param ref_bw            Reference bandwidth [kHz]
+     * @param options           Map of options passed to
+     *                          System.computeDownLinkPerformance
+     * @return Down link performance of each wanted network for each date
+     * number
+     */
+    public Performance[][] computeDownLinkPerformance(System wantedSystem, System interferingSystem,
+                                                      Assignment[] assignments, ModJulianDate[] dNms,
+                                                      double numSmpES, double numSmpBm, double ref_bw, Map options) {
+        return computePerformance(wantedSystem, interferingSystem, assignments, dNms,
+                (wanted, interfering, dNm) -> wanted.computeDownLinkPerformance(
+                        dNm, interfering, numSmpES, numSmpBm, ref_bw, options));
+    }
+
+    /**
+     * Compute performance at each date number using copies of the
+     * wanted and interfering systems.
+     */
+    private Performance[][] computePerformance(System wantedSystem, System interferingSystem,
+                                               Assignment[] assignments, ModJulianDate[] dNms, LinkPerformance link) {
+        // Find the latest assignment made at, or before, each date number
+        if (assignments != null) {
+            for (int iAsg = 1; iAsg < assignments.length; iAsg++) {
+                if (assignments[iAsg].getdNm().getAsDouble() < assignments[iAsg - 1].getdNm().getAsDouble()) {
+                    throw new MException("Springbok:IllegalArgumentException",
+                            "Assignments must be in date order");
+                }
+            }
+        }
+        int[] idxAsg = new int[dNms.length];
+        for (int iDN = 0; iDN < dNms.length; iDN++) {
+            idxAsg[iDN] = findAssignment(assignments, dNms[iDN]);
+        }
+
+        Performance[][] performances = new Performance[dNms.length][];
+        invoke(dNms.length,
+                () -> new Copies(wantedSystem, interferingSystem),
+                (copies, iDN) -> {
+                    // Apply the assignment, if it differs from the
+                    // assignment last applied by this task
+                    if (idxAsg[iDN] >= 0 && idxAsg[iDN] != copies.idxAsg) {
+                        copies.interferingSystem.apply(assignments[idxAsg[iDN]]);
+                        copies.idxAsg = idxAsg[iDN];
+                    }
+                    return link.compute(copies.wantedSystem, copies.interferingSystem, dNms[iDN]);
+                },
+                performances);
+        return performances;
+    }
+
+    /**
+     * Finds the latest assignment made at, or before, a date number.
+     *
+     * @param assignments Assignments, in date order, or null
+     * @param dNm         A date number
+     * @return Index of the assignment, or -1, if no assignments are
+     * specified
+     */
+    private static int findAssignment(Assignment[] assignments, ModJulianDate dNm) {
+        if (assignments == null || assignments.length == 0) {
+            return -1;
+        }
+        double d = dNm.getAsDouble();
+        int lo = 0;
+        int hi = assignments.length - 1;
+        if (d < assignments[0].getdNm().getAsDouble()) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "No assignment is made at, or before, each date number");
+        }
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (assignments[mid].getdNm().getAsDouble() <= d) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Evaluates a step at each index in the pool, dividing the indexes
+     * into contiguous ranges, each evaluated by one task using its own
+     * worker state.
+     */
+    private <W, T> void invoke(int n, Supplier<W> worker, Step<W, T> step, T[] results) {
+        if (n == 0) {
+            return;
+        }
+        int grain = this.grain > 0 ? this.grain : Math.max(1, n / (4 * pool.getParallelism()));
+        pool.invoke(new Task<>(0, n, grain, worker, step, results));
+    }
+
+    /**
+     * Evaluates one index using worker state.
+     */
+    private interface Step<W, T> {
+        T apply(W worker, int i);
+    }
+
+    /**
+     * Computes performance of a wanted system in the presence of an
+     * interfering system.
+     */
+    private interface LinkPerformance {
+        Performance[] compute(System wantedSystem, System interferingSystem, ModJulianDate dNm);
+    }
+
+    /**
+     * Contains the copies of the systems used by one task.
+     */
+    private static final class Copies {
+
+        // Copy of the wanted system
+        private final System wantedSystem;
+
+        // Copy of the interfering system, or null
+        private final System interferingSystem;
+
+        // Index of the assignment last applied to the interfering system
+        private int idxAsg = -1;
+
+        private Copies(System wantedSystem, System interferingSystem) {
+            this.wantedSystem = wantedSystem.copy();
+            this.interferingSystem = interferingSystem != null ? interferingSystem.copy() : null;
+        }
+    }
+
+    /**
+     * Evaluates a contiguous range of indexes, or divides the range in
+     * two.
+     */
+    @SuppressWarnings("serial")
+    private static final class Task<W, T> extends RecursiveAction {
+
+        private final int start;
+        private final int end;
+        private final int grain;
+        private final Supplier<W> worker;
+        private final Step<W, T> step;
+        private final T[] results;
+
+        private Task(int start, int end, int grain, Supplier<W> worker, Step<W, T> step, T[] results) {
+            this.start = start;
+            this.end = end;
+            this.grain = grain;
+            this.worker = worker;
+            this.step = step;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= grain) {
+                W w = worker.get();
+                for (int i = start; i < end; i++) {
+                    results[i] = step.apply(w, i);
+                }
+            } else {
+                int mid = (start + end) >>> 1;
+                invokeAll(new Task<>(start, mid, grain, worker, step, results),
+                        new Task<>(mid, end, grain, worker, step, results));
+            }
+        }
+    }
+}
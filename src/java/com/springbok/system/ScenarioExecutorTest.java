@@ -0,0 +1,196 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.system;
+
+import com.celestrak.sgp4v.ObjectDecayed;
+import com.springbok.station.Beam;
+import com.springbok.station.EarthStation;
+import com.springbok.station.SpaceStation;
+import com.springbok.twobody.KeplerianOrbit;
+import com.springbok.twobody.ModJulianDate;
+import com.springbok.utility.MException;
+import com.springbok.utility.TestUtility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests methods of ScenarioExecutor class.
+ */
+public class ScenarioExecutorTest {
+
+    // Reference bandwidth [kHz]
+    private double ref_bw = 40;
+
+    // A wanted GSO system
+    private System wantedSystem;
+
+    // An interfering LEO system
+    private System interferingSystem;
+
+    // Date numbers of assignment
+    private ModJulianDate[] assignmentDNm;
+
+    // Date numbers of performance
+    private ModJulianDate[] performanceDNm;
+
+    // A pool with fewer worker threads than tasks
+    private ForkJoinPool pool;
+
+    // An executor with more tasks than worker threads
+    private ScenarioExecutor executor;
+
+    @Before
+    public void setUp() throws ObjectDecayed {
+        this.wantedSystem = Gso_gso.getWntGsoSystem();
+        this.wantedSystem.assignBeams(new int[]{}, 0, this.wantedSystem.getdNm(), new HashMap());
+        ModJulianDate epoch_0 = this.wantedSystem.getdNm();
+
+        // Interfering space stations in twelve planes of twelve
+        SpaceStation template_SS = Gso_gso.getIntLeoSpaceSegment(epoch_0)[0];
+        KeplerianOrbit orbit = (KeplerianOrbit) template_SS.getOrbit();
+        int nPln = 12;
+        int nSat = 12;
+        SpaceStation[] spaceStations = new SpaceStation[nPln * nSat];
+        for (int iPln = 0; iPln < nPln; iPln++) {
+            for (int iSat = 0; iSat < nSat; iSat++) {
+                Beam[] beams = new Beam[]{new Beam("IntLeoSpaceSegment", 1, 100),
+                        new Beam("IntLeoSpaceSegment", 1, 100)};
+                spaceStations[iPln * nSat + iSat] = new SpaceStation(template_SS.getStationId(),
+                        template_SS.getTransmitAntenna(), template_SS.getReceiveAntenna(),
+                        template_SS.getEmission(), beams,
+                        new KeplerianOrbit(orbit.get_a(), orbit.get_e(), orbit.get_i(),
+                                2 * Math.PI * iPln / nPln, orbit.get_omega(),
+                                2 * Math.PI * (iSat + 0.5 * iPln) / nSat, epoch_0, orbit.get_method()));
+            }
+        }
+
+        // Interfering Earth stations near the wanted Earth station
+        EarthStation template_ES = Gso_gso.getIntLeoEarthSegment(this.wantedSystem.getSpaceStations()[0])[0];
+        int nES = 4;
+        EarthStation[] earthStations = new EarthStation[nES];
+        for (int iES = 0; iES < nES; iES++) {
+            earthStations[iES] = new EarthStation(template_ES.getStationId(),
+                    template_ES.getTransmitAntenna(), template_ES.getReceiveAntenna(),
+                    template_ES.getEmission(), new Beam("IntLeoEarthSegment", 1, 100),
+                    Math.toRadians(5.0 * iES), template_ES.get_lambda() + Math.toRadians(2.0 * iES), false);
+        }
+        Map options = new HashMap();
+        options.put("TestAngleFromGsoArc", false);
+        this.interferingSystem = new System(earthStations, spaceStations, new Object[0], epoch_0, options);
+
+        this.assignmentDNm = new ModJulianDate[13];
+        for (int iADN = 0; iADN < this.assignmentDNm.length; iADN++) {
+            this.assignmentDNm[iADN] = new ModJulianDate(epoch_0.getAsDouble() + iADN * 300.0 / 86400);
+        }
+        this.performanceDNm = new ModJulianDate[37];
+        for (int iPDN = 0; iPDN < this.performanceDNm.length; iPDN++) {
+            this.performanceDNm[iPDN] = new ModJulianDate(epoch_0.getAsDouble() + iPDN * 100.0 / 86400);
+        }
+
+        this.pool = new ForkJoinPool(4);
+        this.executor = new ScenarioExecutor(this.pool, 2);
+    }
+
+    @After
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Tests assignBeams method against serial assignment.
+     */
+    @Test
+    public void test_assignBeams() {
+        Assignment[] assignments = this.executor.assignBeams(
+                this.interferingSystem, new int[]{}, 0, this.assignmentDNm, new HashMap());
+
+        System serialSystem = this.interferingSystem.copy();
+        int nNet = 0;
+        for (int iADN = 0; iADN < this.assignmentDNm.length; iADN++) {
+            Assignment expected = serialSystem.assignBeams(new int[]{}, 0, this.assignmentDNm[iADN], new HashMap());
+
+            assertSame(this.assignmentDNm[iADN], assignments[iADN].getdNm());
+            assertArrayEquals(expected.getIdxNetES(), assignments[iADN].getIdxNetES());
+            assertArrayEquals(expected.getIdxNetSS(), assignments[iADN].getIdxNetSS());
+            assertArrayEquals(expected.getDivisions_SS_Bm(), assignments[iADN].getDivisions_SS_Bm());
+            nNet += assignments[iADN].getNetworks().length;
+        }
+        assertTrue(nNet > 0);
+
+        // The executor assigns beams using copies
+        assertNull(this.interferingSystem.getIdxNetES());
+        assertTrue(this.interferingSystem.getNetworks()[0].isEmpty());
+    }
+
+    /**
+     * Tests computeUpLinkPerformance and computeDownLinkPerformance
+     * methods against serial computation.
+     */
+    @Test
+    public void test_computePerformance() {
+        Assignment[] assignments = this.executor.assignBeams(
+                this.interferingSystem, new int[]{}, 0, this.assignmentDNm, new HashMap());
+
+        Performance[][] upPerformance = this.executor.computeUpLinkPerformance(this.wantedSystem,
+                this.interferingSystem, assignments, this.performanceDNm, 1, 1, this.ref_bw, new HashMap());
+        Performance[][] dnPerformance = this.executor.computeDownLinkPerformance(this.wantedSystem,
+                this.interferingSystem, assignments, this.performanceDNm, 1, 1, this.ref_bw, new HashMap());
+
+        System wantedSystem = this.wantedSystem.copy();
+        System interferingSystem = this.interferingSystem.copy();
+        for (int iPDN = 0; iPDN < this.performanceDNm.length; iPDN++) {
+            interferingSystem.apply(assignments[iPDN / 3]);
+            assertPerformanceEquals(wantedSystem.computeUpLinkPerformance(this.performanceDNm[iPDN],
+                    interferingSystem, 1, 1, this.ref_bw, new HashMap()), upPerformance[iPDN]);
+            assertPerformanceEquals(wantedSystem.computeDownLinkPerformance(this.performanceDNm[iPDN],
+                    interferingSystem, 1, 1, this.ref_bw, new HashMap()), dnPerformance[iPDN]);
+        }
+    }
+
+    /**
+     * Tests that performance requires an assignment at, or before, each
+     * date number.
+     */
+    @Test(expected = MException.class)
+    public void test_computePerformance_without_assignment() {
+        Assignment[] assignments = this.executor.assignBeams(this.interferingSystem, new int[]{}, 0,
+                new ModJulianDate[]{this.performanceDNm[1]}, new HashMap());
+
+        this.executor.computeUpLinkPerformance(this.wantedSystem, this.interferingSystem, assignments,
+                this.performanceDNm, 1, 1, this.ref_bw, new HashMap());
+    }
+
+    private void assertPerformanceEquals(Performance[] expected, Performance[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int iNet = 0; iNet < expected.length; iNet++) {
+            assertEquals(expected[iNet].getC(), actual[iNet].getC(), TestUtility.HIGH_PRECISION);
+            assertEquals(expected[iNet].getN(), actual[iNet].getN(), TestUtility.HIGH_PRECISION);
+            assertEquals(expected[iNet].getI(), actual[iNet].getI(), TestUtility.HIGH_PRECISION);
+            assertEquals(expected[iNet].getEPFD(), actual[iNet].getEPFD(), TestUtility.HIGH_PRECISION);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.system;
+
+import com.springbok.utility.MException;
+
+import java.util.Arrays;
+
+/**
+ * An immutable matrix of doubles in which absent entries are NaN,
+ * stored in compressed sparse row form. Angles and metrics are computed
+ * for few of the Earth and space station pairs of a System, so only
+ * those entries are stored.
+ */
+public class SparseMatrix {
+
+    // Number of rows
+    private final int nRow;
+
+    // Number of columns
+    private final int nCol;
+
+    // Index of the first entry of each row, and the number of entries
+    private final int[] rowStart;
+
+    // Column of each entry, ascending within each row
+    private final int[] colIdx;
+
+    // Value of each entry
+    private final double[] values;
+
+    /**
+     * Constructs a SparseMatrix with no entries.
+     *
+     * @param nRow Number of rows
+     * @param nCol Number of columns
+     */
+    public SparseMatrix(int nRow, int nCol) {
+        this(nRow, nCol, new int[nRow + 1], new int[0], new double[0]);
+    }
+
+    private SparseMatrix(int nRow, int nCol, int[] rowStart, int[] colIdx, double[] values) {
+        if (nRow < 0 || nCol < 0) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Number of rows and columns must be non-negative");
+        }
+        this.nRow = nRow;
+        this.nCol = nCol;
+        this.rowStart = rowStart;
+        this.colIdx = colIdx;
+        this.values = values;
+    }
+
+    /**
+     * Constructs a SparseMatrix from the entries of a dense array which
+     * are not NaN.
+     *
+     * @param dense A dense array, or null
+     * @return A sparse matrix, or null
+     */
+    public static SparseMatrix fromDense(double[][] dense) {
+        if (dense == null) {
+            return null;
+        }
+        int nRow = dense.length;
+        int nCol = nRow > 0 ? dense[0].length : 0;
+        Builder builder = new Builder(nRow, nCol);
+        for (int iRow = 0; iRow < nRow; iRow++) {
+            for (int iCol = 0; iCol < dense[iRow].length; iCol++) {
+                if (!Double.isNaN(dense[iRow][iCol])) {
+                    builder.set(iRow, iCol, dense[iRow][iCol]);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    public int getNumberOfRows() {
+        return nRow;
+    }
+
+    public int getNumberOfColumns() {
+        return nCol;
+    }
+
+    /**
+     * Gets the number of entries stored.
+     *
+     * @return Number of entries
+     */
+    public int getNumberOfEntries() {
+        return rowStart[nRow];
+    }
+
+    /**
+     * Gets an entry.
+     *
+     * @param iRow Row index (zero based)
+     * @param iCol Column index (zero based)
+     * @return The entry, or NaN, if absent
+     */
+    public double get(int iRow, int iCol) {
+        if (iRow < 0 || iRow >= nRow || iCol < 0 || iCol >= nCol) {
+            throw new MException("Springbok:IllegalArgumentException",
+                    "Row or column index out of bounds");
+        }
+        int iEnt = Arrays.binarySearch(colIdx, rowStart[iRow], rowStart[iRow + 1], iCol);
+        return iEnt >= 0 ? values[iEnt] : Double.NaN;
+    }
+
+    /**
+     * Gets the index of the first entry of each row, followed by the
+     * number of entries. Entries of row i are at indexes rowStart[i]
+     * through rowStart[i + 1] - 1.
+     *
+     * @return Index of the first entry of each row
+     */
+    public int[] getRowStart() {
+        return rowStart.clone();
+    }
+
+    /**
+     * Gets the column index of each entry.
+     *
+     * @return Column index of each entry, ascending within each row
+     */
+    public int[] getColumnIndex() {
+        return colIdx.clone();
+    }
+
+    /**
+     * Gets the value of each entry.
+     *
+     * @return Value of each entry
+     */
+    public double[] getValues() {
+        return values.clone();
+    }
+
+    /**
+     * Constructs a dense view of the matrix, with absent entries NaN.
+     * Suitable only for small scenarios.
+     *
+     * @return A dense array
+     */
+    public double[][] toDense() {
+        double[][] dense = SystemUtils.getNanArray(nRow, nCol);
+        for (int iRow = 0; iRow < nRow; iRow++) {
+            for (int iEnt = rowStart[iRow]; iEnt < rowStart[iRow + 1]; iEnt++) {
+                dense[iRow][colIdx[iEnt]] = values[iEnt];
+            }
+        }
+        return dense;
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + nRow;
+        result = prime * result + nCol;
+        result = prime * result + Arrays.hashCode(rowStart);
+        result = prime * result + Arrays.hashCode(colIdx);
+        result = prime * result + Arrays.hashCode(values);
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SparseMatrix)) {
+            return false;
+        }
+        SparseMatrix other = (SparseMatrix) obj;
+        return nRow == other.nRow
+                && nCol == other.nCol
+                && Arrays.equals(rowStart, other.rowStart)
+                && Arrays.equals(colIdx, other.colIdx)
+                && Arrays.equals(values, other.values);
+    }
+
+    /**
+     * Collects entries in any order, then builds a SparseMatrix. An
+     * entry set more than once takes the last value set, and an entry
+     * set to NaN is absent.
+     */
+    public static class Builder {
+
+        // Number of rows
+        private final int nRow;
+
+        // Number of columns
+        private final int nCol;
+
+        // Row, column, and value of each entry set
+        private int[] rows = new int[16];
+        private int[] cols = new int[16];
+        private double[] vals = new double[16];
+
+        // Number of entries set
+        private int nSet;
+
+        /**
+         * Constructs a Builder.
+         *
+         * @param nRow Number of rows
+         * @param nCol Number of columns
+         */
+        public Builder(int nRow, int nCol) {
+            if (nRow < 0 || nCol < 0) {
+                throw new MException("Springbok:IllegalArgumentException",
+                        "Number of rows and columns must be non-negative");
+            }
+            this.nRow = nRow;
+            this.nCol = nCol;
+        }
+
+        /**
+         * Sets an entry.
+         *
+         * @param iRow  Row index (zero based)
+         * @param iCol  Column index (zero based)
+         * @param value Value of the entry
+         */
+        public void set(int iRow, int iCol, double value) {
+            if (iRow < 0 || iRow >= nRow || iCol < 0 || iCol >= nCol) {
+                throw new MException("Springbok:IllegalArgumentException",
+                        "Row or column index out of bounds");
+            }
+            if (nSet == rows.length) {
+                rows = Arrays.copyOf(rows, 2 * nSet);
+                cols = Arrays.copyOf(cols, 2 * nSet);
+                vals = Arrays.copyOf(vals, 2 * nSet);
+            }
+            rows[nSet] = iRow;
+            cols[nSet] = iCol;
+            vals[nSet] = value;
+            nSet++;
+        }
+
+        /**
+         * Builds a SparseMatrix from the entries set.
+         *
+         * @return A sparse matrix
+         */
+        public SparseMatrix build() {
+            // Sort entries by row, keeping the order in which they were
+            // set
+            int[] rowStart = new int[nRow + 1];
+            for (int iSet = 0; iSet < nSet; iSet++) {
+                rowStart[rows[iSet] + 1]++;
+            }
+            for (int iRow = 0; iRow < nRow; iRow++) {
+                rowStart[iRow + 1] += rowStart[iRow];
+            }
+            int[] next = Arrays.copyOf(rowStart, nRow);
+            long[] keys = new long[nSet];
+            for (int iSet = 0; iSet < nSet; iSet++) {
+                keys[next[rows[iSet]]++] = ((long) cols[iSet] << 32) | iSet;
+            }
+
+            // Sort entries of each row by column, then by order set, and
+            // keep the last entry set in each column, if not NaN
+            int[] colIdx = new int[nSet];
+            double[] values = new double[nSet];
+            int nEnt = 0;
+            int iStart = 0;
+            for (int iRow = 0; iRow < nRow; iRow++) {
+                int iEnd = rowStart[iRow + 1];
+                Arrays.sort(keys, iStart, iEnd);
+                rowStart[iRow] = nEnt;
+                for (int iKey = iStart; iKey < iEnd; iKey++) {
+                    int iCol = (int) (keys[iKey] >>> 32);
+                    if (iKey + 1 < iEnd && (int) (keys[iKey + 1] >>> 32) == iCol) {
+                        continue;
+                    }
+                    double value = vals[(int) keys[iKey]];
+                    if (!Double.isNaN(value)) {
+                        colIdx[nEnt] = iCol;
+                        values[nEnt] = value;
+                        nEnt++;
+                    }
+                }
+                iStart = iEnd;
+            }
+            rowStart[nRow] = nEnt;
+            return new SparseMatrix(nRow, nCol, rowStart,
+                    Arrays.copyOf(colIdx, nEnt), Arrays.copyOf(values, nEnt));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.system;
+
+import com.springbok.utility.MException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests methods of SparseMatrix class.
+ */
+public class SparseMatrixTest {
+
+    private double NaN = Double.NaN;
+
+    // A dense array with few entries
+    private double[][] dense = new double[][]{
+            {NaN, 1.0, NaN, NaN},
+            {NaN, NaN, NaN, NaN},
+            {3.0, NaN, NaN, 2.0}};
+
+    /**
+     * Tests that the Builder orders entries, keeps the last value set,
+     * and drops NaN entries.
+     */
+    @Test
+    public void test_build() {
+        SparseMatrix.Builder builder = new SparseMatrix.Builder(3, 4);
+        builder.set(2, 3, 5.0);
+        builder.set(0, 1, 1.0);
+        builder.set(2, 0, 3.0);
+        builder.set(2, 3, 2.0);
+        builder.set(1, 2, 4.0);
+        builder.set(1, 2, NaN);
+        SparseMatrix matrix = builder.build();
+
+        assertEquals(3, matrix.getNumberOfEntries());
+        assertArrayEquals(new int[]{0, 1, 1, 3}, matrix.getRowStart());
+        assertArrayEquals(new int[]{1, 0, 3}, matrix.getColumnIndex());
+        assertArrayEquals(new double[]{1.0, 3.0, 2.0}, matrix.getValues(), 0);
+        assertEquals(SparseMatrix.fromDense(this.dense), matrix);
+    }
+
+    /**
+     * Tests get, and the dense view.
+     */
+    @Test
+    public void test_get() {
+        SparseMatrix matrix = SparseMatrix.fromDense(this.dense);
+
+        assertEquals(3, matrix.getNumberOfRows());
+        assertEquals(4, matrix.getNumberOfColumns());
+        for (int iRow = 0; iRow < 3; iRow++) {
+            assertArrayEquals(this.dense[iRow], matrix.toDense()[iRow], 0);
+            for (int iCol = 0; iCol < 4; iCol++) {
+                assertEquals(this.dense[iRow][iCol], matrix.get(iRow, iCol), 0);
+            }
+        }
+        assertNull(SparseMatrix.fromDense(null));
+        assertEquals(0, new SparseMatrix(2, 2).getNumberOfEntries());
+    }
+
+    @Test(expected = MException.class)
+    public void test_get_out_of_bounds() {
+        SparseMatrix.fromDense(this.dense).get(0, 4);
+    }
+}
@@ -22,14 +22,16 @@ import com.springbok.station.EarthStation;
 import com.springbok.station.SpaceStation;
 import com.springbok.twobody.EarthConstants;
 import com.springbok.twobody.ModJulianDate;
+import com.springbok.twobody.Vec3;
 import com.springbok.utility.MException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static com.springbok.system.SystemUtils.randperm;
 
@@ -65,15 +67,17 @@ public class System {
     private ModJulianDate dNm;
 
     // Angle between space station position vector relative to the
-    // Earth station and GSO arc
-    private double[][] theta_g;
+    // Earth station and GSO arc, for each pair considered
+    private SparseMatrix theta_g;
 
     // Angle between space station position vector relative to the
-    // Earth station and Earth station zenith direction
-    private double[][] theta_z;
+    // Earth station and Earth station zenith direction, for each pair
+    // considered
+    private SparseMatrix theta_z;
 
-    // Metric used to select space station for each Earth station
-    private double[][] metrics;
+    // Metric used to select space station for each Earth station, for
+    // each pair considered
+    private SparseMatrix metrics;
 
     // A network array
     private Network[] networks;
@@ -120,15 +124,50 @@ public class System {
         return angleFromZenith;
     }
 
+    /**
+     * Gets a dense view of the angle between space station position
+     * vector relative to the Earth station and GSO arc, suitable only for
+     * small scenarios.
+     *
+     * @return Angle for each Earth and space station, or NaN, if not
+     * considered
+     */
     public double[][] getTheta_g() {
-        return theta_g;
+        return theta_g != null ? theta_g.toDense() : null;
     }
 
+    /**
+     * Gets a dense view of the angle between space station position
+     * vector relative to the Earth station and Earth station zenith
+     * direction, suitable only for small scenarios.
+     *
+     * @return Angle for each Earth and space station, or NaN, if not
+     * considered
+     */
     public double[][] getTheta_z() {
-        return theta_z;
+        return theta_z != null ? theta_z.toDense() : null;
     }
 
+    /**
+     * Gets a dense view of the metric used to select space station for
+     * each Earth station, suitable only for small scenarios.
+     *
+     * @return Metric for each Earth and space station, or NaN, if not
+     * considered
+     */
     public double[][] getMetrics() {
+        return metrics != null ? metrics.toDense() : null;
+    }
+
+    public SparseMatrix getSparseTheta_g() {
+        return theta_g;
+    }
+
+    public SparseMatrix getSparseTheta_z() {
+        return theta_z;
+    }
+
+    public SparseMatrix getSparseMetrics() {
         return metrics;
     }
 
@@ -172,35 +211,51 @@ public class System {
     }
 
     /**
-     * Copies a System.
+     * Copies a System. Stations, beams, and networks are copied, and each
+     * network of the copy refers to the copied stations, so that the copy
+     * shares no mutable state with this System.
      *
      * @return A new System instance
      */
     public System copy() {
         int nES = this.earthStations.length;
+        EarthStation[] earthStations = new EarthStation[nES];
         for (int iES = 0; iES < nES; iES++) {
             earthStations[iES] = this.earthStations[iES].copy();
         }
 
         int nSS = this.spaceStations.length;
-        for (int iSS = 0; iSS < nES; iSS++) {
+        SpaceStation[] spaceStations = new SpaceStation[nSS];
+        for (int iSS = 0; iSS < nSS; iSS++) {
             spaceStations[iSS] = this.spaceStations[iSS].copy();
         }
         Map options = new HashMap();
-        options.put("testAngleFromGsoArc", this.testAngleFromGsoArc);
-        options.put("testAngleFromZenith", this.testAngleFromZenith);
+        options.put("TestAngleFromGsoArc", this.testAngleFromGsoArc);
+        options.put("AngleFromGsoArc", this.angleFromGsoArc);
+        options.put("TestAngleFromZenith", this.testAngleFromZenith);
+        options.put("AngleFromZenith", this.angleFromZenith);
         System that = new System(earthStations, spaceStations, this.losses, this.dNm, options);
 
         that.set_theta_g(this.theta_g);
         that.set_theta_z(this.theta_z);
         that.set_metrics(this.metrics);
         int nNet = this.networks.length;
+        Network[] networks = new Network[nNet];
         for (int iNet = 0; iNet < nNet; iNet++) {
-            networks[iNet] = this.networks[iNet].copy();
+            // Bind each network to the copied stations, or copy the
+            // network, if its stations are not members of this System
+            Network network = this.networks[iNet];
+            int iES = indexOf(this.earthStations, network.getEarthStation());
+            int iSS = indexOf(this.spaceStations, network.getSpaceStation());
+            if (!network.isEmpty() && iES >= 0 && iSS >= 0) {
+                networks[iNet] = bindNetwork(network, earthStations[iES], spaceStations[iSS]);
+            } else {
+                networks[iNet] = network.copy();
+            }
         }
         that.set_networks(networks);
-        that.set_idxNetES(this.idxNetES);
-        that.set_idxNetSS(this.idxNetSS);
+        that.set_idxNetES(this.idxNetES == null ? null : this.idxNetES.clone());
+        that.set_idxNetSS(this.idxNetSS == null ? null : this.idxNetSS.clone());
 
         return that;
     }
@@ -239,10 +294,21 @@ public class System {
      * @param theta_g Angle between space station position vector
      *                relative to the Earth station and GSO arc
      */
-    public void set_theta_g(double[][] theta_g) {
+    public void set_theta_g(SparseMatrix theta_g) {
         this.theta_g = theta_g;
     }
 
+    /**
+     * Sets angle between space station position vector relative to
+     * the Earth station and GSO arc from a dense array. NaN entries are
+     * not stored.
+     *
+     * @param theta_g Dense array, NaN if not considered
+     */
+    public void set_theta_g(double[][] theta_g) {
+        this.theta_g = SparseMatrix.fromDense(theta_g);
+    }
+
     /**
      * Sets Angle between space station position vector relative to
      * the Earth station and Earth station zenith direction.
@@ -251,10 +317,21 @@ public class System {
      *                relative to the Earth station and Earth station zenith
      *                direction
      */
-    public void set_theta_z(double[][] theta_z) {
+    public void set_theta_z(SparseMatrix theta_z) {
         this.theta_z = theta_z;
     }
 
+    /**
+     * Sets angle between space station position vector relative to
+     * the Earth station and Earth station zenith direction from a dense
+     * array. NaN entries are not stored.
+     *
+     * @param theta_z Dense array, NaN if not considered
+     */
+    public void set_theta_z(double[][] theta_z) {
+        this.theta_z = SparseMatrix.fromDense(theta_z);
+    }
+
     /**
      * Sets metric used to select space station for each Earth
      * station.
@@ -262,10 +339,20 @@ public class System {
      * @param metrics Metric used to select space station for each
      *                Earth station
      */
-    public void set_metrics(double[][] metrics) {
+    public void set_metrics(SparseMatrix metrics) {
         this.metrics = metrics;
     }
 
+    /**
+     * Sets metric used to select space station for each Earth
+     * station from a dense array. NaN entries are not stored.
+     *
+     * @param metrics Dense array, NaN if not considered
+     */
+    public void set_metrics(double[][] metrics) {
+        this.metrics = SparseMatrix.fromDense(metrics);
+    }
+
     /**
      * Sets a network array.
      *
@@ -302,7 +389,15 @@ public class System {
      * @return An array of Earth stations
      */
     public EarthStation[] get_assignedEarthStations() {
-        return new EarthStation[]{this.networks[0].getEarthStation()};
+        int nNet = this.countAssignedNetworks();
+        EarthStation[] earthStations = new EarthStation[nNet];
+        int jNet = 0;
+        for (Network network : this.networks) {
+            if (!network.isEmpty()) {
+                earthStations[jNet++] = network.getEarthStation();
+            }
+        }
+        return earthStations;
     }
 
     /**
@@ -311,7 +406,15 @@ public class System {
      * @return An array of Earth station beams
      */
     public Beam[] get_assignedEarthStationBeams() {
-        return new Beam[]{this.networks[0].getEarthStationBeam()};
+        int nNet = this.countAssignedNetworks();
+        Beam[] earthStationBeams = new Beam[nNet];
+        int jNet = 0;
+        for (Network network : this.networks) {
+            if (!network.isEmpty()) {
+                earthStationBeams[jNet++] = network.getEarthStationBeam();
+            }
+        }
+        return earthStationBeams;
     }
 
     /**
@@ -320,7 +423,15 @@ public class System {
      * @return An array of space stations
      */
     public SpaceStation[] get_assignedSpaceStations() {
-        return new SpaceStation[]{this.networks[0].getSpaceStation()};
+        int nNet = this.countAssignedNetworks();
+        SpaceStation[] spaceStations = new SpaceStation[nNet];
+        int jNet = 0;
+        for (Network network : this.networks) {
+            if (!network.isEmpty()) {
+                spaceStations[jNet++] = network.getSpaceStation();
+            }
+        }
+        return spaceStations;
     }
 
     /**
@@ -329,14 +440,41 @@ public class System {
      * @return An array of space station beams
      */
     public Beam[] get_assignedSpaceStationBeams() {
-        return new Beam[]{this.networks[0].getSpaceStationBeam()};
+        int nNet = this.countAssignedNetworks();
+        Beam[] spaceStationBeams = new Beam[nNet];
+        int jNet = 0;
+        for (Network network : this.networks) {
+            if (!network.isEmpty()) {
+                spaceStationBeams[jNet++] = network.getSpaceStationBeam();
+            }
+        }
+        return spaceStationBeams;
+    }
+
+    /**
+     * Counts the networks which are not empty.
+     *
+     * @return Number of assigned networks
+     */
+    private int countAssignedNetworks() {
+        int nNet = 0;
+        for (Network network : this.networks) {
+            if (!network.isEmpty()) {
+                nNet++;
+            }
+        }
+        return nNet;
     }
 
     /**
      * Establish a one-to-one correspondence between each Earth
-     * station and a space station and beam.
+     * station and a space station and beam. When selecting by elevation,
+     * or at random, with the angle from zenith tested, angles and metrics
+     * are recorded only for space stations which may be visible from
+     * each Earth station.
      *
-     * @param idxSelES Index of Earth stations selected for assignment
+     * @param idxSelES Index (one based) of Earth stations selected for
+     *                 assignment, or empty to select all Earth stations
      * @param numSmpSS Number of samples of selected space stations
      * @param dNm      Date number of assignment
      * @param options  Map of options containing:
@@ -348,6 +486,19 @@ public class System {
     public Assignment assignBeams(int[] idxSelES, int numSmpSS, ModJulianDate dNm, Map options) {
         //Assign index of selected Earth stations
         int nES = this.earthStations.length;
+        if (idxSelES == null || idxSelES.length == 0) {
+            idxSelES = new int[nES];
+            for (int iES = 0; iES < nES; iES++) {
+                idxSelES[iES] = iES + 1;
+            }
+        } else {
+            for (int iES : idxSelES) {
+                if (iES < 1 || iES > nES) {
+                    throw new MException("Springbok:IllegalArgumentException",
+                            "Index of selected Earth stations invalid");
+                }
+            }
+        }
 
         //Assign index, and number of samples, of selected space
         //stations. The space station indexes are randomized for
@@ -386,160 +537,194 @@ public class System {
         this.reset();
 
         //Initialize angles, metrics, networks, and their station
-        //indexes. No networks are assured.
-        this.theta_g = SystemUtils.getNanArray(nES, nSS);
-        this.theta_z = SystemUtils.getNanArray(nES, nSS);
-        this.metrics = SystemUtils.getNanArray(nES, nSS);
-        this.networks[nES - 1] = new Network();
+        //indexes. No networks are assured. Angles and metrics are
+        //stored only for the pairs considered.
+        SparseMatrix.Builder theta_g_ES_SS = new SparseMatrix.Builder(nES, nSS);
+        SparseMatrix.Builder theta_z_ES_SS = new SparseMatrix.Builder(nES, nSS);
+        SparseMatrix.Builder metrics_ES_SS = new SparseMatrix.Builder(nES, nSS);
+        this.networks = new Network[nES];
         this.idxNetES = new int[nES];
         this.idxNetSS = new int[nES];
 
-        //Assign space stations, and their position, for elimination
-        //of each space station after assignment
-        nSS = idxSelSS.length;
-        Matrix[] r_ger_SS = new Matrix[nSS];
-
+        //Assign space stations, and their position, and index the
+        //positions to find the space stations visible from each Earth
+        //station. Space stations are identified by their index in the
+        //randomized array, and eliminated from the index after
+        //assignment, if unavailable. The position of a decayed space
+        //station is NaN.
+        double[] r_ger_SS = new double[3 * nSS];
         for (int iSS = 0; iSS < nSS; iSS++) {
             try {
-                r_ger_SS[iSS] = this.spaceStations[idxSelSS[iSS] - 1].compute_r_ger(dNm);
+                pack(this.spaceStations[idxSelSS[iSS] - 1].compute_r_ger(dNm), r_ger_SS, 3 * iSS);
             } catch (ObjectDecayed objectDecayed) {
                 objectDecayed.printStackTrace();
+                Vec3.set(Double.NaN, Double.NaN, Double.NaN, r_ger_SS, 3 * iSS);
             }
         }
+        double r_ES_min = Double.POSITIVE_INFINITY;
+        for (int iES : idxSelES) {
+            r_ES_min = Math.min(r_ES_min, this.earthStations[iES - 1].get_R_ger().normF());
+        }
+        //Note that a space station too near the Earth station horizon
+        //may still be selected by separation, so all space stations are
+        //considered for selection by separation, or if the angle from
+        //zenith is not tested
+        VisibilityIndex index = new VisibilityIndex(r_ger_SS,
+                method_is_maxelv_or_random && this.testAngleFromZenith ? this.angleFromZenith : 180, r_ES_min);
+        int[] idxCnd = new int[nSS];
+        int[] idxVld = new int[nSS];
+        double[] r_ger_ES = new double[3];
 
-        int[] idxEmpty = new int[]{};
         //Consider each selected Earth station in order to assign a
         //space station and beam
-        Matrix[] r_ger_ES = new Matrix[idxSelES.length];
-        for (int iES = 0; iES < idxSelES.length; iES++) {
-            r_ger_ES[iES] = this.earthStations[iES].get_R_ger();
-
-            //Initialize local metrics, and indexes of assignable space
-            //stations
-            nSS = idxSelSS.length;
-            double[] theta_g = SystemUtils.getNanArray(1, nSS)[0];
-            double[] theta_z = SystemUtils.getNanArray(1, nSS)[0];
-            metrics = SystemUtils.getNanArray(1, nSS);
-
-            //Consider a sample from the remaining space stations in
-            //order to find the space station by the specified method
-            for (int iSS = 0; iSS < nSS; iSS += Math.max(1, Math.floor(nSS / numSmpSS))) {
+        for (int iES : idxSelES) {
+            pack(this.earthStations[iES - 1].get_R_ger(), r_ger_ES, 0);
+
+            //Consider a sample from the remaining space stations, which
+            //may be visible from the Earth station, in order to find
+            //the space station by the specified method. The sample is
+            //taken by position among the remaining space stations.
+            int step = Math.max(1, index.getNumberOfSlots() / numSmpSS);
+            int nCnd = index.findCandidates(r_ger_ES, 0, idxCnd);
+            int nVld = 0;
+            int iSS_sel = -1;
+            double metric_sel = Double.NaN;
+            for (int iCnd = 0; iCnd < nCnd; iCnd++) {
+                int iSS = idxCnd[iCnd];
+                if (step > 1 && index.position(iSS) % step != 0) {
+                    continue;
+                }
+                double metric = Double.NaN;
+                boolean isRecorded = true;
+
                 //Compute angle between space station position vector
                 //relative to the Earth station and GSO arc
                 if (method_is_maxsep_or_minsep || this.testAngleFromGsoArc) {
-                    theta_g[iSS] = computeAngleFromGsoArc(r_ger_SS[iSS], r_ger_ES[iSS]);
-                    this.theta_g[iES][idxSelSS[iSS]] = theta_g[iSS];
+                    double theta_g = computeAngleFromGsoArc(r_ger_SS, 3 * iSS, r_ger_ES, 0);
+                    theta_g_ES_SS.set(iES - 1, idxSelSS[iSS] - 1, theta_g);
 
                     // Skip the current space station if the current space
                     // and Earth station require the current  Earth station
                     // to broadcast too directly toward the GSO arc
-                    if (this.testAngleFromGsoArc && theta_g[iSS] < this.angleFromGsoArc) {
+                    if (this.testAngleFromGsoArc && theta_g < this.angleFromGsoArc) {
                         continue;
                     }
 
                     //Assign metric for selection
                     if (method_is_maxsep_or_minsep) {
-                        metrics[0][iSS] = theta_g[iSS];
+                        metric = theta_g;
                     }
                 }
                 //Compute angle between space station position vector
                 //relative to the Earth station and Earth station zenith
                 //direction
                 if (method_is_maxelv_or_random || this.testAngleFromZenith) {
-                    theta_z[iSS] = computeAngleFromZenith(r_ger_SS[iSS], r_ger_ES[iSS]);
-                    this.theta_z[iES][idxSelSS[iSS]] = theta_z[iSS];
+                    double theta_z = computeAngleFromZenith(r_ger_SS, 3 * iSS, r_ger_ES, 0);
+                    theta_z_ES_SS.set(iES - 1, idxSelSS[iSS] - 1, theta_z);
 
                     //Skip the current space station if it is too near the
-                    //current Earth station horizon
-                    if (this.testAngleFromZenith && theta_z[iSS] > this.angleFromZenith) {
-                        continue;
+                    //current Earth station horizon. A metric assigned for
+                    //selection by separation remains, but is not recorded.
+                    if (this.testAngleFromZenith && theta_z > this.angleFromZenith) {
+                        if (method_is_maxelv_or_random) {
+                            continue;
+                        }
+                        isRecorded = false;
                     }
 
                     //Assign metric for selection
                     if (method_is_maxelv_or_random) {
-                        metrics[0][iSS] = theta_z[iSS];
+                        metric = theta_z;
                     }
                 }
 
                 //Assign metric used to select the space station for the
                 //current Earth station
-                this.metrics[iES][idxSelSS[iSS]] = metrics[0][iSS];
+                if (isRecorded) {
+                    metrics_ES_SS.set(iES - 1, idxSelSS[iSS] - 1, metric);
+                }
+
+                //Select the first space station with the minimum, or
+                //maximum, metric, or collect valid space stations for
+                //random selection
+                if (Double.isNaN(metric)) {
+                    continue;
+                }
+                switch (method) {
+                    case "minsep":
+                        //Find the minimum angle between space station position
+                        //vector relative to the Earth station and GSO arc
+                    case "maxelv":
+                        //Find the minimum angle between space station position
+                        //vector relative to the Earth station and Earth
+                        //station zenith direction
+                        if (iSS_sel < 0 || metric < metric_sel) {
+                            iSS_sel = iSS;
+                            metric_sel = metric;
+                        }
+                        break;
+                    case "maxsep":
+                        //Find the maximum angle between space station position
+                        //vector relative to the Earth station and GSO arc
+                        if (iSS_sel < 0 || metric > metric_sel) {
+                            iSS_sel = iSS;
+                            metric_sel = metric;
+                        }
+                        break;
+                    case "random":
+                        idxVld[nVld++] = iSS;
+                        break;
+                    default:
+                        throw new MException("Springbok:IllegalArgumentException",
+                                "The method for assigning beams must be " +
+                                        "'maxelv', 'maxsep', 'minsep', or 'random'");
+                }
             }
 
-            //Select a space station to assign to the current Earth
-            //station
-            double[][] mmetrics = metrics;
-            boolean[][] nans = SystemUtils.isnan(mmetrics);
-            int[] iSS_sel;
-            double[] metric_sel;
-            int[] iSS_vld;
-
-            switch (method) {
-                case "minsep":
-                    //Find the minimum angle between space station position
-                    //vector relative to the Earth station and GSO arc
-                case "maxelv":
-                    //Find the minimum angle between space station position
-                    //vector relative to the Earth station and Earth
-                    //station zenith direction
-                    mmetrics = SystemUtils.positiveInfArr(mmetrics, nans);
-                    SystemUtils.ArrayMinMax min = SystemUtils.min(mmetrics);
-                    metric_sel = min.getValues();
-                    iSS_sel = min.getIndexes();
-                    break;
-                case "maxsep":
-                    //Find the maximum angle between space station position
-                    //vector relative to the Earth station and GSO arc
-                    mmetrics = SystemUtils.negativeInfArr(mmetrics, nans);
-                    SystemUtils.ArrayMinMax max = SystemUtils.max(mmetrics);
-                    metric_sel = max.getValues();
-                    iSS_sel = max.getIndexes();
-                    break;
-                case "random":
-                    //Find valid indexes of assigned space stations then
-                    //select one at random
-                    iSS_vld = SystemUtils.find(SystemUtils.notIsnan(metrics));
-                    if (iSS_vld.length != 0) {
-                        iSS_sel = new int[]{new Random().nextInt(iSS_vld.length) + 1};
-                    } else {
-                        iSS_sel = null;
-                    }
-                    break;
-                default:
-                    throw new MException("Springbok:IllegalArgumentException",
-                            "The method for assigning beams must be " +
-                                    "'maxelv', 'maxsep', 'minsep', or 'random'");
+            //Select a valid space station at random
+            if (method.equals("random") && nVld != 0) {
+                iSS_sel = idxVld[ThreadLocalRandom.current().nextInt(nVld)];
             }
 
             //Assign a space station to the current Earth station
-            if (iSS_sel != null) { //todo I'm not sure about iSS_sel
-                Beam beam = this.spaceStations[idxSelSS[iSS_sel[0]]].assign(this.earthStations[iES].doMultiplexing());
+            if (iSS_sel >= 0) {
+                SpaceStation spaceStation = this.spaceStations[idxSelSS[iSS_sel] - 1];
+                Beam beam = spaceStation.assign(this.earthStations[iES - 1].doMultiplexing());
                 Map map = new HashMap();
-                map.put("doCheck", doCheck);
-                this.networks[iES] = new Network(this.earthStations[iES],
-                        this.spaceStations[idxSelSS[iSS_sel[0]]], beam, this.losses, map);
-                this.idxNetES[iES] = iES;
-                this.idxNetSS[iES] = idxSelSS[iSS_sel[0]];
-
-                //Eliminate the space station index and position from
-                //further assignment, if unavailable. Note that the space
-                //station array is not used in the Earth station loop.
-                if (!this.spaceStations[idxSelSS[iSS_sel[0]]].isAvailable()) {
-                    idxSelSS[iSS_sel[0]] = 0;
-                    r_ger_SS[iSS_sel[0]] = null;
+                map.put("DoCheck", doCheck);
+                this.networks[iES - 1] = new Network(this.earthStations[iES - 1],
+                        spaceStation, beam, this.losses, map);
+                this.idxNetES[iES - 1] = iES;
+                this.idxNetSS[iES - 1] = idxSelSS[iSS_sel];
+
+                //Eliminate the space station from further assignment,
+                //if unavailable
+                if (!spaceStation.isAvailable()) {
+                    index.remove(iSS_sel);
                 }
-                idxEmpty = SystemUtils.findReverse(this.idxNetES);
             }
         }
 
+        //Store angles and metrics of the pairs considered
+        this.theta_g = theta_g_ES_SS.build();
+        this.theta_z = theta_z_ES_SS.build();
+        this.metrics = metrics_ES_SS.build();
+
         //Eliminate empty networks
-        //int[] idxEmpty = SystemUtils.findReverse(this.idxNetES);
-        this.networks = SystemUtils.eliminateEmpty(this.networks, idxEmpty);
-        this.idxNetES = SystemUtils.eliminateEmpty(this.idxNetES, idxEmpty);
-        this.idxNetSS = SystemUtils.eliminateEmpty(this.idxNetSS, idxEmpty);
+        int nNet = 0;
+        for (int iES = 0; iES < nES; iES++) {
+            if (this.idxNetES[iES] != 0) {
+                this.networks[nNet] = this.networks[iES];
+                this.idxNetES[nNet] = this.idxNetES[iES];
+                this.idxNetSS[nNet] = this.idxNetSS[iES];
+                nNet++;
+            }
+        }
+        this.networks = Arrays.copyOf(this.networks, nNet);
+        this.idxNetES = Arrays.copyOf(this.idxNetES, nNet);
+        this.idxNetSS = Arrays.copyOf(this.idxNetSS, nNet);
 
         //Consider each network
-        int nNet = this.networks.length;
         boolean[] isAvailable_SS = new boolean[nNet];
         boolean[] isAvailable_SS_Bm = new boolean[nNet];
         boolean[] isMultiplexed_SS_Bm = new boolean[nNet];
@@ -566,10 +751,10 @@ public class System {
 
         //Create assignment, and set properties, for return
         return new Assignment(dNm,
-                theta_g,
-                theta_z,
-                metrics,
-                networks,
+                this.theta_g,
+                this.theta_z,
+                this.metrics,
+                this.networks,
                 this.idxNetES,
                 this.idxNetSS,
                 isAvailable_SS,
@@ -607,9 +792,9 @@ public class System {
         // indexes
         int nES = this.earthStations.length;
         int nSS = this.spaceStations.length;
-        this.theta_g = SystemUtils.getNanArray(nES, nSS);
-        this.theta_z = SystemUtils.getNanArray(nES, nSS);
-        this.metrics = SystemUtils.getNanArray(nES, nSS);
+        SparseMatrix.Builder theta_g_ES_SS = new SparseMatrix.Builder(nES, nSS);
+        SparseMatrix.Builder theta_z_ES_SS = new SparseMatrix.Builder(nES, nSS);
+        SparseMatrix.Builder metrics_ES_SS = new SparseMatrix.Builder(nES, nSS);
         this.networks[nES] = new Network();
         this.idxNetES = new int[nES];
         this.idxNetSS = new int[nES];
@@ -645,11 +830,14 @@ public class System {
                 this.idxNetSS[iES] = iSS;
 
                 // Collect assignement properties
-                this.theta_g[iES][iSS] = systemHigh.theta_g[iCell][iSS];
-                this.theta_z[iES][iSS] = systemHigh.theta_z[iCell][iSS];
-                this.metrics[iES][iSS] = systemHigh.metrics[iCell][iSS];
+                theta_g_ES_SS.set(iES, iSS, systemHigh.theta_g.get(iCell, iSS));
+                theta_z_ES_SS.set(iES, iSS, systemHigh.theta_z.get(iCell, iSS));
+                metrics_ES_SS.set(iES, iSS, systemHigh.metrics.get(iCell, iSS));
             }
         }
+        this.theta_g = theta_g_ES_SS.build();
+        this.theta_z = theta_z_ES_SS.build();
+        this.metrics = metrics_ES_SS.build();
 
         // Eliminate empty networks
         int[] idxEmpty = SystemUtils.findReverse(this.idxNetES);
@@ -764,16 +952,26 @@ public class System {
 
         // Set derived properties of this System instance
         this.dNm = assignment.getdNm();
-        this.theta_g = assignment.getTheta_g();
-        this.theta_z = assignment.getTheta_z();
-        this.metrics = assignment.getMetrics();
-        this.networks = assignment.getNetworks();
+        this.theta_g = assignment.getSparseTheta_g();
+        this.theta_z = assignment.getSparseTheta_z();
+        this.metrics = assignment.getSparseMetrics();
         this.idxNetES = assignment.getIdxNetES();
         this.idxNetSS = assignment.getIdxNetSS();
 
         // Consider each network
         int nNet = assignment.getNetworks().length;
+        this.networks = new Network[nNet];
         for (int iNet = 0; iNet < nNet; iNet++) {
+            // Bind the network to the stations of this System, since
+            // the assignment may have been made by a copy of this System
+            Network network = assignment.getNetworks()[iNet];
+            if (network.isEmpty()) {
+                this.networks[iNet] = network;
+                continue;
+            }
+            this.networks[iNet] = bindNetwork(network, this.earthStations[this.idxNetES[iNet] - 1],
+                    this.spaceStations[this.idxNetSS[iNet] - 1]);
+
             // Set derived properties of the associated space station,
             // space station beam, and Earth station beam instances.
             this.networks[iNet].getSpaceStation().set_isAvailable(assignment.getIsAvailable_SS()[iNet]);
@@ -814,6 +1012,54 @@ public class System {
         this.idxNetSS = null;
     }
 
+    /**
+     * Creates a network like the specified network, using the
+     * specified stations, and the space station beam with the same
+     * index as the beam of the specified network.
+     *
+     * @param network      A network
+     * @param earthStation Earth station to use
+     * @param spaceStation Space station to use
+     * @return A network using the specified stations
+     */
+    private static Network bindNetwork(Network network, EarthStation earthStation, SpaceStation spaceStation) {
+        if (network.getEarthStation() == earthStation && network.getSpaceStation() == spaceStation) {
+            return network;
+        }
+        int iBm = indexOf(network.getSpaceStation().getBeams(), network.getSpaceStationBeam());
+        Map options = new HashMap();
+        options.put("Type", network.getType());
+        options.put("DoCheck", network.isDoCheck());
+        return new Network(earthStation, spaceStation, spaceStation.getBeams()[iBm], network.getLosses(), options);
+    }
+
+    /**
+     * Finds an element of an array by identity.
+     *
+     * @param array   An array
+     * @param element An element to find
+     * @return Index of the element, or -1, if not found
+     */
+    private static int indexOf(Object[] array, Object element) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copies a column vector into an array.
+     *
+     * @param r   A column vector
+     * @param a   An array
+     * @param off Offset of the vector in the array
+     */
+    private static void pack(Matrix r, double[] a, int off) {
+        Vec3.set(r.get(0, 0), r.get(1, 0), r.get(2, 0), a, off);
+    }
+
     /**
      * Compute the (approximate) minimum angle between the line from
      * the current Earth station to the current space station, and a
@@ -821,14 +1067,36 @@ public class System {
      * arc.
      */
     public static double computeAngleFromGsoArc(Matrix r_SS, Matrix r_ES) {
-        Matrix r_SS_ES = r_SS.minus(r_ES);
-        double alpha = Math.atan2(r_SS_ES.get(1, 0), r_SS_ES.get(0, 0));
-
-        Matrix r_gso_ES = new Matrix(new double[]{Math.cos(alpha), Math.sin(alpha), 0}, 1).transpose().times(EarthConstants.a_gso).minus(r_ES);
-        Matrix e_SS_ES = r_SS_ES.times(1 / Math.sqrt(r_SS_ES.transpose().times(r_SS_ES).get(0, 0)));
-        Matrix e_gso_ES = r_gso_ES.times(1 / Math.sqrt(r_gso_ES.transpose().times(r_gso_ES).get(0, 0)));
+        return computeAngleFromGsoArc(r_SS.getColumnPackedCopy(), 0, r_ES.getColumnPackedCopy(), 0);
+    }
 
-        return Math.toDegrees(Math.acos(e_SS_ES.transpose().times(e_gso_ES).get(0, 0)));
+    /**
+     * Compute the (approximate) minimum angle between the line from
+     * the current Earth station to the current space station, and a
+     * line from the current Earth station to a point on the GSO
+     * arc, without allocation.
+     *
+     * @param r_SS   Space station position array [er]
+     * @param off_SS Offset of the space station position
+     * @param r_ES   Earth station position array [er]
+     * @param off_ES Offset of the Earth station position
+     * @return Angle [deg]
+     */
+    public static double computeAngleFromGsoArc(double[] r_SS, int off_SS, double[] r_ES, int off_ES) {
+        double x_SS_ES = r_SS[off_SS] - r_ES[off_ES];
+        double y_SS_ES = r_SS[off_SS + 1] - r_ES[off_ES + 1];
+        double z_SS_ES = r_SS[off_SS + 2] - r_ES[off_ES + 2];
+        double alpha = Math.atan2(y_SS_ES, x_SS_ES);
+
+        double x_gso_ES = Math.cos(alpha) * EarthConstants.a_gso - r_ES[off_ES];
+        double y_gso_ES = Math.sin(alpha) * EarthConstants.a_gso - r_ES[off_ES + 1];
+        double z_gso_ES = -r_ES[off_ES + 2];
+        double s_SS_ES = 1 / Math.sqrt(x_SS_ES * x_SS_ES + y_SS_ES * y_SS_ES + z_SS_ES * z_SS_ES);
+        double s_gso_ES = 1 / Math.sqrt(x_gso_ES * x_gso_ES + y_gso_ES * y_gso_ES + z_gso_ES * z_gso_ES);
+
+        return Math.toDegrees(Math.acos(x_SS_ES * s_SS_ES * (x_gso_ES * s_gso_ES)
+                + y_SS_ES * s_SS_ES * (y_gso_ES * s_gso_ES)
+                + z_SS_ES * s_SS_ES * (z_gso_ES * s_gso_ES)));
     }
 
     /**
@@ -837,12 +1105,29 @@ public class System {
      * space station.
      */
     public static double computeAngleFromZenith(Matrix r_SS, Matrix r_ES) {
-        Matrix u_ES = r_ES.times(1 / Math.sqrt(r_ES.transpose().times(r_ES).get(0, 0)));
-//        Matrix u_SS = r_SS.times(1 / Math.sqrt(r_SS.transpose().times(r_SS).get(0,0)));
-//        double theta = Math.toDegrees(Math.acos(u_ES.transpose().times(u_SS).get(0,0)));
-        Matrix r_SS_ES = r_SS.minus(r_ES);
-        Matrix u_SS_ES = r_SS_ES.times(1 / Math.sqrt(r_SS_ES.transpose().times(r_SS_ES).get(0, 0)));
+        return computeAngleFromZenith(r_SS.getColumnPackedCopy(), 0, r_ES.getColumnPackedCopy(), 0);
+    }
 
-        return Math.toDegrees(Math.acos(u_ES.transpose().times(u_SS_ES).get(0, 0)));
+    /**
+     * Determine the angle between the current Earth station zenith
+     * and a line from the current Earth station to the current
+     * space station, without allocation.
+     *
+     * @param r_SS   Space station position array [er]
+     * @param off_SS Offset of the space station position
+     * @param r_ES   Earth station position array [er]
+     * @param off_ES Offset of the Earth station position
+     * @return Angle [deg]
+     */
+    public static double computeAngleFromZenith(double[] r_SS, int off_SS, double[] r_ES, int off_ES) {
+        double s_ES = 1 / Vec3.norm(r_ES, off_ES);
+        double x_SS_ES = r_SS[off_SS] - r_ES[off_ES];
+        double y_SS_ES = r_SS[off_SS + 1] - r_ES[off_ES + 1];
+        double z_SS_ES = r_SS[off_SS + 2] - r_ES[off_ES + 2];
+        double s_SS_ES = 1 / Math.sqrt(x_SS_ES * x_SS_ES + y_SS_ES * y_SS_ES + z_SS_ES * z_SS_ES);
+
+        return Math.toDegrees(Math.acos(r_ES[off_ES] * s_ES * (x_SS_ES * s_SS_ES)
+                + r_ES[off_ES + 1] * s_ES * (y_SS_ES * s_SS_ES)
+                + r_ES[off_ES + 2] * s_ES * (z_SS_ES * s_SS_ES)));
     }
 }
@@ -22,7 +22,9 @@ import com.springbok.station.EarthStation;
 import com.springbok.station.SpaceStation;
 import com.springbok.twobody.Coordinates;
 import com.springbok.twobody.EarthConstants;
+import com.springbok.twobody.KeplerianOrbit;
 import com.springbok.twobody.ModJulianDate;
+import com.springbok.utility.MException;
 import com.springbok.utility.PatternUtility;
 import com.springbok.utility.TestUtility;
 import org.junit.Assert;
@@ -113,6 +115,103 @@ public class SystemTest {
         checkSystems(wantedSystemOne, wantedSystemTwo);
     }
 
+    /**
+     * Tests that a copy shares no stations, networks, or arrays with its
+     * source.
+     */
+    @Test
+    public void test_copy_is_independent() throws ObjectDecayed {
+        System systemOne = getIntLeoSystem();
+        Assignment assignment = systemOne.assignBeams(new int[]{}, 0, systemOne.getdNm(), new HashMap());
+        Assert.assertTrue(assignment.getNetworks().length > 0);
+
+        System systemTwo = systemOne.copy();
+
+        Assert.assertNotSame(systemOne.getEarthStations(), systemTwo.getEarthStations());
+        Assert.assertNotSame(systemOne.getSpaceStations(), systemTwo.getSpaceStations());
+        Assert.assertNotSame(systemOne.getEarthStations()[0], systemTwo.getEarthStations()[0]);
+        Assert.assertNotSame(systemOne.getSpaceStations()[0], systemTwo.getSpaceStations()[0]);
+        Assert.assertEquals(systemOne.getSpaceStations()[0], systemTwo.getSpaceStations()[0]);
+        Assert.assertArrayEquals(systemOne.getIdxNetES(), systemTwo.getIdxNetES());
+        Assert.assertArrayEquals(systemOne.getIdxNetSS(), systemTwo.getIdxNetSS());
+        int nNet = systemTwo.getNetworks().length;
+        for (int iNet = 0; iNet < nNet; iNet++) {
+            Network network = systemTwo.getNetworks()[iNet];
+            Assert.assertSame(systemTwo.getEarthStations()[systemTwo.getIdxNetES()[iNet] - 1],
+                    network.getEarthStation());
+            Assert.assertSame(systemTwo.getSpaceStations()[systemTwo.getIdxNetSS()[iNet] - 1],
+                    network.getSpaceStation());
+        }
+
+        // Changes to the copy leave the source unchanged
+        double metric = systemOne.getMetrics()[0][0];
+        systemTwo.getMetrics()[0][0] = -1;
+        systemTwo.getIdxNetES()[0] = -1;
+        Assert.assertEquals(metric, systemOne.getMetrics()[0][0], 0);
+        Assert.assertEquals(assignment.getIdxNetES()[0], systemOne.getIdxNetES()[0]);
+    }
+
+    /**
+     * Tests assignBeams method with one based indexes of selected Earth
+     * stations.
+     */
+    @Test
+    public void test_assignBeams_with_selected_earth_stations() throws ObjectDecayed {
+        System system = getIntLeoSystem();
+        int nES = system.getEarthStations().length;
+
+        Assignment assignment = system.assignBeams(new int[]{nES}, 0, system.getdNm(), new HashMap());
+
+        Assert.assertArrayEquals(new int[]{nES}, assignment.getIdxNetES());
+        Assert.assertSame(system.getEarthStations()[nES - 1], assignment.getNetworks()[0].getEarthStation());
+        Assert.assertSame(system.getSpaceStations()[assignment.getIdxNetSS()[0] - 1],
+                assignment.getNetworks()[0].getSpaceStation());
+        for (int iSS = 0; iSS < system.getSpaceStations().length; iSS++) {
+            Assert.assertTrue(Double.isNaN(system.getMetrics()[0][iSS]));
+        }
+
+        // All Earth stations are selected by default
+        system.reset();
+        assignment = system.assignBeams(new int[]{}, 0, system.getdNm(), new HashMap());
+        Assert.assertTrue(assignment.getIdxNetES().length > 1);
+        Assert.assertEquals(nES, assignment.getIdxNetES()[assignment.getIdxNetES().length - 1]);
+    }
+
+    /**
+     * Tests assignBeams method with an index of selected Earth stations
+     * out of range.
+     */
+    @Test(expected = MException.class)
+    public void test_assignBeams_with_invalid_earth_station() throws ObjectDecayed {
+        System system = getIntLeoSystem();
+
+        system.assignBeams(new int[]{0}, 0, system.getdNm(), new HashMap());
+    }
+
+    /**
+     * Tests that an assignment made by a copy is applied to the stations
+     * of this System.
+     */
+    @Test
+    public void test_apply_assignment_of_copy() throws ObjectDecayed {
+        System systemOne = getIntLeoSystem();
+        System systemTwo = systemOne.copy();
+        Assignment assignment = systemTwo.assignBeams(new int[]{}, 0, systemTwo.getdNm(), new HashMap());
+
+        systemOne.apply(assignment);
+
+        int nNet = systemOne.getNetworks().length;
+        Assert.assertEquals(assignment.getNetworks().length, nNet);
+        for (int iNet = 0; iNet < nNet; iNet++) {
+            Network network = systemOne.getNetworks()[iNet];
+            Assert.assertSame(systemOne.getEarthStations()[assignment.getIdxNetES()[iNet] - 1],
+                    network.getEarthStation());
+            Assert.assertSame(systemOne.getSpaceStations()[assignment.getIdxNetSS()[iNet] - 1],
+                    network.getSpaceStation());
+            Assert.assertFalse(network.getSpaceStationBeam().isAvailable());
+        }
+    }
+
     @Test
     public void get_assignedEarthStations() {
         // TODO: Complete
@@ -406,6 +505,142 @@ public class SystemTest {
         Assert.assertTrue(TestUtility.isDoublesEquals(180, theta));
     }
 
+    /**
+     * Creates a LEO system of twelve planes of twelve space stations, and
+     * four Earth stations near the equator.
+     */
+    /**
+     * Tests that space stations selected using the visibility index
+     * equal those selected by considering every space station, for each
+     * method, with and without the angle from zenith tested.
+     */
+    @Test
+    public void test_assignBeams_equals_brute_force() throws ObjectDecayed {
+        Random random = new Random(6);
+        for (String method : new String[]{"MaxElv", "MaxSep", "MinSep", "Random"}) {
+            for (boolean testAngleFromZenith : new boolean[]{true, false}) {
+                System system = getRandomLeoSystem(random, testAngleFromZenith);
+                Map options = new HashMap();
+                options.put("Method", method);
+                options.put("DoCheck", false);
+                Assignment assignment = system.assignBeams(new int[]{}, 0, system.getdNm(), options);
+                Assert.assertTrue(assignment.getIdxNetES().length > 0);
+
+                // Consider every space station not yet assigned, since
+                // each has one beam
+                int nES = system.getEarthStations().length;
+                int nSS = system.getSpaceStations().length;
+                int[] idxNetSS = new int[nES];
+                for (int iNet = 0; iNet < assignment.getIdxNetES().length; iNet++) {
+                    idxNetSS[assignment.getIdxNetES()[iNet] - 1] = assignment.getIdxNetSS()[iNet];
+                }
+                boolean[] isAssigned = new boolean[nSS];
+                for (int iES = 0; iES < nES; iES++) {
+                    Matrix r_ES = system.getEarthStations()[iES].get_R_ger();
+                    int iSS_sel = -1;
+                    double metric_sel = Double.NaN;
+                    Set<Integer> idxVld = new HashSet<>();
+                    for (int iSS = 0; iSS < nSS; iSS++) {
+                        if (isAssigned[iSS]) {
+                            continue;
+                        }
+                        Matrix r_SS = system.getSpaceStations()[iSS].compute_r_ger(system.getdNm());
+                        double theta_g = System.computeAngleFromGsoArc(r_SS, r_ES);
+                        double theta_z = System.computeAngleFromZenith(r_SS, r_ES);
+                        if (theta_g < system.getAngleFromGsoArc()) {
+                            continue;
+                        }
+                        // A space station too near the Earth station horizon
+                        // may still be selected by separation, but its
+                        // metric is not recorded
+                        boolean isBySeparation = method.equals("MaxSep") || method.equals("MinSep");
+                        boolean isRecorded = !(testAngleFromZenith && theta_z > system.getAngleFromZenith());
+                        if (!isRecorded && !isBySeparation) {
+                            continue;
+                        }
+                        double metric = isBySeparation ? theta_g : theta_z;
+                        Assert.assertEquals(isRecorded ? metric : Double.NaN,
+                                system.getSparseMetrics().get(iES, iSS), 0);
+                        idxVld.add(iSS + 1);
+                        if (iSS_sel < 0 || (method.equals("MaxSep") ? metric > metric_sel : metric < metric_sel)) {
+                            iSS_sel = iSS;
+                            metric_sel = metric;
+                        }
+                    }
+                    if (iSS_sel < 0) {
+                        Assert.assertEquals(0, idxNetSS[iES]);
+                        continue;
+                    }
+                    if (method.equals("Random")) {
+                        Assert.assertTrue(idxVld.contains(idxNetSS[iES]));
+                    } else {
+                        Assert.assertEquals(iSS_sel + 1, idxNetSS[iES]);
+                    }
+                    isAssigned[idxNetSS[iES] - 1] = true;
+                }
+            }
+        }
+    }
+
+    private static System getIntLeoSystem() throws ObjectDecayed {
+        ModJulianDate epoch_0 = Gso_gso.getWntGsoSystem().getdNm();
+        SpaceStation template_SS = Gso_gso.getIntLeoSpaceSegment(epoch_0)[0];
+        KeplerianOrbit orbit = (KeplerianOrbit) template_SS.getOrbit();
+        int nPln = 12;
+        int nSat = 12;
+        SpaceStation[] spaceStations = new SpaceStation[nPln * nSat];
+        for (int iPln = 0; iPln < nPln; iPln++) {
+            for (int iSat = 0; iSat < nSat; iSat++) {
+                spaceStations[iPln * nSat + iSat] = new SpaceStation(template_SS.getStationId(),
+                        template_SS.getTransmitAntenna(), template_SS.getReceiveAntenna(),
+                        template_SS.getEmission(), new Beam[]{new Beam("IntLeoSpaceSegment", 1, 100)},
+                        new KeplerianOrbit(orbit.get_a(), orbit.get_e(), orbit.get_i(),
+                                2 * Math.PI * iPln / nPln, orbit.get_omega(),
+                                2 * Math.PI * (iSat + 0.5 * iPln) / nSat, epoch_0, orbit.get_method()));
+            }
+        }
+        EarthStation template_ES = Gso_gso.getIntLeoEarthSegment(Gso_gso.getWntGsoSpaceSegment(epoch_0))[0];
+        int nES = 4;
+        EarthStation[] earthStations = new EarthStation[nES];
+        for (int iES = 0; iES < nES; iES++) {
+            earthStations[iES] = new EarthStation(template_ES.getStationId(),
+                    template_ES.getTransmitAntenna(), template_ES.getReceiveAntenna(),
+                    template_ES.getEmission(), new Beam("IntLeoEarthSegment", 1, 100),
+                    Math.toRadians(5.0 * iES), template_ES.get_lambda() + Math.toRadians(2.0 * iES), false);
+        }
+        Map options = new HashMap();
+        options.put("TestAngleFromGsoArc", false);
+        return new System(earthStations, spaceStations, new Object[0], epoch_0, options);
+    }
+
+    private static System getRandomLeoSystem(Random random, boolean testAngleFromZenith) throws ObjectDecayed {
+        ModJulianDate epoch_0 = Gso_gso.getWntGsoSystem().getdNm();
+        SpaceStation template_SS = Gso_gso.getIntLeoSpaceSegment(epoch_0)[0];
+        KeplerianOrbit orbit = (KeplerianOrbit) template_SS.getOrbit();
+        int nSS = 400;
+        SpaceStation[] spaceStations = new SpaceStation[nSS];
+        for (int iSS = 0; iSS < nSS; iSS++) {
+            spaceStations[iSS] = new SpaceStation(template_SS.getStationId(),
+                    template_SS.getTransmitAntenna(), template_SS.getReceiveAntenna(),
+                    template_SS.getEmission(), new Beam[]{new Beam("IntLeoSpaceSegment", 1, 100)},
+                    new KeplerianOrbit(orbit.get_a() * (1 + 0.2 * random.nextDouble()), 0.0,
+                            Math.PI * random.nextDouble(), 2 * Math.PI * random.nextDouble(), 0.0,
+                            2 * Math.PI * random.nextDouble(), epoch_0, orbit.get_method()));
+        }
+        EarthStation template_ES = Gso_gso.getIntLeoEarthSegment(Gso_gso.getWntGsoSpaceSegment(epoch_0))[0];
+        int nES = 40;
+        EarthStation[] earthStations = new EarthStation[nES];
+        for (int iES = 0; iES < nES; iES++) {
+            earthStations[iES] = new EarthStation(template_ES.getStationId(),
+                    template_ES.getTransmitAntenna(), template_ES.getReceiveAntenna(),
+                    template_ES.getEmission(), new Beam("IntLeoEarthSegment", 1, 100),
+                    Math.asin(2 * random.nextDouble() - 1), 2 * Math.PI * random.nextDouble(), false);
+        }
+        Map options = new HashMap();
+        options.put("TestAngleFromZenith", testAngleFromZenith);
+        return new System(earthStations, spaceStations, new Object[0], epoch_0, options);
+    }
+
     private void checkSystems(System systemOne, System systemTwo) {
         Assert.assertEquals(systemOne.getdNm(), systemTwo.getdNm());
         Assert.assertEquals(systemOne.getIdxNetSS(), systemTwo.getIdxNetSS());
@@ -18,6 +18,7 @@ package com.springbok.system;
 import Jama.Matrix;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 public class SystemUtils {
@@ -53,7 +54,7 @@ public class SystemUtils {
         for (int i = 1; i <= size; i++) {
             list.add(i);
         }
-        Collections.shuffle(list);
+        Collections.shuffle(list, ThreadLocalRandom.current());
         return list.stream().mapToInt(i -> i).toArray();
     }
 
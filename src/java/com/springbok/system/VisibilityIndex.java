@@ -0,0 +1,275 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.system;
+
+import java.util.Arrays;
+
+/**
+ * Indexes space station positions at one date number, so that the
+ * space stations within an angle from the zenith of an Earth station
+ * can be found without considering every space station.
+ * <p>
+ * The zenith is the geocentric direction of the Earth station, so a
+ * space station at radius r_SS is within angle z from the zenith of an
+ * Earth station at radius r_ES only if the geocentric angle between
+ * them is at most z - asin(r_ES sin(z) / r_SS). Bounding r_ES below
+ * and r_SS above bounds this angle for all stations. The unit vector of
+ * each space station is hashed into a uniform grid of cubic cells, and
+ * candidates are found in the cells overlapping the cube bounding the
+ * chord of the bounding angle, then tested exactly by dot product.
+ * <p>
+ * Space stations are identified by slot, the index of their position
+ * in the array used to construct the index. Slots may be removed, and
+ * the position of a slot among those remaining is maintained, so that
+ * sampling by position is unchanged.
+ */
+public class VisibilityIndex {
+
+    // Maximum number of cells along each axis
+    private static final int MAX_CELLS_PER_AXIS = 64;
+
+    // Margin added to the bounding angle to absorb rounding [rad]
+    private static final double MARGIN = 1.0e-6;
+
+    // Number of slots
+    private final int nSlt;
+
+    // Flag indicating all slots are candidates
+    private final boolean isUnbounded;
+
+    // Cosine of the bounding angle
+    private final double cosMax;
+
+    // Half width of the cube bounding the chord of the bounding angle
+    private final double chord;
+
+    // Width of a cell
+    private final double width;
+
+    // Number of cells along each axis
+    private final int nCel;
+
+    // Unit vector of each slot, or NaN, if no position
+    private final double[] u;
+
+    // Index of the first slot of each cell in the cell slot array
+    private final int[] celStart;
+
+    // Slots in ascending order within each cell
+    private final int[] celSlots;
+
+    // Flag indicating each slot was removed
+    private final boolean[] isRemoved;
+
+    // Binary indexed tree counting removed slots
+    private final int[] tree;
+
+    // Number of removed slots
+    private int nRemoved;
+
+    /**
+     * Constructs a VisibilityIndex.
+     *
+     * @param r_SS            Position of each space station, packed in
+     *                        three elements, or NaN, if the position is
+     *                        not available [er]
+     * @param angleFromZenith Angle from the Earth station zenith within
+     *                        which space stations are found, or 90 or
+     *                        more to find all space stations [deg]
+     * @param r_ES_min        Minimum radius of the Earth stations for
+     *                        which space stations are found [er]
+     */
+    public VisibilityIndex(double[] r_SS, double angleFromZenith, double r_ES_min) {
+        this.nSlt = r_SS.length / 3;
+        this.u = new double[3 * nSlt];
+        this.isRemoved = new boolean[nSlt];
+        this.tree = new int[nSlt + 1];
+
+        // Compute unit vectors, and the maximum space station radius
+        double r_SS_max = 0;
+        for (int iSlt = 0; iSlt < nSlt; iSlt++) {
+            double x = r_SS[3 * iSlt];
+            double y = r_SS[3 * iSlt + 1];
+            double z = r_SS[3 * iSlt + 2];
+            if (Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z)) {
+                u[3 * iSlt] = Double.NaN;
+                u[3 * iSlt + 1] = Double.NaN;
+                u[3 * iSlt + 2] = Double.NaN;
+                continue;
+            }
+            double r = Math.sqrt(x * x + y * y + z * z);
+            u[3 * iSlt] = x / r;
+            u[3 * iSlt + 1] = y / r;
+            u[3 * iSlt + 2] = z / r;
+            r_SS_max = Math.max(r_SS_max, r);
+        }
+
+        // Bound the geocentric angle between visible stations
+        double lambda = computeMaxCentralAngle(angleFromZenith, r_ES_min, r_SS_max);
+        this.isUnbounded = !(lambda < Math.PI);
+        if (this.isUnbounded) {
+            this.cosMax = -1;
+            this.chord = 2;
+            this.width = 2;
+            this.nCel = 1;
+            this.celStart = new int[]{0, 0};
+            this.celSlots = new int[0];
+            return;
+        }
+        this.cosMax = Math.cos(lambda);
+        this.chord = 2 * Math.sin(lambda / 2);
+        this.nCel = Math.max(1, Math.min(MAX_CELLS_PER_AXIS, (int) Math.ceil(2 / this.chord)));
+        this.width = 2.0 / nCel;
+
+        // Sort slots into cells, in ascending order within each cell
+        int[] iCelSlt = new int[nSlt];
+        this.celStart = new int[nCel * nCel * nCel + 1];
+        for (int iSlt = 0; iSlt < nSlt; iSlt++) {
+            if (Double.isNaN(u[3 * iSlt])) {
+                iCelSlt[iSlt] = -1;
+                continue;
+            }
+            iCelSlt[iSlt] = cell(cellIndex(u[3 * iSlt]), cellIndex(u[3 * iSlt + 1]), cellIndex(u[3 * iSlt + 2]));
+            celStart[iCelSlt[iSlt] + 1]++;
+        }
+        for (int iCel = 0; iCel < nCel * nCel * nCel; iCel++) {
+            celStart[iCel + 1] += celStart[iCel];
+        }
+        this.celSlots = new int[celStart[nCel * nCel * nCel]];
+        int[] next = Arrays.copyOf(celStart, nCel * nCel * nCel);
+        for (int iSlt = 0; iSlt < nSlt; iSlt++) {
+            if (iCelSlt[iSlt] >= 0) {
+                celSlots[next[iCelSlt[iSlt]]++] = iSlt;
+            }
+        }
+    }
+
+    /**
+     * Computes the maximum geocentric angle between an Earth station
+     * and a space station within an angle from the Earth station
+     * zenith.
+     *
+     * @param angleFromZenith Angle from the Earth station zenith [deg]
+     * @param r_ES_min        Minimum Earth station radius [er]
+     * @param r_SS_max        Maximum space station radius [er]
+     * @return Maximum geocentric angle, or pi, if not bounded [rad]
+     */
+    public static double computeMaxCentralAngle(double angleFromZenith, double r_ES_min, double r_SS_max) {
+        if (!(angleFromZenith >= 0 && angleFromZenith < 90) || !(r_ES_min > 0) || !(r_SS_max > r_ES_min)) {
+            return Math.PI;
+        }
+        double z = Math.toRadians(angleFromZenith);
+        return Math.min(Math.PI, z - Math.asin(r_ES_min * Math.sin(z) / r_SS_max) + MARGIN);
+    }
+
+    /**
+     * Finds the remaining slots of space stations which may be within
+     * the angle from the zenith of an Earth station. Every such space
+     * station is found, though others may be.
+     *
+     * @param r_ES   Earth station position array [er]
+     * @param off_ES Offset of the Earth station position
+     * @param slots  Slots found in ascending order, output
+     * @return Number of slots found
+     */
+    public int findCandidates(double[] r_ES, int off_ES, int[] slots) {
+        int nFnd = 0;
+        if (isUnbounded) {
+            for (int iSlt = 0; iSlt < nSlt; iSlt++) {
+                if (!isRemoved[iSlt] && !Double.isNaN(u[3 * iSlt])) {
+                    slots[nFnd++] = iSlt;
+                }
+            }
+            return nFnd;
+        }
+        double x = r_ES[off_ES];
+        double y = r_ES[off_ES + 1];
+        double z = r_ES[off_ES + 2];
+        double r = Math.sqrt(x * x + y * y + z * z);
+        x /= r;
+        y /= r;
+        z /= r;
+
+        // Consider the cells overlapping the bounding cube
+        int iMin = cellIndex(x - chord), iMax = cellIndex(x + chord);
+        int jMin = cellIndex(y - chord), jMax = cellIndex(y + chord);
+        int kMin = cellIndex(z - chord), kMax = cellIndex(z + chord);
+        for (int i = iMin; i <= iMax; i++) {
+            for (int j = jMin; j <= jMax; j++) {
+                for (int k = kMin; k <= kMax; k++) {
+                    int iCel = cell(i, j, k);
+                    for (int iPtr = celStart[iCel]; iPtr < celStart[iCel + 1]; iPtr++) {
+                        int iSlt = celSlots[iPtr];
+                        if (!isRemoved[iSlt]
+                                && x * u[3 * iSlt] + y * u[3 * iSlt + 1] + z * u[3 * iSlt + 2] >= cosMax) {
+                            slots[nFnd++] = iSlt;
+                        }
+                    }
+                }
+            }
+        }
+        Arrays.sort(slots, 0, nFnd);
+        return nFnd;
+    }
+
+    /**
+     * Removes a slot from further consideration.
+     *
+     * @param iSlt Slot to remove
+     */
+    public void remove(int iSlt) {
+        if (isRemoved[iSlt]) {
+            return;
+        }
+        isRemoved[iSlt] = true;
+        nRemoved++;
+        for (int i = iSlt + 1; i <= nSlt; i += i & -i) {
+            tree[i]++;
+        }
+    }
+
+    /**
+     * Gets the position of a slot among the remaining slots.
+     *
+     * @param iSlt A remaining slot
+     * @return Position of the slot
+     */
+    public int position(int iSlt) {
+        int nBefore = 0;
+        for (int i = iSlt; i > 0; i -= i & -i) {
+            nBefore += tree[i];
+        }
+        return iSlt - nBefore;
+    }
+
+    /**
+     * Gets the number of remaining slots, including those with no
+     * position.
+     *
+     * @return Number of remaining slots
+     */
+    public int getNumberOfSlots() {
+        return nSlt - nRemoved;
+    }
+
+    private int cellIndex(double v) {
+        return Math.max(0, Math.min(nCel - 1, (int) Math.floor((v + 1) / width)));
+    }
+
+    private int cell(int i, int j, int k) {
+        return (i * nCel + j) * nCel + k;
+    }
+}
@@ -0,0 +1,156 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.system;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests methods of VisibilityIndex class.
+ */
+public class VisibilityIndexTest {
+
+    // Angle from zenith [deg]
+    private double angleFromZenith = 40;
+
+    // Number of space stations
+    private int nSS = 500;
+
+    // Number of Earth stations
+    private int nES = 50;
+
+    // Space station positions, one of which is not available [er]
+    private double[] r_SS;
+
+    // Earth station positions [er]
+    private double[] r_ES;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(1);
+        this.r_SS = new double[3 * this.nSS];
+        for (int iSS = 0; iSS < this.nSS; iSS++) {
+            randomPosition(random, 1.05 + 0.2 * random.nextDouble(), this.r_SS, 3 * iSS);
+        }
+        this.r_SS[3 * 7] = Double.NaN;
+        this.r_ES = new double[3 * this.nES];
+        for (int iES = 0; iES < this.nES; iES++) {
+            randomPosition(random, 1.0 + 0.001 * random.nextDouble(), this.r_ES, 3 * iES);
+        }
+    }
+
+    /**
+     * Tests that findCandidates finds every space station within the
+     * angle from the zenith, in ascending order.
+     */
+    @Test
+    public void test_findCandidates() {
+        VisibilityIndex index = new VisibilityIndex(this.r_SS, this.angleFromZenith, 1.0);
+
+        int[] slots = new int[this.nSS];
+        int nTot = 0;
+        for (int iES = 0; iES < this.nES; iES++) {
+            int nFnd = index.findCandidates(this.r_ES, 3 * iES, slots);
+            for (int iFnd = 1; iFnd < nFnd; iFnd++) {
+                assertTrue(slots[iFnd - 1] < slots[iFnd]);
+            }
+            int iFnd = 0;
+            for (int iSS = 0; iSS < this.nSS; iSS++) {
+                boolean isFound = iFnd < nFnd && slots[iFnd] == iSS;
+                if (isFound) {
+                    iFnd++;
+                }
+                if (iSS != 7 && System.computeAngleFromZenith(this.r_SS, 3 * iSS, this.r_ES, 3 * iES)
+                        <= this.angleFromZenith) {
+                    assertTrue(isFound);
+                }
+            }
+            nTot += nFnd;
+        }
+
+        // Most space stations are not candidates
+        assertTrue(nTot > 0);
+        assertTrue(nTot < this.nES * this.nSS / 4);
+    }
+
+    /**
+     * Tests that all available space stations are candidates when the
+     * angle from zenith does not bound the geocentric angle.
+     */
+    @Test
+    public void test_findCandidates_unbounded() {
+        VisibilityIndex index = new VisibilityIndex(this.r_SS, 90, 1.0);
+
+        int[] slots = new int[this.nSS];
+        int nFnd = index.findCandidates(this.r_ES, 0, slots);
+
+        assertEquals(this.nSS - 1, nFnd);
+        assertEquals(8, slots[7]);
+    }
+
+    /**
+     * Tests that remove eliminates a slot, and maintains the position of
+     * the remaining slots.
+     */
+    @Test
+    public void test_remove() {
+        VisibilityIndex index = new VisibilityIndex(this.r_SS, 180, 1.0);
+        index.remove(3);
+        index.remove(10);
+        index.remove(3);
+
+        assertEquals(this.nSS - 2, index.getNumberOfSlots());
+        assertEquals(2, index.position(2));
+        assertEquals(3, index.position(4));
+        assertEquals(8, index.position(9));
+        assertEquals(9, index.position(11));
+
+        int[] slots = new int[this.nSS];
+        int nFnd = index.findCandidates(this.r_ES, 0, slots);
+        assertEquals(this.nSS - 3, nFnd);
+        for (int iFnd = 0; iFnd < nFnd; iFnd++) {
+            assertTrue(slots[iFnd] != 3 && slots[iFnd] != 10);
+        }
+    }
+
+    /**
+     * Tests computeMaxCentralAngle method.
+     */
+    @Test
+    public void test_computeMaxCentralAngle() {
+        // A space station on the horizon of an Earth station
+        double r_SS = 1 / Math.cos(Math.toRadians(20));
+        assertEquals(Math.toRadians(20),
+                VisibilityIndex.computeMaxCentralAngle(89.999999, 1.0, r_SS), 1e-5);
+
+        assertEquals(Math.PI, VisibilityIndex.computeMaxCentralAngle(90, 1.0, r_SS), 0);
+        assertEquals(Math.PI, VisibilityIndex.computeMaxCentralAngle(40, 1.0, 0.5), 0);
+    }
+
+    private static void randomPosition(Random random, double r, double[] a, int off) {
+        double z = 2 * random.nextDouble() - 1;
+        double phi = 2 * Math.PI * random.nextDouble();
+        double s = Math.sqrt(1 - z * z);
+        a[off] = r * s * Math.cos(phi);
+        a[off + 1] = r * s * Math.sin(phi);
+        a[off + 2] = r * z;
+    }
+}
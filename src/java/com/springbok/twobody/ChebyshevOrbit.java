@@ -0,0 +1,311 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import java.io.Serializable;
+
+import com.celestrak.sgp4v.ObjectDecayed;
+import com.springbok.utility.MException;
+
+import Jama.Matrix;
+
+/**
+ * Describes an orbit by Chebyshev polynomials fit to the geocentric equatorial
+ * inertial position vectors of another orbit, such as an Sgp4Orbit or
+ * KeplerianOrbit, over a window of dates. The window is divided into segments
+ * of equal duration, so the segment containing a date is found by division.
+ * The segment duration is halved until the position vectors of each segment
+ * are within a tolerance of the fit orbit at points between the fit nodes.
+ * Position vectors at dates outside the window are computed by the fit
+ * orbit.
+ * <p>
+ * Instances are immutable, and may be shared between threads and stations.
+ */
+@SuppressWarnings("serial")
+public final class ChebyshevOrbit implements Orbit, Serializable {
+
+	/** Degree of the Chebyshev polynomials */
+	public static final int DEGREE = 15;
+
+	/** Minimum segment duration [s] */
+	private static final double MIN_SEGMENT_DURATION = 60.0;
+
+	/** The fit orbit */
+	private final Orbit orbit;
+
+	/** Modified Julian date of the start of the window */
+	private final double start;
+	/** Modified Julian date of the stop of the window */
+	private final double stop;
+	/** Segment duration [day] */
+	private final double h;
+	/** Number of segments */
+	private final int nSeg;
+
+	/**
+	 * Chebyshev coefficients of each position vector component, in segment,
+	 * component, then degree order [er]
+	 */
+	private final double[] c;
+
+	/**
+	 * Constructs a Chebyshev orbit by fitting the position vectors of an orbit
+	 * over a window of dates.
+	 *
+	 * @param orbit
+	 *            The orbit to fit
+	 * @param start
+	 *            Modified Julian date of the start of the window
+	 * @param stop
+	 *            Modified Julian date of the stop of the window
+	 * @param tolerance
+	 *            Position vector tolerance [er]
+	 * @throws ObjectDecayed
+	 */
+	public ChebyshevOrbit(Orbit orbit, ModJulianDate start, ModJulianDate stop, double tolerance)
+			throws ObjectDecayed {
+		if (!(stop.getAsDouble() > start.getAsDouble())) {
+			throw new MException("Springbok:IllegalArgumentException", "Stop date must follow start date");
+		}
+		if (!(tolerance > 0)) {
+			throw new MException("Springbok:IllegalArgumentException", "Tolerance must be positive");
+		}
+		this.orbit = orbit;
+		this.start = start.getAsDouble();
+		this.stop = stop.getAsDouble();
+
+		// Start with segments of one half orbital period, then halve until
+		// the fit is within tolerance
+		double h = Math.min(orbit.orbitalPeriod() / 2, (this.stop - this.start) * 86400);
+		// [s]
+		double[] c;
+		while ((c = fit(h / 86400, tolerance)) == null) {
+			h /= 2;
+			if (h < MIN_SEGMENT_DURATION) {
+				throw new MException("Springbok:IllegalArgumentException",
+						"Tolerance cannot be met by segments of the minimum duration");
+			}
+		}
+		this.h = h / 86400;
+		this.nSeg = c.length / (3 * (DEGREE + 1));
+		this.c = c;
+	}
+
+	/**
+	 * Fits the position vectors of the orbit using segments of a specified
+	 * duration.
+	 *
+	 * @param h
+	 *            Segment duration [day]
+	 * @param tolerance
+	 *            Position vector tolerance [er]
+	 * @return Chebyshev coefficients, or null, if the fit of any segment is
+	 *         not within tolerance
+	 * @throws ObjectDecayed
+	 */
+	private double[] fit(double h, double tolerance) throws ObjectDecayed {
+		int nCof = DEGREE + 1;
+		int nSeg = Math.max(1, (int) Math.ceil((stop - start) / h));
+		double[] c = new double[3 * nCof * nSeg];
+
+		// Chebyshev-Gauss nodes, and the points between them
+		double[] x_fit = new double[nCof];
+		for (int j = 0; j < nCof; j++) {
+			x_fit[j] = Math.cos(Math.PI * (j + 0.5) / nCof);
+		}
+		double[] x_chk = new double[nCof + 1];
+		for (int j = 0; j <= nCof; j++) {
+			x_chk[j] = Math.cos(Math.PI * j / nCof);
+		}
+
+		double[] f = new double[3 * nCof];
+		double[] r = new double[3];
+		for (int iSeg = 0; iSeg < nSeg; iSeg++) {
+			double t_0 = start + iSeg * h;
+
+			// Interpolate at the nodes
+			for (int j = 0; j < nCof; j++) {
+				Matrix r_gei = orbit.r_gei(new ModJulianInstant(t_0 + (x_fit[j] + 1) * h / 2));
+				f[3 * j] = r_gei.get(0, 0);
+				f[3 * j + 1] = r_gei.get(1, 0);
+				f[3 * j + 2] = r_gei.get(2, 0);
+			}
+			int iC = 3 * nCof * iSeg;
+			for (int m = 0; m < nCof; m++) {
+				double s_x = 0, s_y = 0, s_z = 0;
+				for (int j = 0; j < nCof; j++) {
+					double T_m = Math.cos(Math.PI * m * (j + 0.5) / nCof);
+					s_x += f[3 * j] * T_m;
+					s_y += f[3 * j + 1] * T_m;
+					s_z += f[3 * j + 2] * T_m;
+				}
+				double w = (m == 0 ? 1.0 : 2.0) / nCof;
+				c[iC + m] = w * s_x;
+				c[iC + nCof + m] = w * s_y;
+				c[iC + 2 * nCof + m] = w * s_z;
+			}
+
+			// Check between the nodes
+			for (int j = 0; j <= nCof; j++) {
+				Matrix r_gei = orbit.r_gei(new ModJulianInstant(t_0 + (x_chk[j] + 1) * h / 2));
+				evaluate(c, iC, x_chk[j], r, 0);
+				double d_x = r[0] - r_gei.get(0, 0);
+				double d_y = r[1] - r_gei.get(1, 0);
+				double d_z = r[2] - r_gei.get(2, 0);
+				if (Math.sqrt(d_x * d_x + d_y * d_y + d_z * d_z) > tolerance) {
+					return null;
+				}
+			}
+		}
+		return c;
+	}
+
+	/**
+	 * Evaluates the Chebyshev polynomials of a segment using the Clenshaw
+	 * recurrence.
+	 */
+	private static void evaluate(double[] c, int iC, double x, double[] r, int off) {
+		int nCof = DEGREE + 1;
+		double x2 = 2 * x;
+		for (int k = 0; k < 3; k++) {
+			int iK = iC + k * nCof;
+			double b_1 = 0, b_2 = 0;
+			for (int m = DEGREE; m > 0; m--) {
+				double b_0 = x2 * b_1 - b_2 + c[iK + m];
+				b_2 = b_1;
+				b_1 = b_0;
+			}
+			r[off + k] = x * b_1 - b_2 + c[iK];
+		}
+	}
+
+	/**
+	 * Computes geocentric equatorial inertial position vector, without
+	 * allocation, if inside the window.
+	 *
+	 * @param t
+	 *            Modified Julian date value at which the position vector
+	 *            occurs
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array, output
+	 *            [er]
+	 * @param off
+	 *            Offset of the position vector
+	 * @throws ObjectDecayed
+	 */
+	public void r_gei(double t, double[] r_gei, int off) throws ObjectDecayed {
+		if (t < start || t > stop) {
+			Matrix r = orbit.r_gei(new ModJulianInstant(t));
+			r_gei[off] = r.get(0, 0);
+			r_gei[off + 1] = r.get(1, 0);
+			r_gei[off + 2] = r.get(2, 0);
+			return;
+		}
+		int iSeg = Math.min((int) ((t - start) / h), nSeg - 1);
+		double x = 2 * (t - (start + iSeg * h)) / h - 1;
+		evaluate(c, 3 * (DEGREE + 1) * iSeg, Math.max(-1.0, Math.min(1.0, x)), r_gei, off);
+	}
+
+	/**
+	 * Computes geocentric equatorial rotating position vector, without
+	 * allocation, if inside the window.
+	 *
+	 * @param t
+	 *            Modified Julian date value at which the position vector
+	 *            occurs
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array, output
+	 *            [er]
+	 * @param off
+	 *            Offset of the position vector
+	 * @throws ObjectDecayed
+	 */
+	public void r_ger(double t, double[] r_ger, int off) throws ObjectDecayed {
+		r_gei(t, r_ger, off);
+		EarthFrame.at(t).gei2ger(r_ger, off, r_ger, off);
+	}
+
+	@Override
+	public Matrix r_gei(ModJulianDate dNm) throws ObjectDecayed {
+		double[] r_gei = new double[3];
+		r_gei(dNm.getAsDouble(), r_gei, 0);
+		return new Matrix(r_gei, 3);
+	}
+
+	@Override
+	public Matrix r_gei(ModJulianInstant t) throws ObjectDecayed {
+		double[] r_gei = new double[3];
+		r_gei(t.getAsDouble(), r_gei, 0);
+		return new Matrix(r_gei, 3);
+	}
+
+	@Override
+	public void ephemeris(TimeGrid grid, double[] xyz) throws ObjectDecayed {
+		for (int k = 0; k < grid.size(); k++) {
+			r_gei(grid.getAsDouble(k), xyz, 3 * k);
+		}
+	}
+
+	@Override
+	public double meanMotion() {
+		return orbit.meanMotion();
+	}
+
+	@Override
+	public double orbitalPeriod() {
+		return orbit.orbitalPeriod();
+	}
+
+	@Override
+	public ModJulianDate getEpoch() {
+		return orbit.getEpoch();
+	}
+
+	/**
+	 * Returns this orbit, since it is immutable.
+	 */
+	@Override
+	public Orbit copy() {
+		return this;
+	}
+
+	/**
+	 * Gets the fit orbit.
+	 *
+	 * @return The fit orbit
+	 */
+	public Orbit getOrbit() {
+		return orbit;
+	}
+
+	/**
+	 * Gets the segment duration.
+	 *
+	 * @return Segment duration [s]
+	 */
+	public double getSegmentDuration() {
+		return h * 86400;
+	}
+
+	/**
+	 * Gets the number of segments.
+	 *
+	 * @return Number of segments
+	 */
+	public int getNumberOfSegments() {
+		return nSeg;
+	}
+}
@@ -0,0 +1,109 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.celestrak.sgp4v.ObjectDecayed;
+import com.springbok.utility.MException;
+
+import Jama.Matrix;
+
+public class ChebyshevOrbitTest {
+
+	// Input epoch date number
+	private final ModJulianDate epoch_input = new ModJulianDate(5.154450000000000e+04);
+
+	// Input position vector tolerance [er]
+	private final double tolerance_input = 1e-9;
+
+	// A circular low Earth orbit
+	private KeplerianOrbit leo_orbit;
+
+	// An eccentric orbit
+	private KeplerianOrbit heo_orbit;
+
+	@Before
+	public void setUp() throws Exception {
+
+		this.leo_orbit = new KeplerianOrbit(1.1, 0.001, 53 * Math.PI / 180, Math.PI / 4, Math.PI / 4, Math.PI / 4,
+				this.epoch_input, "halley");
+		this.heo_orbit = new KeplerianOrbit(4.2, 0.7, 63.4 * Math.PI / 180, Math.PI / 4, 3 * Math.PI / 2,
+				Math.PI / 4, this.epoch_input, "halley");
+	}
+
+	@Test
+	// Tests r_gei method within the window against the fit orbit.
+	public void test_r_gei() throws ObjectDecayed {
+
+		for (KeplerianOrbit orbit : new KeplerianOrbit[] { this.leo_orbit, this.heo_orbit }) {
+			ChebyshevOrbit cheb_orbit = new ChebyshevOrbit(orbit, this.epoch_input,
+					new ModJulianDate(this.epoch_input.getAsDouble() + 1.0), this.tolerance_input);
+
+			assertTrue(cheb_orbit.getNumberOfSegments() * cheb_orbit.getSegmentDuration() >= 86400);
+
+			Random random = new Random(1);
+			for (int iTst = 0; iTst < 1000; iTst++) {
+				ModJulianDate dNm = new ModJulianDate(this.epoch_input.getAsDouble() + random.nextDouble());
+				Matrix r_gei_expected = orbit.r_gei(dNm);
+
+				Matrix r_gei_actual = cheb_orbit.r_gei(dNm);
+
+				assertTrue(r_gei_actual.minus(r_gei_expected).normF() < 10 * this.tolerance_input);
+			}
+		}
+	}
+
+	@Test
+	// Tests r_gei method outside the window, and the r_ger and ephemeris
+	// methods.
+	public void test_r_ger() throws ObjectDecayed {
+
+		ChebyshevOrbit cheb_orbit = new ChebyshevOrbit(this.leo_orbit, this.epoch_input,
+				new ModJulianDate(this.epoch_input.getAsDouble() + 1.0), this.tolerance_input);
+
+		ModJulianDate dNm = new ModJulianDate(this.epoch_input.getAsDouble() + 1.5);
+		assertArrayEquals(this.leo_orbit.r_gei(dNm).getColumnPackedCopy(),
+				cheb_orbit.r_gei(dNm).getColumnPackedCopy(), 0);
+
+		dNm = new ModJulianDate(this.epoch_input.getAsDouble() + 0.3);
+		double[] r_ger = new double[4];
+		cheb_orbit.r_ger(dNm.getAsDouble(), r_ger, 1);
+		assertArrayEquals(Coordinates.gei2ger(cheb_orbit.r_gei(dNm), dNm).getColumnPackedCopy(),
+				new double[] { r_ger[1], r_ger[2], r_ger[3] }, 0);
+
+		TimeGrid grid = new TimeGrid(this.epoch_input, 60.0, 1441);
+		double[] xyz = new double[3 * grid.size()];
+		cheb_orbit.ephemeris(grid, xyz);
+		for (int k = 0; k < grid.size(); k++) {
+			Matrix r_gei = cheb_orbit.r_gei(grid.get(k));
+			assertArrayEquals(r_gei.getColumnPackedCopy(), new double[] { xyz[3 * k], xyz[3 * k + 1], xyz[3 * k + 2] },
+					0);
+		}
+	}
+
+	@Test(expected = MException.class)
+	// Tests constructor with a window that does not advance.
+	public void test_invalid_window() throws ObjectDecayed {
+
+		new ChebyshevOrbit(this.leo_orbit, this.epoch_input, this.epoch_input, this.tolerance_input);
+	}
+}
@@ -131,9 +131,75 @@ public final class Coordinates implements Serializable {
 	 * @return Geocentric equatorial rotating position vector [er]
 	 */
 	public static Matrix gei2ger(Matrix r_gei, ModJulianDate dNm) {
-		Matrix r_ger = Coordinates.R_z(EarthConstants.Theta(dNm)).times(r_gei);
-		// System.out.println("r_ger"); r_ger.print(16, 8);
-		return r_ger;
+		double[] r_ger = new double[3];
+		gei2ger(r_gei.getColumnPackedCopy(), 0, dNm, r_ger, 0);
+		return new Matrix(r_ger, 3);
+	}
+
+	/**
+	 * Computes the geocentric equatorial rotating position vector of a
+	 * satellite given the geocentric equatorial inertial position vector at a
+	 * date, without allocation. (MG-2.89)
+	 * 
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array [er]
+	 * @param off_gei
+	 *            Offset of the inertial position vector
+	 * @param dNm
+	 *            MJD calendar date at which the position vectors occur
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array,
+	 *            output, which may be the inertial array [er]
+	 * @param off_ger
+	 *            Offset of the rotating position vector
+	 */
+	public static void gei2ger(double[] r_gei, int off_gei, ModJulianDate dNm, double[] r_ger, int off_ger) {
+		EarthFrame.at(dNm).gei2ger(r_gei, off_gei, r_ger, off_ger);
+	}
+
+	/**
+	 * Computes the geocentric equatorial rotating position vector of a
+	 * satellite given the geocentric equatorial inertial position vector at
+	 * an instant, using the Greenwich hour angle cached by the instant.
+	 * (MG-2.89)
+	 * 
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array [er]
+	 * @param off_gei
+	 *            Offset of the inertial position vector
+	 * @param t
+	 *            MJD instant at which the position vectors occur
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array,
+	 *            output, which may be the inertial array [er]
+	 * @param off_ger
+	 *            Offset of the rotating position vector
+	 */
+	public static void gei2ger(double[] r_gei, int off_gei, ModJulianInstant t, double[] r_ger, int off_ger) {
+		EarthFrame.at(t).gei2ger(r_gei, off_gei, r_ger, off_ger);
+	}
+
+	/**
+	 * Computes the geocentric equatorial rotating position vector of a
+	 * satellite given the geocentric equatorial inertial position vector at a
+	 * step of a time grid. (MG-2.89)
+	 * 
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array [er]
+	 * @param off_gei
+	 *            Offset of the inertial position vector
+	 * @param grid
+	 *            Time grid
+	 * @param k
+	 *            Index of the step at which the position vectors occur
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array,
+	 *            output, which may be the inertial array [er]
+	 * @param off_ger
+	 *            Offset of the rotating position vector
+	 */
+	public static void gei2ger(double[] r_gei, int off_gei, TimeGrid grid, int k, double[] r_ger, int off_ger) {
+		EarthFrame.at(grid.getAsDouble(k)).gei2ger(r_gei, off_gei, r_ger, off_ger);
 	}
 
 	/**
@@ -148,9 +214,75 @@ public final class Coordinates implements Serializable {
 	 * @return Geocentric equatorial intertial position vector [er]
 	 */
 	public static Matrix ger2gei(Matrix r_ger, ModJulianDate dNm) {
-		Matrix r_gei = Coordinates.R_z(EarthConstants.Theta(dNm)).transpose().times(r_ger);
-		// System.out.println("r_gei"); r_gei.print(16, 8);
-		return r_gei;
+		double[] r_gei = new double[3];
+		ger2gei(r_ger.getColumnPackedCopy(), 0, dNm, r_gei, 0);
+		return new Matrix(r_gei, 3);
+	}
+
+	/**
+	 * Computes the geocentric equatorial intertial position vector of a
+	 * satellite given the geocentric equatorial rotating position vector at a
+	 * date, without allocation. (MG-2.89)
+	 * 
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array [er]
+	 * @param off_ger
+	 *            Offset of the rotating position vector
+	 * @param dNm
+	 *            MJD calendar date at which the position vectors occur
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array,
+	 *            output, which may be the rotating array [er]
+	 * @param off_gei
+	 *            Offset of the inertial position vector
+	 */
+	public static void ger2gei(double[] r_ger, int off_ger, ModJulianDate dNm, double[] r_gei, int off_gei) {
+		EarthFrame.at(dNm).ger2gei(r_ger, off_ger, r_gei, off_gei);
+	}
+
+	/**
+	 * Computes the geocentric equatorial intertial position vector of a
+	 * satellite given the geocentric equatorial rotating position vector at
+	 * an instant, using the Greenwich hour angle cached by the instant.
+	 * (MG-2.89)
+	 * 
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array [er]
+	 * @param off_ger
+	 *            Offset of the rotating position vector
+	 * @param t
+	 *            MJD instant at which the position vectors occur
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array,
+	 *            output, which may be the rotating array [er]
+	 * @param off_gei
+	 *            Offset of the inertial position vector
+	 */
+	public static void ger2gei(double[] r_ger, int off_ger, ModJulianInstant t, double[] r_gei, int off_gei) {
+		EarthFrame.at(t).ger2gei(r_ger, off_ger, r_gei, off_gei);
+	}
+
+	/**
+	 * Computes the geocentric equatorial intertial position vector of a
+	 * satellite given the geocentric equatorial rotating position vector at a
+	 * step of a time grid. (MG-2.89)
+	 * 
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array [er]
+	 * @param off_ger
+	 *            Offset of the rotating position vector
+	 * @param grid
+	 *            Time grid
+	 * @param k
+	 *            Index of the step at which the position vectors occur
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array,
+	 *            output, which may be the rotating array [er]
+	 * @param off_gei
+	 *            Offset of the inertial position vector
+	 */
+	public static void ger2gei(double[] r_ger, int off_ger, TimeGrid grid, int k, double[] r_gei, int off_gei) {
+		EarthFrame.at(grid.getAsDouble(k)).ger2gei(r_ger, off_ger, r_gei, off_gei);
 	}
 
 	/**
@@ -168,17 +300,35 @@ public final class Coordinates implements Serializable {
 	 * @return Geocentric equatorial rotating velocity vector [er/s]
 	 */
 	public static Matrix gei2ger(Matrix r_gei, ModJulianDate dNm, Matrix v_gei) {
-		double Theta = EarthConstants.Theta(dNm);
-		Matrix R_z = Coordinates.R_z(Theta);
-		// Matrix r_ger = R_z.times(r_gei);
-		// [er]
-		double[][] elements = { { -Math.sin(Theta), +Math.cos(Theta), 0 }, { -Math.cos(Theta), -Math.sin(Theta), 0 },
-				{ 0, 0, 0 } };
-		Matrix R_z_dot = new Matrix(elements).times(EarthConstants.Theta_dot / 86400);
-		// [rad/s]
-		Matrix v_ger = R_z.times(v_gei).plus(R_z_dot.times(r_gei));
-		// [er/s] = [er/s] + [er] * [rad/day] * [day/s]
-		return v_ger;
+		double[] v_ger = new double[3];
+		gei2ger(r_gei.getColumnPackedCopy(), 0, v_gei.getColumnPackedCopy(), 0, dNm, v_ger, 0);
+		return new Matrix(v_ger, 3);
+	}
+
+	/**
+	 * Computes the geocentric equatorial rotating velocity vector of a
+	 * satellite given the geocentric equatorial inertial position and
+	 * velocity vectors at a date, without allocation. (MG-2.89)
+	 * 
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array [er]
+	 * @param off_r
+	 *            Offset of the position vector
+	 * @param v_gei
+	 *            Geocentric equatorial inertial velocity vector array [er/s]
+	 * @param off_v
+	 *            Offset of the velocity vector
+	 * @param dNm
+	 *            Date number at which the position vectors occur
+	 * @param v_ger
+	 *            Geocentric equatorial rotating velocity vector array,
+	 *            output, which may be an input array [er/s]
+	 * @param off_ger
+	 *            Offset of the rotating velocity vector
+	 */
+	public static void gei2ger(double[] r_gei, int off_r, double[] v_gei, int off_v, ModJulianDate dNm,
+			double[] v_ger, int off_ger) {
+		EarthFrame.at(dNm).gei2ger(r_gei, off_r, v_gei, off_v, v_ger, off_ger);
 	}
 
 	/**
@@ -196,17 +346,35 @@ public final class Coordinates implements Serializable {
 	 * @return Geocentric equatorial inertial velocity vector [er/s]
 	 */
 	public static Matrix ger2gei(Matrix r_ger, ModJulianDate dNm, Matrix v_ger) {
-		double Theta = EarthConstants.Theta(dNm);
-		Matrix R_z = Coordinates.R_z(Theta);
-		Matrix r_gei = R_z.transpose().times(r_ger);
-		// [er]
-		double[][] elements = { { -Math.sin(Theta), +Math.cos(Theta), 0 }, { -Math.cos(Theta), -Math.sin(Theta), 0 },
-				{ 0, 0, 0 } };
-		Matrix R_z_dot = new Matrix(elements).times(EarthConstants.Theta_dot / 86400);
-		// [rad/s]
-		Matrix v_gei = R_z.transpose().times(v_ger).plus(R_z_dot.transpose().times(r_ger));
-		// [er/s] = [er/s] + [er] * [rad/day] * [day/s]
-		return v_gei;
+		double[] v_gei = new double[3];
+		ger2gei(r_ger.getColumnPackedCopy(), 0, v_ger.getColumnPackedCopy(), 0, dNm, v_gei, 0);
+		return new Matrix(v_gei, 3);
+	}
+
+	/**
+	 * Computes the geocentric equatorial inertial velocity vector of a
+	 * satellite given the geocentric equatorial rotating position and
+	 * velocity vectors at a date, without allocation. (MG-2.89)
+	 * 
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array [er]
+	 * @param off_r
+	 *            Offset of the position vector
+	 * @param v_ger
+	 *            Geocentric equatorial rotating velocity vector array [er/s]
+	 * @param off_v
+	 *            Offset of the velocity vector
+	 * @param dNm
+	 *            Date number at which the position vectors occur
+	 * @param v_gei
+	 *            Geocentric equatorial inertial velocity vector array,
+	 *            output, which may be an input array [er/s]
+	 * @param off_gei
+	 *            Offset of the inertial velocity vector
+	 */
+	public static void ger2gei(double[] r_ger, int off_r, double[] v_ger, int off_v, ModJulianDate dNm,
+			double[] v_gei, int off_gei) {
+		EarthFrame.at(dNm).ger2gei(r_ger, off_r, v_ger, off_v, v_gei, off_gei);
 	}
 
 	/**
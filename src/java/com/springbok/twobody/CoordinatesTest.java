@@ -283,6 +283,24 @@ public class CoordinatesTest {
 		assertTrue(JamaUtils.getAbsMax(v_gei_actual.minus(v_gei_expected)) < TestUtility.HIGH_PRECISION);
 	}
 
+	@Test
+	/* Tests gei2ger and ger2gei methods on position arrays with offsets. */
+	public void test_gei2ger_array() {
+
+		double[] r_gei = { 0, 0, -2, 2, -2 };
+		double[] r_ger = new double[4];
+
+		Coordinates.gei2ger(r_gei, 2, this.dNm_input, r_ger, 1);
+
+		assertArrayEquals(this.r_ger_input.getColumnPackedCopy(), new double[] { r_ger[1], r_ger[2], r_ger[3] },
+				TestUtility.HIGH_PRECISION);
+
+		Coordinates.ger2gei(r_ger, 1, this.dNm_input, r_gei, 0);
+
+		assertArrayEquals(this.r_gei_input.getColumnPackedCopy(), new double[] { r_gei[0], r_gei[1], r_gei[2] },
+				TestUtility.HIGH_PRECISION);
+	}
+
 	@Test
 	/*
 	 * Tests gei2lla method. (Inverse of MG-2.90 modified for arbitrary
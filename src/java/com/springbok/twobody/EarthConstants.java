@@ -66,7 +66,18 @@ public final class EarthConstants implements Serializable {
 	 * @return Greenwhich hour angle [rad]
 	 */
 	public static double Theta(ModJulianDate dNm) {
-		return Theta_0 + Theta_dot * dNm.getOffset(epoch) / 86400.0;
+		return Theta(dNm.getAsDouble());
+	}
+
+	/**
+	 * Computes the Greenwich hour angle. (MG-2.85)
+	 * 
+	 * @param mjd
+	 *            MJD calendar date value at which the angle coincides
+	 * @return Greenwhich hour angle [rad]
+	 */
+	public static double Theta(double mjd) {
+		return Theta_0 + Theta_dot * ((mjd - epoch.getAsDouble()) * 86400) / 86400.0;
 		// [rad] = [rad] + [rad / day] * [decimal day]
 	}
 }
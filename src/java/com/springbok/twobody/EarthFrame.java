@@ -0,0 +1,439 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contains the Earth rotation at a modified Julian date: the rotation from
+ * geocentric equatorial inertial to rotating coordinates, and its time
+ * derivative, (MG-2.89) and the rotations between the TETED, CIRS, and TIRS
+ * coordinate systems used by Sgp4Coordinates. The Earth rotation is computed
+ * when the frame is constructed, and the TETED, CIRS, and TIRS rotations when
+ * first used, so that every vector transformed at a date shares the same
+ * sines and cosines. Transformed vectors equal those computed by the
+ * corresponding Matrix methods.
+ * <p>
+ * Frames are immutable. Frames obtained using at(), as by the Coordinates
+ * methods, are cached by date, so stations and links evaluated at a date, in
+ * any thread, share a frame. Use of() for dates used once, such as those of
+ * a root search, which would otherwise only displace shared frames from the
+ * cache.
+ */
+public final class EarthFrame {
+
+	/** Number of frames cached, a power of two */
+	private static final int CACHE_SIZE = 64;
+
+	/** Frames cached by a hash of their date */
+	private static final AtomicReferenceArray<EarthFrame> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+	/** Number of lookups found in the cache */
+	private static final LongAdder hits = new LongAdder();
+
+	/** Number of lookups which required construction */
+	private static final LongAdder misses = new LongAdder();
+
+	/** The modified Julian date */
+	private final double value;
+
+	/** Greenwich hour angle [rad] */
+	private final double Theta;
+
+	/** Cosine and sine of the Greenwich hour angle */
+	private final double cos_Theta;
+	private final double sin_Theta;
+
+	/** Greenwich hour angle rate [rad/s] */
+	private final double Theta_dot;
+
+	/** Rotations between the TETED, CIRS, and TIRS coordinate systems, when used */
+	private volatile Intermediate intermediate;
+
+	/**
+	 * Constructs the Earth frame at a date.
+	 *
+	 * @param value
+	 *            The modified Julian date value
+	 */
+	private EarthFrame(double value) {
+		this.value = value;
+
+		this.Theta = EarthConstants.Theta(value);
+		this.cos_Theta = Math.cos(this.Theta);
+		this.sin_Theta = Math.sin(this.Theta);
+		this.Theta_dot = EarthConstants.Theta_dot / 86400;
+		// [rad/s]
+	}
+
+	/**
+	 * Contains the rotations between the TETED, CIRS, and TIRS coordinate
+	 * systems at a date, which are needed only by Sgp4Coordinates.
+	 */
+	private static final class Intermediate {
+
+		/** Cosine and sine of the TETED to CIRS, and CIRS to TETED, angles */
+		private final double cos_TETEDToCIRS;
+		private final double sin_TETEDToCIRS;
+		private final double cos_CIRSToTETED;
+		private final double sin_CIRSToTETED;
+
+		/** Cosine and sine of the CIRS to TIRS, and TIRS to CIRS, angles */
+		private final double cos_CIRSToTIRS;
+		private final double sin_CIRSToTIRS;
+		private final double cos_TIRSToCIRS;
+		private final double sin_TIRSToCIRS;
+
+		private Intermediate(double value) {
+			double T = (value - 51544.5) / 36525.0;
+			double epsilon = (Math.PI / (180.0 * 3600.0)) * (-0.014506 - 4612.156534 * T - 1.3915817 * Math.pow(T, 2)
+					+ 0.00000044 * Math.pow(T, 3) + 0.000029956 * Math.pow(T, 4) + 0.0000000368 * Math.pow(T, 5));
+			this.cos_TETEDToCIRS = Math.cos(-epsilon);
+			this.sin_TETEDToCIRS = Math.sin(-epsilon);
+			this.cos_CIRSToTETED = Math.cos(epsilon);
+			this.sin_CIRSToTETED = Math.sin(epsilon);
+
+			T = value - 51544.5;
+			double angle = 2 * Math.PI * (0.7790572732640 + 1.00273781191135448 * T);
+			this.cos_CIRSToTIRS = Math.cos(angle);
+			this.sin_CIRSToTIRS = Math.sin(angle);
+			this.cos_TIRSToCIRS = Math.cos(-angle);
+			this.sin_TIRSToCIRS = Math.sin(-angle);
+		}
+	}
+
+	/**
+	 * Gets the rotations between the TETED, CIRS, and TIRS coordinate systems,
+	 * computing them on first use. Threads which race on first use each
+	 * compute equal rotations.
+	 *
+	 * @return The rotations
+	 */
+	private Intermediate intermediate() {
+		Intermediate intermediate = this.intermediate;
+		if (intermediate == null) {
+			intermediate = new Intermediate(value);
+			this.intermediate = intermediate;
+		}
+		return intermediate;
+	}
+
+	/**
+	 * Constructs the Earth frame at a date, without caching it, for a date
+	 * used once.
+	 *
+	 * @param value
+	 *            The modified Julian date value
+	 * @return The Earth frame
+	 */
+	public static EarthFrame of(double value) {
+		return new EarthFrame(value);
+	}
+
+	/**
+	 * Constructs the Earth frame at a date, without caching it, for a date
+	 * used once.
+	 *
+	 * @param dNm
+	 *            The modified Julian date
+	 * @return The Earth frame
+	 */
+	public static EarthFrame of(ModJulianDate dNm) {
+		return new EarthFrame(dNm.getAsDouble());
+	}
+
+	/**
+	 * Gets the Earth frame at a date, from the cache, if present, for a date
+	 * shared by many vectors.
+	 *
+	 * @param value
+	 *            The modified Julian date value
+	 * @return The Earth frame
+	 */
+	public static EarthFrame at(double value) {
+		long bits = Double.doubleToLongBits(value);
+		int iFrm = (int) (bits ^ (bits >>> 32)) * 0x9E3779B9 >>> 26;
+		EarthFrame frame = cache.get(iFrm);
+		if (frame == null || Double.doubleToLongBits(frame.value) != bits) {
+			misses.increment();
+			frame = new EarthFrame(value);
+			cache.set(iFrm, frame);
+		} else {
+			hits.increment();
+		}
+		return frame;
+	}
+
+	/**
+	 * Gets the number of cached frames found, in all threads.
+	 *
+	 * @return Number of lookups found in the cache
+	 */
+	public static long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets the number of frames constructed for the cache, in all threads.
+	 *
+	 * @return Number of lookups which required construction
+	 */
+	public static long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Gets the Earth frame at a date, from the cache, if present, for a date
+	 * shared by many vectors.
+	 *
+	 * @param dNm
+	 *            The modified Julian date
+	 * @return The Earth frame
+	 */
+	public static EarthFrame at(ModJulianDate dNm) {
+		return at(dNm.getAsDouble());
+	}
+
+	/**
+	 * Gets the Earth frame at an instant, from the cache, if present, for an
+	 * instant shared by many vectors.
+	 *
+	 * @param t
+	 *            The modified Julian instant
+	 * @return The Earth frame
+	 */
+	public static EarthFrame at(ModJulianInstant t) {
+		return at(t.getAsDouble());
+	}
+
+	/**
+	 * Gets the modified Julian date value.
+	 *
+	 * @return the modified Julian date value.
+	 */
+	public double getAsDouble() {
+		return value;
+	}
+
+	/**
+	 * Gets the Greenwich hour angle. (MG-2.85)
+	 *
+	 * @return Greenwich hour angle [rad]
+	 */
+	public double getTheta() {
+		return Theta;
+	}
+
+	/**
+	 * Gets the rotation from geocentric equatorial inertial to rotating
+	 * coordinates, R_z(Theta). (MG-2.89)
+	 *
+	 * @return Rotation matrix in row major order
+	 */
+	public double[] getR_z() {
+		double[] R = new double[9];
+		Rot3.set(+cos_Theta, +sin_Theta, 0.0, -sin_Theta, +cos_Theta, 0.0, 0.0, 0.0, 1.0, R, 0);
+		return R;
+	}
+
+	/**
+	 * Gets the time derivative of the rotation from geocentric equatorial
+	 * inertial to rotating coordinates. (MG-2.89)
+	 *
+	 * @return Rotation matrix derivative in row major order [1/s]
+	 */
+	public double[] getR_z_dot() {
+		double[] R_dot = new double[9];
+		Rot3.set(-sin_Theta * Theta_dot, +cos_Theta * Theta_dot, 0.0, -cos_Theta * Theta_dot,
+				-sin_Theta * Theta_dot, 0.0, 0.0, 0.0, 0.0, R_dot, 0);
+		return R_dot;
+	}
+
+	/**
+	 * Computes the geocentric equatorial rotating position vector given the
+	 * geocentric equatorial inertial position vector. (MG-2.89)
+	 *
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array [er]
+	 * @param off_gei
+	 *            Offset of the inertial position vector
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array,
+	 *            output, which may be the inertial array [er]
+	 * @param off_ger
+	 *            Offset of the rotating position vector
+	 */
+	public void gei2ger(double[] r_gei, int off_gei, double[] r_ger, int off_ger) {
+		Rot3.rotateZ(cos_Theta, sin_Theta, r_gei, off_gei, r_ger, off_ger);
+	}
+
+	/**
+	 * Computes the geocentric equatorial inertial position vector given the
+	 * geocentric equatorial rotating position vector. (MG-2.89)
+	 *
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array [er]
+	 * @param off_ger
+	 *            Offset of the rotating position vector
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array,
+	 *            output, which may be the rotating array [er]
+	 * @param off_gei
+	 *            Offset of the inertial position vector
+	 */
+	public void ger2gei(double[] r_ger, int off_ger, double[] r_gei, int off_gei) {
+		Rot3.rotateZ(cos_Theta, -sin_Theta, r_ger, off_ger, r_gei, off_gei);
+	}
+
+	/**
+	 * Computes the geocentric equatorial rotating velocity vector given the
+	 * geocentric equatorial inertial position and velocity vectors.
+	 * (MG-2.89)
+	 *
+	 * @param r_gei
+	 *            Geocentric equatorial inertial position vector array [er]
+	 * @param off_r
+	 *            Offset of the position vector
+	 * @param v_gei
+	 *            Geocentric equatorial inertial velocity vector array [er/s]
+	 * @param off_v
+	 *            Offset of the velocity vector
+	 * @param v_ger
+	 *            Geocentric equatorial rotating velocity vector array,
+	 *            output, which may be an input array [er/s]
+	 * @param off_ger
+	 *            Offset of the rotating velocity vector
+	 */
+	public void gei2ger(double[] r_gei, int off_r, double[] v_gei, int off_v, double[] v_ger, int off_ger) {
+		double cos = cos_Theta;
+		double sin = sin_Theta;
+		double k = Theta_dot;
+		double x = r_gei[off_r], y = r_gei[off_r + 1];
+		double v_x = v_gei[off_v], v_y = v_gei[off_v + 1], v_z = v_gei[off_v + 2];
+		v_ger[off_ger] = (cos * v_x + sin * v_y) + (-sin * k * x + cos * k * y);
+		v_ger[off_ger + 1] = (-sin * v_x + cos * v_y) + (-cos * k * x - sin * k * y);
+		v_ger[off_ger + 2] = v_z;
+		// [er/s] = [er/s] + [er] * [rad/day] * [day/s]
+	}
+
+	/**
+	 * Computes the geocentric equatorial inertial velocity vector given the
+	 * geocentric equatorial rotating position and velocity vectors.
+	 * (MG-2.89)
+	 *
+	 * @param r_ger
+	 *            Geocentric equatorial rotating position vector array [er]
+	 * @param off_r
+	 *            Offset of the position vector
+	 * @param v_ger
+	 *            Geocentric equatorial rotating velocity vector array [er/s]
+	 * @param off_v
+	 *            Offset of the velocity vector
+	 * @param v_gei
+	 *            Geocentric equatorial inertial velocity vector array,
+	 *            output, which may be an input array [er/s]
+	 * @param off_gei
+	 *            Offset of the inertial velocity vector
+	 */
+	public void ger2gei(double[] r_ger, int off_r, double[] v_ger, int off_v, double[] v_gei, int off_gei) {
+		double cos = cos_Theta;
+		double sin = sin_Theta;
+		double k = Theta_dot;
+		double x = r_ger[off_r], y = r_ger[off_r + 1];
+		double v_x = v_ger[off_v], v_y = v_ger[off_v + 1], v_z = v_ger[off_v + 2];
+		v_gei[off_gei] = (cos * v_x - sin * v_y) + (-sin * k * x - cos * k * y);
+		v_gei[off_gei + 1] = (sin * v_x + cos * v_y) + (cos * k * x - sin * k * y);
+		v_gei[off_gei + 2] = v_z;
+		// [er/s] = [er/s] + [er] * [rad/day] * [day/s]
+	}
+
+	/**
+	 * Converts a position vector from TETED to CIRS.
+	 *
+	 * @param TETED
+	 *            Position vector array in the True Equator True Equinox of
+	 *            Date coordinate system
+	 * @param off_TETED
+	 *            Offset of the TETED position vector
+	 * @param CIRS
+	 *            Position vector array in the Celestial Intermediate
+	 *            Reference System, output, which may be the input array
+	 * @param off_CIRS
+	 *            Offset of the CIRS position vector
+	 */
+	public void TETEDToCIRS(double[] TETED, int off_TETED, double[] CIRS, int off_CIRS) {
+		Intermediate intermediate = intermediate();
+		Rot3.rotateZ(intermediate.cos_TETEDToCIRS, intermediate.sin_TETEDToCIRS, TETED, off_TETED, CIRS, off_CIRS);
+	}
+
+	/**
+	 * Converts a position vector from CIRS to TETED.
+	 *
+	 * @param CIRS
+	 *            Position vector array in the Celestial Intermediate
+	 *            Reference System
+	 * @param off_CIRS
+	 *            Offset of the CIRS position vector
+	 * @param TETED
+	 *            Position vector array in the True Equator True Equinox of
+	 *            Date coordinate system, output, which may be the input array
+	 * @param off_TETED
+	 *            Offset of the TETED position vector
+	 */
+	public void CIRSToTETED(double[] CIRS, int off_CIRS, double[] TETED, int off_TETED) {
+		Intermediate intermediate = intermediate();
+		Rot3.rotateZ(intermediate.cos_CIRSToTETED, intermediate.sin_CIRSToTETED, CIRS, off_CIRS, TETED, off_TETED);
+	}
+
+	/**
+	 * Converts a position vector from CIRS to TIRS.
+	 *
+	 * @param CIRS
+	 *            Position vector array in the Celestial Intermediate
+	 *            Reference System
+	 * @param off_CIRS
+	 *            Offset of the CIRS position vector
+	 * @param TIRS
+	 *            Position vector array in the Terrestrial Intermediate
+	 *            Reference System, output, which may be the input array
+	 * @param off_TIRS
+	 *            Offset of the TIRS position vector
+	 */
+	public void CIRSToTIRS(double[] CIRS, int off_CIRS, double[] TIRS, int off_TIRS) {
+		Intermediate intermediate = intermediate();
+		Rot3.rotateZ(intermediate.cos_CIRSToTIRS, intermediate.sin_CIRSToTIRS, CIRS, off_CIRS, TIRS, off_TIRS);
+	}
+
+	/**
+	 * Converts a position vector from TIRS to CIRS.
+	 *
+	 * @param TIRS
+	 *            Position vector array in the Terrestrial Intermediate
+	 *            Reference System
+	 * @param off_TIRS
+	 *            Offset of the TIRS position vector
+	 * @param CIRS
+	 *            Position vector array in the Celestial Intermediate
+	 *            Reference System, output, which may be the input array
+	 * @param off_CIRS
+	 *            Offset of the CIRS position vector
+	 */
+	public void TIRSToCIRS(double[] TIRS, int off_TIRS, double[] CIRS, int off_CIRS) {
+		Intermediate intermediate = intermediate();
+		Rot3.rotateZ(intermediate.cos_TIRSToCIRS, intermediate.sin_TIRSToCIRS, TIRS, off_TIRS, CIRS, off_CIRS);
+	}
+}
@@ -0,0 +1,127 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import Jama.Matrix;
+
+import com.springbok.utility.TestUtility;
+
+public class EarthFrameTest {
+
+	@Test
+	// Tests that frames are cached by date.
+	public void test_at() {
+
+		EarthFrame frame = EarthFrame.at(58849.25);
+
+		assertSame(frame, EarthFrame.at(new ModJulianDate(58849.25)));
+		assertSame(frame, EarthFrame.at(new ModJulianInstant(58849.25)));
+		assertEquals(58849.25, frame.getAsDouble(), 0);
+		assertEquals(EarthConstants.Theta(58849.25), frame.getTheta(), 0);
+		assertNotSame(frame, EarthFrame.at(58849.25 + 1.0 / 86400));
+	}
+
+	@Test
+	// Tests that frames constructed for a date used once are not cached, and
+	// equal cached frames.
+	public void test_of() {
+
+		EarthFrame frame = EarthFrame.of(58849.75);
+
+		assertNotSame(frame, EarthFrame.of(58849.75));
+		assertNotSame(frame, EarthFrame.at(58849.75));
+		assertNotSame(EarthFrame.at(58849.75), EarthFrame.of(new ModJulianDate(58849.75)));
+		assertEquals(EarthFrame.at(58849.75).getTheta(), frame.getTheta(), 0);
+
+		double[] r = { 0.3, -0.2, 0.1 };
+		double[] r_of = new double[3];
+		double[] r_at = new double[3];
+		frame.TETEDToCIRS(r, 0, r_of, 0);
+		EarthFrame.at(58849.75).TETEDToCIRS(r, 0, r_at, 0);
+		assertArrayEquals(r_at, r_of, 0);
+		frame.CIRSToTIRS(r, 0, r_of, 0);
+		EarthFrame.at(58849.75).CIRSToTIRS(r, 0, r_at, 0);
+		assertArrayEquals(r_at, r_of, 0);
+	}
+
+	@Test
+	// Tests gei2ger and ger2gei methods against the rotation matrix. (MG-2.89)
+	public void test_gei2ger() {
+
+		Random random = new Random(1);
+		for (int iTst = 0; iTst < 1000; iTst++) {
+			double value = 58849.25 + 365 * random.nextDouble();
+			double[] r = { random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5 };
+			double[] v = { random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5 };
+			EarthFrame frame = EarthFrame.at(value);
+			Matrix R_z = Coordinates.R_z(EarthConstants.Theta(value));
+			Matrix R_z_dot = new Matrix(frame.getR_z_dot(), 3).transpose();
+
+			double[] r_ger = new double[3];
+			frame.gei2ger(r, 0, r_ger, 0);
+			assertArrayEquals(R_z.times(new Matrix(r, 3)).getColumnPackedCopy(), r_ger, 0);
+			assertArrayEquals(new Matrix(frame.getR_z(), 3).transpose().getColumnPackedCopy(),
+					R_z.getColumnPackedCopy(), 0);
+
+			double[] r_gei = new double[3];
+			frame.ger2gei(r, 0, r_gei, 0);
+			assertArrayEquals(R_z.transpose().times(new Matrix(r, 3)).getColumnPackedCopy(), r_gei, 0);
+
+			double[] v_ger = new double[3];
+			frame.gei2ger(r, 0, v, 0, v_ger, 0);
+			assertArrayEquals(R_z.times(new Matrix(v, 3)).plus(R_z_dot.times(new Matrix(r, 3)))
+					.getColumnPackedCopy(), v_ger, TestUtility.HIGH_PRECISION);
+
+			double[] v_gei = new double[3];
+			frame.ger2gei(r_ger, 0, v_ger, 0, v_gei, 0);
+			assertArrayEquals(v, v_gei, TestUtility.HIGH_PRECISION);
+		}
+	}
+
+	@Test
+	// Tests TETED, CIRS, and TIRS conversions against the rotation matrices.
+	public void test_CIRS() {
+
+		Random random = new Random(1);
+		for (int iTst = 0; iTst < 1000; iTst++) {
+			double value = 58849.25 + 365 * random.nextDouble();
+			double[] r = { random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5 };
+			EarthFrame frame = EarthFrame.at(value);
+
+			double T = (value - 51544.5) / 36525.0;
+			double epsilon = (Math.PI / (180.0 * 3600.0)) * (-0.014506 - 4612.156534 * T
+					- 1.3915817 * Math.pow(T, 2) + 0.00000044 * Math.pow(T, 3) + 0.000029956 * Math.pow(T, 4)
+					+ 0.0000000368 * Math.pow(T, 5));
+			double angle = 2 * Math.PI * (0.7790572732640 + 1.00273781191135448 * (value - 51544.5));
+
+			double[] c = new double[3];
+			frame.TETEDToCIRS(r, 0, c, 0);
+			assertArrayEquals(Coordinates.R_z(-epsilon).times(new Matrix(r, 3)).getColumnPackedCopy(), c, 0);
+			frame.CIRSToTETED(r, 0, c, 0);
+			assertArrayEquals(Coordinates.R_z(epsilon).times(new Matrix(r, 3)).getColumnPackedCopy(), c, 0);
+			frame.CIRSToTIRS(r, 0, c, 0);
+			assertArrayEquals(Coordinates.R_z(angle).times(new Matrix(r, 3)).getColumnPackedCopy(), c, 0);
+			frame.TIRSToCIRS(r, 0, c, 0);
+			assertArrayEquals(Coordinates.R_z(-angle).times(new Matrix(r, 3)).getColumnPackedCopy(), c, 0);
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import com.springbok.operator.SimulationConstants;
+import com.springbok.utility.MException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Solves the conventional Kepler's equation for many orbits at once, such as
+ * the satellites of a constellation at one date. Each sweep applies one
+ * Newton's or Halley's method step to every orbit, so the loops run over
+ * primitive arrays without branching on the method or the orbit. Orbits with
+ * eccentricity below a threshold are solved in closed form, and need no
+ * sweeps unless solved with other orbits. The eccentric anomalies of a
+ * previous date may be used as initial values.
+ */
+public final class KeplerSolver {
+
+	public static Logger logger = LogManager.getLogger(KeplerSolver.class.getName());
+
+	/** Eccentricity below which the closed form series is used */
+	public static final double NEAR_CIRCULAR = 1e-3;
+
+	private static final double TWO_PI = 2 * Math.PI;
+
+	private KeplerSolver() {
+	}
+
+	/**
+	 * Solves Kepler's equation for each orbit, starting from the mean anomaly,
+	 * or pi for eccentricity of 0.8 or more (MG-2.42).
+	 *
+	 * @param method
+	 *            Method for solving Kepler's equation: "newton" or "halley"
+	 * @param M
+	 *            Mean anomaly of each orbit [rad]
+	 * @param e
+	 *            Eccentricity of each orbit [-]
+	 * @param E
+	 *            Eccentric anomaly of each orbit, output [rad]
+	 * @return Number of sweeps
+	 */
+	public static int solve(String method, double[] M, double[] e, double[] E) {
+		return solve(method, M, e, E, false);
+	}
+
+	/**
+	 * Solves Kepler's equation for each orbit (MG-2.42). The eccentric anomaly
+	 * is returned within pi of the mean anomaly, which is less than 2 pi.
+	 *
+	 * @param method
+	 *            Method for solving Kepler's equation: "newton" or "halley"
+	 * @param M
+	 *            Mean anomaly of each orbit [rad]
+	 * @param e
+	 *            Eccentricity of each orbit [-]
+	 * @param E
+	 *            Eccentric anomaly of each orbit, input if warm, and output
+	 *            [rad]
+	 * @param isWarm
+	 *            Flag indicating whether to start from the input eccentric
+	 *            anomalies, such as those of the previous date, or not
+	 * @return Number of sweeps
+	 */
+	public static int solve(String method, double[] M, double[] e, double[] E, boolean isWarm) {
+		boolean isHalley;
+		if (method.equals("halley")) {
+			isHalley = true;
+		} else if (method.equals("newton")) {
+			isHalley = false;
+		} else {
+			throw new MException("Springbok:IllegalArgumentException", "Method must be either \"newton\" or \"halley\".");
+		}
+		int n = M.length;
+		if (e.length != n || E.length != n) {
+			throw new MException("Springbok:IllegalArgumentException", "Array lengths must match.");
+		}
+
+		// Initial values, or closed form solutions, using the third order
+		// series for near circular orbits. Since |E - M| = e |sin(E)|, each
+		// solution is bracketed by M - e and M + e.
+		double[] M_w = new double[n];
+		double[] E_lo = new double[n];
+		double[] E_hi = new double[n];
+		boolean isCircular = true;
+		for (int k = 0; k < n; k++) {
+			double M_k = M[k] - TWO_PI * Math.floor(M[k] / TWO_PI);
+			double e_k = e[k];
+			M_w[k] = M_k;
+			E_lo[k] = M_k - e_k;
+			E_hi[k] = M_k + e_k;
+			isCircular &= e_k < NEAR_CIRCULAR;
+			if (e_k < NEAR_CIRCULAR) {
+				double s = Math.sin(M_k);
+				double c = Math.cos(M_k);
+				E[k] = M_k + e_k * s * (1 + e_k * c + e_k * e_k * (1 - 1.5 * s * s));
+			} else {
+				double E_k = e_k < 0.8 ? M_k : Math.PI;
+				if (isWarm) {
+
+					// Start from the input eccentric anomaly, limited to the
+					// bracket, only if it is closer to the solution, since a
+					// distant initial value may slow convergence
+					double E_w = M_k + Math.IEEEremainder(E[k] - M_k, TWO_PI);
+					E_w = Math.max(E_lo[k], Math.min(E_hi[k], E_w));
+					if (Math.abs(E_w - e_k * Math.sin(E_w) - M_k) < Math.abs(E_k - e_k * Math.sin(E_k) - M_k)) {
+						E_k = E_w;
+					}
+				}
+				E[k] = E_k;
+			}
+		}
+
+		// Sweep until no eccentric anomaly changes by more than the precision
+		int nSwp = 0;
+		double delta = isCircular ? 0 : Double.POSITIVE_INFINITY;
+		while (delta > SimulationConstants.precision_E) {
+			if (nSwp >= SimulationConstants.max_iteration) {
+				logger.warn("Maximum iterations exceeded.");
+				break;
+			}
+			nSwp++;
+			delta = isHalley ? halley(M_w, e, E, E_lo, E_hi) : newton(M_w, e, E, E_lo, E_hi);
+		}
+
+		// Restore the eccentric anomaly to within pi of the mean anomaly
+		for (int k = 0; k < n; k++) {
+			E[k] = M_w[k] + Math.IEEEremainder(E[k] - M_w[k], TWO_PI);
+		}
+		return nSwp;
+	}
+
+	/**
+	 * Applies one Newton's method step to each orbit, or bisects the bracket
+	 * if the step leaves it.
+	 *
+	 * @return Maximum change in eccentric anomaly [rad]
+	 */
+	private static double newton(double[] M, double[] e, double[] E, double[] E_lo, double[] E_hi) {
+		double delta = 0;
+		for (int k = 0; k < M.length; k++) {
+			double e_k = e[k];
+			double E_k = E[k];
+			double f = E_k - e_k * Math.sin(E_k) - M[k];
+			double f_p = 1 - e_k * Math.cos(E_k);
+			delta = Math.max(delta, step(k, E_k, f, f / f_p, E, E_lo, E_hi));
+		}
+		return delta;
+	}
+
+	/**
+	 * Applies one Halley's method step to each orbit, or bisects the bracket
+	 * if the step leaves it.
+	 *
+	 * @return Maximum change in eccentric anomaly [rad]
+	 */
+	private static double halley(double[] M, double[] e, double[] E, double[] E_lo, double[] E_hi) {
+		double delta = 0;
+		for (int k = 0; k < M.length; k++) {
+			double e_k = e[k];
+			double E_k = E[k];
+			double e_sin = e_k * Math.sin(E_k);
+			double f = E_k - e_sin - M[k];
+			double f_p = 1 - e_k * Math.cos(E_k);
+			double d = (2 * f * f_p) / (2 * f_p * f_p - f * e_sin);
+			delta = Math.max(delta, step(k, E_k, f, d, E, E_lo, E_hi));
+		}
+		return delta;
+	}
+
+	/**
+	 * Narrows the bracket of an orbit using the sign of the residual, since
+	 * the residual increases with the eccentric anomaly, then applies the
+	 * step, or bisects the bracket if the step leaves it, so that a distant
+	 * initial value cannot make the iteration wander.
+	 *
+	 * @return Change in eccentric anomaly [rad]
+	 */
+	private static double step(int k, double E_k, double f, double d, double[] E, double[] E_lo, double[] E_hi) {
+		if (f > 0) {
+			E_hi[k] = E_k;
+		} else if (f < 0) {
+			E_lo[k] = E_k;
+		}
+		double E_n = E_k - d;
+		if (!(E_n >= E_lo[k] && E_n <= E_hi[k])) {
+			E_n = 0.5 * (E_lo[k] + E_hi[k]);
+		}
+		E[k] = E_n;
+		return Math.abs(E_n - E_k);
+	}
+}
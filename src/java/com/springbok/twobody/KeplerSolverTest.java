@@ -0,0 +1,129 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.springbok.utility.MException;
+import com.springbok.utility.TestUtility;
+
+public class KeplerSolverTest {
+
+	@Test
+	// Tests solve method against the scalar solution of each orbit.
+	public void test_solve() {
+
+		Random random = new Random(1);
+		int n = 1000;
+		double[] M = new double[n];
+		double[] e = new double[n];
+		for (int k = 0; k < n; k++) {
+			M[k] = 2 * Math.PI * random.nextDouble();
+			e[k] = (k % 2 == 0 ? 0.95 : 0.002) * random.nextDouble();
+		}
+
+		for (String method : new String[] { "newton", "halley" }) {
+			double[] E = new double[n];
+			KeplerSolver.solve(method, M, e, E);
+
+			for (int k = 0; k < n; k++) {
+				KeplerianOrbit orbit = new KeplerianOrbit(1.1, e[k], 0, 0, 0, M[k], new ModJulianDate(51544.5),
+						method);
+				assertEquals(orbit.keplersEquation(M[k]), E[k], TestUtility.LOW_PRECISION);
+				assertEquals(M[k], E[k] - e[k] * Math.sin(E[k]), TestUtility.MEDIUM_PRECISION);
+			}
+		}
+	}
+
+	@Test
+	// Tests solve method for near circular orbits, and with warm starts.
+	public void test_solve_warm() {
+
+		Random random = new Random(1);
+		int n = 100;
+		double[] M = new double[n];
+		double[] e = new double[n];
+		for (int k = 0; k < n; k++) {
+			M[k] = 2 * Math.PI * random.nextDouble();
+			e[k] = KeplerSolver.NEAR_CIRCULAR * random.nextDouble();
+		}
+		double[] E = new double[n];
+		assertEquals(0, KeplerSolver.solve("halley", M, e, E));
+		for (int k = 0; k < n; k++) {
+			assertEquals(M[k], E[k] - e[k] * Math.sin(E[k]), TestUtility.MEDIUM_PRECISION);
+		}
+
+		// Advance the mean anomalies, some through 2 pi, and start from the
+		// previous eccentric anomalies
+		for (int k = 0; k < n; k++) {
+			e[k] = 0.7 * random.nextDouble();
+		}
+		KeplerSolver.solve("halley", M, e, E);
+		int nSwp_cold = 0;
+		int nSwp_warm = 0;
+		double[] E_cold = new double[n];
+		for (int iStp = 0; iStp < 10; iStp++) {
+			for (int k = 0; k < n; k++) {
+				M[k] += 0.05;
+			}
+			nSwp_cold += KeplerSolver.solve("halley", M, e, E_cold);
+			nSwp_warm += KeplerSolver.solve("halley", M, e, E, true);
+			assertArrayEquals(E_cold, E, TestUtility.MEDIUM_PRECISION);
+		}
+		assertTrue(nSwp_warm < nSwp_cold);
+	}
+
+	@Test
+	// Tests solve method with warm starts across a large time step, from
+	// which the previous eccentric anomalies are distant initial values.
+	public void test_solve_warm_large_step() {
+
+		Random random = new Random(1);
+		int n = 1000;
+		double[] M = new double[n];
+		double[] e = new double[n];
+		for (int k = 0; k < n; k++) {
+			M[k] = 2 * Math.PI * random.nextDouble();
+			e[k] = 0.99 * random.nextDouble();
+		}
+		double[] E = new double[n];
+		KeplerSolver.solve("halley", M, e, E);
+
+		// Advance the mean anomalies by nearly half an orbit
+		for (int k = 0; k < n; k++) {
+			M[k] += 3.0;
+		}
+		double[] E_cold = new double[n];
+		int nSwp_cold = KeplerSolver.solve("halley", M, e, E_cold);
+		int nSwp_warm = KeplerSolver.solve("halley", M, e, E, true);
+		assertTrue(nSwp_warm <= nSwp_cold);
+		for (int k = 0; k < n; k++) {
+			assertEquals(M[k] - 2 * Math.PI * Math.floor(M[k] / (2 * Math.PI)), E[k] - e[k] * Math.sin(E[k]),
+					TestUtility.MEDIUM_PRECISION);
+		}
+	}
+
+	@Test(expected = MException.class)
+	// Tests solve method with an invalid method.
+	public void test_solve_method() {
+
+		KeplerSolver.solve("secant", new double[1], new double[1], new double[1]);
+	}
+}
@@ -16,6 +16,8 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 package com.springbok.twobody;
 
 import java.io.Serializable;
+import java.util.Objects;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -272,6 +274,15 @@ public class KeplerianOrbit implements Orbit, TwoBodyOrbit, EstimatedOrbit, Seri
 		double f_i, f_p_i, f_pp_i;
 		int nItn = 0;
 
+		boolean isHalley;
+		if (method.equals("newton")) {
+			isHalley = false;
+		} else if (method.equals("halley")) {
+			isHalley = true;
+		} else {
+			throw new IllegalStateException("Invalid method.");
+		}
+
 		if (e < 0.8) {
 			E_i = M;
 		} else {
@@ -280,14 +291,12 @@ public class KeplerianOrbit implements Orbit, TwoBodyOrbit, EstimatedOrbit, Seri
 		f_i = E_i - e * Math.sin(E_i) - M;
 		f_p_i = 1 - e * Math.cos(E_i);
 
-		if (method.equals("newton")) {
+		if (!isHalley) {
 			E_iplus1 = E_i - f_i / f_p_i;
-		} else if (method.equals("halley")) {
+		} else {
 			f_pp_i = e * Math.sin(E_i);
 
 			E_iplus1 = E_i - (2 * f_i * f_p_i) / (2 * Math.pow(f_p_i, 2) - f_i * f_pp_i);
-		} else {
-			throw new IllegalStateException("Invalid method.");
 		}
 		nItn = 0;
 		while (Math.abs(E_iplus1 - E_i) > SimulationConstants.precision_E) {
@@ -301,9 +310,9 @@ public class KeplerianOrbit implements Orbit, TwoBodyOrbit, EstimatedOrbit, Seri
 			f_i = E_i - e * Math.sin(E_i) - M;
 			f_p_i = 1 - e * Math.cos(E_i);
 
-			if (method.equals("newton")) {
+			if (!isHalley) {
 				E_iplus1 = E_i - f_i / f_p_i;
-			} else if (method.equals("halley")) {
+			} else {
 				f_pp_i = e * Math.sin(E_i);
 
 				E_iplus1 = E_i - (2 * f_i * f_p_i) / (2 * Math.pow(f_p_i, 2) - f_i * f_pp_i);
@@ -629,4 +638,75 @@ public class KeplerianOrbit implements Orbit, TwoBodyOrbit, EstimatedOrbit, Seri
 	public Orbit copy() {
 		return new KeplerianOrbit(this);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		long temp;
+		temp = Double.doubleToLongBits(a);
+		result = prime * result + (int) (temp ^ (temp >>> 32));
+		temp = Double.doubleToLongBits(e);
+		result = prime * result + (int) (temp ^ (temp >>> 32));
+		temp = Double.doubleToLongBits(i);
+		result = prime * result + (int) (temp ^ (temp >>> 32));
+		temp = Double.doubleToLongBits(Omega);
+		result = prime * result + (int) (temp ^ (temp >>> 32));
+		temp = Double.doubleToLongBits(omega);
+		result = prime * result + (int) (temp ^ (temp >>> 32));
+		temp = Double.doubleToLongBits(M);
+		result = prime * result + (int) (temp ^ (temp >>> 32));
+		result = prime * result + Objects.hashCode(epoch);
+		result = prime * result + Objects.hashCode(method);
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		KeplerianOrbit other = (KeplerianOrbit) obj;
+		if (Double.doubleToLongBits(a) != Double.doubleToLongBits(other.a)) {
+			return false;
+		}
+		if (Double.doubleToLongBits(e) != Double.doubleToLongBits(other.e)) {
+			return false;
+		}
+		if (Double.doubleToLongBits(i) != Double.doubleToLongBits(other.i)) {
+			return false;
+		}
+		if (Double.doubleToLongBits(Omega) != Double.doubleToLongBits(other.Omega)) {
+			return false;
+		}
+		if (Double.doubleToLongBits(omega) != Double.doubleToLongBits(other.omega)) {
+			return false;
+		}
+		if (Double.doubleToLongBits(M) != Double.doubleToLongBits(other.M)) {
+			return false;
+		}
+		if (!Objects.equals(epoch, other.epoch)) {
+			return false;
+		}
+		if (!Objects.equals(method, other.method)) {
+			return false;
+		}
+		return true;
+	}
 }
@@ -15,9 +15,6 @@ along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
 package com.springbok.twobody;
 
-import java.util.Calendar;
-import java.util.GregorianCalendar;
-
 import com.springbok.utility.TimeUtility;
 
 /**
@@ -29,6 +26,8 @@ public class ModJulianDate {
 	private double value;
 	/** The year, month, day, hour, minute, and second */
 	private YMDHMS ymdhms;
+	/** The day of year, or zero, if not yet computed */
+	private int dayOfYear;
 
 	/**
 	 * Constructs a modified Julian date.
@@ -50,6 +49,7 @@ public class ModJulianDate {
 	public void setAsDouble(double value) {
 		this.value = value;
 		this.ymdhms = TimeUtility.mjd2date(value);
+		this.dayOfYear = 0;
 	}
 
 	/**
@@ -122,11 +122,10 @@ public class ModJulianDate {
 	 */
 	// TODO: Confirm type
 	public int getDayOfYear() {
-		GregorianCalendar gc = new GregorianCalendar();
-		gc.set(GregorianCalendar.DAY_OF_MONTH, ymdhms.day);
-		gc.set(GregorianCalendar.MONTH, ymdhms.month - 1);
-		gc.set(GregorianCalendar.YEAR, ymdhms.year);
-		return gc.get(GregorianCalendar.DAY_OF_YEAR);
+		if (dayOfYear == 0) {
+			dayOfYear = TimeUtility.dayOfYear(ymdhms.year, ymdhms.month, ymdhms.day);
+		}
+		return dayOfYear;
 	}
 
 	/**
@@ -0,0 +1,195 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import com.springbok.utility.TimeUtility;
+
+/**
+ * An immutable modified Julian date. Construction stores only the value.
+ * The calendar values required by SGP4 and the Greenwich hour angle are
+ * computed when first requested, then cached, and equal those of a
+ * ModJulianDate with the same value. Instances may be shared between
+ * threads.
+ */
+public final class ModJulianInstant {
+
+	/** The modified Julian date */
+	private final double value;
+	/** The calendar values, or null, if not yet computed */
+	private volatile Calendar calendar;
+	/** The Greenwich hour angle, or NaN, if not yet computed [rad] */
+	private volatile double Theta = Double.NaN;
+
+	/**
+	 * Year, day of year, and fractional part of the day.
+	 */
+	private static final class Calendar {
+
+		private final int year;
+		private final int dayOfYear;
+		private final double fraction;
+
+		private Calendar(double value) {
+			YMDHMS ymdhms = TimeUtility.mjd2date(value);
+			this.year = ymdhms.year;
+			this.dayOfYear = TimeUtility.dayOfYear(ymdhms.year, ymdhms.month, ymdhms.day);
+			this.fraction = (ymdhms.hour + (ymdhms.minute + ymdhms.second / 60.0) / 60.0) / 24.0;
+		}
+	}
+
+	/**
+	 * Constructs a modified Julian instant.
+	 *
+	 * @param value
+	 *            The modified Julian date value
+	 */
+	public ModJulianInstant(double value) {
+		this.value = value;
+	}
+
+	/**
+	 * Constructs a modified Julian instant with the value of a modified
+	 * Julian date.
+	 *
+	 * @param dNm
+	 *            A modified Julian date
+	 * @return The modified Julian instant
+	 */
+	public static ModJulianInstant of(ModJulianDate dNm) {
+		return new ModJulianInstant(dNm.getAsDouble());
+	}
+
+	/**
+	 * Gets the modified Julian date value.
+	 *
+	 * @return the modified Julian date value.
+	 */
+	public double getAsDouble() {
+		return value;
+	}
+
+	/**
+	 * Get the year corresponding to the modified Julian date.
+	 *
+	 * @return the year corresponding to the modified Julian date
+	 */
+	public int getYear() {
+		return calendar().year;
+	}
+
+	/**
+	 * Get the day of year corresponding to the modified Julian date.
+	 *
+	 * @return the day of year corresponding to the modified Julian date
+	 */
+	public int getDayOfYear() {
+		return calendar().dayOfYear;
+	}
+
+	/**
+	 * Get the fractional part of the day of year corresponding to the modified
+	 * Julian date.
+	 *
+	 * @return the fractional part of the day of year corresponding to the
+	 *         modified Julian date
+	 */
+	public double getFraction() {
+		return calendar().fraction;
+	}
+
+	/**
+	 * Get the Greenwich hour angle. (MG-2.85)
+	 *
+	 * @return Greenwich hour angle [rad]
+	 */
+	public double getTheta() {
+		double Theta = this.Theta;
+		if (Double.isNaN(Theta)) {
+			Theta = EarthConstants.Theta(value);
+			this.Theta = Theta;
+		}
+		return Theta;
+	}
+
+	private Calendar calendar() {
+		Calendar calendar = this.calendar;
+		if (calendar == null) {
+			calendar = new Calendar(value);
+			this.calendar = calendar;
+		}
+		return calendar;
+	}
+
+	/**
+	 * Constructs the modified Julian instant an offset in days after this
+	 * one.
+	 *
+	 * @param offset
+	 *            an offset in days
+	 * @return The modified Julian instant
+	 */
+	public ModJulianInstant plus(double offset) {
+		return new ModJulianInstant(value + offset);
+	}
+
+	/**
+	 * Get the offset in seconds of a specified modified Julian instant
+	 * relative to this modified Julian instant.
+	 *
+	 * @param that
+	 *            A modified Julian instant
+	 * @return the offset in seconds
+	 */
+	public double getOffset(ModJulianInstant that) {
+		return (this.value - that.value) * 86400;
+	}
+
+	/**
+	 * Constructs a modified Julian date with the value of this instant.
+	 *
+	 * @return The modified Julian date
+	 */
+	public ModJulianDate toModJulianDate() {
+		return new ModJulianDate(value);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Double.hashCode(value);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ModJulianInstant)) {
+			return false;
+		}
+		return Double.doubleToLongBits(value) == Double.doubleToLongBits(((ModJulianInstant) obj).value);
+	}
+
+	@Override
+	public String toString() {
+		return "ModJulianInstant[" + value + "]";
+	}
+}
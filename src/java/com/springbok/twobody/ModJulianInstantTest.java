@@ -0,0 +1,84 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.springbok.utility.MException;
+
+public class ModJulianInstantTest {
+
+	@Test
+	// Tests that calendar values and the Greenwich hour angle equal those of
+	// a ModJulianDate.
+	public void test_calendar() {
+
+		Random random = new Random(1);
+		for (int iTst = 0; iTst < 10000; iTst++) {
+			double value = 40000 + 30000 * random.nextDouble();
+			ModJulianDate dNm = new ModJulianDate(value);
+			ModJulianInstant t = new ModJulianInstant(value);
+
+			assertEquals(dNm.getYear(), t.getYear());
+			assertEquals(dNm.getDayOfYear(), t.getDayOfYear());
+			assertEquals(dNm.getFraction(), t.getFraction(), 0);
+			assertEquals(EarthConstants.Theta(dNm), t.getTheta(), 0);
+			assertEquals(t.getTheta(), t.getTheta(), 0);
+		}
+	}
+
+	@Test
+	// Tests getOffset, plus, and equals methods.
+	public void test_offset() {
+
+		ModJulianInstant t = new ModJulianInstant(51544.5);
+
+		assertEquals(3600, t.plus(1.0 / 24).getOffset(t), 1e-6);
+		assertEquals(t, ModJulianInstant.of(new ModJulianDate(51544.5)));
+		assertEquals(t.hashCode(), new ModJulianInstant(51544.5).hashCode());
+		assertNotEquals(t, t.plus(1));
+		assertTrue(t.toModJulianDate().equals(EarthConstants.epoch));
+	}
+
+	@Test
+	// Tests TimeGrid against the dates computed by simulations.
+	public void test_TimeGrid() {
+
+		ModJulianDate epoch_0 = new ModJulianDate(58849.25);
+		TimeGrid grid = new TimeGrid(epoch_0, 300.0, 13);
+
+		ModJulianDate[] dNm = grid.toArray();
+		assertEquals(13, grid.size());
+		assertEquals(13, dNm.length);
+		for (int k = 0; k < grid.size(); k++) {
+			double value = epoch_0.getAsDouble() + k * 300.0 / 86400;
+
+			assertEquals(value, grid.getAsDouble(k), 0);
+			assertEquals(value, dNm[k].getAsDouble(), 0);
+			assertEquals(EarthConstants.Theta(new ModJulianDate(value)), grid.getTheta(k), 0);
+			assertEquals(new ModJulianInstant(value), grid.get(k));
+		}
+	}
+
+	@Test(expected = MException.class)
+	public void test_TimeGrid_out_of_bounds() {
+		new TimeGrid(58849.25, 300.0, 13).getAsDouble(13);
+	}
+}
@@ -50,6 +50,38 @@ public interface Orbit {
 	 */
 	Matrix r_gei(ModJulianDate dNm) throws ObjectDecayed;
 
+	/**
+	 * Computes geocentric equatorial inertial position vector.
+	 *
+	 * @param t
+	 *            MJD instant at which the position vector occurs
+	 * @return Geocentric equatorial inertial position vector [er]
+	 * @throws ObjectDecayed
+	 */
+	default Matrix r_gei(ModJulianInstant t) throws ObjectDecayed {
+		return r_gei(t.toModJulianDate());
+	}
+
+	/**
+	 * Computes geocentric equatorial inertial position vectors at each step
+	 * of a time grid.
+	 *
+	 * @param grid
+	 *            MJD time grid at which the position vectors occur
+	 * @param xyz
+	 *            Geocentric equatorial inertial position vectors, step k at
+	 *            offset 3 * k, output [er]
+	 * @throws ObjectDecayed
+	 */
+	default void ephemeris(TimeGrid grid, double[] xyz) throws ObjectDecayed {
+		for (int k = 0; k < grid.size(); k++) {
+			Matrix r_gei = r_gei(grid.get(k));
+			xyz[3 * k] = r_gei.get(0, 0);
+			xyz[3 * k + 1] = r_gei.get(1, 0);
+			xyz[3 * k + 2] = r_gei.get(2, 0);
+		}
+	}
+
 	/**Constructs a Orbit.
 
 	 Returns
@@ -0,0 +1,157 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+/**
+ * Provides operations on three by three matrices stored in arrays in
+ * row major order at an offset, so that vectors may be transformed
+ * without allocating a Matrix. Output vectors may be the same as input
+ * vectors.
+ */
+public final class Rot3 {
+
+	private Rot3() {
+	}
+
+	/**
+	 * Computes orthogonal transformation matrix for a rotation about the z
+	 * axis. (MG-pg.27)
+	 * 
+	 * @param phi
+	 *            Angle of rotation [rad]
+	 * @param R
+	 *            Output array
+	 * @param iR
+	 *            Offset of the output matrix
+	 */
+	public static void R_z(double phi, double[] R, int iR) {
+		double cos = Math.cos(phi);
+		double sin = Math.sin(phi);
+		set(+cos, +sin, 0.0, -sin, +cos, 0.0, 0.0, 0.0, 1.0, R, iR);
+	}
+
+	/**
+	 * Computes the time derivative of the orthogonal transformation matrix
+	 * for a rotation about the z axis. (MG-2.89)
+	 * 
+	 * @param phi
+	 *            Angle of rotation [rad]
+	 * @param phi_dot
+	 *            Rate of rotation [rad/time]
+	 * @param R_dot
+	 *            Output array
+	 * @param iR
+	 *            Offset of the output matrix
+	 */
+	public static void R_z_dot(double phi, double phi_dot, double[] R_dot, int iR) {
+		double cos = Math.cos(phi);
+		double sin = Math.sin(phi);
+		set(-sin * phi_dot, +cos * phi_dot, 0.0, -cos * phi_dot, -sin * phi_dot, 0.0, 0.0, 0.0, 0.0, R_dot, iR);
+	}
+
+	/**
+	 * Sets a matrix by rows.
+	 */
+	public static void set(double r00, double r01, double r02, double r10, double r11, double r12, double r20,
+			double r21, double r22, double[] R, int iR) {
+		R[iR] = r00;
+		R[iR + 1] = r01;
+		R[iR + 2] = r02;
+		R[iR + 3] = r10;
+		R[iR + 4] = r11;
+		R[iR + 5] = r12;
+		R[iR + 6] = r20;
+		R[iR + 7] = r21;
+		R[iR + 8] = r22;
+	}
+
+	/**
+	 * Computes the product of a matrix and a vector, c = R * a.
+	 * 
+	 * @param R
+	 *            Matrix array
+	 * @param iR
+	 *            Offset of the matrix
+	 * @param a
+	 *            Vector array
+	 * @param ia
+	 *            Offset of the vector
+	 * @param c
+	 *            Output array
+	 * @param ic
+	 *            Offset of the output vector
+	 */
+	public static void multiply(double[] R, int iR, double[] a, int ia, double[] c, int ic) {
+		double x = a[ia];
+		double y = a[ia + 1];
+		double z = a[ia + 2];
+		c[ic] = R[iR] * x + R[iR + 1] * y + R[iR + 2] * z;
+		c[ic + 1] = R[iR + 3] * x + R[iR + 4] * y + R[iR + 5] * z;
+		c[ic + 2] = R[iR + 6] * x + R[iR + 7] * y + R[iR + 8] * z;
+	}
+
+	/**
+	 * Computes the product of the transpose of a matrix and a vector, c =
+	 * R' * a.
+	 * 
+	 * @param R
+	 *            Matrix array
+	 * @param iR
+	 *            Offset of the matrix
+	 * @param a
+	 *            Vector array
+	 * @param ia
+	 *            Offset of the vector
+	 * @param c
+	 *            Output array
+	 * @param ic
+	 *            Offset of the output vector
+	 */
+	public static void multiplyTranspose(double[] R, int iR, double[] a, int ia, double[] c, int ic) {
+		double x = a[ia];
+		double y = a[ia + 1];
+		double z = a[ia + 2];
+		c[ic] = R[iR] * x + R[iR + 3] * y + R[iR + 6] * z;
+		c[ic + 1] = R[iR + 1] * x + R[iR + 4] * y + R[iR + 7] * z;
+		c[ic + 2] = R[iR + 2] * x + R[iR + 5] * y + R[iR + 8] * z;
+	}
+
+	/**
+	 * Rotates a vector about the z axis, c = R_z(phi) * a, without
+	 * forming the matrix. The transpose is applied by negating the sine.
+	 * 
+	 * @param cos
+	 *            Cosine of the angle of rotation
+	 * @param sin
+	 *            Sine of the angle of rotation
+	 * @param a
+	 *            Vector array
+	 * @param ia
+	 *            Offset of the vector
+	 * @param c
+	 *            Output array
+	 * @param ic
+	 *            Offset of the output vector
+	 */
+	public static void rotateZ(double cos, double sin, double[] a, int ia, double[] c, int ic) {
+		double x = a[ia];
+		double y = a[ia + 1];
+		double z = a[ia + 2];
+		c[ic] = cos * x + sin * y;
+		c[ic + 1] = -sin * x + cos * y;
+		c[ic + 2] = z;
+	}
+}
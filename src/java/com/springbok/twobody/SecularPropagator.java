@@ -0,0 +1,176 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import com.springbok.utility.MException;
+
+/**
+ * Propagates many Keplerian orbits, holding the elements and secular rates of
+ * all orbits in primitive arrays, one array per value, so that all orbits are
+ * propagated to a date in one call, without allocating. In "two-body" mode,
+ * the elements are fixed, and positions match KeplerianOrbit.r_gei. In "j2"
+ * mode, the right ascension of the ascending node, argument of perigee, and
+ * mean anomaly advance at the first-order J2 secular rates of each
+ * KeplerianOrbit (E-10.29-32). Kepler's equation is solved for all orbits at
+ * once using Halley's method.
+ * <p>
+ * The eccentric anomalies of the most recent date are used as initial values
+ * for the next, so an instance is confined to one thread.
+ */
+public class SecularPropagator {
+
+	/** Number of orbits */
+	private final int n;
+
+	/** Modified Julian date value of each epoch */
+	private final double[] epoch;
+
+	/* Elements at epoch */
+	private final double[] a;
+	private final double[] e;
+	private final double[] Omega;
+	private final double[] omega;
+	private final double[] M;
+
+	/* Derived values */
+	private final double[] cos_i;
+	private final double[] sin_i;
+	private final double[] b;
+
+	/* Rates [rad/s] */
+	private final double[] n_M;
+	private final double[] Omega_dot;
+	private final double[] omega_dot;
+
+	/* Mean and eccentric anomaly of each orbit at the most recent date */
+	private final double[] M_t;
+	private final double[] E_t;
+	private boolean isWarm;
+
+	/**
+	 * Constructs a propagator for KeplerianOrbits.
+	 *
+	 * @param orbits
+	 *            The orbits
+	 * @param mode
+	 *            Accuracy mode: "two-body" or "j2"
+	 */
+	public SecularPropagator(KeplerianOrbit[] orbits, String mode) {
+		boolean isJ2;
+		if (mode.equals("j2")) {
+			isJ2 = true;
+		} else if (mode.equals("two-body")) {
+			isJ2 = false;
+		} else {
+			throw new MException("Springbok:IllegalArgumentException", "Mode must be either \"two-body\" or \"j2\".");
+		}
+		this.n = orbits.length;
+
+		this.epoch = new double[n];
+		this.a = new double[n];
+		this.e = new double[n];
+		this.Omega = new double[n];
+		this.omega = new double[n];
+		this.M = new double[n];
+		this.cos_i = new double[n];
+		this.sin_i = new double[n];
+		this.b = new double[n];
+		this.n_M = new double[n];
+		this.Omega_dot = new double[n];
+		this.omega_dot = new double[n];
+		this.M_t = new double[n];
+		this.E_t = new double[n];
+
+		for (int k = 0; k < n; k++) {
+			KeplerianOrbit orbit = orbits[k];
+			epoch[k] = orbit.get_epoch().getAsDouble();
+			a[k] = orbit.get_a();
+			e[k] = orbit.get_e();
+			Omega[k] = orbit.get_Omega();
+			omega[k] = orbit.get_omega();
+			M[k] = orbit.get_M();
+			cos_i[k] = Math.cos(orbit.get_i());
+			sin_i[k] = Math.sin(orbit.get_i());
+			b[k] = a[k] * Math.sqrt(1 - Math.pow(e[k], 2));
+			n_M[k] = orbit.get_n();
+			if (isJ2) {
+				n_M[k] += orbit.get_M_0_dot();
+				Omega_dot[k] = orbit.get_Omega_dot();
+				omega_dot[k] = orbit.get_omega_dot();
+			}
+		}
+	}
+
+	/**
+	 * Get the number of orbits
+	 *
+	 * @return int
+	 */
+	public int getNumberOfOrbits() {
+		return n;
+	}
+
+	/**
+	 * Propagate all orbits to a date, writing geocentric equatorial inertial
+	 * position into caller provided arrays.
+	 *
+	 * @param dNm
+	 *            Date number at which the position vectors occur
+	 * @param x
+	 *            x position of each orbit [er]
+	 * @param y
+	 *            y position of each orbit [er]
+	 * @param z
+	 *            z position of each orbit [er]
+	 */
+	public void propagate(ModJulianDate dNm, double[] x, double[] y, double[] z) {
+		if (x.length < n || y.length < n || z.length < n) {
+			throw new MException("Springbok:IllegalArgumentException", "Position arrays are too short");
+		}
+		double value = dNm.getAsDouble();
+
+		// Advance the mean anomalies, and solve Kepler's equation starting
+		// from the eccentric anomalies of the most recent date
+		for (int k = 0; k < n; k++) {
+			M_t[k] = Coordinates.checkWrap(M[k] + n_M[k] * (value - epoch[k]) * 86400);
+		}
+		KeplerSolver.solve("halley", M_t, e, E_t, isWarm);
+		isWarm = true;
+
+		// Rotate orbital plane position vectors (MG-2.30, MG-2.50)
+		for (int k = 0; k < n; k++) {
+			double dt = (value - epoch[k]) * 86400;
+			double Omega_t = Omega[k] + Omega_dot[k] * dt;
+			double omega_t = omega[k] + omega_dot[k] * dt;
+			double cos_O = Math.cos(Omega_t);
+			double sin_O = Math.sin(Omega_t);
+			double cos_o = Math.cos(omega_t);
+			double sin_o = Math.sin(omega_t);
+
+			double x_goi = a[k] * (Math.cos(E_t[k]) - e[k]);
+			double y_goi = b[k] * Math.sin(E_t[k]);
+
+			// Rotate by the argument of perigee, then the inclination, then
+			// the right ascension of the ascending node
+			double x_o = cos_o * x_goi - sin_o * y_goi;
+			double y_o = sin_o * x_goi + cos_o * y_goi;
+			double y_i = cos_i[k] * y_o;
+			x[k] = cos_O * x_o - sin_O * y_i;
+			y[k] = sin_O * x_o + cos_O * y_i;
+			z[k] = sin_i[k] * y_o;
+		}
+	}
+}
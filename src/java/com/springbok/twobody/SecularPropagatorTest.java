@@ -0,0 +1,104 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.springbok.utility.MException;
+import com.springbok.utility.TestUtility;
+
+public class SecularPropagatorTest {
+
+	// Input epoch date number
+	private final ModJulianDate epoch_input = new ModJulianDate(5.154450000000000e+04);
+
+	// Orbits with random elements
+	private KeplerianOrbit[] orbits;
+
+	@Before
+	public void setUp() throws Exception {
+
+		Random random = new Random(1);
+		this.orbits = new KeplerianOrbit[100];
+		for (int k = 0; k < this.orbits.length; k++) {
+			this.orbits[k] = new KeplerianOrbit(1.05 + 6 * random.nextDouble(), 0.8 * random.nextDouble(),
+					Math.PI * random.nextDouble(), 2 * Math.PI * random.nextDouble(), 2 * Math.PI * random.nextDouble(),
+					2 * Math.PI * random.nextDouble(), new ModJulianDate(this.epoch_input.getAsDouble() - k / 100.0),
+					"halley");
+		}
+	}
+
+	@Test
+	// Tests propagate method in two-body mode against the orbits.
+	public void test_propagate_two_body() {
+
+		SecularPropagator propagator = new SecularPropagator(this.orbits, "two-body");
+		assertEquals(this.orbits.length, propagator.getNumberOfOrbits());
+
+		int n = this.orbits.length;
+		double[] x = new double[n];
+		double[] y = new double[n];
+		double[] z = new double[n];
+		for (double dt : new double[] { 0, 0.01, 0.5, 2.3 }) {
+			ModJulianDate dNm = new ModJulianDate(this.epoch_input.getAsDouble() + dt);
+			propagator.propagate(dNm, x, y, z);
+			for (int k = 0; k < n; k++) {
+				assertArrayEquals(this.orbits[k].r_gei(dNm).getColumnPackedCopy(), new double[] { x[k], y[k], z[k] },
+						TestUtility.MEDIUM_PRECISION);
+			}
+		}
+	}
+
+	@Test
+	// Tests propagate method in j2 mode against orbits with advanced
+	// elements.
+	public void test_propagate_j2() {
+
+		SecularPropagator propagator = new SecularPropagator(this.orbits, "j2");
+
+		int n = this.orbits.length;
+		double[] x = new double[n];
+		double[] y = new double[n];
+		double[] z = new double[n];
+		for (double dt : new double[] { 0, 0.01, 0.5, 2.3 }) {
+			ModJulianDate dNm = new ModJulianDate(this.epoch_input.getAsDouble() + dt);
+			propagator.propagate(dNm, x, y, z);
+			for (int k = 0; k < n; k++) {
+				KeplerianOrbit orbit = this.orbits[k];
+				double offset = dNm.getOffset(orbit.get_epoch());
+				KeplerianOrbit advanced = new KeplerianOrbit(orbit.get_a(), orbit.get_e(), orbit.get_i(),
+						orbit.get_Omega() + orbit.get_Omega_dot() * offset,
+						orbit.get_omega() + orbit.get_omega_dot() * offset,
+						Coordinates.checkWrap(orbit.get_M() + orbit.get_M_0_dot() * offset), orbit.get_epoch(),
+						"halley");
+				assertArrayEquals(advanced.r_gei(dNm).getColumnPackedCopy(), new double[] { x[k], y[k], z[k] },
+						TestUtility.LOW_PRECISION);
+			}
+		}
+	}
+
+	@Test(expected = MException.class)
+	// Tests constructor with an invalid mode.
+	public void test_invalid_mode() {
+
+		new SecularPropagator(this.orbits, "j4");
+	}
+}
@@ -0,0 +1,129 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+import com.springbok.utility.MException;
+
+/**
+ * Describes uniformly spaced modified Julian dates, such as the assignment
+ * and performance dates of a simulation, by a start, a step, and a number
+ * of steps, without constructing a date for each step. The date of step k
+ * is start + k * step / 86400, with the step in seconds.
+ */
+public final class TimeGrid {
+
+	/** The modified Julian date of the first step */
+	private final double start;
+	/** The step [s] */
+	private final double step;
+	/** The number of steps */
+	private final int size;
+
+	/**
+	 * Constructs a time grid.
+	 *
+	 * @param start
+	 *            The modified Julian date value of the first step
+	 * @param step
+	 *            The step [s]
+	 * @param size
+	 *            The number of steps
+	 */
+	public TimeGrid(double start, double step, int size) {
+		if (size < 0) {
+			throw new MException("Springbok:IllegalArgumentException", "Number of steps must be non-negative");
+		}
+		this.start = start;
+		this.step = step;
+		this.size = size;
+	}
+
+	/**
+	 * Constructs a time grid.
+	 *
+	 * @param start
+	 *            The modified Julian date of the first step
+	 * @param step
+	 *            The step [s]
+	 * @param size
+	 *            The number of steps
+	 */
+	public TimeGrid(ModJulianDate start, double step, int size) {
+		this(start.getAsDouble(), step, size);
+	}
+
+	public double getStart() {
+		return start;
+	}
+
+	public double getStep() {
+		return step;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the modified Julian date value of a step.
+	 *
+	 * @param k
+	 *            The step index
+	 * @return The modified Julian date value
+	 */
+	public double getAsDouble(int k) {
+		if (k < 0 || k >= size) {
+			throw new MException("Springbok:IllegalArgumentException", "Step index out of bounds");
+		}
+		return start + k * step / 86400;
+	}
+
+	/**
+	 * Gets the Greenwich hour angle at a step. (MG-2.85)
+	 *
+	 * @param k
+	 *            The step index
+	 * @return Greenwich hour angle [rad]
+	 */
+	public double getTheta(int k) {
+		return EarthConstants.Theta(getAsDouble(k));
+	}
+
+	/**
+	 * Constructs the modified Julian instant of a step.
+	 *
+	 * @param k
+	 *            The step index
+	 * @return The modified Julian instant
+	 */
+	public ModJulianInstant get(int k) {
+		return new ModJulianInstant(getAsDouble(k));
+	}
+
+	/**
+	 * Constructs the modified Julian dates of all steps, for methods which
+	 * accept an array of dates.
+	 *
+	 * @return The modified Julian dates
+	 */
+	public ModJulianDate[] toArray() {
+		ModJulianDate[] dNm = new ModJulianDate[size];
+		for (int k = 0; k < size; k++) {
+			dNm[k] = new ModJulianDate(getAsDouble(k));
+		}
+		return dNm;
+	}
+}
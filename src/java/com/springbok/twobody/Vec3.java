@@ -0,0 +1,172 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.twobody;
+
+/**
+ * Provides operations on three element vectors stored in arrays at an
+ * offset, so that geometry may be computed without allocating a Matrix
+ * for each vector or intermediate result. Output vectors may be the same
+ * as input vectors.
+ */
+public final class Vec3 {
+
+	private Vec3() {
+	}
+
+	/**
+	 * Sets a vector.
+	 * 
+	 * @param x
+	 *            First element
+	 * @param y
+	 *            Second element
+	 * @param z
+	 *            Third element
+	 * @param c
+	 *            Output array
+	 * @param ic
+	 *            Offset of the output vector
+	 */
+	public static void set(double x, double y, double z, double[] c, int ic) {
+		c[ic] = x;
+		c[ic + 1] = y;
+		c[ic + 2] = z;
+	}
+
+	/**
+	 * Computes the dot product of two vectors.
+	 * 
+	 * @param a
+	 *            First array
+	 * @param ia
+	 *            Offset of the first vector
+	 * @param b
+	 *            Second array
+	 * @param ib
+	 *            Offset of the second vector
+	 * @return Dot product
+	 */
+	public static double dot(double[] a, int ia, double[] b, int ib) {
+		return a[ia] * b[ib] + a[ia + 1] * b[ib + 1] + a[ia + 2] * b[ib + 2];
+	}
+
+	/**
+	 * Computes the Euclidean norm of a vector.
+	 * 
+	 * @param a
+	 *            Array
+	 * @param ia
+	 *            Offset of the vector
+	 * @return Norm
+	 */
+	public static double norm(double[] a, int ia) {
+		return Math.sqrt(dot(a, ia, a, ia));
+	}
+
+	/**
+	 * Computes the distance between two points.
+	 * 
+	 * @param a
+	 *            First array
+	 * @param ia
+	 *            Offset of the first point
+	 * @param b
+	 *            Second array
+	 * @param ib
+	 *            Offset of the second point
+	 * @return Distance
+	 */
+	public static double distance(double[] a, int ia, double[] b, int ib) {
+		double dx = b[ib] - a[ia];
+		double dy = b[ib + 1] - a[ia + 1];
+		double dz = b[ib + 2] - a[ia + 2];
+		return Math.sqrt(dx * dx + dy * dy + dz * dz);
+	}
+
+	/**
+	 * Computes the sum of two vectors, c = a + b.
+	 */
+	public static void add(double[] a, int ia, double[] b, int ib, double[] c, int ic) {
+		set(a[ia] + b[ib], a[ia + 1] + b[ib + 1], a[ia + 2] + b[ib + 2], c, ic);
+	}
+
+	/**
+	 * Computes the difference of two vectors, c = a - b.
+	 */
+	public static void subtract(double[] a, int ia, double[] b, int ib, double[] c, int ic) {
+		set(a[ia] - b[ib], a[ia + 1] - b[ib + 1], a[ia + 2] - b[ib + 2], c, ic);
+	}
+
+	/**
+	 * Computes the product of a vector and a scalar, c = a * s.
+	 */
+	public static void scale(double[] a, int ia, double s, double[] c, int ic) {
+		set(a[ia] * s, a[ia + 1] * s, a[ia + 2] * s, c, ic);
+	}
+
+	/**
+	 * Computes the cross product of two vectors, c = a x b.
+	 */
+	public static void cross(double[] a, int ia, double[] b, int ib, double[] c, int ic) {
+		set(a[ia + 1] * b[ib + 2] - a[ia + 2] * b[ib + 1], a[ia + 2] * b[ib] - a[ia] * b[ib + 2],
+				a[ia] * b[ib + 1] - a[ia + 1] * b[ib], c, ic);
+	}
+
+	/**
+	 * Computes the angle between the directions from a reference point to
+	 * two other points.
+	 * 
+	 * @param r
+	 *            Reference array
+	 * @param ir
+	 *            Offset of the reference point
+	 * @param a
+	 *            First array
+	 * @param ia
+	 *            Offset of the first point
+	 * @param b
+	 *            Second array
+	 * @param ib
+	 *            Offset of the second point
+	 * @return Angle [rad]
+	 */
+	public static double angle(double[] r, int ir, double[] a, int ia, double[] b, int ib) {
+		double xa = a[ia] - r[ir];
+		double ya = a[ia + 1] - r[ir + 1];
+		double za = a[ia + 2] - r[ir + 2];
+		double xb = b[ib] - r[ir];
+		double yb = b[ib + 1] - r[ir + 1];
+		double zb = b[ib + 2] - r[ir + 2];
+		return acos((xa * xb + ya * yb + za * zb) / Math.sqrt((xa * xa + ya * ya + za * za) * (xb * xb + yb * yb + zb * zb)));
+	}
+
+	/**
+	 * Computes the arc cosine of a cosine which may exceed one in
+	 * magnitude by rounding.
+	 * 
+	 * @param cos
+	 *            Cosine
+	 * @return Arc cosine [rad]
+	 */
+	public static double acos(double cos) {
+		if (cos >= 1) {
+			return 0;
+		} else if (cos <= -1) {
+			return Math.PI;
+		}
+		return Math.acos(cos);
+	}
+}
@@ -0,0 +1,231 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.utility;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Defines properties and methods for using Article 22.
+ */
+public class Article22Utility {
+
+	/**
+	 * Equivalent power flux density limits of one row of an Article 22
+	 * table: each level may not be exceeded for more than the
+	 * complement of the corresponding percentage of time.
+	 */
+	public static final class Limit {
+
+		// Equivalent power flux density level [dB(W/m^2) in the reference
+		// bandwidth]
+		private final double[] epfd;
+
+		// Percentage of time during which the level may not be exceeded
+		private final double[] percentage;
+
+		/**
+		 * Constructs a Limit.
+		 * 
+		 * @param epfd
+		 *            Equivalent power flux density level [dB(W/m^2) in the
+		 *            reference bandwidth]
+		 * @param percentage
+		 *            Percentage of time during which the level may not be
+		 *            exceeded
+		 */
+		public Limit(double[] epfd, double[] percentage) {
+			if (epfd.length != percentage.length) {
+				throw new MException("Springbok:IllegalArgumentException",
+						"Number of levels and percentages must be equal");
+			}
+			this.epfd = epfd.clone();
+			this.percentage = percentage.clone();
+		}
+
+		public double[] getEpfd() {
+			return epfd.clone();
+		}
+
+		public double[] getPercentage() {
+			return percentage.clone();
+		}
+
+		/**
+		 * Gets the number of levels.
+		 * 
+		 * @return Number of levels
+		 */
+		public int getNumberOfLevels() {
+			return epfd.length;
+		}
+	}
+
+	// Limits of each row of each table
+	private static final Map<String, Limit[]> limits = setLimits();
+
+	/**
+	 * Gets the names of the tables.
+	 * 
+	 * @return Names of the tables
+	 */
+	public static Set<String> getTables() {
+		return limits.keySet();
+	}
+
+	/**
+	 * Gets the limits of each row of a table.
+	 * 
+	 * @param table
+	 *            Name of the table, for example "TABLE_22_1A"
+	 * @return Limits of each row
+	 */
+	public static Limit[] getLimits(String table) {
+		Limit[] rows = limits.get(table);
+		if (rows == null) {
+			throw new MException("Springbok:IllegalArgumentException", "Unknown table " + table);
+		}
+		return rows.clone();
+	}
+
+	/**
+	 * Gets the limits of one row of a table.
+	 * 
+	 * @param table
+	 *            Name of the table, for example "TABLE_22_1A"
+	 * @param row
+	 *            Row of the table (one based)
+	 * @return Limits of the row
+	 */
+	public static Limit getLimit(String table, int row) {
+		Limit[] rows = getLimits(table);
+		if (row < 1 || row > rows.length) {
+			throw new MException("Springbok:IllegalArgumentException", "Row of " + table + " invalid");
+		}
+		return rows[row - 1];
+	}
+
+	private static Map<String, Limit[]> setLimits() {
+		Map<String, Limit[]> limits = new LinkedHashMap<>();
+
+		// TABLE_22_1A
+		limits.put("TABLE_22_1A", new Limit[] {
+				new Limit(new double[] { -175.4, -174, -170.8, -165.3, -160.4, -160, -160 },
+						new double[] { 0, 90, 99, 99.73, 99.991, 99.997, 100 }),
+				new Limit(new double[] { -181.9, -178.4, -173.4, -173, -164, -161.6, -161.4, -160.8, -160.5, -160, -160 },
+						new double[] { 0, 99.5, 99.74, 99.857, 99.954, 99.984, 99.991, 99.997, 99.997, 99.9993, 100 }),
+				new Limit(new double[] { -190.45, -189.45, -187.45, -182.4, -182, -168, -164, -162, -160, -160 },
+						new double[] { 0, 90, 99.5, 99.7, 99.855, 99.971, 99.988, 99.995, 99.999, 100 }),
+				new Limit(new double[] { -195.45, -195.45, -190, -190, -172.5, -160, -160 },
+						new double[] { 0, 99, 99.65, 99.71, 99.99, 99.998, 100 }) });
+
+		// TABLE_22_1B
+		limits.put("TABLE_22_1B", new Limit[] {
+				new Limit(new double[] { -175.4, -175.4, -172.5, -167, -164, -164 },
+						new double[] { 0, 90, 99, 99.714, 99.971, 100 }),
+				new Limit(new double[] { -161.4, -161.4, -158.5, -153, -150, -150 },
+						new double[] { 0, 90, 99, 99.714, 99.971, 100 }),
+				new Limit(new double[] { -178.4, -178.4, -171.4, -170.5, -166, -164, -164 },
+						new double[] { 0, 99.4, 99.9, 99.913, 99.971, 99.977, 100 }),
+				new Limit(new double[] { -164.4, -164.4, -157.4, -156.5, -152, -150, -150 },
+						new double[] { 0, 99.4, 99.9, 99.913, 99.971, 99.977, 100 }),
+				new Limit(new double[] { -185.4, -185.4, -180, -180, -172, -164, -164 },
+						new double[] { 0, 99.8, 99.8, 99.943, 99.943, 99.998, 100 }),
+				new Limit(new double[] { -171.4, -171.4, -166, -166, -158, -150, -150 },
+						new double[] { 0, 99.8, 99.8, 99.943, 99.943, 99.998, 100 }) });
+
+		// TABLE_22_1C
+		limits.put("TABLE_22_1C", new Limit[] {
+				new Limit(new double[] { -187.4, -182, -172, -154, -154 },
+						new double[] { 0, 71.429, 97.143, 99.983, 100 }),
+				new Limit(new double[] { -173.4, -168, -158, -140, -140 },
+						new double[] { 0, 71.429, 97.143, 99.983, 100 }),
+				new Limit(new double[] { -190.4, -181.4, -170.4, -168.6, -165, -160, -154, -154 },
+						new double[] { 0, 91, 99.8, 99.8, 99.943, 99.943, 99.997, 100 }),
+				new Limit(new double[] { -176.4, -167.4, -156.4, -154.6, -151, -146, -140, -140 },
+						new double[] { 0, 91, 99.8, 99.8, 99.943, 99.943, 99.997, 100 }),
+				new Limit(new double[] { -196.4, -162, -154, -154 },
+						new double[] { 0, 99.98, 99.99943, 100 }),
+				new Limit(new double[] { -182.4, -148, -140, -140 },
+						new double[] { 0, 99.98, 99.99943, 100 }),
+				new Limit(new double[] { -200.4, -189.4, -187.8, -184, -175, -164.2, -154.6, -154, -154 },
+						new double[] { 0, 90, 94, 97.143, 99.886, 99.99, 99.999, 99.9992, 100 }),
+				new Limit(new double[] { -186.4, -175.4, -173.8, -170, -161, -150.2, -140.6, -140, -140 },
+						new double[] { 0, 90, 94, 97.143, 99.886, 99.99, 99.999, 99.9992, 100 }) });
+
+		// TABLE_22_1D
+		limits.put("TABLE_22_1D", new Limit[] {
+				new Limit(new double[] { -165.841, -165.541, -164.041, -158.6, -158.6, -158.33, -158.33 },
+						new double[] { 0, 25, 96, 98.857, 99.429, 99.429, 100 }),
+				new Limit(new double[] { -175.441, -172.441, -169.441, -164, -160.75, -160, -160 },
+						new double[] { 0, 66, 97.75, 99.357, 99.809, 99.986, 100 }),
+				new Limit(new double[] { -176.441, -173.191, -167.75, -162, -161, -160.2, -160, -160 },
+						new double[] { 0, 97.8, 99.371, 99.886, 99.943, 99.971, 99.997, 100 }),
+				new Limit(new double[] { -178.94, -178.44, -176.44, -171, -165.5, -163, -161, -160, -160 },
+						new double[] { 0, 33, 98, 99.429, 99.714, 99.857, 99.943, 99.991, 100 }),
+				new Limit(new double[] { -182.44, -180.69, -179.19, -178.44, -174.94, -173.75, -173, -169.5, -167.8, -164, -161.9, -161, -160.4, -160 },
+						new double[] { 0, 90, 98.9, 98.9, 99.5, 99.68, 99.68, 99.85, 99.915, 99.94, 99.97, 99.99, 99.998, 100 }),
+				new Limit(new double[] { -184.941, -184.101, -181.691, -176.25, -163.25, -161.5, -160.35, -160, -160 },
+						new double[] { 0, 33, 98.5, 99.571, 99.946, 99.974, 99.993, 99.999, 100 }),
+				new Limit(new double[] { -187.441, -186.341, -183.441, -178, -164.4, -161.9, -160.5, -160, -160 },
+						new double[] { 0, 33, 99.25, 99.786, 99.957, 99.983, 99.994, 99.999, 100 }),
+				new Limit(new double[] { -191.941, -189.441, -185.941, -180.5, -173, -167, -162, -160, -160 },
+						new double[] { 0, 33, 99.5, 99.857, 99.914, 99.951, 99.983, 99.991, 100 }) });
+
+		// TABLE_22_1E
+		limits.put("TABLE_22_1E", new Limit[] {
+				new Limit(new double[] { -195.4 },
+						new double[] { 100 }),
+				new Limit(new double[] { -197.9 },
+						new double[] { 100 }),
+				new Limit(new double[] { -201.6 },
+						new double[] { 100 }),
+				new Limit(new double[] { -203.3 },
+						new double[] { 100 }),
+				new Limit(new double[] { -204.5 },
+						new double[] { 100 }),
+				new Limit(new double[] { -207.5 },
+						new double[] { 100 }),
+				new Limit(new double[] { -208.5 },
+						new double[] { 100 }),
+				new Limit(new double[] { -212.0 },
+						new double[] { 100 }) });
+
+		// TABLE_22_2
+		limits.put("TABLE_22_2", new Limit[] {
+				new Limit(new double[] { -183.0 },
+						new double[] { 100 }),
+				new Limit(new double[] { -160 },
+						new double[] { 100 }),
+				new Limit(new double[] { -160 },
+						new double[] { 100 }),
+				new Limit(new double[] { -162 },
+						new double[] { 100 }),
+				new Limit(new double[] { -162 },
+						new double[] { 100 }) });
+
+		// TABLE_22_3
+		limits.put("TABLE_22_3", new Limit[] {
+				new Limit(new double[] { -160 },
+						new double[] { 100 }),
+				new Limit(new double[] { -160 },
+						new double[] { 100 }) });
+
+		return Collections.unmodifiableMap(limits);
+	}
+}
@@ -0,0 +1,54 @@
+/* Copyright (C) 2022 Springbok LLC
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or (at
+your option) any later version.
+
+This program is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+package com.springbok.utility;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class Article22UtilityTest {
+
+	@Test
+	public void test_getLimits() {
+		// Tests tables have the rows, and levels, of the MATLAB utility.
+		assertArrayEquals(
+				new String[] { "TABLE_22_1A", "TABLE_22_1B", "TABLE_22_1C", "TABLE_22_1D", "TABLE_22_1E",
+						"TABLE_22_2", "TABLE_22_3" },
+				Article22Utility.getTables().toArray(new String[0]));
+		assertEquals(4, Article22Utility.getLimits("TABLE_22_1A").length);
+		assertEquals(8, Article22Utility.getLimits("TABLE_22_1D").length);
+		assertEquals(14, Article22Utility.getLimit("TABLE_22_1D", 5).getNumberOfLevels());
+
+		// Percentages increase to 100 for each row
+		for (String table : Article22Utility.getTables()) {
+			for (Article22Utility.Limit limit : Article22Utility.getLimits(table)) {
+				double[] percentage = limit.getPercentage();
+				assertEquals(limit.getEpfd().length, percentage.length);
+				for (int iLvl = 1; iLvl < percentage.length; iLvl++) {
+					assertTrue(percentage[iLvl] >= percentage[iLvl - 1]);
+				}
+				assertEquals(100, percentage[percentage.length - 1], 0);
+			}
+		}
+
+		assertEquals(-172.5, Article22Utility.getLimit("TABLE_22_1B", 1).getEpfd()[2], 0);
+	}
+
+	@Test(expected = MException.class)
+	public void test_getLimit_invalid_row() {
+		Article22Utility.getLimit("TABLE_22_3", 3);
+	}
+}
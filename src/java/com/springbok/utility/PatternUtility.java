@@ -41,6 +41,23 @@ public final class PatternUtility {
 		validate_input(key, value_p, new HashMap<String, Object>());
 	}
 
+	/**
+	 * Validate an angle input parameter without boxing or allocating a
+	 * parameter map, for use inside batch gain loops.
+	 *
+	 * @param Phi
+	 *            Angle for which a gain is calculated [degrees]
+	 */
+	public static void validate_phi(double Phi) {
+		if (Double.isInfinite(Phi) || Double.isNaN(Phi)) {
+			throw new IllegalArgumentException("Phi must be a numeric vector (or scalar).");
+		}
+		if ((Phi < 0.00e+0) || (Phi > 1.80e+2)) {
+			throw new IllegalArgumentException(
+					"Phi is out of limits [0:180]." + "APC_ERR_VAL_PHI" + "Phi is out of limits [0:180].");
+		}
+	}
+
 	/**
 	 * Validate input parameters.
 	 * 
@@ -189,6 +206,22 @@ public final class PatternUtility {
 		return input;
 	}
 
+	/**
+	 * Validate output parameters, for a pattern which does not calculate
+	 * cross-pol gain.
+	 * 
+	 * @param G
+	 *            Co-pol gain [dB]
+	 * @param GainMax
+	 *            Maximum antenna gain [dB]
+	 */
+	public static void validate_output(double G, double GainMax) {
+		if (G > GainMax) {
+			throw new IllegalArgumentException(
+					"G is greater than GainMax." + "APC_ERR_G_GT_GMAX" + "G is greater than GainMax.");
+		}
+	}
+
 	/**
 	 * Validate output parameters.
 	 * 
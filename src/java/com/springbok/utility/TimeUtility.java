@@ -34,6 +34,9 @@ import com.springbok.twobody.YMDHMS;
 @SuppressWarnings("serial")
 public class TimeUtility implements Serializable {
 
+	// Number of days before the first day of each month of a common year
+	private static final int[] DAYS_BEFORE_MONTH = { 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334 };
+
 	/**
 	 * Converts from Modified Julian Day to Gregorian calendar date.
 	 * 
@@ -169,6 +172,31 @@ public class TimeUtility implements Serializable {
 		return mjd;
 	}
 
+	/**
+	 * Computes the day of year of a date, 1 on January 1, as
+	 * GregorianCalendar does, but without constructing a calendar for dates
+	 * after the Gregorian cutover year.
+	 * 
+	 * @param year
+	 *            The year
+	 * @param month
+	 *            The month (January == 1)
+	 * @param day
+	 *            The day
+	 * @return The day of year
+	 */
+	public static int dayOfYear(int year, int month, int day) {
+		if (year <= 1582 || month < 1 || month > 12) {
+			GregorianCalendar gc = new GregorianCalendar();
+			gc.set(GregorianCalendar.DAY_OF_MONTH, day);
+			gc.set(GregorianCalendar.MONTH, month - 1);
+			gc.set(GregorianCalendar.YEAR, year);
+			return gc.get(GregorianCalendar.DAY_OF_YEAR);
+		}
+		boolean isLeap = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+		return DAYS_BEFORE_MONTH[month - 1] + (isLeap && month > 2 ? 1 : 0) + day;
+	}
+
 	/**
 	 * Converts the number of days to hours, minutes, and seconds.
 	 *
@@ -186,8 +214,9 @@ public class TimeUtility implements Serializable {
 	 */
 	public static HMS days2hms(double days) {
 		double second = 86400 * days;
-		BigDecimal value = new BigDecimal(second / 3600);
-		value = value.setScale(0, RoundingMode.DOWN);
+		if (Double.isNaN(second) || Double.isInfinite(second)) {
+			throw new NumberFormatException("Infinite or NaN");
+		}
 		int hour = fix(second / 3600); // get number of hours
 		second = second - 3600 * hour; // remove the hours
 		int minute = fix(second / 60); // get number of minutes
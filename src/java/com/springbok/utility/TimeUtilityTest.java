@@ -49,6 +49,26 @@ public class TimeUtilityTest {
 		assertTrue(mjd_actual == mjd_expected);
 	}
 
+	@Test
+	public void test_dayOfYear() {
+		// Tests dayOfYear method against GregorianCalendar.
+
+		for (int year = 1580; year <= 2101; year++) {
+			for (int month = 1; month <= 12; month++) {
+				for (int day = 1; day <= 28; day += 9) {
+					GregorianCalendar gc = new GregorianCalendar();
+					gc.set(GregorianCalendar.DAY_OF_MONTH, day);
+					gc.set(GregorianCalendar.MONTH, month - 1);
+					gc.set(GregorianCalendar.YEAR, year);
+
+					assertEquals(gc.get(GregorianCalendar.DAY_OF_YEAR), TimeUtility.dayOfYear(year, month, day));
+				}
+			}
+		}
+		assertEquals(366, TimeUtility.dayOfYear(2000, 12, 31));
+		assertEquals(365, TimeUtility.dayOfYear(2100, 12, 31));
+	}
+
 	// TODO: Implement
 	public void test_days2hms() {
 		// HMS hms = TimeUtility.days2hms(days);